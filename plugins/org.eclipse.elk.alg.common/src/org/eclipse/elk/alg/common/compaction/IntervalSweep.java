@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.compaction;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.elk.core.math.ElkRectangle;
+
+/**
+ * Determines the pairs of rectangles that may collide when being moved horizontally. A pair qualifies if the
+ * vertical extents of both rectangles, each enlarged downwards by a given padding, overlap. Each qualifying pair is
+ * reported once, ordered from left to right: the second rectangle either starts to the right of the first one, or
+ * both start at the same x coordinate and the second one is wider. Pairs of equal x coordinate and width are not
+ * reported.
+ *
+ * <p>
+ * The rectangles are swept from top to bottom while the ones the sweep line currently intersects are kept in a heap
+ * ordered by their bottom end. Thus, only rectangles that actually overlap vertically are ever compared, which takes
+ * {@code O(n log n + k)} time for {@code n} rectangles and {@code k} overlapping pairs instead of the
+ * {@code O(n^2)} time of a pair-wise comparison.
+ * </p>
+ *
+ * <p>
+ * The class is independent of any concrete constraint graph. Constraint calculations use it to restrict the pairs
+ * they have to check exactly, using a padding that bounds the spacings that must be preserved between any pair.
+ * </p>
+ */
+public final class IntervalSweep {
+
+    /** Bits used to encode the index of the right rectangle of a pair. */
+    private static final int INDEX_BITS = 32;
+    /** Mask extracting the index of the right rectangle of a pair. */
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    /**
+     * Receives the pairs determined by {@link IntervalSweep#execute(List, double, PairHandler)}.
+     */
+    @FunctionalInterface
+    public interface PairHandler {
+
+        /**
+         * @param left
+         *            index of the left rectangle of the pair.
+         * @param right
+         *            index of the right rectangle of the pair.
+         */
+        void handle(int left, int right);
+    }
+
+    private IntervalSweep() {
+    }
+
+    /**
+     * Reports every pair of rectangles whose padded vertical extents overlap. The pairs are reported ordered by the
+     * index of their left rectangle first and the index of their right rectangle second, i.e. in the order a
+     * pair-wise comparison of all rectangles would find them.
+     *
+     * @param rectangles
+     *            the rectangles, identified by their index in the list.
+     * @param padding
+     *            non-negative amount by which the bottom end of each rectangle is extended.
+     * @param handler
+     *            receives the pairs.
+     */
+    public static void execute(final List<ElkRectangle> rectangles, final double padding,
+            final PairHandler handler) {
+
+        final int n = rectangles.size();
+        double[] x = new double[n];
+        double[] width = new double[n];
+        double[] top = new double[n];
+        double[] bottom = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            ElkRectangle r = rectangles.get(i);
+            x[i] = r.x;
+            width[i] = r.width;
+            top[i] = r.y;
+            bottom[i] = r.y + r.height + padding;
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> top[i]));
+
+        // the rectangles intersected by the sweep line, as a binary min-heap on their bottom ends
+        int[] active = new int[n];
+        int activeCount = 0;
+
+        long[] pairs = new long[n];
+        int pairCount = 0;
+
+        for (int current : order) {
+            // rectangles ending above the current one cannot overlap it or any further rectangle
+            while (activeCount > 0 && bottom[active[0]] <= top[current]) {
+                active[0] = active[--activeCount];
+                siftDown(active, activeCount, bottom);
+            }
+
+            // all remaining rectangles overlap the current one
+            for (int a = 0; a < activeCount; a++) {
+                int other = active[a];
+                long pair;
+                if (x[current] > x[other] || (x[current] == x[other] && width[other] < width[current])) {
+                    pair = ((long) other << INDEX_BITS) | current;
+                } else if (x[other] > x[current] || (x[current] == x[other] && width[current] < width[other])) {
+                    pair = ((long) current << INDEX_BITS) | other;
+                } else {
+                    continue;
+                }
+                if (pairCount == pairs.length) {
+                    pairs = Arrays.copyOf(pairs, 2 * pairCount);
+                }
+                pairs[pairCount++] = pair;
+            }
+
+            active[activeCount] = current;
+            siftUp(active, activeCount++, bottom);
+        }
+
+        Arrays.sort(pairs, 0, pairCount);
+        for (int p = 0; p < pairCount; p++) {
+            handler.handle((int) (pairs[p] >>> INDEX_BITS), (int) (pairs[p] & INDEX_MASK));
+        }
+    }
+
+    private static void siftUp(final int[] heap, final int index, final double[] key) {
+        int i = index;
+        int element = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (key[heap[parent]] <= key[element]) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = element;
+    }
+
+    private static void siftDown(final int[] heap, final int size, final double[] key) {
+        if (size == 0) {
+            return;
+        }
+        int i = 0;
+        int element = heap[0];
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && key[heap[child + 1]] < key[heap[child]]) {
+                child++;
+            }
+            if (key[element] <= key[heap[child]]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = element;
+    }
+
+}
@@ -9,6 +9,8 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.compaction.oned;
 
+import java.util.Collection;
+
 /**
  * An implementation of this class is able to report both the vertical and the horizontal spacing
  * between any pair of {@link CNode}s. Different implementations of {@link CNode}s may have
@@ -37,6 +39,32 @@ public interface ISpacingsHandler {
      */
     double getVerticalSpacing(CNode cNode1, CNode cNode2);
 
+    /**
+     * Constraint calculation algorithms may use this bound to avoid comparing nodes that are too far apart to
+     * collide. By default, no bound is known.
+     * 
+     * @param cNodes
+     *            the nodes of the graph being compacted.
+     * @return an upper bound on the horizontal spacing reported for any pair of the passed nodes, or
+     *         {@link Double#POSITIVE_INFINITY} if no bound is known.
+     */
+    default double getMaximalHorizontalSpacing(final Collection<CNode> cNodes) {
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Constraint calculation algorithms may use this bound to avoid comparing nodes that are too far apart to
+     * collide. By default, no bound is known.
+     * 
+     * @param cNodes
+     *            the nodes of the graph being compacted.
+     * @return an upper bound on the vertical spacing reported for any pair of the passed nodes, or
+     *         {@link Double#POSITIVE_INFINITY} if no bound is known.
+     */
+    default double getMaximalVerticalSpacing(final Collection<CNode> cNodes) {
+        return Double.POSITIVE_INFINITY;
+    }
+
     /**
      * A default implementation, returning <b>no</b> spacing in either direction.
      */
@@ -50,5 +78,15 @@ public interface ISpacingsHandler {
         public double getVerticalSpacing(final CNode cNode1, final CNode cNode2) {
             return 0;
         }
+
+        @Override
+        public double getMaximalHorizontalSpacing(final Collection<CNode> cNodes) {
+            return 0;
+        }
+
+        @Override
+        public double getMaximalVerticalSpacing(final Collection<CNode> cNodes) {
+            return 0;
+        }
     };
 }
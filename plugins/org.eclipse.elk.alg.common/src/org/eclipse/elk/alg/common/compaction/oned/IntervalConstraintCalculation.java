@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.compaction.oned;
+
+import java.util.List;
+
+import org.eclipse.elk.alg.common.compaction.IntervalSweep;
+import org.eclipse.elk.core.math.ElkRectangle;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Creates the same constraints as the {@link QuadraticConstraintCalculation}, but only compares CNodes whose hitboxes
+ * overlap vertically when enlarged by the largest spacing reported by the compactor's {@link ISpacingsHandler}. The
+ * candidates are determined by an {@link IntervalSweep}, which takes {@code O(n log n + k)} time for {@code n}
+ * CNodes and {@code k} candidates.
+ * 
+ * <p>
+ * If the spacings handler does not provide an upper bound on its spacings, every pair of CNodes has to be compared
+ * and the calculation falls back to the {@link QuadraticConstraintCalculation}.
+ * </p>
+ */
+public class IntervalConstraintCalculation implements IConstraintCalculationAlgorithm {
+
+    @Override
+    public void calculateConstraints(final OneDimensionalCompactor compactor) {
+        List<CNode> cNodes = compactor.cGraph.cNodes;
+
+        double maxSpacing;
+        if (compactor.direction.isHorizontal()) {
+            maxSpacing = compactor.spacingsHandler.getMaximalVerticalSpacing(cNodes);
+        } else {
+            maxSpacing = compactor.spacingsHandler.getMaximalHorizontalSpacing(cNodes);
+        }
+        if (Double.isInfinite(maxSpacing) || Double.isNaN(maxSpacing)) {
+            OneDimensionalCompactor.QUADRATIC_CONSTRAINTS.calculateConstraints(compactor);
+            return;
+        }
+
+        // resetting constraints
+        List<ElkRectangle> hitboxes = Lists.newArrayListWithCapacity(cNodes.size());
+        for (CNode cNode : cNodes) {
+            cNode.constraints.clear();
+            hitboxes.add(cNode.hitbox);
+        }
+
+        // the pairs are reported in the order of the pair-wise comparison, hence the constraints are, too
+        IntervalSweep.execute(hitboxes, maxSpacing + CompareFuzzy.TOLERANCE, (i, j) -> {
+            CNode cNode1 = cNodes.get(i);
+            CNode cNode2 = cNodes.get(j);
+
+            // no constraints between nodes of the same group
+            if (cNode1.cGroup != null && cNode1.cGroup == cNode2.cGroup) {
+                return;
+            }
+
+            double spacing;
+            if (compactor.direction.isHorizontal()) {
+                spacing = compactor.spacingsHandler.getVerticalSpacing(cNode1, cNode2);
+            } else {
+                spacing = compactor.spacingsHandler.getHorizontalSpacing(cNode1, cNode2);
+            }
+
+            // the sweep only guarantees the order in x direction, the spacing has to be checked exactly
+            if (CompareFuzzy.gt(cNode2.hitbox.y + cNode2.hitbox.height + spacing, cNode1.hitbox.y)
+                    && CompareFuzzy.lt(cNode2.hitbox.y, cNode1.hitbox.y + cNode1.hitbox.height + spacing)) {
+                cNode1.constraints.add(cNode2);
+            }
+        });
+    }
+
+}
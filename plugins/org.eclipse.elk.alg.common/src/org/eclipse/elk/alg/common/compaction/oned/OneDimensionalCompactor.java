@@ -36,6 +36,9 @@ public final class OneDimensionalCompactor {
     /** Constraint calculation by pair-wise comparison of CNodes. */
     public static final IConstraintCalculationAlgorithm QUADRATIC_CONSTRAINTS =
             new QuadraticConstraintCalculation();
+    /** Constraint calculation yielding the same constraints as {@link #QUADRATIC_CONSTRAINTS} using a sweep line. */
+    public static final IConstraintCalculationAlgorithm INTERVAL_CONSTRAINTS =
+            new IntervalConstraintCalculation();
     /** Currently used instance of the constraint calculation algorithm. */
     private IConstraintCalculationAlgorithm constraintAlgorithm = SCANLINE_CONSTRAINTS;
 
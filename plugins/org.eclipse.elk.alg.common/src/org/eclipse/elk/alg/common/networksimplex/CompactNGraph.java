@@ -0,0 +1,439 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.networksimplex;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compact graph structure used by the {@link NetworkSimplex} algorithm. Instead of node and edge objects
+ * that keep their incident edges in lists, nodes and edges are identified by consecutive indices and all of their
+ * attributes are kept in primitive arrays. The edges incident to each node are stored in compressed sparse row
+ * format: the edges incident to node {@code v} are {@code incidentEdges[incidentStart[v]]} up to
+ * {@code incidentEdges[incidentStart[v + 1] - 1]}, incoming edges first.
+ *
+ * <p>
+ * A compact graph is either created from scratch using a {@link Builder} or from an existing {@link NGraph} using
+ * {@link #fromGraph(NGraph)}. In the latter case, {@link #applyLayering()} transfers the computed layering back to the
+ * {@link NGraph}. The structure of a compact graph cannot be changed once it has been created, but the weights of its
+ * edges and the layers of its nodes can. To add further nodes and edges, {@link #of(CompactNGraph)} starts a new
+ * graph that contains all of the nodes and edges of an existing one.
+ * </p>
+ */
+public final class CompactNGraph {
+
+    // SUPPRESS CHECKSTYLE NEXT 30 VisibilityModifier
+    /** The number of nodes. */
+    final int nodeCount;
+    /** The number of edges. */
+    final int edgeCount;
+    /** The source node of each edge. */
+    final int[] edgeSource;
+    /** The target node of each edge. */
+    final int[] edgeTarget;
+    /** The weight of each edge. */
+    final double[] edgeWeight;
+    /** The minimum length of each edge. */
+    final int[] edgeDelta;
+    /** Whether each edge is part of the spanning tree determined by the last execution of the network simplex. */
+    final boolean[] treeEdge;
+    /** The layer each node is currently assigned to. */
+    final int[] layer;
+    /** The number of incoming edges of each node. */
+    final int[] inDegree;
+    /** The index into {@link #incidentEdges} where the incident edges of each node start, plus a final sentinel. */
+    final int[] incidentStart;
+    /** The incident edges of all nodes, see {@link #incidentStart}. */
+    final int[] incidentEdges;
+
+    /** The nodes of the {@link NGraph} this graph was created from, if any. */
+    private NNode[] originNodes;
+    /** The edges of the {@link NGraph} this graph was created from, if any. */
+    private NEdge[] originEdges;
+
+    private CompactNGraph(final int nodeCount, final int edgeCount, final int[] edgeSource, final int[] edgeTarget,
+            final double[] edgeWeight, final int[] edgeDelta) {
+
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.edgeSource = edgeSource;
+        this.edgeTarget = edgeTarget;
+        this.edgeWeight = edgeWeight;
+        this.edgeDelta = edgeDelta;
+        this.treeEdge = new boolean[edgeCount];
+        this.layer = new int[nodeCount];
+        this.inDegree = new int[nodeCount];
+        this.incidentStart = new int[nodeCount + 1];
+        this.incidentEdges = new int[2 * edgeCount];
+
+        for (int e = 0; e < edgeCount; e++) {
+            inDegree[edgeTarget[e]]++;
+            incidentStart[edgeSource[e] + 1]++;
+            incidentStart[edgeTarget[e] + 1]++;
+        }
+        for (int v = 0; v < nodeCount; v++) {
+            incidentStart[v + 1] += incidentStart[v];
+        }
+    }
+
+    /**
+     * Creates a compact copy of the given graph, including the current layers of its nodes and the spanning tree
+     * determined by a previous execution of the network simplex. The nodes keep the order of the graph's node list;
+     * the edges are ordered by their source nodes. Since the graph is not modified, the compact graph stays valid
+     * only as long as the graph's structure does not change.
+     *
+     * @param graph
+     *            the graph to copy
+     * @return a compact copy of the graph
+     */
+    public static CompactNGraph fromGraph(final NGraph graph) {
+        NNode[] nodes = graph.nodes.toArray(new NNode[graph.nodes.size()]);
+        int edgeCount = 0;
+        for (int v = 0; v < nodes.length; v++) {
+            nodes[v].internalId = v;
+            edgeCount += nodes[v].getOutgoingEdges().size();
+        }
+
+        NEdge[] edges = new NEdge[edgeCount];
+        int[] edgeSource = new int[edgeCount];
+        int[] edgeTarget = new int[edgeCount];
+        double[] edgeWeight = new double[edgeCount];
+        int[] edgeDelta = new int[edgeCount];
+        int e = 0;
+        for (NNode node : nodes) {
+            for (NEdge edge : node.getOutgoingEdges()) {
+                edge.internalId = e;
+                edges[e] = edge;
+                edgeSource[e] = edge.source.internalId;
+                edgeTarget[e] = edge.target.internalId;
+                edgeWeight[e] = edge.weight;
+                edgeDelta[e] = edge.delta;
+                e++;
+            }
+        }
+
+        CompactNGraph compact = new CompactNGraph(nodes.length, edgeCount, edgeSource, edgeTarget, edgeWeight,
+                edgeDelta);
+        compact.originNodes = nodes;
+        compact.originEdges = edges;
+
+        // keep the order of the incident edges, which is the order in which the network simplex visits them
+        for (NNode node : nodes) {
+            int v = node.internalId;
+            compact.layer[v] = node.layer;
+            int index = compact.incidentStart[v];
+            index = fillIncidentEdges(compact.incidentEdges, index, node.getIncomingEdges());
+            fillIncidentEdges(compact.incidentEdges, index, node.getOutgoingEdges());
+        }
+        for (NEdge edge : edges) {
+            compact.treeEdge[edge.internalId] = edge.treeEdge;
+        }
+
+        return compact;
+    }
+
+    private static int fillIncidentEdges(final int[] incidentEdges, final int start, final List<NEdge> edges) {
+        int index = start;
+        for (NEdge edge : edges) {
+            incidentEdges[index++] = edge.internalId;
+        }
+        return index;
+    }
+
+    /**
+     * Transfers the layers of the nodes and the spanning tree to the {@link NGraph} this graph was created from.
+     *
+     * @throws IllegalStateException
+     *             if this graph was not created from an {@link NGraph}.
+     */
+    public void applyLayering() {
+        if (originNodes == null) {
+            throw new IllegalStateException("The graph was not created from an " + NGraph.class.getSimpleName() + ".");
+        }
+        for (int v = 0; v < nodeCount; v++) {
+            originNodes[v].layer = layer[v];
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            originEdges[e].treeEdge = treeEdge[e];
+        }
+    }
+
+    /**
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return the number of edges.
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * @param node
+     *            index of a node
+     * @return the layer the node is currently assigned to.
+     */
+    public int getLayer(final int node) {
+        return layer[node];
+    }
+
+    /**
+     * Sets the layer of a node, for instance as a starting point for
+     * {@link NetworkSimplex#withWarmStart(boolean)}.
+     *
+     * @param node
+     *            index of a node
+     * @param newLayer
+     *            the layer to assign the node to
+     */
+    public void setLayer(final int node, final int newLayer) {
+        layer[node] = newLayer;
+    }
+
+    /**
+     * @param edge
+     *            index of an edge
+     * @return the index of the edge's source node.
+     */
+    public int getSource(final int edge) {
+        return edgeSource[edge];
+    }
+
+    /**
+     * @param edge
+     *            index of an edge
+     * @return the index of the edge's target node.
+     */
+    public int getTarget(final int edge) {
+        return edgeTarget[edge];
+    }
+
+    /**
+     * @param edge
+     *            index of an edge
+     * @return the weight of the edge.
+     */
+    public double getWeight(final int edge) {
+        return edgeWeight[edge];
+    }
+
+    /**
+     * @param edge
+     *            index of an edge
+     * @param weight
+     *            the new weight of the edge
+     */
+    public void setWeight(final int edge, final double weight) {
+        edgeWeight[edge] = weight;
+    }
+
+    /**
+     * @param edge
+     *            index of an edge
+     * @return the minimum length of the edge.
+     */
+    public int getDelta(final int edge) {
+        return edgeDelta[edge];
+    }
+
+    /**
+     * @return a new {@link Builder} to create a compact graph from scratch.
+     */
+    public static Builder of() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a new {@link Builder} that already contains the nodes and edges of the given graph, with the same
+     * indices. The created graph also adopts the layers of these nodes and the spanning tree formed by these edges,
+     * such that the network simplex can be {@link NetworkSimplex#withWarmStart(boolean) warm-started} on the extended
+     * graph. Nodes added to the builder start out in layer zero.
+     *
+     * @param graph
+     *            the graph to extend
+     * @return a new {@link Builder} to create an extended copy of the graph.
+     */
+    public static Builder of(final CompactNGraph graph) {
+        Builder builder = new Builder();
+        int capacity = Math.max(Builder.INITIAL_CAPACITY, graph.edgeCount);
+        builder.base = graph;
+        builder.nodeCount = graph.nodeCount;
+        builder.edgeCount = graph.edgeCount;
+        builder.edgeSource = Arrays.copyOf(graph.edgeSource, capacity);
+        builder.edgeTarget = Arrays.copyOf(graph.edgeTarget, capacity);
+        builder.edgeWeight = Arrays.copyOf(graph.edgeWeight, capacity);
+        builder.edgeDelta = Arrays.copyOf(graph.edgeDelta, capacity);
+        return builder;
+    }
+
+    /**
+     * Builder for {@link CompactNGraph}s. Nodes and edges are numbered in the order they are added.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int nodeCount = 0;
+        private int edgeCount = 0;
+        private int[] edgeSource = new int[INITIAL_CAPACITY];
+        private int[] edgeTarget = new int[INITIAL_CAPACITY];
+        private double[] edgeWeight = new double[INITIAL_CAPACITY];
+        private int[] edgeDelta = new int[INITIAL_CAPACITY];
+        /** The graph whose layers and spanning tree are adopted, if any. */
+        private CompactNGraph base;
+
+        private Builder() {
+        }
+
+        /**
+         * @return the number of nodes added so far.
+         */
+        public int getNodeCount() {
+            return nodeCount;
+        }
+
+        /**
+         * @return the number of edges added so far.
+         */
+        public int getEdgeCount() {
+            return edgeCount;
+        }
+
+        /**
+         * Adds a new node.
+         *
+         * @return the index of the new node.
+         */
+        public int addNode() {
+            return nodeCount++;
+        }
+
+        /**
+         * Adds a new edge.
+         *
+         * @param source
+         *            index of the source node
+         * @param target
+         *            index of the target node
+         * @param weight
+         *            the weight of the edge
+         * @param delta
+         *            the minimum length of the edge
+         * @return the index of the new edge.
+         * @throws IllegalArgumentException
+         *             if one of the nodes does not exist or source equals target.
+         */
+        public int addEdge(final int source, final int target, final double weight, final int delta) {
+            if (source < 0 || source >= nodeCount || target < 0 || target >= nodeCount) {
+                throw new IllegalArgumentException("Edge " + source + " -> " + target + " connects unknown nodes.");
+            }
+            if (source == target) {
+                throw new IllegalArgumentException("Network simplex does not support self-loops: " + source);
+            }
+
+            if (edgeCount == edgeSource.length) {
+                int capacity = 2 * edgeCount;
+                edgeSource = Arrays.copyOf(edgeSource, capacity);
+                edgeTarget = Arrays.copyOf(edgeTarget, capacity);
+                edgeWeight = Arrays.copyOf(edgeWeight, capacity);
+                edgeDelta = Arrays.copyOf(edgeDelta, capacity);
+            }
+            edgeSource[edgeCount] = source;
+            edgeTarget[edgeCount] = target;
+            edgeWeight[edgeCount] = weight;
+            edgeDelta[edgeCount] = delta;
+            return edgeCount++;
+        }
+
+        /**
+         * Checks if the graph built so far is connected. If not, adds a new node and connects it to one
+         * representative per connected component with zero-weight, zero-delta edges. The representative of a
+         * component is its node with the lowest index.
+         *
+         * @return the index of the added node, or {@code -1} if the graph is connected already.
+         */
+        public int makeConnected() {
+            // union-find over the nodes, each component is represented by its root
+            int[] parent = new int[nodeCount];
+            for (int v = 0; v < nodeCount; v++) {
+                parent[v] = v;
+            }
+            for (int e = 0; e < edgeCount; e++) {
+                int sourceRoot = find(parent, edgeSource[e]);
+                int targetRoot = find(parent, edgeTarget[e]);
+                if (sourceRoot != targetRoot) {
+                    parent[targetRoot] = sourceRoot;
+                }
+            }
+
+            int[] representatives = new int[nodeCount];
+            int representativeCount = 0;
+            boolean[] seen = new boolean[nodeCount];
+            for (int v = 0; v < nodeCount; v++) {
+                int root = find(parent, v);
+                if (!seen[root]) {
+                    seen[root] = true;
+                    representatives[representativeCount++] = v;
+                }
+            }
+            if (representativeCount <= 1) {
+                return -1;
+            }
+
+            int root = addNode();
+            for (int i = 0; i < representativeCount; i++) {
+                addEdge(root, representatives[i], 0, 0);
+            }
+            return root;
+        }
+
+        private static int find(final int[] parent, final int node) {
+            int v = node;
+            while (parent[v] != v) {
+                // path halving
+                parent[v] = parent[parent[v]];
+                v = parent[v];
+            }
+            return v;
+        }
+
+        /**
+         * @return the created {@link CompactNGraph}.
+         */
+        public CompactNGraph create() {
+            CompactNGraph graph = new CompactNGraph(nodeCount, edgeCount, Arrays.copyOf(edgeSource, edgeCount),
+                    Arrays.copyOf(edgeTarget, edgeCount), Arrays.copyOf(edgeWeight, edgeCount),
+                    Arrays.copyOf(edgeDelta, edgeCount));
+
+            // incoming edges first, each group ordered by index
+            int[] nextIncoming = new int[nodeCount];
+            int[] nextOutgoing = new int[nodeCount];
+            for (int v = 0; v < nodeCount; v++) {
+                nextIncoming[v] = graph.incidentStart[v];
+                nextOutgoing[v] = graph.incidentStart[v] + graph.inDegree[v];
+            }
+            for (int e = 0; e < edgeCount; e++) {
+                graph.incidentEdges[nextIncoming[graph.edgeTarget[e]]++] = e;
+                graph.incidentEdges[nextOutgoing[graph.edgeSource[e]]++] = e;
+            }
+
+            if (base != null) {
+                System.arraycopy(base.layer, 0, graph.layer, 0, base.nodeCount);
+                System.arraycopy(base.treeEdge, 0, graph.treeEdge, 0, base.edgeCount);
+            }
+            return graph;
+        }
+    }
+
+}
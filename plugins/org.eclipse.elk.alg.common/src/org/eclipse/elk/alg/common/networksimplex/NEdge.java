@@ -33,9 +33,9 @@ public class NEdge {
 
     /**
      * A flag indicating whether a specified edge is part of the spanning tree determined by
-     * {@code tightTree()}.
+     * the last execution of the network simplex.
      * 
-     * @see NetworkSimplex#tightTreeDFS(NNode)
+     * @see NetworkSimplex#withWarmStart(boolean)
      */
     protected boolean treeEdge = false;
 
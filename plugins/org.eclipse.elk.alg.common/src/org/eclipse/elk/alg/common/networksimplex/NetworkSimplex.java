@@ -9,20 +9,10 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.networksimplex;
 
-import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Deque;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
-import java.util.Set;
 
 import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
-import org.eclipse.elk.core.util.Pair;
-
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 
 /**
  * The main class of the network simplex layerer component. It offers an algorithm to determine an
@@ -33,6 +23,11 @@ import com.google.common.collect.Sets;
  * drawing directed graphs. <i>Software Engineering</i> 19(3), pp. 214-230, 1993.</li>
  * </ul>
  * 
+ * <p>The algorithm operates on a {@link CompactNGraph}, which keeps nodes and edges as consecutive indices and all
+ * of their attributes in primitive arrays. So does the algorithm's own state, and all traversals are iterative,
+ * which keeps the memory footprint small and deep spanning trees from overflowing the stack. Graphs given as an
+ * {@link NGraph} are converted for each execution, and the computed layering is written back afterwards.</p>
+ * 
  * <dl>
  * <dt>Precondition:</dt>
  * <dd>the graph has no cycles</dd>
@@ -53,6 +48,8 @@ public final class NetworkSimplex  {
     private boolean balance = false;
     /** A limit on the number of iterations. */
     private int iterationLimit = Integer.MAX_VALUE;
+    /** Whether to start from the current layering and spanning tree, see {@link #withWarmStart(boolean)}. */
+    private boolean warmStart = false;
     /** Empirically determined threshold when removing subtrees pays off. */
     private static final int REMOVE_SUBTREES_THRESH = 40;
     
@@ -70,6 +67,17 @@ public final class NetworkSimplex  {
      * @return a new instance of a {@link NetworkSimplex} algorithm.
      */
     public static NetworkSimplex forGraph(final NGraph graph) {
+        NetworkSimplex ns = new NetworkSimplex();
+        ns.nGraph = graph;
+        return ns;
+    }
+
+    /**
+     * @param graph
+     *            the graph for which to execute the network simplex
+     * @return a new instance of a {@link NetworkSimplex} algorithm.
+     */
+    public static NetworkSimplex forGraph(final CompactNGraph graph) {
         NetworkSimplex ns = new NetworkSimplex();
         ns.graph = graph;
         return ns;
@@ -116,124 +124,144 @@ public final class NetworkSimplex  {
         this.iterationLimit = limit;
         return this;
     }
-    
-    // ================================== Attributes ==============================================
-
-    /** The graph all methods in this class operate on. */
-    private NGraph graph;
-
-    /** An {@code ArrayList} containing all edges in the graph. */
-    private List<NEdge> edges;
-    
-    /** A {@code HashSet} containing all edges that are part of the spanning tree. */
-    private Set<NEdge> treeEdges;
 
     /**
-     * A {@code LinkedList} containing all source nodes of the graph, i.e. all nodes that have no
-     * incident incoming edges.
+     * Starts the network simplex from the current state of the graph instead of from scratch. The
+     * {@link NNode#layer layers} of the nodes, or those {@link CompactNGraph#setLayer(int, int) set} on a
+     * {@link CompactNGraph}, serve as initial potentials and the spanning tree left behind by a
+     * previous execution on the same graph serves as initial spanning tree. This pays off if the network simplex is
+     * executed repeatedly on a graph that changes only slightly in between, for instance by altering edge weights or
+     * adding a few nodes and edges.
+     *
+     * <p>
+     * The initial state does not have to be valid. Nodes are moved to higher layers as far as necessary to satisfy
+     * the minimum lengths of all edges. Tree edges that are not tight anymore or that close a cycle are dropped from
+     * the spanning tree, which is then completed the usual way.
+     * </p>
+     *
+     * @param doWarmStart
+     *            whether to start from the current layering and spanning tree
+     * @return the {@link NetworkSimplex} instance for further configuration or execution.
      */
-    private List<NNode> sources;
+    public NetworkSimplex withWarmStart(final boolean doWarmStart) {
+        this.warmStart = doWarmStart;
+        return this;
+    }
 
-    /**
-     * A flag indicating whether a specified edge has been visited during DFS-traversal. This array
-     * has to be filled with {@code false} each time, before a DFS-based method is invoked.
-     */
+    // ================================== Attributes ==============================================
+
+    /** The graph this instance was created for, if it was created for an {@link NGraph}. */
+    private NGraph nGraph;
+    /** The graph all methods in this class operate on. */
+    private CompactNGraph graph;
+
+    /** Whether each node has been removed as part of a subtree. */
+    private boolean[] nodeRemoved;
+    /** Whether each edge has been removed as part of a subtree. */
+    private boolean[] edgeRemoved;
+    /** The removed subtree nodes, in the order of their removal. */
+    private int[] subtreeNodes;
+    /** The edge each removed subtree node was attached with. */
+    private int[] subtreeEdges;
+    /** The number of removed subtree nodes. */
+    private int subtreeNodeCount;
+
+    /** The nodes that have not been removed, ordered by index. */
+    private int[] nodes;
+    /** The number of entries in {@link #nodes}. */
+    private int nodeCount;
+    /** The edges that have not been removed, ordered by index. */
+    private int[] edges;
+    /** The number of entries in {@link #edges}. */
+    private int edgeCount;
+
+    /** Whether each node is part of the tight tree determined so far. */
+    private boolean[] treeNode;
+    /** Whether each edge has been visited by the current depth-first search. */
     private boolean[] edgeVisited;
 
-    /**
-     * The current postorder traversal number used by {@code postorderTraversal()} to assign an
-     * unique traversal ID to each node.
-     * 
-     * @see #postorderTraversal(NNode)
-     */
-    private int postOrder;
+    /** The tree edges in the order they were added to the tree, linked through their indices. */
+    private int[] nextTreeEdge;
+    /** The predecessor of each tree edge in the order they were added to the tree. */
+    private int[] previousTreeEdge;
+    /** The tree edge added first, or {@code -1}. */
+    private int firstTreeEdge;
+    /** The tree edge added last, or {@code -1}. */
+    private int lastTreeEdge;
 
-    /**
-     * The postorder traversal ID of each node determined by {@code postorderTraversal()}.
-     * 
-     * @see #postorderTraversal(NNode)
-     */
+    /** The current postorder traversal number. */
+    private int postOrder;
+    /** The postorder traversal ID of each node. */
     private int[] poID;
-
-    /**
-     * The lowest postorder traversal ID of each nodes reachable through a node lower in the
-     * traversal tree determined by {@code postorderTraversal}.
-     * 
-     * @see #postorderTraversal(NNode)
-     */
+    /** The lowest postorder traversal ID in the subtree of each node. */
     private int[] lowestPoID;
-
-    /**
-     * The cut value of every edge defined as follows: If the edge is deleted, the spanning tree
-     * breaks into two connected components, the head component containing the target node of the
-     * edge and the tail component containing the source node of the edge. The cut value is the sum
-     * of the weight (here {@code 1}) of all edges going from the tail to the head component,
-     * including the tree edge, minus the sum of the weights of all edges from the head to the tail
-     * component.
-     * 
-     * @see #cutvalues()
-     */
+    /** The tree edge connecting each node to its parent, or {@code -1} for the root. */
+    private int[] parentEdge;
+    /** The cut value of each tree edge. */
     private double[] cutvalue;
-    
-    /**
-     * Nodes that are part of subtrees of the graph. They will be removed prior to the actual
-     * execution of the network simplex since positioning them with minimal edge length is trivial.
-     * 
-     * @see #removeSubtrees()
-     * @see #reattachSubtrees()
-     */
-    private Deque<Pair<NNode, NEdge>> subtreeNodesStack;
+
+    /** Stack of nodes of the current depth-first search. */
+    private int[] stack;
+    /** For each node on the {@link #stack}, the index of the next incident edge to look at. */
+    private int[] nextIncident;
+    /** Stack of nodes of {@link #markTreeComponent(int)}, which runs during a depth-first search. */
+    private int[] componentStack;
+
+    /** For each removed edge, the node it was re-attached to, or {@code -1}. Only used by {@link #balance(int[])}. */
+    private int[] reattachedTo;
+    /** For each node, the index of the first subtree node re-attached to it, or {@code -1}. */
+    private int[] firstReattached;
+    /** For each subtree node, the index of the next subtree node re-attached to the same node, or {@code -1}. */
+    private int[] nextReattached;
+    /** The shortest span of an incoming edge of the node currently balanced. */
+    private int spanIn;
+    /** The shortest span of the other edges of the node currently balanced. */
+    private int spanOut;
 
     // =============================== Initialization Methods =====================================
 
     /**
-     * Helper method for the network simplex layerer. It instantiates all necessary attributes for
-     * the execution of the network simplex layerer and initializes them with their default values.
-     * All edges in the connected component given by the input argument will be determined, as well
-     * as the number of incoming and outgoing edges of each node ( {@code inDegree}, respectively
-     * {@code outDegree}). All sinks and source nodes in the connected component identified in this
-     * step will be added to {@code sinks}, respectively {@code sources}.
-     * 
+     * Instantiates all attributes and determines the nodes and edges that take part in the network simplex.
      */
     private void initialize() {
-        // initialize node attributes
-        int numNodes = graph.nodes.size();
-        for (NNode n : graph.nodes) {
-            n.treeNode = false;
+        int numNodes = graph.nodeCount;
+        int numEdges = graph.edgeCount;
+
+        nodes = new int[numNodes];
+        nodeCount = 0;
+        for (int v = 0; v < numNodes; v++) {
+            if (!nodeRemoved[v]) {
+                nodes[nodeCount++] = v;
+            }
+        }
+        edges = new int[numEdges];
+        edgeCount = 0;
+        for (int e = 0; e < numEdges; e++) {
+            if (edgeRemoved[e]) {
+                graph.treeEdge[e] = false;
+            } else {
+                edges[edgeCount++] = e;
+                if (!warmStart) {
+                    graph.treeEdge[e] = false;
+                }
+            }
         }
+
+        treeNode = new boolean[numNodes];
+        edgeVisited = new boolean[numEdges];
+        nextTreeEdge = new int[numEdges];
+        previousTreeEdge = new int[numEdges];
+        firstTreeEdge = -1;
+        lastTreeEdge = -1;
         poID = new int[numNodes];
         lowestPoID = new int[numNodes];
-        sources = Lists.newArrayList();
-
-        // determine edges and re-index nodes
-        int index = 0;
-        List<NEdge> theEdges = Lists.newArrayList();
-        for (NNode node : graph.nodes) {
-            node.internalId = index++;
-            // add node to sinks, resp. sources
-            if (node.getIncomingEdges().size() == 0) {
-                sources.add(node);
-            }
-            theEdges.addAll(node.getOutgoingEdges());
-        }
-        // re-index edges
-        int counter = 0;
-        for (NEdge edge : theEdges) {
-            edge.internalId = counter++;
-            edge.treeEdge = false;
-        }
-        // initialize edge attributes
-        int numEdges = theEdges.size();
-        if (cutvalue == null || cutvalue.length < numEdges) {
-            cutvalue = new double[numEdges];
-            edgeVisited = new boolean[numEdges];
-        } else {
-            Arrays.fill(edgeVisited, false);
+        parentEdge = new int[numNodes];
+        cutvalue = new double[numEdges];
+        stack = new int[numNodes];
+        nextIncident = new int[numNodes];
+        if (warmStart) {
+            componentStack = new int[numNodes];
         }
-        edges = theEdges;
-        // we iterate over this set, thus we have to use a linked hash set 
-        // to get a deterministic iteration order
-        treeEdges = Sets.newLinkedHashSetWithExpectedSize(edges.size());
         postOrder = 1;
     }
 
@@ -241,47 +269,64 @@ public final class NetworkSimplex  {
      * Release all created resources so the GC can reap them.
      */
     private void dispose() {
-        this.cutvalue = null;
-        this.edges = null;
-        this.treeEdges = null;
-        this.edgeVisited = null;
-        this.lowestPoID = null;
-        this.poID = null;
-        this.sources = null;
-        this.subtreeNodesStack = null;
+        nodeRemoved = null;
+        edgeRemoved = null;
+        subtreeNodes = null;
+        subtreeEdges = null;
+        nodes = null;
+        edges = null;
+        treeNode = null;
+        edgeVisited = null;
+        nextTreeEdge = null;
+        previousTreeEdge = null;
+        poID = null;
+        lowestPoID = null;
+        parentEdge = null;
+        cutvalue = null;
+        stack = null;
+        nextIncident = null;
+        componentStack = null;
+        reattachedTo = null;
+        firstReattached = null;
+        nextReattached = null;
     }
 
     // ============================== Network-Simplex Algorithm ===================================
 
     /**
-     * Determine the optimal layering. 
+     * Determine the optimal layering.
      */
     public void execute() {
         execute(new BasicProgressMonitor());
     }
-    
+
     /**
-     * Determine the optimal layering.  
-     * 
+     * Determine the optimal layering.
+     *
      * @param monitor
      *            a progress monitor
      */
     public void execute(final IElkProgressMonitor monitor) {
         monitor.begin("Network simplex", 1);
 
-        if (graph.nodes.size() < 1) {
+        if (nGraph != null) {
+            graph = CompactNGraph.fromGraph(nGraph);
+        }
+        if (graph.nodeCount < 1) {
             monitor.done();
             return;
         }
-        
-        // reset any old layering
-        for (NNode node : graph.nodes) {
-            node.layer = 0;
+
+        // reset any old layering, unless it is the starting point
+        if (!warmStart) {
+            Arrays.fill(graph.layer, 0);
         }
-        
+
         // remove leafs
-        boolean removeSubtrees = graph.nodes.size() >= REMOVE_SUBTREES_THRESH;
-        if (removeSubtrees) {
+        nodeRemoved = new boolean[graph.nodeCount];
+        edgeRemoved = new boolean[graph.edgeCount];
+        subtreeNodeCount = 0;
+        if (graph.nodeCount >= REMOVE_SUBTREES_THRESH) {
             removeSubtrees();
         }
 
@@ -290,9 +335,9 @@ public final class NetworkSimplex  {
         // determine an initial feasible layering
         feasibleTree();
         // improve the initial layering until it is optimal
-        NEdge e = leaveEdge();
+        int e = leaveEdge();
         int iter = 0;
-        while (e != null && iter < iterationLimit) {
+        while (e >= 0 && iter < iterationLimit) {
             // current layering is not optimal
             exchange(e, enterEdge(e));
             e = leaveEdge();
@@ -300,260 +345,299 @@ public final class NetworkSimplex  {
         }
 
         // re-attach leafs
-        if (removeSubtrees) {
-            reattachSubtrees();
-        }
-        
+        reattachSubtrees();
+
         // normalize and, if desired, balance
-        //   both methods must work on the NNode#layer field
         if (balance) {
             balance(normalize());
         } else {
             normalize();
         }
-        
+
         // release the created resources
         dispose();
+        if (nGraph != null) {
+            graph.applyLayering();
+            graph = null;
+        }
         monitor.done();
     }
-    
-    
+
+    /**
+     * Returns the end point of an edge opposite to the given node.
+     */
+    private int other(final int edge, final int node) {
+        int source = graph.edgeSource[edge];
+        return source == node ? graph.edgeTarget[edge] : source;
+    }
+
+    /**
+     * Returns the difference between the current and the minimal length of an edge.
+     */
+    private int slack(final int edge) {
+        return graph.layer[graph.edgeTarget[edge]] - graph.layer[graph.edgeSource[edge]] - graph.edgeDelta[edge];
+    }
+
     /**
-     * Recursively removes subtrees. In other words, removes leafs from the graph until no more
-     * leafs are present.
+     * Recursively removes subtrees. In other words, removes leafs from the graph until no more leafs are present.
      */
     private void removeSubtrees() {
-        
-        subtreeNodesStack = new ArrayDeque<>();
-        
-        // find initial leafs
-        Queue<NNode> leafs = Lists.newLinkedList();
-        for (NNode node : graph.nodes) {
-            if (node.getConnectedEdges().size() == 1) {
-                leafs.add(node);
+        int[] degree = new int[graph.nodeCount];
+        for (int v = 0; v < graph.nodeCount; v++) {
+            degree[v] = graph.incidentStart[v + 1] - graph.incidentStart[v];
+        }
+
+        // every node becomes a leaf at most once
+        int[] leafs = new int[graph.nodeCount];
+        int head = 0;
+        int tail = 0;
+        for (int v = 0; v < graph.nodeCount; v++) {
+            if (degree[v] == 1) {
+                leafs[tail++] = v;
             }
         }
-        
-        // remove them from the graph like there's no tomorrow
-        while (!leafs.isEmpty()) {
-            NNode node = leafs.poll();
+        subtreeNodes = new int[graph.nodeCount];
+        subtreeEdges = new int[graph.nodeCount];
+
+        while (head < tail) {
+            int node = leafs[head++];
             // was the edge already removed?
-            if (node.getConnectedEdges().size() == 0) {
+            if (degree[node] == 0) {
                 continue;
             }
-            NEdge edge = node.getConnectedEdges().get(0);
-            boolean isOutEdge = node.getOutgoingEdges().size() > 0;
-            
-            NNode other = edge.getOther(node);
-            if (isOutEdge) {
-                other.getIncomingEdges().remove(edge);
-            } else {
-                other.getOutgoingEdges().remove(edge);
+            int edge = -1;
+            for (int i = graph.incidentStart[node]; i < graph.incidentStart[node + 1]; i++) {
+                if (!edgeRemoved[graph.incidentEdges[i]]) {
+                    edge = graph.incidentEdges[i];
+                    break;
+                }
             }
-            
-            if (other.getConnectedEdges().size() == 1) {
-                leafs.add(other);
+
+            int other = other(edge, node);
+            edgeRemoved[edge] = true;
+            nodeRemoved[node] = true;
+            degree[node]--;
+            degree[other]--;
+            if (degree[other] == 1) {
+                leafs[tail++] = other;
             }
-            
-            Pair<NNode, NEdge> leafy = Pair.of(node, edge);
-            subtreeNodesStack.push(leafy);
-            // remove the node from the graph's nodes
-            graph.nodes.remove(node);
+
+            subtreeNodes[subtreeNodeCount] = node;
+            subtreeEdges[subtreeNodeCount] = edge;
+            subtreeNodeCount++;
         }
-        
     }
-    
+
     /**
-     * Re-attaches the previously removed tree nodes. It is important that 
-     * the nodes are re-attached in the opposite order than they were removed.  
+     * Re-attaches the previously removed tree nodes in the opposite order than they were removed.
      */
     private void reattachSubtrees() {
-        
-        while (!subtreeNodesStack.isEmpty()) {
-            
-            Pair<NNode, NEdge> leafy = subtreeNodesStack.pop();
-            NNode node = leafy.getFirst();
-            NEdge edge = leafy.getSecond();
-            
-            NNode placed = edge.getOther(node);
-            
-            if (edge.target == node) {
-                placed.getOutgoingEdges().add(edge);
-                node.layer = placed.layer + edge.delta;
+        for (int i = subtreeNodeCount - 1; i >= 0; i--) {
+            int node = subtreeNodes[i];
+            int edge = subtreeEdges[i];
+            int placed = other(edge, node);
+            if (graph.edgeTarget[edge] == node) {
+                graph.layer[node] = graph.layer[placed] + graph.edgeDelta[edge];
             } else {
-                placed.getIncomingEdges().add(edge);
-                node.layer = placed.layer - edge.delta;
+                graph.layer[node] = graph.layer[placed] - graph.edgeDelta[edge];
             }
-            
-            graph.nodes.add(node);
         }
-        
     }
 
     /**
-     * Helper method for the network simplex layerer. It determines an initial feasible spanning
-     * tree of the graph. This graph will be tight by construction. For determination, an initial
-     * feasible tree is being computed. If all tree edges contained are tight (i.e. their minimal
-     * length corresponds with their actual length), a tight tree has already been found. If not,
-     * this method iteratively determines a non-tree edge incident to the tree with a minimal amount
-     * of slack (i.e. the edge with the lowest difference between its current and minimal length)
-     * and shifts all tree edges accordingly to shorten the edge to its minimal size. The edge has
-     * become tight and will be added to the spanning tree together with all tight edges leading to
-     * non-tree nodes as well. If all nodes of the graph are contained in the spanning tree, a tight
-     * tree has been found. A concluding computation of each edge's initial cut value takes place.
-     * 
-     * @see NetworkSimplex#tightTreeDFS(NNode) tightTreeDFS()
+     * Determines an initial feasible layering and a tight spanning tree, and computes the initial cut values.
      */
     private void feasibleTree() {
-        
-        // determine initial layering
-        layeringTopologicalNumbering(sources);
-        
-        if (edges.size() > 0) {
-            Arrays.fill(edgeVisited, false);
-            while (tightTreeDFS(graph.nodes.iterator().next()) < graph.nodes.size()) {
+        layeringTopologicalNumbering();
+
+        if (edgeCount > 0) {
+            int root = nodes[0];
+            if (warmStart) {
+                retainTightTreeEdges();
+                markTreeComponent(root);
+            }
+            while (tightTreeDFS(root) < nodeCount) {
                 // some nodes are still not part of the tree
-                NEdge e = minimalSlack();
-                int slack = e.getTarget().layer - e.getSource().layer - e.delta;
-                if (e.getTarget().treeNode) {
+                int e = minimalSlack();
+                int slack = slack(e);
+                if (treeNode[graph.edgeTarget[e]]) {
                     slack = -slack;
                 }
 
                 // update tree
-                for (NNode node : graph.nodes) {
-                    if (node.treeNode) {
-                        node.layer += slack;
+                for (int i = 0; i < nodeCount; i++) {
+                    if (treeNode[nodes[i]]) {
+                        graph.layer[nodes[i]] += slack;
                     }
                 }
-                Arrays.fill(edgeVisited, false);
             }
             // update tree-related attributes
-            Arrays.fill(edgeVisited, false);
-            postorderTraversal(graph.nodes.iterator().next());
+            postorderTraversal(root, -1);
             cutvalues();
         }
     }
 
     /**
-     * Helper method for the network simplex layerer. It determines an (initial) feasible layering
-     * for the graph by traversing it by a minimal topological numbering. Dependently of
-     * the chosen mode indicated by {@code reverse}, this method traverses incoming edges (if
-     * {@code reverse = true}), or outgoing edges, if {@code reverse = false}, only. Therefore, this
-     * method should only be called with source nodes as argument in the first-mentioned case and
-     * only with sink nodes in the latter case.
-     * 
-     * @param initialRootNodes
-     *            the roots of the topological numbering (sources or sinks, depending on the direction)
-     */
-    private void layeringTopologicalNumbering(final List<NNode> initialRootNodes) {
-        
-        // initialize the number of incident edges for each node
-        int[] incident = new int[graph.nodes.size()];
-        for (NNode node : graph.nodes) {
-            incident[node.internalId] += node.getIncomingEdges().size();
-        }
-
-        LinkedList<NNode> roots = Lists.newLinkedList(initialRootNodes);
-        while (!roots.isEmpty()) {
-            NNode node = roots.poll();
-            
-            for (NEdge edge : node.getOutgoingEdges()) {
-                NNode target = edge.getTarget();
-                target.layer = Math.max(target.layer, node.layer + edge.delta);
-                incident[target.internalId]--;
-                if (incident[target.internalId] == 0) {
-                    roots.add(target);
+     * Moves nodes to higher layers until the minimum lengths of all edges are satisfied, visiting the nodes in
+     * topological order.
+     */
+    private void layeringTopologicalNumbering() {
+        int[] incident = new int[graph.nodeCount];
+        int[] roots = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < edgeCount; i++) {
+            incident[graph.edgeTarget[edges[i]]]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            if (incident[nodes[i]] == 0) {
+                roots[tail++] = nodes[i];
+            }
+        }
+
+        while (head < tail) {
+            int node = roots[head++];
+            for (int i = graph.incidentStart[node] + graph.inDegree[node]; i < graph.incidentStart[node + 1]; i++) {
+                int edge = graph.incidentEdges[i];
+                if (!edgeRemoved[edge]) {
+                    int target = graph.edgeTarget[edge];
+                    graph.layer[target] = Math.max(graph.layer[target], graph.layer[node] + graph.edgeDelta[edge]);
+                    if (--incident[target] == 0) {
+                        roots[tail++] = target;
+                    }
                 }
             }
         }
     }
 
     /**
-     * Helper method for the network simplex layerer. It determines the length of the currently
-     * shortest incoming or outgoing edge of the input node.
-     * 
-     * @param node
-     *            the node to determine the length of its shortest incoming or outgoing edge
-     * @return a pair containing the length of the shortest incoming (first element) and outgoing
-     *         edge (second element) incident to the input node or {@code -1} as the length, if no
-     *         such edge is incident
-     */
-    private Pair<Integer, Integer> minimalSpan(final NNode node) {
-        int minSpanOut = Integer.MAX_VALUE;
-        int minSpanIn = Integer.MAX_VALUE;
-        int currentSpan;
-
-        for (NEdge edge : node.getConnectedEdges()) {
-            currentSpan = edge.getTarget().layer - edge.getSource().layer;
-            if (edge.getTarget() == node && currentSpan < minSpanIn) {
-                minSpanIn = currentSpan;
-            } else if (currentSpan < minSpanOut) {
-                minSpanOut = currentSpan;
+     * When warm starting, keeps the edges of the previous spanning tree that are still tight and that do not close
+     * a cycle.
+     */
+    private void retainTightTreeEdges() {
+        // union-find structure over the nodes to detect cycles
+        int[] component = new int[graph.nodeCount];
+        for (int v = 0; v < component.length; v++) {
+            component[v] = v;
+        }
+
+        for (int i = 0; i < edgeCount; i++) {
+            int edge = edges[i];
+            if (graph.treeEdge[edge]) {
+                int sourceComponent = findComponent(component, graph.edgeSource[edge]);
+                int targetComponent = findComponent(component, graph.edgeTarget[edge]);
+                if (sourceComponent != targetComponent && slack(edge) == 0) {
+                    component[sourceComponent] = targetComponent;
+                    addTreeEdge(edge);
+                } else {
+                    graph.treeEdge[edge] = false;
+                }
             }
         }
-        
-        if (minSpanIn == Integer.MAX_VALUE) {
-            minSpanIn = -1;
-        }
-        if (minSpanOut == Integer.MAX_VALUE) {
-            minSpanOut = -1;
-        }
+    }
 
-        return new Pair<Integer, Integer>(minSpanIn, minSpanOut);
+    /**
+     * Returns the representative of the component of the given node, compressing the path to it on the way.
+     */
+    private static int findComponent(final int[] component, final int node) {
+        int root = node;
+        while (component[root] != root) {
+            root = component[root];
+        }
+        int current = node;
+        while (component[current] != root) {
+            int next = component[current];
+            component[current] = root;
+            current = next;
+        }
+        return root;
     }
 
     /**
-     * Helper method for the network simplex layerer. It determines a DFS-subtree of the graph by
-     * traversing tight edges only (i.e. edges whose current length matches their minimal length in
-     * the layering) and returns the number of nodes in this. If this number is equal to the total
-     * number of nodes in the graph, a tight spanning tree has been determined.
-     * 
-     * @param node
-     *            the root of the DFS-subtree
-     * @return the number of nodes in the determined tight DFS-tree
-     */
-    private int tightTreeDFS(final NNode node) {
-        int nodeCount = 1;
-        node.treeNode = true;
-        NNode opposite = null;
-        for (NEdge edge : node.getConnectedEdges()) {
-            if (!edgeVisited[edge.internalId]) {
-                edgeVisited[edge.internalId] = true;
-                opposite = edge.getOther(node);
-                if (edge.treeEdge) {
-                    // edge is a tree edge already: follow this path
-                    nodeCount += tightTreeDFS(opposite);
-                } else if (!opposite.treeNode
-                        && edge.delta == edge.getTarget().layer
-                                - edge.getSource().layer) {
-                    // edge is a tight non-tree edge
-                    edge.treeEdge = true;
-                    treeEdges.add(edge);
-                    nodeCount += tightTreeDFS(opposite);
+     * When warm starting, marks all nodes connected to the given node by tree edges as tree nodes. The given node's
+     * component of the spanning forest must not contain tree nodes yet.
+     */
+    private void markTreeComponent(final int start) {
+        int top = 0;
+        treeNode[start] = true;
+        componentStack[top++] = start;
+        while (top > 0) {
+            int node = componentStack[--top];
+            for (int i = graph.incidentStart[node]; i < graph.incidentStart[node + 1]; i++) {
+                int edge = graph.incidentEdges[i];
+                int opposite = other(edge, node);
+                if (graph.treeEdge[edge] && !edgeRemoved[edge] && !treeNode[opposite]) {
+                    treeNode[opposite] = true;
+                    componentStack[top++] = opposite;
                 }
             }
         }
-        return nodeCount;
     }
 
     /**
-     * Helper method for the network simplex layerer. It returns the non-tree edge incident on the
-     * tree and incident to a non-tree node with a minimal amount of slack (i.e. an edge with the
-     * lowest difference between its current and minimal length) or {@code null}, if no such edge
-     * exists. Note, that the returned edge's slack is never {@code 0}, since otherwise, the edge
-     * would be a tree-edge.
-     * 
-     * @return a non-tree edge incident on the tree with a minimal amount of slack or {@code null},
-     *         if no such edge exists
+     * Determines a depth-first tree of the graph by traversing tree edges and tight edges only, adding the latter to
+     * the tree, and returns the number of nodes in it.
+     *
+     * @param root
+     *            the root of the tree
+     * @return the number of nodes in the determined tight tree
      */
-    private NEdge minimalSlack() {
+    private int tightTreeDFS(final int root) {
+        Arrays.fill(edgeVisited, false);
+        int reached = 1;
+        int top = 0;
+        treeNode[root] = true;
+        nextIncident[root] = graph.incidentStart[root];
+        stack[top++] = root;
+
+        while (top > 0) {
+            int node = stack[top - 1];
+            if (nextIncident[node] == graph.incidentStart[node + 1]) {
+                top--;
+                continue;
+            }
+
+            int edge = graph.incidentEdges[nextIncident[node]++];
+            if (edgeRemoved[edge] || edgeVisited[edge]) {
+                continue;
+            }
+            edgeVisited[edge] = true;
+            int opposite = other(edge, node);
+            boolean descend = false;
+            if (graph.treeEdge[edge]) {
+                // edge is a tree edge already: follow this path
+                descend = true;
+            } else if (!treeNode[opposite] && slack(edge) == 0) {
+                // edge is a tight non-tree edge
+                graph.treeEdge[edge] = true;
+                addTreeEdge(edge);
+                if (warmStart) {
+                    markTreeComponent(opposite);
+                }
+                descend = true;
+            }
+
+            if (descend) {
+                reached++;
+                treeNode[opposite] = true;
+                nextIncident[opposite] = graph.incidentStart[opposite];
+                stack[top++] = opposite;
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Returns the non-tree edge incident on the tree with a minimal amount of slack.
+     */
+    private int minimalSlack() {
         int minSlack = Integer.MAX_VALUE;
-        NEdge minSlackEdge = null;
-        int curSlack;
-        for (NEdge edge : edges) {
-            if (edge.getSource().treeNode ^ edge.getTarget().treeNode) {
+        int minSlackEdge = -1;
+        for (int i = 0; i < edgeCount; i++) {
+            int edge = edges[i];
+            if (treeNode[graph.edgeSource[edge]] ^ treeNode[graph.edgeTarget[edge]]) {
                 // edge is non-tree edge and incident on the tree
-                curSlack = edge.getTarget().layer - edge.getSource().layer - edge.delta;
+                int curSlack = slack(edge);
                 if (curSlack < minSlack) {
                     minSlack = curSlack;
                     minSlackEdge = edge;
@@ -564,197 +648,153 @@ public final class NetworkSimplex  {
     }
 
     /**
-     * Helper method for the network simplex layerer. It performs a postorder DFS-traversal of the
-     * graph beginning with the input node. Each node will be assigned a unique traversal ID, which
-     * will be stored in {@code poID}. Furthermore, the lowest postorder traversal ID of any node in
-     * a descending path relative to the input node will be computed and stored in
-     * {@code lowestPoID}, which is also the return value of this method.
-     * 
-     * @param node
-     *            the root of the DFS-subtree
-     * @return the lowest post-order ID of any descending edge in the depth-first-search
-     * 
-     * @see NetworkSimplex#poID poID
-     * @see NetworkSimplex#lowestPoID lowestPoID
-     * @see NetworkSimplex#postOrder postOrder
+     * Appends an edge to the tree edges.
      */
-    private int postorderTraversal(final NNode node) {
-        int lowest = Integer.MAX_VALUE;
-        for (NEdge edge : node.getConnectedEdges()) {
-            if (edge.treeEdge && !edgeVisited[edge.internalId]) {
-                edgeVisited[edge.internalId] = true;
-                lowest = Math.min(lowest, postorderTraversal(edge.getOther(node)));
-            }
+    private void addTreeEdge(final int edge) {
+        nextTreeEdge[edge] = -1;
+        previousTreeEdge[edge] = lastTreeEdge;
+        if (lastTreeEdge >= 0) {
+            nextTreeEdge[lastTreeEdge] = edge;
+        } else {
+            firstTreeEdge = edge;
         }
-        poID[node.internalId] = postOrder;
-        lowestPoID[node.internalId] = Math.min(lowest, postOrder++);
-        return lowestPoID[node.internalId];
+        lastTreeEdge = edge;
     }
 
     /**
-     * Helper method for the the network simplex layerer. It determines, whether an node is part of
-     * the head component of the given edge defined as follows: If the input edge is deleted, the
-     * spanning tree breaks into to connected components. The head component is that component,
-     * which contains the edge's target node, and the tail component is the component, which
-     * contains the edge's source node. Note that a node either belongs to the head or tail
-     * component. Therefore, if the node is not part of the head component, it must be part of the
-     * tail component and vice versa.
-     * 
-     * @param node
-     *            the node to determine, whether it belongs to the edges head (or tail) component
-     * @param edge
-     *            the edge to determine, whether the node is in the head (or tail) component
-     * @return {@code true}, if node is in the head component or {@code false}, if the node is in
-     *         the tail component of the edge
-     */
-    private boolean isInHead(final NNode node, final NEdge edge) {
-        NNode source = edge.getSource();
-        NNode target = edge.getTarget();
-
-        if (lowestPoID[source.internalId] <= poID[node.internalId] 
-                && poID[node.internalId] <= poID[source.internalId]
-                && lowestPoID[target.internalId] <= poID[node.internalId] 
-                && poID[node.internalId] <= poID[target.internalId]) {
-            // node is in a descending path in the DFS-Tree
-            if (poID[source.internalId] < poID[target.internalId]) {
-                // root is in the head component
-                return false;
-            }
-            return true;
+     * Removes an edge from the tree edges.
+     */
+    private void removeTreeEdge(final int edge) {
+        if (previousTreeEdge[edge] >= 0) {
+            nextTreeEdge[previousTreeEdge[edge]] = nextTreeEdge[edge];
+        } else {
+            firstTreeEdge = nextTreeEdge[edge];
         }
-        if (poID[source.internalId] < poID[target.internalId]) {
-            // root is in the head component
-            return true;
+        if (nextTreeEdge[edge] >= 0) {
+            previousTreeEdge[nextTreeEdge[edge]] = previousTreeEdge[edge];
+        } else {
+            lastTreeEdge = previousTreeEdge[edge];
         }
-        return false;
     }
 
     /**
-     * Helper method for the network simplex layerer. It determines the cut value of each tree edge,
-     * which is defined as follows: If the edge is deleted, the spanning tree breaks into two
-     * connected components, the head component containing the target node of the edge and the tail
-     * component containing the source node of the edge. The cut value is the sum of the weights of
-     * all edges going from the tail to the head component, including the tree edge itself, minus
-     * the sum of the weights of all edges from the head to the tail component.
-     * 
-     * @see NetworkSimplex#cutvalue cutvalue
+     * Performs a postorder traversal of the subtree of the given node, numbering its nodes starting at
+     * {@link #postOrder}, and records the lowest number in the subtree of each node as well as the tree edge leading
+     * to each node's parent.
+     *
+     * @param root
+     *            the root of the subtree
+     * @param parent
+     *            the tree edge leading from the root to its parent, or {@code -1}
      */
-    private void cutvalues() {
-        // determine incident tree edges for each node
-        List<NNode> leafs = Lists.newArrayList();
-        int treeEdgeCount;
-        for (NNode node : graph.nodes) {
-            treeEdgeCount = 0;
-            node.unknownCutvalues.clear();
-            for (NEdge edge : node.getConnectedEdges()) {
-                if (edge.treeEdge) {
-                    node.unknownCutvalues.add(edge);
-                    treeEdgeCount++;
+    private void postorderTraversal(final int root, final int parent) {
+        int top = 0;
+        parentEdge[root] = parent;
+        lowestPoID[root] = Integer.MAX_VALUE;
+        nextIncident[root] = graph.incidentStart[root];
+        stack[top++] = root;
+
+        while (top > 0) {
+            int node = stack[top - 1];
+            if (nextIncident[node] < graph.incidentStart[node + 1]) {
+                int edge = graph.incidentEdges[nextIncident[node]++];
+                if (graph.treeEdge[edge] && edge != parentEdge[node]) {
+                    int child = other(edge, node);
+                    parentEdge[child] = edge;
+                    lowestPoID[child] = Integer.MAX_VALUE;
+                    nextIncident[child] = graph.incidentStart[child];
+                    stack[top++] = child;
+                }
+            } else {
+                top--;
+                poID[node] = postOrder;
+                lowestPoID[node] = Math.min(lowestPoID[node], postOrder++);
+                if (top > 0) {
+                    int parentNode = stack[top - 1];
+                    lowestPoID[parentNode] = Math.min(lowestPoID[parentNode], lowestPoID[node]);
                 }
-            }
-            if (treeEdgeCount == 1) {
-                leafs.add(node);
             }
         }
-        
-        // determine cut values
-        NEdge toDetermine;
-        NNode source, target;
-        for (NNode node : leafs) {
-            while (node.unknownCutvalues.size() == 1) {
-                // one tree edge with undetermined cut value is incident
-                toDetermine = node.unknownCutvalues.iterator().next();
-                cutvalue[toDetermine.internalId] = toDetermine.weight;
-                source = toDetermine.getSource();
-                target = toDetermine.getTarget();
-                for (NEdge edge : node.getConnectedEdges()) {
-                    if (!edge.equals(toDetermine)) {
-                        if (edge.treeEdge) {
-                            // edge is tree edge
-                            if (source.equals(edge.getSource())
-                                    || target.equals(edge.getTarget())) {
-                                // edge has not the same direction as toDetermine
-                                cutvalue[toDetermine.internalId] -= cutvalue[edge.internalId] - edge.weight;
-                            } else {
-                                cutvalue[toDetermine.internalId] += cutvalue[edge.internalId] - edge.weight;
-                            }
-                        } else {
-                            // edge is non-tree edge
-                            if (node.equals(source)) {
-                                if (edge.getSource().equals(node)) {
-                                    cutvalue[toDetermine.internalId] += edge.weight;
-                                } else {
-                                    cutvalue[toDetermine.internalId] -= edge.weight;
-                                }
-                            } else {
-                                if (edge.getSource().equals(node)) {
-                                    cutvalue[toDetermine.internalId] -= edge.weight;
-                                } else {
-                                    cutvalue[toDetermine.internalId] += edge.weight;
-                                }
-                            }
-                        }
+    }
+
+    /**
+     * Determines whether a node is part of the subtree rooted at another node.
+     */
+    private boolean isInSubtree(final int node, final int root) {
+        return lowestPoID[root] <= poID[node] && poID[node] <= poID[root];
+    }
+
+    /**
+     * Determines whether a node is part of the head component of the given tree edge.
+     */
+    private boolean isInHead(final int node, final int edge) {
+        int source = graph.edgeSource[edge];
+        int target = graph.edgeTarget[edge];
+
+        if (isInSubtree(node, source) && isInSubtree(node, target)) {
+            // node is in a descending path in the DFS-Tree
+            return poID[source] >= poID[target];
+        }
+        return poID[source] < poID[target];
+    }
+
+    /**
+     * Determines the cut value of each tree edge. The net weight of the edges leaving the subtree of each node is
+     * accumulated bottom-up along the postorder. The cut value of the tree edge connecting a node to its parent is
+     * that weight, negated if the tree edge points towards the node.
+     */
+    private void cutvalues() {
+        int[] nodeAtPoID = new int[nodeCount + 1];
+        for (int i = 0; i < nodeCount; i++) {
+            nodeAtPoID[poID[nodes[i]]] = nodes[i];
+        }
+
+        double[] outflow = new double[graph.nodeCount];
+        for (int po = 1; po <= nodeCount; po++) {
+            int node = nodeAtPoID[po];
+            for (int i = graph.incidentStart[node]; i < graph.incidentStart[node + 1]; i++) {
+                int edge = graph.incidentEdges[i];
+                if (!edgeRemoved[edge]) {
+                    if (graph.edgeSource[edge] == node) {
+                        outflow[node] += graph.edgeWeight[edge];
+                    } else {
+                        outflow[node] -= graph.edgeWeight[edge];
                     }
                 }
-                
-                // remove edge from 'unknownCutvalues'
-                source.unknownCutvalues.remove(toDetermine);
-                target.unknownCutvalues.remove(toDetermine);
-                
-                // proceed with next node
-                if (source.equals(node)) {
-                    node = toDetermine.getTarget();
-                } else {
-                    node = toDetermine.getSource();
-                }
+            }
+
+            int edge = parentEdge[node];
+            if (edge >= 0) {
+                cutvalue[edge] = graph.edgeSource[edge] == node ? outflow[node] : -outflow[node];
+                outflow[other(edge, node)] += outflow[node];
             }
         }
     }
 
     /**
-     * Helper method for the network simplex layerer. It returns a tree edge with a negative cut
-     * value or {@code null}, if no such edge exists, meaning that the current layer assignment of
-     * all nodes is optimal. Note, that this method returns any edge with a negative cut value. A
-     * special preference to an edge with lowest value will not be given.
-     * 
-     * @return a tree edge with negative cut value or {@code null}, if no such edge exists
+     * Returns the first tree edge with a negative cut value or {@code -1}, if no such edge exists.
      */
-    private NEdge leaveEdge() {
-        for (NEdge edge : treeEdges) {
-            if (edge.treeEdge && cutvalue[edge.internalId] < FUZZY_ST_ZERO) {
+    private int leaveEdge() {
+        for (int edge = firstTreeEdge; edge >= 0; edge = nextTreeEdge[edge]) {
+            if (cutvalue[edge] < FUZZY_ST_ZERO) {
                 return edge;
             }
         }
-        return null;
+        return -1;
     }
 
     /**
-     * Helper method for the network simplex layerer. It determines an non-tree edge to replace the
-     * given tree edge in the spanning tree. All edges going from the head component to the tail
-     * component of the edge will be considered. The edge with a minimal amount of slack (i.e. the
-     * lowest difference between its current to its minimal length) will be returned.
-     * 
-     * @param leave
-     *            the tree edge to determine a non-tree edge to be replaced with
-     * @return a non-tree edge with a minimal amount of slack to replace the given edge
-     * @throws IllegalArgumentException
-     *             if the input edge is not a tree edge
+     * Returns the non-tree edge from the head to the tail component of the given tree edge with a minimal amount of
+     * slack.
      */
-    private NEdge enterEdge(final NEdge leave) {
-        if (!leave.treeEdge) {    
-            throw new IllegalArgumentException("The input edge is not a tree edge.");
-        }
-
-        NEdge replace = null;
+    private int enterEdge(final int leave) {
+        int replace = -1;
         int repSlack = Integer.MAX_VALUE;
-        int slack;
-        NNode source, target;
-        for (NEdge edge : edges) {
-            source = edge.getSource();
-            target = edge.getTarget();
-            if (isInHead(source, leave) && !isInHead(target, leave)) {
+        for (int i = 0; i < edgeCount; i++) {
+            int edge = edges[i];
+            if (isInHead(graph.edgeSource[edge], leave) && !isInHead(graph.edgeTarget[edge], leave)) {
                 // edge is to consider
-                slack = target.layer - source.layer - edge.delta;
+                int slack = slack(edge);
                 if (slack < repSlack) {
                     repSlack = slack;
                     replace = edge;
@@ -765,9 +805,8 @@ public final class NetworkSimplex  {
     }
 
     /**
-     * Helper method for the network simplex layerer. It exchanges the tree-edge {@code leave} by
-     * the non-tree edge {@code enter} and updates all values based on the tree (i.e. performs a new
-     * postorder DFS-traversal and updates the cut values).
+     * Exchanges the tree edge {@code leave} by the non-tree edge {@code enter}, updating the cut values along the
+     * tree path closed by {@code enter} and the postorder below the lowest common ancestor of its end points.
      * 
      * @param leave
      *            the tree-edge to be replaced
@@ -775,111 +814,171 @@ public final class NetworkSimplex  {
      *            the non-tree edge to replace the tree edge
      * @throws IllegalArgumentException
      *             if either {@code leave} is no tree edge or {@code enter} is a tree edge already
-     * 
-     * @see NetworkSimplex#enterEdge(NEdge) enterEdge()
-     * @see NetworkSimplex#leaveEdge() leaveEdge()
      */
-    private void exchange(final NEdge leave, final NEdge enter) {
-        if (!leave.treeEdge) {
+    private void exchange(final int leave, final int enter) {
+        if (!graph.treeEdge[leave]) {
             throw new IllegalArgumentException("Given leave edge is no tree edge.");
         }
-        if (enter.treeEdge) {
+        if (graph.treeEdge[enter]) {
             throw new IllegalArgumentException("Given enter edge is a tree edge already.");
         }
 
-        // update tree
-        leave.treeEdge = false;
-        treeEdges.remove(leave);
-        enter.treeEdge = true;
-        treeEdges.add(enter);
-        int delta = enter.getTarget().layer - enter.getSource().layer - enter.delta;
-        if (!isInHead(enter.getTarget(), leave)) {
+        // make the entering edge tight
+        int delta = slack(enter);
+        if (!isInHead(graph.edgeTarget[enter], leave)) {
             delta = -delta;
         }
-        for (NNode node : graph.nodes) {
-            if (!isInHead(node, leave)) {
-                node.layer += delta;
+        for (int i = 0; i < nodeCount; i++) {
+            if (!isInHead(nodes[i], leave)) {
+                graph.layer[nodes[i]] += delta;
             }
         }
-        
-        // TODO it should be possible to do this incrementally right?
-        // update tree-based values
-        postOrder = 1;
-        Arrays.fill(edgeVisited, false);
-        postorderTraversal(graph.nodes.iterator().next());
-        cutvalues();
+
+        // update the cut values along the path between the end points of the entering edge
+        double leaveCutvalue = cutvalue[leave];
+        int lca = updateCutvalues(graph.edgeSource[enter], graph.edgeTarget[enter], leaveCutvalue, true);
+        updateCutvalues(graph.edgeTarget[enter], graph.edgeSource[enter], leaveCutvalue, false);
+        cutvalue[enter] = -leaveCutvalue;
+        cutvalue[leave] = 0;
+
+        // update tree
+        graph.treeEdge[leave] = false;
+        removeTreeEdge(leave);
+        graph.treeEdge[enter] = true;
+        addTreeEdge(enter);
+
+        // update the postorder traversal below the lowest common ancestor
+        postOrder = lowestPoID[lca];
+        postorderTraversal(lca, parentEdge[lca]);
     }
 
     /**
-     * Helper method for the network simplex layerer. It normalizes the layering, i.e. determines
-     * the lowest layer assigned to a node and shifts all nodes up or down in the layers
-     * accordingly. After termination, the lowest layer assigned to a node will be zeroth (and
-     * therefore first) layer. This method returns an integer array indicating how many nodes are
-     * assigned to which layer. Note that the total number of layers necessary to layer the graph is
-     * indicated thereby, which is the size if the array.
-     * 
-     * @return an integer array indicating how many nodes are assigned to which layer
+     * Walks up the tree from {@code node} until reaching the first ancestor of {@code other}, updating the cut values
+     * of the tree edges on the way, and returns that ancestor.
+     */
+    private int updateCutvalues(final int node, final int other, final double leaveCutvalue, final boolean forward) {
+        int current = node;
+        while (!isInSubtree(other, current)) {
+            int edge = parentEdge[current];
+            if ((current == graph.edgeSource[edge]) == forward) {
+                cutvalue[edge] += leaveCutvalue;
+            } else {
+                cutvalue[edge] -= leaveCutvalue;
+            }
+            current = other(edge, current);
+        }
+        return current;
+    }
+
+    /**
+     * Shifts all nodes such that the lowest layer is the zeroth layer and returns the number of nodes in each layer.
      */
     private int[] normalize() {
-        // determine lowest assigned layer and layer count
         int highest = Integer.MIN_VALUE;
         int lowest = Integer.MAX_VALUE;
-        for (NNode node : graph.nodes) {
-            lowest = Math.min(lowest, node.layer);
-            highest = Math.max(highest, node.layer);
+        for (int v = 0; v < graph.nodeCount; v++) {
+            lowest = Math.min(lowest, graph.layer[v]);
+            highest = Math.max(highest, graph.layer[v]);
         }
-        // normalize and determine layer filling
         int[] filling = new int[highest - lowest + 1];
-        for (NNode node : graph.nodes) {
-            node.layer -= lowest;
-            filling[node.layer]++;
+        for (int v = 0; v < graph.nodeCount; v++) {
+            graph.layer[v] -= lowest;
+            filling[graph.layer[v]]++;
         }
-        
+
         // also consider nodes of already layered connected components
-        int layerID = 0;
         if (previousLayeringNodeCounts != null) {
-            for (int nodeCntInLayer : previousLayeringNodeCounts) {
-                filling[layerID++] += nodeCntInLayer;
-                if (filling.length == layerID) {
-                    break;
-                }
+            for (int i = 0; i < previousLayeringNodeCounts.length && i < filling.length; i++) {
+                filling[i] += previousLayeringNodeCounts[i];
             }
         }
         return filling;
     }
 
     /**
-     * Helper method for the network simplex layerer. It balances the layering concerning its width,
-     * i.e. the number of nodes in each layer. If the graph allows multiple optimal layerings
-     * regarding a minimal edge length, this method moves separate nodes to a layer with a minimal
-     * amount of currently contained nodes with respect to the retention of feasibility and
-     * optimality of the given layering.
-     * 
+     * Moves nodes with as many incoming as outgoing edges to less crowded layers, if possible.
+     *
      * @param filling
-     *            an integer array indicating how many nodes are currently assigned to each layer
+     *            the number of nodes currently assigned to each layer
      */
     private void balance(final int[] filling) {
-        // determine possible layers
-        int newLayer;
-        Pair<Integer, Integer> range = null;
-        for (NNode node : graph.nodes) {
-            if (node.getIncomingEdges().size() == node.getOutgoingEdges().size()) {
-                // node might get shifted
-                newLayer = node.layer;
-                range = minimalSpan(node);
-                for (int i = node.layer - range.getFirst() + 1; i < node.layer
-                        + range.getSecond(); i++) {
-                    if (filling[i] < filling[newLayer]) {
-                        newLayer = i;
-                    }
+        // re-attaching a subtree node used to append its edge to the edges of the node it is attached to, and the
+        // order of the incoming edges affects the spans determined below
+        reattachedTo = new int[graph.edgeCount];
+        Arrays.fill(reattachedTo, -1);
+        firstReattached = new int[graph.nodeCount];
+        Arrays.fill(firstReattached, -1);
+        nextReattached = new int[subtreeNodeCount];
+        int[] lastReattached = new int[graph.nodeCount];
+        for (int i = subtreeNodeCount - 1; i >= 0; i--) {
+            int placed = other(subtreeEdges[i], subtreeNodes[i]);
+            reattachedTo[subtreeEdges[i]] = placed;
+            nextReattached[i] = -1;
+            if (firstReattached[placed] < 0) {
+                firstReattached[placed] = i;
+            } else {
+                nextReattached[lastReattached[placed]] = i;
+            }
+            lastReattached[placed] = i;
+        }
+
+        // the nodes that were not removed as part of a subtree come first, followed by the subtree nodes in the
+        // order they were re-attached
+        for (int i = 0; i < nodeCount; i++) {
+            balance(nodes[i], filling);
+        }
+        for (int i = subtreeNodeCount - 1; i >= 0; i--) {
+            balance(subtreeNodes[i], filling);
+        }
+    }
+
+    /**
+     * Moves a single node to a less crowded layer, see {@link #balance(int[])}.
+     */
+    private void balance(final int v, final int[] filling) {
+        int degree = graph.incidentStart[v + 1] - graph.incidentStart[v];
+        if (2 * graph.inDegree[v] == degree) {
+            // determine the lengths of the shortest incoming and outgoing edges, where an incoming edge that is
+            // not shorter than the incoming edges before it counts as an outgoing one
+            spanIn = Integer.MAX_VALUE;
+            spanOut = Integer.MAX_VALUE;
+            for (int i = graph.incidentStart[v]; i < graph.incidentStart[v + 1]; i++) {
+                int edge = graph.incidentEdges[i];
+                if (reattachedTo[edge] != v) {
+                    updateMinimalSpans(edge, v);
                 }
-                // assign new layer
-                if (filling[newLayer] < filling[node.layer]) {
-                    filling[node.layer]--;
-                    filling[newLayer]++;
-                    node.layer = newLayer;
+            }
+            for (int i = firstReattached[v]; i >= 0; i = nextReattached[i]) {
+                updateMinimalSpans(subtreeEdges[i], v);
+            }
+            int minSpanIn = spanIn == Integer.MAX_VALUE ? -1 : spanIn;
+            int minSpanOut = spanOut == Integer.MAX_VALUE ? -1 : spanOut;
+
+            // move the node to the layer with the fewest nodes in range
+            int layer = graph.layer[v];
+            int newLayer = layer;
+            for (int i = layer - minSpanIn + 1; i < layer + minSpanOut; i++) {
+                if (filling[i] < filling[newLayer]) {
+                    newLayer = i;
                 }
             }
+            if (filling[newLayer] < filling[layer]) {
+                filling[layer]--;
+                filling[newLayer]++;
+                graph.layer[v] = newLayer;
+            }
+        }
+    }
+
+    /**
+     * Updates {@link #spanIn} and {@link #spanOut} with the span of the given edge incident to the given node.
+     */
+    private void updateMinimalSpans(final int edge, final int node) {
+        int currentSpan = graph.layer[graph.edgeTarget[edge]] - graph.layer[graph.edgeSource[edge]];
+        if (graph.edgeTarget[edge] == node && currentSpan < spanIn) {
+            spanIn = currentSpan;
+        } else if (currentSpan < spanOut) {
+            spanOut = currentSpan;
         }
     }
 
@@ -9,12 +9,17 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.common.polyomino;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+// elkjs-exclude-start
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.common.compaction.options.PolyominoOptions;
 import org.eclipse.elk.alg.common.polyomino.structures.Direction;
@@ -51,6 +56,9 @@ import org.eclipse.elk.core.util.Pair;
  */
 public class PolyominoCompactor {
 
+    /** The maximum number of candidate positions tested concurrently per thread. */
+    private static final int MAX_CANDIDATES_PER_THREAD = 16;
+
     /**
      * Places {@link Polyomino polyominoes} close together, in order to achieve a minimum area, based on the heuristic
      * algorithm PackPolyominoes from the paper.
@@ -118,18 +126,31 @@ public class PolyominoCompactor {
             successorBasedOnCost = new SuccessorQuadrantsGeneric(new SuccessorJitter());
         }
 
+        boolean parallel = polyHolder.getProperty(PolyominoOptions.POLYOMINO_PARALLEL_CANDIDATES);
+
         for (Polyomino poly : polys) {
             // 3. Start placement of each polyomino at the center of the grid
             int offX = 0;
             int offY = 0;
             Pair<Integer, Integer> next = new Pair<Integer, Integer>(offX, offY);
 
-            // 4. Until no polyomino cell intersects with another polyomino already placed ...
-            while (grid.intersectsWithCenterBased(poly, offX, offY)) {
-                // ... get next trial position based on cost function
-                next = successorBasedOnCost.apply(next, poly);
+            boolean placed = false;
+            // elkjs-exclude-start
+            if (parallel && ForkJoinPool.getCommonPoolParallelism() > 1) {
+                next = findPositionConcurrently(grid, poly, next, successorBasedOnCost);
                 offX = next.getFirst();
                 offY = next.getSecond();
+                placed = true;
+            }
+            // elkjs-exclude-end
+            if (!placed) {
+                // 4. Until no polyomino cell intersects with another polyomino already placed ...
+                while (grid.intersectsWithCenterBased(poly, offX, offY)) {
+                    // ... get next trial position based on cost function
+                    next = successorBasedOnCost.apply(next, poly);
+                    offX = next.getFirst();
+                    offY = next.getSecond();
+                }
             }
             // 5. When a valid position is found, mark all new cells in the underlying grid and save the position of the
             // polyomino's center relative to the grid's center
@@ -137,6 +158,57 @@ public class PolyominoCompactor {
         }
     }
 
+    // elkjs-exclude-start
+    /**
+     * Finds the same position as the sequential search, but tests the candidate positions concurrently. Candidates
+     * are enumerated in batches whose size doubles up to {@link #MAX_CANDIDATES_PER_THREAD} per thread, which keeps
+     * the number of needlessly tested candidates low for polyominoes that fit close to the center. Since the grid is
+     * not modified during the search, the candidates can be tested independently of each other; of each batch, the
+     * first candidate without an intersection is chosen.
+     */
+    private Pair<Integer, Integer> findPositionConcurrently(final PlanarGrid grid, final Polyomino poly,
+            final Pair<Integer, Integer> start,
+            final BiFunction<Pair<Integer, Integer>, Polyomino, Pair<Integer, Integer>> successorBasedOnCost) {
+
+        List<Pair<Integer, Integer>> candidates = new ArrayList<>();
+        Pair<Integer, Integer> next = start;
+        candidates.add(next);
+        int batchSize = 1;
+        int maxBatchSize = MAX_CANDIDATES_PER_THREAD * ForkJoinPool.getCommonPoolParallelism();
+
+        while (true) {
+            // an exception for a candidate is only relevant if no earlier candidate fits
+            int size = candidates.size();
+            RuntimeException[] exceptions = new RuntimeException[size];
+            boolean[] intersects = new boolean[size];
+            IntStream.range(0, size).parallel().forEach(i -> {
+                try {
+                    Pair<Integer, Integer> candidate = candidates.get(i);
+                    intersects[i] = grid.intersectsWithCenterBased(poly, candidate.getFirst(), candidate.getSecond());
+                } catch (RuntimeException e) {
+                    exceptions[i] = e;
+                }
+            });
+            for (int i = 0; i < size; i++) {
+                if (exceptions[i] != null) {
+                    throw exceptions[i];
+                }
+                if (!intersects[i]) {
+                    return candidates.get(i);
+                }
+            }
+
+            // the successors only depend on the previous position, so they can be enumerated in advance
+            batchSize = Math.min(2 * batchSize, maxBatchSize);
+            candidates.clear();
+            for (int i = 0; i < batchSize; i++) {
+                next = successorBasedOnCost.apply(next, poly);
+                candidates.add(next);
+            }
+        }
+    }
+    // elkjs-exclude-end
+
     ///////////////////////////////////////////////////////////////////////////////
     // Inner Classes
 
@@ -18,6 +18,9 @@ import org.eclipse.elk.core.util.Quadruple;
  */
 public class PlanarGrid extends TwoBitGrid {
 
+    /** Number of cells compared at once by the intersection tests. */
+    private static final int CELLS_PER_WORD = 32;
+
     ///////////////////////////////////////////////////////////////////////////////
     // Variables
 
@@ -149,13 +152,17 @@ public class PlanarGrid extends TwoBitGrid {
      */
     public <G extends PlanarGrid> boolean intersectsWithCenterBased(final G other, final int xOffset,
             final int yOffset) {
-        for (int x = 0; x < other.getWidth(); x++) {
-            int xTranslated = x - other.getCenterX() + xOffset;
-            for (int y = 0; y < other.getHeight(); y++) {
-                int yTranslated = y - other.getCenterY() + yOffset;
-                if (this.inBoundsCenterBased(xTranslated, yTranslated)
-                        && ((!(other.isEmpty(x, y)) && this.isBlockedCenterBased(xTranslated, yTranslated))
-                                || (other.isBlocked(x, y) && !(this.isEmptyCenterBased(xTranslated, yTranslated))))) {
+        // compare 32 cells at once, cells of this grid that lie outside of its bounds read as empty
+        int xShift = xCenter - other.getCenterX() + xOffset;
+        int yShift = yCenter - other.getCenterY() + yOffset;
+        int fromY = Math.max(0, -yShift);
+        int toY = Math.min(other.getHeight(), getHeight() - yShift);
+        for (int y = fromY; y < toY; y++) {
+            for (int x = 0; x < other.getWidth(); x += CELLS_PER_WORD) {
+                long otherCells = other.retrieveWord(x, y);
+                long cells = retrieveWord(x + xShift, y + yShift);
+                if (((nonEmptyCells(otherCells) & blockedCells(cells))
+                        | (blockedCells(otherCells) & nonEmptyCells(cells))) != 0) {
                     return true;
                 }
             }
@@ -303,11 +310,13 @@ public class PlanarGrid extends TwoBitGrid {
         int maxX = Integer.MIN_VALUE;
         int minY = Integer.MAX_VALUE;
         int maxY = Integer.MIN_VALUE;
-        for (int xi = 0; xi < gridWidth; ++xi) {
-            for (int yi = 0; yi < gridHeight; ++yi) {
-                if (isBlocked(xi, yi)) {
-                    minX = Math.min(minX, xi);
-                    maxX = Math.max(maxX, xi);
+        for (int yi = 0; yi < gridHeight; ++yi) {
+            for (int xi = 0; xi < gridWidth; xi += CELLS_PER_WORD) {
+                long blocked = blockedCells(retrieveWord(xi, yi));
+                if (blocked != 0) {
+                    // two bits per cell
+                    minX = Math.min(minX, xi + Long.numberOfTrailingZeros(blocked) / 2);
+                    maxX = Math.max(maxX, xi + (Long.SIZE - 1 - Long.numberOfLeadingZeros(blocked)) / 2);
                     minY = Math.min(minY, yi);
                     maxY = Math.max(maxY, yi);
                 }
@@ -336,19 +345,19 @@ public class PlanarGrid extends TwoBitGrid {
      */
     public void weaklyBlockArea(final int xUpperLeft, final int yUpperleft, final int xBottomRight,
             final int yBottomRight) {
+        if (xUpperLeft > xBottomRight) {
+            return;
+        }
         for (int yi = yUpperleft; yi <= yBottomRight; yi++) {
-            for (int xi = xUpperLeft; xi <= xBottomRight; xi++) {
-                if (!isBlocked(xi, yi)) {
-                    // Might throw IndexOutOfBoundsException
-                    setWeaklyBlocked(xi, yi);
-                }
-            }
+            checkBounds(xUpperLeft, yi, false);
+            checkBounds(xBottomRight, yi, false);
+            weaklyBlockRange(xUpperLeft, xBottomRight, yi);
         }
     }
 
     /**
      * Returns whether a given rectangular area given in coordinates with the upper left corner as origin contains at
-     * least one blocked cell.
+     * least one blocked cell. The area may extend past the right edge of the grid, whose cells are considered empty.
      * 
      * @param xUpperLeft
      *            x-coordinate of upper left corner
@@ -360,22 +369,31 @@ public class PlanarGrid extends TwoBitGrid {
      *            y-coordinate of bottom right corner
      * @return true, area contains blocked cell(s), false, otherwise
      * @throws IndexOutOfBoundsException
-     *             One of given corner points is out of bounds.
+     *             The area reaches past the left, upper, or lower edge of the grid before a blocked cell is found.
      */
     public boolean weaklyIntersectsArea(final int xUpperLeft, final int yUpperleft, final int xBottomRight,
             final int yBottomRight) {
+        if (xUpperLeft > xBottomRight) {
+            return false;
+        }
         for (int yi = yUpperleft; yi <= yBottomRight; yi++) {
-            for (int xi = xUpperLeft; xi <= xBottomRight; xi++) {
-                // Might throw IndexOutOfBoundsException
-                if (isBlocked(xi, yi)) {
-                    return true;
-                }
+            // cells to the right of the grid are considered empty
+            checkBounds(xUpperLeft, yi, true);
+            if (containsBlockedCell(xUpperLeft, xBottomRight, yi)) {
+                return true;
             }
         }
         return false;
 
     }
 
+    private void checkBounds(final int x, final int y, final boolean unboundedWidth) {
+        if (!inBounds(unboundedWidth ? Math.min(x, 0) : x, y)) {
+            throw new IndexOutOfBoundsException("Grid is only of size " + getWidth() + "*" + getHeight()
+                    + ". Requested point (" + x + ", " + y + ") is out of bounds.");
+        }
+    }
+
     /**
      * Gets the x-coordinate of the (truncated) center of this grid.
      * 
@@ -26,6 +26,9 @@ public class TwoBitGrid implements IThreeValueGrid {
     private static final double HALF_WORD = 32.0;
     private static final int REST_MASK = 0x1F;
     private static final int RIGHT_SHIFT = 5; // 2^5 = 32
+    private static final int WORD_BITS = 64;
+    /** Selects the least significant bit of each cell of a word. */
+    private static final long LSBS_MASK = 0x5555555555555555L;
 
     ///////////////////////////////////////////////////////////////////////////////
     // Variables
@@ -160,6 +163,119 @@ public class TwoBitGrid implements IThreeValueGrid {
         return output.substring(0, output.length() - 1);
     }
 
+    ///////////////////////////////////////////////////////////////////////////////
+    // Package private methods
+
+    /**
+     * Returns the 32 cells of row {@code y} starting at column {@code x} as a single word with two bits per cell, the
+     * cell at column {@code x} being stored in the two least significant bits. Cells outside of the grid read as
+     * empty.
+     * 
+     * @param x
+     *            X-coordinate of the first cell, may be negative
+     * @param y
+     *            Y-coordinate of the row, must be inside of the grid
+     * @return the cells encoded as a word
+     */
+    long retrieveWord(final int x, final int y) {
+        long[] row = grid[y];
+        int xWord = x >> RIGHT_SHIFT;
+        int shift = (x & REST_MASK) << 1;
+        long low = xWord >= 0 && xWord < row.length ? row[xWord] : EMPTY;
+        if (shift == 0) {
+            return low;
+        }
+        long high = xWord + 1 >= 0 && xWord + 1 < row.length ? row[xWord + 1] : EMPTY;
+        return (low >>> shift) | (high << (WORD_BITS - shift));
+    }
+
+    /**
+     * Returns a mask selecting the least significant bit of each blocked cell of the given word.
+     * 
+     * @param word
+     *            cells as returned by {@link #retrieveWord(int, int)}
+     * @return the mask
+     */
+    static long blockedCells(final long word) {
+        return word & ~(word >>> 1) & LSBS_MASK;
+    }
+
+    /**
+     * Returns a mask selecting the least significant bit of each cell of the given word that is not empty.
+     * 
+     * @param word
+     *            cells as returned by {@link #retrieveWord(int, int)}
+     * @return the mask
+     */
+    static long nonEmptyCells(final long word) {
+        return (word | (word >>> 1)) & LSBS_MASK;
+    }
+
+    /**
+     * Returns a mask selecting the least significant bit of the cells of a word that lie in the given range of
+     * columns, the word starting at column {@code x}.
+     * 
+     * @param x
+     *            the column of the word's first cell
+     * @param from
+     *            first column of the range
+     * @param to
+     *            last column of the range
+     * @return the mask
+     */
+    static long cellRange(final int x, final int from, final int to) {
+        long mask = LSBS_MASK;
+        if (from > x) {
+            mask &= LSBS_MASK << ((from - x) << 1);
+        }
+        if (to < x + (1 << RIGHT_SHIFT) - 1) {
+            mask &= LSBS_MASK >>> (WORD_BITS - ((to - x + 1) << 1));
+        }
+        return mask;
+    }
+
+    /**
+     * Returns whether the given range of row {@code y} contains a blocked cell. Columns to the right of the grid are
+     * considered to be empty.
+     * 
+     * @param fromX
+     *            first column of the range
+     * @param toX
+     *            last column of the range
+     * @param y
+     *            the row
+     * @return true, a cell in the range is blocked, false, otherwise
+     */
+    boolean containsBlockedCell(final int fromX, final int toX, final int y) {
+        int lastX = Math.min(toX, xSize - 1);
+        for (int x = fromX & ~REST_MASK; x <= lastX; x += 1 << RIGHT_SHIFT) {
+            if ((blockedCells(retrieveWord(x, y)) & cellRange(x, fromX, lastX)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Weakly blocks all cells in the given range of row {@code y} that are not blocked.
+     * 
+     * @param fromX
+     *            first column of the range
+     * @param toX
+     *            last column of the range
+     * @param y
+     *            the row
+     */
+    void weaklyBlockRange(final int fromX, final int toX, final int y) {
+        long[] row = grid[y];
+        for (int xWord = fromX >> RIGHT_SHIFT; xWord <= toX >> RIGHT_SHIFT; xWord++) {
+            int x = xWord << RIGHT_SHIFT;
+            long word = row[xWord];
+            long cells = cellRange(x, fromX, toX) & ~blockedCells(word);
+            row[xWord] = (word & ~(cells | (cells << 1))) | (cells << 1);
+        }
+    }
+
     ///////////////////////////////////////////////////////////////////////////////
     // Private methods
 
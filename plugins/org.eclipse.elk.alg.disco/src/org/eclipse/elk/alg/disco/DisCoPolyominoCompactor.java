@@ -217,6 +217,8 @@ public class DisCoPolyominoCompactor implements ICompactor {
 
         // Use the more generic polyomino compactor which isn't restricted to components
         Polyominoes<DCPolyomino> polyHolder = new Polyominoes<DCPolyomino>(polys, aspectRatio, fill);
+        polyHolder.setProperty(PolyominoOptions.POLYOMINO_PARALLEL_CANDIDATES,
+                cmpGraph.getProperty(PolyominoOptions.POLYOMINO_PARALLEL_CANDIDATES));
         new PolyominoCompactor().packPolyominoes(polyHolder);
 
         polys = polyHolder.getPolyominoes();
@@ -9,7 +9,11 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.force.model;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import org.eclipse.elk.alg.force.graph.FBendpoint;
@@ -23,8 +27,15 @@ import org.eclipse.elk.alg.force.options.InternalProperties;
 import org.eclipse.elk.core.math.KVector;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 
+import com.google.common.collect.Lists;
+
 /**
  * Superclass for force models.
+ * 
+ * <p>By default, the forces between all pairs of particles are computed in each iteration. If
+ * {@link ForceOptions#BARNES_HUT_THETA} is positive, repulsive forces are approximated using a
+ * {@link BarnesHutTree} instead, and only the additional forces between connected particles are computed
+ * exactly.</p>
  *
  * @author msp
  */
@@ -36,6 +47,15 @@ public abstract class AbstractForceModel {
     private FGraph graph;
     /** upper bound for particle coordinates. */
     private double dispBound;
+    /** the tree used to approximate repulsive forces, or {@code null} if they are computed exactly. */
+    private BarnesHutTree barnesHutTree;
+    /** all particles of the graph, if repulsive forces are approximated. */
+    private List<FParticle> particles;
+    /** pairs of connected particles and the amount of their connection, if repulsive forces are approximated. */
+    private List<Connection> connections;
+    /** the particles connected to each particle, indexed like {@link #particles}, if repulsive forces are
+     *  approximated and connected particles do not repulse each other. */
+    private List<List<FParticle>> neighbors;
     
     /** factor by which nodes influence the displacement bound. */
     private static final double DISP_BOUND_FACTOR = 16;
@@ -50,9 +70,6 @@ public abstract class AbstractForceModel {
         this.graph = fgraph;
         this.random = fgraph.getProperty(InternalProperties.RANDOM);
         
-        // calculate the adjacency matrix for the graph
-        fgraph.calcAdjacency();
-        
         // calculate an upper bound for particle displacement
         dispBound = Math.max(fgraph.getNodes().size() * DISP_BOUND_FACTOR + fgraph.getEdges().size(),
                 DISP_BOUND_FACTOR * DISP_BOUND_FACTOR);
@@ -78,6 +95,21 @@ public abstract class AbstractForceModel {
                 edge.distributeBendpoints();
             }
         }
+        
+        double theta = fgraph.getProperty(ForceOptions.BARNES_HUT_THETA);
+        if (theta > 0) {
+            barnesHutTree = new BarnesHutTree(this, theta);
+            particles = Lists.newArrayList(fgraph.getParticles());
+            connections = collectConnections(fgraph);
+            neighbors = connectedParticlesRepulse() ? null : collectNeighbors(particles, connections);
+        } else {
+            // calculate the adjacency matrix for the graph
+            fgraph.calcAdjacency();
+            barnesHutTree = null;
+            particles = null;
+            connections = null;
+            neighbors = null;
+        }
     }
     
     /**
@@ -113,12 +145,16 @@ public abstract class AbstractForceModel {
 
             iterationDone();
             // calculate attractive and repulsive forces
-            for (FParticle v : fgraph.getParticles()) {
-                for (FParticle u : fgraph.getParticles()) {
-                    if (u != v) {
-                        KVector displacement = calcDisplacement(u, v);
-                        if (displacement != null) {
-                            v.getDisplacement().add(displacement);
+            if (barnesHutTree != null) {
+                calcApproximateDisplacements();
+            } else {
+                for (FParticle v : fgraph.getParticles()) {
+                    for (FParticle u : fgraph.getParticles()) {
+                        if (u != v) {
+                            KVector displacement = calcDisplacement(u, v);
+                            if (displacement != null) {
+                                v.getDisplacement().add(displacement);
+                            }
                         }
                     }
                 }
@@ -136,6 +172,103 @@ public abstract class AbstractForceModel {
         monitor.done();
     }
     
+    /**
+     * Calculate the displacements of all particles with approximated repulsive forces. Unless
+     * {@link #connectedParticlesRepulse()}, the repulsion between connected particles is removed again. Connected
+     * particles are additionally displaced by the forces returned by {@link #calcAttraction(double, int, double)}.
+     */
+    private void calcApproximateDisplacements() {
+        barnesHutTree.build(particles, random);
+        for (int i = 0; i < particles.size(); i++) {
+            barnesHutTree.addRepulsion(particles.get(i));
+            if (neighbors != null) {
+                barnesHutTree.removeRepulsion(particles.get(i), neighbors.get(i));
+            }
+        }
+        for (Connection connection : connections) {
+            addAttraction(connection.particle1, connection.particle2, connection.amount);
+            addAttraction(connection.particle2, connection.particle1, connection.amount);
+        }
+    }
+    
+    /**
+     * Add the displacement caused by the connection of the given particles to the forcee's displacement vector.
+     */
+    private void addAttraction(final FParticle forcer, final FParticle forcee, final int amount) {
+        KVector forcerPos = forcer.getPosition();
+        KVector forceePos = forcee.getPosition();
+        double dx = forceePos.x - forcerPos.x;
+        double dy = forceePos.y - forcerPos.y;
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length > 0) {
+            double d = Math.max(0, length - forcer.getRadius() - forcee.getRadius());
+            double force = calcAttraction(d, amount, forcer.getProperty(ForceOptions.PRIORITY)) / length;
+            forcee.getDisplacement().add(dx * force, dy * force);
+        }
+    }
+    
+    /**
+     * Collect all pairs of particles whose connection is non-zero, in the sense of
+     * {@link FGraph#getConnection(FParticle, FParticle)}, without building the adjacency matrix.
+     */
+    private static List<Connection> collectConnections(final FGraph fgraph) {
+        // connections between nodes, keyed by the ids of the nodes
+        Map<Long, Connection> nodeConnections = new LinkedHashMap<>();
+        int n = fgraph.getNodes().size();
+        for (FEdge edge : fgraph.getEdges()) {
+            FNode source = edge.getSource();
+            FNode target = edge.getTarget();
+            if (source != target) {
+                long key = (long) Math.min(source.id, target.id) * n + Math.max(source.id, target.id);
+                nodeConnections.computeIfAbsent(key, k -> new Connection(source, target)).amount +=
+                        edge.getProperty(ForceOptions.PRIORITY);
+            }
+        }
+        // particles whose connection is not positive are treated as unconnected
+        List<Connection> result = new ArrayList<>();
+        for (Connection connection : nodeConnections.values()) {
+            if (connection.amount > 0) {
+                result.add(connection);
+            }
+        }
+        
+        // connections between bend points of the same edge
+        for (FEdge edge : fgraph.getEdges()) {
+            List<FBendpoint> bends = edge.getBendpoints();
+            if (edge.getProperty(ForceOptions.PRIORITY) <= 0) {
+                continue;
+            }
+            for (int i = 0; i < bends.size(); i++) {
+                for (int j = i + 1; j < bends.size(); j++) {
+                    Connection connection = new Connection(bends.get(i), bends.get(j));
+                    connection.amount = edge.getProperty(ForceOptions.PRIORITY);
+                    result.add(connection);
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Collect the particles each of the given particles is connected to.
+     */
+    private static List<List<FParticle>> collectNeighbors(final List<FParticle> particles,
+            final List<Connection> connections) {
+
+        Map<FParticle, List<FParticle>> particleNeighbors = new IdentityHashMap<>();
+        List<List<FParticle>> result = new ArrayList<>(particles.size());
+        for (FParticle particle : particles) {
+            List<FParticle> list = new ArrayList<>();
+            particleNeighbors.put(particle, list);
+            result.add(list);
+        }
+        for (Connection connection : connections) {
+            particleNeighbors.get(connection.particle1).add(connection.particle2);
+            particleNeighbors.get(connection.particle2).add(connection.particle1);
+        }
+        return result;
+    }
+    
     /**
      * Perform all necessary calculations after a full iteration. Subclasses must call
      * the superclass method first.
@@ -169,6 +302,39 @@ public abstract class AbstractForceModel {
      */
     protected abstract KVector calcDisplacement(FParticle forcer, FParticle forcee);
     
+    /**
+     * Calculate the amount of repulsive displacement a group of particles causes on a particle. This is used
+     * if repulsive forces are approximated, in which case it applies to all pairs of particles, connected or not.
+     * 
+     * @param distance the distance between the forcer and the forcee, not counting their radii
+     * @param charge the sum of the priorities of the particles causing the force
+     * @return the displacement of the forcee along the direction away from the forcer
+     */
+    protected abstract double calcRepulsion(double distance, double charge);
+    
+    /**
+     * Calculate the amount of displacement a particle causes on a particle it is connected to. If
+     * {@link #connectedParticlesRepulse()}, this is in addition to the displacement returned by
+     * {@link #calcRepulsion(double, double)}. This is used if repulsive forces are approximated.
+     * 
+     * @param distance the distance between the forcer and the forcee, not counting their radii
+     * @param connection the amount of connection between the two particles
+     * @param forcerPriority the priority of the particle causing the force
+     * @return the displacement of the forcee along the direction away from the forcer
+     */
+    protected abstract double calcAttraction(double distance, int connection, double forcerPriority);
+    
+    /**
+     * Whether connected particles repulse each other in addition to attracting each other. If not, the approximated
+     * repulsive forces are computed as if connected particles were not there. This is used if repulsive forces are
+     * approximated.
+     * 
+     * @return {@code true} if connected particles repulse each other
+     */
+    protected boolean connectedParticlesRepulse() {
+        return true;
+    }
+    
     /**
      * Avoid having nodes on the same position by moving them a little.
      * 
@@ -204,5 +370,22 @@ public abstract class AbstractForceModel {
             }
         }
     }
+    
+    /**
+     * A pair of connected particles.
+     */
+    private static final class Connection {
+        
+        /** the connected particles. */
+        private final FParticle particle1, particle2;
+        /** the amount of connection between the particles. */
+        private int amount;
+        
+        Connection(final FParticle particle1, final FParticle particle2) {
+            this.particle1 = particle1;
+            this.particle2 = particle2;
+        }
+        
+    }
 
 }
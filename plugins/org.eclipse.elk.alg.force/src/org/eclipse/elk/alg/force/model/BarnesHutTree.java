@@ -0,0 +1,417 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.force.graph.FParticle;
+import org.eclipse.elk.alg.force.options.ForceOptions;
+import org.eclipse.elk.core.math.KVector;
+
+/**
+ * A quadtree over the particles of a force graph that approximates repulsive forces after Barnes and Hut. Each cell
+ * knows the total charge of its particles, which is given by their priorities, and their center of charge. A cell that
+ * is small compared to its distance to a particle repulses that particle as a whole, which reduces the cost of
+ * computing the repulsive forces of an iteration from quadratic to roughly {@code n log n}.
+ *
+ * <p>The tree keeps its cells in arrays that are reused when it is rebuilt, so the only allocations of an iteration
+ * happen while the arrays grow.</p>
+ *
+ * <ul>
+ *   <li>Josh Barnes and Piet Hut. A hierarchical O(N log N) force-calculation algorithm. Nature 324(4):446-449,
+ *     1986.</li>
+ * </ul>
+ */
+final class BarnesHutTree {
+
+    /** depth at which cells are not split anymore; particles that end up there share a leaf. */
+    private static final int MAX_DEPTH = 48;
+    /** value of the child and particle indices if there is none. */
+    private static final int NONE = -1;
+
+    /** the force model that computes the amount of repulsion. */
+    private final AbstractForceModel model;
+    /** the accuracy of the approximation. */
+    private final double theta;
+
+    /** the particles, sorted by position. */
+    private FParticle[] particles;
+    /** cached particle attributes, indexed like {@link #particles}. */
+    private double[] radius;
+    private double[] charge;
+    /** the next particle in the same leaf, or {@link #NONE}. */
+    private int[] nextInLeaf;
+
+    /** number of cells currently in use; cell 0 is the root. */
+    private int cellCount;
+    /** the lower left corner and the side length of each cell. */
+    private double[] cellX = new double[0];
+    private double[] cellY = new double[0];
+    private double[] cellSize = new double[0];
+    /** the total charge and the (charge weighted) center of each cell. */
+    private double[] cellCharge = new double[0];
+    private double[] centerX = new double[0];
+    private double[] centerY = new double[0];
+    /** index of the first of the four consecutive children of each cell, or {@link #NONE} for leaves. */
+    private int[] firstChild = new int[0];
+    /** index of the first particle of each leaf, or {@link #NONE}. */
+    private int[] firstParticle = new int[0];
+    /** stack of cells still to visit while computing forces. */
+    private int[] stack = new int[0];
+    /** the forcers whose repulsion is removed, encoded with the cell that acted on the forcee; reused. */
+    private long[] removed = new long[0];
+
+    /**
+     * Create a tree for the given force model.
+     *
+     * @param model the force model that computes the amount of repulsion
+     * @param theta the accuracy of the approximation; a cell acts as a whole on a particle if its size divided by its
+     *          distance to the particle is less than this value
+     */
+    BarnesHutTree(final AbstractForceModel model, final double theta) {
+        this.model = model;
+        this.theta = theta;
+    }
+
+    /**
+     * Rebuild the tree for the current positions of the given particles. Particles that share a position are moved
+     * apart first, since their repulsion would be undefined otherwise.
+     *
+     * @param particleList the particles of the graph
+     * @param random the random number generator used to move particles apart
+     */
+    void build(final List<FParticle> particleList, final Random random) {
+        int n = particleList.size();
+        if (particles == null || particles.length != n) {
+            particles = new FParticle[n];
+            radius = new double[n];
+            charge = new double[n];
+            nextInLeaf = new int[n];
+        }
+        particleList.toArray(particles);
+        separateCoincidentParticles(random);
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            FParticle particle = particles[i];
+            radius[i] = particle.getRadius();
+            charge[i] = particle.getProperty(ForceOptions.PRIORITY);
+            nextInLeaf[i] = NONE;
+            KVector pos = particle.getPosition();
+            minX = Math.min(minX, pos.x);
+            minY = Math.min(minY, pos.y);
+            maxX = Math.max(maxX, pos.x);
+            maxY = Math.max(maxY, pos.y);
+        }
+
+        cellCount = 0;
+        if (n == 0) {
+            return;
+        }
+        // the root cell is a square; a little slack keeps the particles on its far border inside
+        double size = Math.max(maxX - minX, maxY - minY);
+        newCell(minX, minY, size + Math.max(1, size) * 1e-9);
+        for (int i = 0; i < n; i++) {
+            insert(i);
+        }
+        summarize(0);
+    }
+
+    /**
+     * Sort the particles by position and move those that share a position with another one apart.
+     */
+    private void separateCoincidentParticles(final Random random) {
+        Comparator<FParticle> byPosition = (p1, p2) -> {
+            int result = Double.compare(p1.getPosition().x, p2.getPosition().x);
+            return result != 0 ? result : Double.compare(p1.getPosition().y, p2.getPosition().y);
+        };
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            Arrays.sort(particles, byPosition);
+            for (int i = 1; i < particles.length; i++) {
+                if (byPosition.compare(particles[i - 1], particles[i]) == 0) {
+                    AbstractForceModel.avoidSamePosition(random, particles[i - 1], particles[i]);
+                    moved = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the repulsive displacement that all other particles exert on the given particle to the particle's
+     * displacement vector.
+     *
+     * @param forcee the particle that is affected by the forces
+     */
+    void addRepulsion(final FParticle forcee) {
+        if (cellCount == 0) {
+            return;
+        }
+        KVector pos = forcee.getPosition();
+        double forceeRadius = forcee.getRadius();
+        double dispX = 0, dispY = 0;
+
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int cell = stack[--top];
+            if (firstChild[cell] == NONE) {
+                // leaves are evaluated exactly
+                for (int i = firstParticle[cell]; i != NONE; i = nextInLeaf[i]) {
+                    if (particles[i] != forcee) {
+                        KVector forcerPos = particles[i].getPosition();
+                        double dx = pos.x - forcerPos.x;
+                        double dy = pos.y - forcerPos.y;
+                        double length = Math.sqrt(dx * dx + dy * dy);
+                        if (length > 0) {
+                            double d = Math.max(0, length - radius[i] - forceeRadius);
+                            double force = model.calcRepulsion(d, charge[i]) / length;
+                            dispX += dx * force;
+                            dispY += dy * force;
+                        }
+                    }
+                }
+            } else if (cellCharge[cell] != 0) {
+                if (actsAsWhole(cell, pos)) {
+                    // the cell is far enough away to act as a single particle
+                    double dx = pos.x - centerX[cell];
+                    double dy = pos.y - centerY[cell];
+                    double force = cellRepulsion(dx, dy, forceeRadius, cellCharge[cell]);
+                    dispX += dx * force;
+                    dispY += dy * force;
+                } else {
+                    for (int child = firstChild[cell]; child < firstChild[cell] + 4; child++) {
+                        stack[top++] = child;
+                    }
+                }
+            }
+        }
+        forcee.getDisplacement().add(dispX, dispY);
+    }
+
+    /**
+     * Remove the repulsive displacement the given particles exert on the given particle, as it was added by
+     * {@link #addRepulsion(FParticle)}. The repulsion of a particle that was evaluated exactly is removed exactly. A
+     * cell that acted as a whole on the forcee and contains some of the given particles is replaced by a cell that
+     * consists of its other particles only, so none of the given particles contributes to the forcee's displacement.
+     *
+     * @param forcee the particle that is affected by the forces
+     * @param forcers the particles whose repulsion is removed; may not contain the forcee or duplicates
+     */
+    void removeRepulsion(final FParticle forcee, final List<FParticle> forcers) {
+        if (cellCount == 0 || forcers.isEmpty()) {
+            return;
+        }
+        KVector pos = forcee.getPosition();
+        double forceeRadius = forcee.getRadius();
+        double dispX = 0, dispY = 0;
+
+        // find the cell each forcer was part of when the forces were computed
+        if (removed.length < forcers.size()) {
+            removed = new long[forcers.size()];
+        }
+        int removedCount = 0;
+        for (int j = 0; j < forcers.size(); j++) {
+            KVector forcerPos = forcers.get(j).getPosition();
+            int cell = 0;
+            while (firstChild[cell] != NONE && cellCharge[cell] != 0 && !actsAsWhole(cell, pos)) {
+                cell = childContaining(cell, forcerPos);
+            }
+            if (firstChild[cell] == NONE) {
+                // the forcer was evaluated exactly
+                FParticle forcer = forcers.get(j);
+                double dx = pos.x - forcerPos.x;
+                double dy = pos.y - forcerPos.y;
+                double length = Math.sqrt(dx * dx + dy * dy);
+                if (length > 0) {
+                    double d = Math.max(0, length - forcer.getRadius() - forceeRadius);
+                    double force = model.calcRepulsion(d, forcer.getProperty(ForceOptions.PRIORITY)) / length;
+                    dispX -= dx * force;
+                    dispY -= dy * force;
+                }
+            } else if (cellCharge[cell] != 0) {
+                removed[removedCount++] = (long) cell << Integer.SIZE | j;
+            }
+        }
+
+        // replace each cell that acted as a whole by its remaining particles
+        Arrays.sort(removed, 0, removedCount);
+        int start = 0;
+        while (start < removedCount) {
+            int cell = (int) (removed[start] >>> Integer.SIZE);
+            double removedCharge = 0, removedX = 0, removedY = 0;
+            int end = start;
+            while (end < removedCount && (int) (removed[end] >>> Integer.SIZE) == cell) {
+                FParticle forcer = forcers.get((int) removed[end]);
+                double forcerCharge = forcer.getProperty(ForceOptions.PRIORITY);
+                removedCharge += forcerCharge;
+                removedX += forcerCharge * forcer.getPosition().x;
+                removedY += forcerCharge * forcer.getPosition().y;
+                end++;
+            }
+
+            double dx = pos.x - centerX[cell];
+            double dy = pos.y - centerY[cell];
+            double force = cellRepulsion(dx, dy, forceeRadius, cellCharge[cell]);
+            dispX -= dx * force;
+            dispY -= dy * force;
+            double remainingCharge = cellCharge[cell] - removedCharge;
+            if (remainingCharge != 0) {
+                dx = pos.x - (cellCharge[cell] * centerX[cell] - removedX) / remainingCharge;
+                dy = pos.y - (cellCharge[cell] * centerY[cell] - removedY) / remainingCharge;
+                force = cellRepulsion(dx, dy, forceeRadius, remainingCharge);
+                dispX += dx * force;
+                dispY += dy * force;
+            }
+            start = end;
+        }
+        forcee.getDisplacement().add(dispX, dispY);
+    }
+
+    /**
+     * Whether the given internal cell is far enough away from the given position to act on it as a single particle.
+     */
+    private boolean actsAsWhole(final int cell, final KVector pos) {
+        double dx = pos.x - centerX[cell];
+        double dy = pos.y - centerY[cell];
+        return !contains(cell, pos) && cellSize[cell] < theta * Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Compute the repulsive force of a cell with the given charge on a particle, divided by their distance. The
+     * particle is displaced by the given offset from the cell's center of charge times the result.
+     */
+    private double cellRepulsion(final double dx, final double dy, final double forceeRadius,
+            final double totalCharge) {
+
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length == 0) {
+            return 0;
+        }
+        double d = Math.max(0, length - forceeRadius);
+        return model.calcRepulsion(d, totalCharge) / length;
+    }
+
+    /**
+     * Insert the particle with the given index into the tree.
+     */
+    private void insert(final int particle) {
+        KVector pos = particles[particle].getPosition();
+        int cell = 0;
+        int depth = 0;
+        while (true) {
+            if (firstChild[cell] != NONE) {
+                cell = childContaining(cell, pos);
+                depth++;
+            } else if (firstParticle[cell] == NONE) {
+                firstParticle[cell] = particle;
+                return;
+            } else if (depth >= MAX_DEPTH) {
+                nextInLeaf[particle] = firstParticle[cell];
+                firstParticle[cell] = particle;
+                return;
+            } else {
+                // split the leaf and push its particles down
+                split(cell);
+                int existing = firstParticle[cell];
+                firstParticle[cell] = NONE;
+                while (existing != NONE) {
+                    int next = nextInLeaf[existing];
+                    int child = childContaining(cell, particles[existing].getPosition());
+                    nextInLeaf[existing] = firstParticle[child];
+                    firstParticle[child] = existing;
+                    existing = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * Compute the total charge and the center of charge of the given cell and its descendants.
+     */
+    private void summarize(final int cell) {
+        double sumCharge = 0, sumX = 0, sumY = 0;
+        if (firstChild[cell] == NONE) {
+            for (int i = firstParticle[cell]; i != NONE; i = nextInLeaf[i]) {
+                KVector pos = particles[i].getPosition();
+                sumCharge += charge[i];
+                sumX += charge[i] * pos.x;
+                sumY += charge[i] * pos.y;
+            }
+        } else {
+            for (int child = firstChild[cell]; child < firstChild[cell] + 4; child++) {
+                summarize(child);
+                sumCharge += cellCharge[child];
+                sumX += cellCharge[child] * centerX[child];
+                sumY += cellCharge[child] * centerY[child];
+            }
+        }
+        cellCharge[cell] = sumCharge;
+        if (sumCharge != 0) {
+            centerX[cell] = sumX / sumCharge;
+            centerY[cell] = sumY / sumCharge;
+        } else {
+            centerX[cell] = cellX[cell] + cellSize[cell] / 2;
+            centerY[cell] = cellY[cell] + cellSize[cell] / 2;
+        }
+    }
+
+    private boolean contains(final int cell, final KVector pos) {
+        return pos.x >= cellX[cell] && pos.x <= cellX[cell] + cellSize[cell]
+                && pos.y >= cellY[cell] && pos.y <= cellY[cell] + cellSize[cell];
+    }
+
+    private int childContaining(final int cell, final KVector pos) {
+        double half = cellSize[cell] / 2;
+        int quadrant = (pos.x < cellX[cell] + half ? 0 : 1) + (pos.y < cellY[cell] + half ? 0 : 2);
+        return firstChild[cell] + quadrant;
+    }
+
+    private void split(final int cell) {
+        double half = cellSize[cell] / 2;
+        double x = cellX[cell];
+        double y = cellY[cell];
+        // the children must be created before they are referenced, since creating them may grow the arrays
+        int first = newCell(x, y, half);
+        newCell(x + half, y, half);
+        newCell(x, y + half, half);
+        newCell(x + half, y + half, half);
+        firstChild[cell] = first;
+    }
+
+    private int newCell(final double x, final double y, final double size) {
+        if (cellCount == firstChild.length) {
+            int capacity = Math.max(16, 2 * cellCount);
+            cellX = Arrays.copyOf(cellX, capacity);
+            cellY = Arrays.copyOf(cellY, capacity);
+            cellSize = Arrays.copyOf(cellSize, capacity);
+            cellCharge = Arrays.copyOf(cellCharge, capacity);
+            centerX = Arrays.copyOf(centerX, capacity);
+            centerY = Arrays.copyOf(centerY, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            firstParticle = Arrays.copyOf(firstParticle, capacity);
+            // each visited cell pushes at most four children, and every cell is pushed at most once
+            stack = new int[capacity];
+        }
+        int cell = cellCount++;
+        cellX[cell] = x;
+        cellY[cell] = y;
+        cellSize[cell] = size;
+        firstChild[cell] = NONE;
+        firstParticle[cell] = NONE;
+        return cell;
+    }
+
+}
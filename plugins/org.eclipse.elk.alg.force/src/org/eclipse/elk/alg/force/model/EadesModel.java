@@ -68,6 +68,22 @@ public final class EadesModel extends AbstractForceModel {
         return displacement;
     }
     
+    @Override
+    protected double calcRepulsion(final double distance, final double charge) {
+        return repulsive(distance, repulsionFactor) * charge;
+    }
+
+    @Override
+    protected double calcAttraction(final double distance, final int connection, final double forcerPriority) {
+        return -attractive(distance, springLength) * connection;
+    }
+
+    @Override
+    protected boolean connectedParticlesRepulse() {
+        // connected particles attract each other instead of repulsing each other
+        return false;
+    }
+    
     /**
      * Compute repulsion force between the forcee and the forcer.
      *
@@ -84,6 +84,16 @@ public final class FruchtermanReingoldModel extends AbstractForceModel {
         return displacement;
     }
     
+    @Override
+    protected double calcRepulsion(final double distance, final double charge) {
+        return repulsive(distance, k) * charge * temperature;
+    }
+
+    @Override
+    protected double calcAttraction(final double distance, final int connection, final double forcerPriority) {
+        return -attractive(distance, k) * connection * temperature;
+    }
+    
     @Override
     protected void iterationDone() {
         super.iterationDone();
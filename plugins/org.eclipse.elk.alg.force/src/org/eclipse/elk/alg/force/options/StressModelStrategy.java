@@ -0,0 +1,22 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.options;
+
+/**
+ * Enumeration of the stress models the stress algorithm can minimize.
+ */
+public enum StressModelStrategy {
+    
+    /** considers all pairs of nodes, which requires quadratic time and memory per iteration. */
+    FULL,
+    /** considers pairs of adjacent nodes and a set of pivot nodes only, which requires linear memory. */
+    SPARSE;
+
+}
@@ -0,0 +1,657 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.stress;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.eclipse.elk.alg.force.graph.FEdge;
+import org.eclipse.elk.alg.force.graph.FGraph;
+import org.eclipse.elk.alg.force.graph.FNode;
+import org.eclipse.elk.alg.force.options.StressOptions;
+import org.eclipse.elk.alg.force.stress.StressMajorization.Dimension;
+import org.eclipse.elk.core.math.KVector;
+
+/**
+ * Implementation of the sparse stress model as described by Ortmann, Klimenta, and Brandes. Instead of the distances
+ * between all pairs of nodes, only the distances between adjacent nodes and the distances from each node to a small
+ * set of pivot nodes are considered. A pivot stands in for the nodes that are closer to it than to any other pivot,
+ * which is reflected in the weight of its stress terms. Both time per iteration and memory are linear in the size of
+ * the graph for a constant number of pivots.
+ * <ul><li>
+ * Mark Ortmann, Mirza Klimenta, and Ulrik Brandes. A sparse stress model. <em>Graph Drawing and Network
+ * Visualization</em>, 2016.
+ * </li><li>
+ * Ulrik Brandes and Christian Pich. Eigensolver methods for progressive multidimensional scaling of large data.
+ * <em>Graph Drawing</em>, 2006.
+ * </li></ul>
+ *
+ * Unless {@link StressOptions#INTERACTIVE} is set, initial coordinates are computed by pivot MDS from the same pivot
+ * distances. Like {@link StressMajorization}, the implementation supports {@link StressOptions#DIMENSION} and
+ * {@link StressOptions#FIXED}. Fixed nodes keep their given positions, and the initial coordinates of the other nodes
+ * are moved, rotated, and possibly mirrored to fit them. The distance between adjacent nodes is the desired length of
+ * the edges connecting them, even if a shorter path exists.
+ */
+public class SparseStressMajorization {
+
+    /** Number of power iterations used to compute the pivot MDS coordinates. */
+    private static final int POWER_ITERATIONS = 100;
+
+    /** The graph do be laid out, should be connected. */
+    private FGraph graph;
+    /** The nodes of the graph, indexed by their id. */
+    private FNode[] nodes;
+
+    /** Adjacent nodes of each node: those of node i are stored at indices adjacencyStart[i] to adjacencyStart[i+1]. */
+    private int[] adjacencyStart;
+    private int[] adjacent;
+    /** Desired distance to each adjacent node, indexed like {@link #adjacent}. */
+    private double[] adjacentDistance;
+
+    /** Ids of the pivot nodes. */
+    private int[] pivots;
+    /** Shortest path distances from each pivot to each node. */
+    private double[][] pivotDistance;
+    /** Weights of the stress terms of each pivot and each node; zero if there is no such term. */
+    private double[][] pivotWeight;
+
+    /** Common desired edge length, can be overridden by individual edges. */
+    private double desiredEdgeLength;
+    /** Dimensions to consider during layout. */
+    private Dimension dim;
+    /** Epsilon for terminating the stress minimizing process. */
+    private double epsilon;
+    /** Maximum number of iterations (overrides the {@link #epsilon}). */
+    private int iterationLimit;
+
+
+    /**
+     * Initialize all internal structures that are required for the subsequent iterative procedure and, unless the
+     * layout is interactive, compute initial coordinates.
+     *
+     * @param fgraph the graph to be laid out.
+     */
+    public void initialize(final FGraph fgraph) {
+        if (fgraph.getNodes().size() <= 1) {
+            return;
+        }
+
+        this.graph = fgraph;
+
+        this.dim = graph.getProperty(StressOptions.DIMENSION);
+        this.iterationLimit = graph.getProperty(StressOptions.ITERATION_LIMIT);
+        this.epsilon = graph.getProperty(StressOptions.EPSILON);
+        this.desiredEdgeLength = graph.getProperty(StressOptions.DESIRED_EDGE_LENGTH);
+
+        int n = graph.getNodes().size();
+        nodes = new FNode[n];
+        for (FNode node : graph.getNodes()) {
+            nodes[node.id] = node;
+        }
+        buildAdjacency();
+        selectPivots(Math.min(n, graph.getProperty(StressOptions.PIVOTS)));
+        computePivotWeights();
+
+        if (!graph.getProperty(StressOptions.INTERACTIVE)) {
+            pivotMds();
+        }
+    }
+
+    /**
+     * Execute the stress-minimizing iteration until a termination criterion is reached.
+     */
+    public void execute() {
+        if (graph.getNodes().size() <= 1) {
+            return;
+        }
+
+        int count = 0;
+        double prevStress = computeStress();
+        double curStress = Double.POSITIVE_INFINITY;
+
+        do {
+            if (count > 0) {
+                prevStress = curStress;
+            }
+
+            for (FNode u : nodes) {
+                if (u.getProperty(StressOptions.FIXED)) {
+                    continue;
+                }
+                updatePosition(u.id);
+            }
+
+            curStress = computeStress();
+
+        } while (!done(count++, prevStress, curStress));
+    }
+
+
+    /////////////////////////////////////////////////////////////////////////////////////////////
+    // Initialization
+
+    /**
+     * Collects the adjacent nodes of each node. Nodes connected by several edges are adjacent once, with the shortest
+     * of the edges' desired lengths. Self loops are ignored.
+     */
+    private void buildAdjacency() {
+        int n = nodes.length;
+        List<FEdge> edges = graph.getEdges();
+        adjacencyStart = new int[n + 1];
+        for (FEdge edge : edges) {
+            if (edge.getSource() != edge.getTarget()) {
+                adjacencyStart[edge.getSource().id + 1]++;
+                adjacencyStart[edge.getTarget().id + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            adjacencyStart[i + 1] += adjacencyStart[i];
+        }
+
+        int[] end = Arrays.copyOf(adjacencyStart, n);
+        adjacent = new int[adjacencyStart[n]];
+        adjacentDistance = new double[adjacencyStart[n]];
+        for (FEdge edge : edges) {
+            int source = edge.getSource().id;
+            int target = edge.getTarget().id;
+            if (source != target) {
+                double length = edgeLength(edge);
+                end[source] = addAdjacent(source, target, length, end[source]);
+                end[target] = addAdjacent(target, source, length, end[target]);
+            }
+        }
+
+        // compact the lists, since multi-edges left gaps
+        int next = 0;
+        for (int i = 0; i < n; i++) {
+            int start = adjacencyStart[i];
+            adjacencyStart[i] = next;
+            for (int j = start; j < end[i]; j++) {
+                adjacent[next] = adjacent[j];
+                adjacentDistance[next] = adjacentDistance[j];
+                next++;
+            }
+        }
+        adjacencyStart[n] = next;
+    }
+
+    private int addAdjacent(final int node, final int other, final double length, final int end) {
+        for (int j = adjacencyStart[node]; j < end; j++) {
+            if (adjacent[j] == other) {
+                adjacentDistance[j] = Math.min(adjacentDistance[j], length);
+                return end;
+            }
+        }
+        adjacent[end] = other;
+        adjacentDistance[end] = length;
+        return end + 1;
+    }
+
+    private double edgeLength(final FEdge edge) {
+        if (edge.hasProperty(StressOptions.DESIRED_EDGE_LENGTH)) {
+            return edge.getProperty(StressOptions.DESIRED_EDGE_LENGTH);
+        } else {
+            return desiredEdgeLength;
+        }
+    }
+
+    /**
+     * Selects pivots by the max/min strategy: starting with the first node, the next pivot is always the node whose
+     * distance to the pivots selected so far is largest. This spreads the pivots evenly across the graph.
+     */
+    private void selectPivots(final int count) {
+        int n = nodes.length;
+        pivots = new int[count];
+        pivotDistance = new double[count][];
+        double[] minDistance = new double[n];
+        Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+
+        int pivot = 0;
+        for (int p = 0; p < count; p++) {
+            pivots[p] = pivot;
+            pivotDistance[p] = dijkstra(pivot);
+
+            int next = 0;
+            for (int i = 0; i < n; i++) {
+                minDistance[i] = Math.min(minDistance[i], pivotDistance[p][i]);
+                // unreachable nodes are not selected before all reachable ones are
+                if (compareDistance(minDistance[i], minDistance[next]) > 0) {
+                    next = i;
+                }
+            }
+            pivot = next;
+        }
+    }
+
+    private int compareDistance(final double d1, final double d2) {
+        if (Double.isInfinite(d1) != Double.isInfinite(d2)) {
+            return Double.isInfinite(d1) ? -1 : 1;
+        }
+        return Double.compare(d1, d2);
+    }
+
+    /**
+     * Computes the weights of the pivot terms. Each node belongs to the region of its closest pivot. The term of node
+     * i and pivot p represents all nodes of p's region that are at most half as far from p as i is, so its weight is
+     * their number divided by the squared distance. Pivots adjacent to a node do not get a term, since the adjacency
+     * is already represented exactly.
+     */
+    private void computePivotWeights() {
+        int n = nodes.length;
+        int k = pivots.length;
+
+        // region sizes, and the distances of each region's nodes to its pivot in ascending order
+        int[] region = new int[n];
+        int[] regionSize = new int[k];
+        for (int i = 0; i < n; i++) {
+            int closest = 0;
+            for (int p = 1; p < k; p++) {
+                if (pivotDistance[p][i] < pivotDistance[closest][i]) {
+                    closest = p;
+                }
+            }
+            region[i] = closest;
+            regionSize[closest]++;
+        }
+        double[][] regionDistances = new double[k][];
+        for (int p = 0; p < k; p++) {
+            regionDistances[p] = new double[regionSize[p]];
+        }
+        int[] filled = new int[k];
+        for (int i = 0; i < n; i++) {
+            regionDistances[region[i]][filled[region[i]]++] = pivotDistance[region[i]][i];
+        }
+        for (double[] distances : regionDistances) {
+            Arrays.sort(distances);
+        }
+
+        pivotWeight = new double[k][n];
+        for (int p = 0; p < k; p++) {
+            for (int i = 0; i < n; i++) {
+                double d = pivotDistance[p][i];
+                if (i != pivots[p] && !Double.isInfinite(d) && !isAdjacent(i, pivots[p])) {
+                    int represented = countAtMost(regionDistances[p], d / 2);
+                    pivotWeight[p][i] = represented / (d * d);
+                }
+            }
+        }
+    }
+
+    private boolean isAdjacent(final int i, final int j) {
+        for (int a = adjacencyStart[i]; a < adjacencyStart[i + 1]; a++) {
+            if (adjacent[a] == j) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of values in the sorted array that are less than or equal to the given value.
+     */
+    private static int countAtMost(final double[] sorted, final double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Computes the shortest path distances from the given node to all nodes. Unreachable nodes have an infinite
+     * distance.
+     */
+    private double[] dijkstra(final int source) {
+        double[] dist = new double[nodes.length];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        dist[source] = 0;
+
+        // entries are never updated; outdated ones are skipped instead
+        PriorityQueue<QueueEntry> queue = new PriorityQueue<>();
+        queue.add(new QueueEntry(source, 0));
+        while (!queue.isEmpty()) {
+            QueueEntry entry = queue.poll();
+            int u = entry.node;
+            if (entry.distance > dist[u]) {
+                continue;
+            }
+            for (int a = adjacencyStart[u]; a < adjacencyStart[u + 1]; a++) {
+                int v = adjacent[a];
+                double d = dist[u] + adjacentDistance[a];
+                if (d < dist[v]) {
+                    dist[v] = d;
+                    queue.add(new QueueEntry(v, d));
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Computes initial coordinates by pivot MDS: the matrix of squared pivot distances is double centered, and the
+     * two dominant eigenvectors of its product with its transpose, obtained by power iteration, yield the
+     * coordinates. These are finally scaled to best match the desired distances of adjacent nodes.
+     */
+    private void pivotMds() {
+        int n = nodes.length;
+        int k = pivots.length;
+
+        // unreachable nodes are treated as if they were a bit farther away than the farthest reachable one
+        double maxDistance = 0;
+        for (double[] row : pivotDistance) {
+            for (double d : row) {
+                if (!Double.isInfinite(d)) {
+                    maxDistance = Math.max(maxDistance, d);
+                }
+            }
+        }
+
+        // double centered squared distances
+        double[][] c = new double[k][n];
+        double[] columnMean = new double[n];
+        double totalMean = 0;
+        for (int p = 0; p < k; p++) {
+            double rowMean = 0;
+            for (int i = 0; i < n; i++) {
+                double d = Double.isInfinite(pivotDistance[p][i]) ? maxDistance + desiredEdgeLength
+                        : pivotDistance[p][i];
+                c[p][i] = d * d;
+                rowMean += c[p][i] / n;
+                columnMean[i] += c[p][i] / k;
+            }
+            for (int i = 0; i < n; i++) {
+                c[p][i] -= rowMean;
+            }
+            totalMean += rowMean / k;
+        }
+        for (int p = 0; p < k; p++) {
+            for (int i = 0; i < n; i++) {
+                c[p][i] = -(c[p][i] - columnMean[i] + totalMean) / 2;
+            }
+        }
+
+        // the k x k matrix whose eigenvectors we need
+        double[][] ct = new double[k][k];
+        for (int p = 0; p < k; p++) {
+            for (int q = p; q < k; q++) {
+                double sum = 0;
+                for (int i = 0; i < n; i++) {
+                    sum += c[p][i] * c[q][i];
+                }
+                ct[p][q] = sum;
+                ct[q][p] = sum;
+            }
+        }
+        double[] first = dominantEigenvector(ct, null);
+        double[] second = dominantEigenvector(ct, first);
+
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int p = 0; p < k; p++) {
+                x[i] += c[p][i] * first[p];
+                y[i] += c[p][i] * second[p];
+            }
+        }
+
+        // scale such that the distances between adjacent nodes match their desired distances best
+        double desiredTimesActual = 0;
+        double actualSquared = 0;
+        for (int i = 0; i < n; i++) {
+            for (int a = adjacencyStart[i]; a < adjacencyStart[i + 1]; a++) {
+                int j = adjacent[a];
+                double actual = Math.hypot(x[i] - x[j], y[i] - y[j]);
+                desiredTimesActual += adjacentDistance[a] * actual;
+                actualSquared += actual * actual;
+            }
+        }
+        double scale = actualSquared > 0 ? desiredTimesActual / actualSquared : 1;
+        for (int i = 0; i < n; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+        }
+
+        // fixed nodes keep their positions, so the other nodes have to be placed around them
+        alignToFixedNodes(x, y);
+
+        for (int i = 0; i < n; i++) {
+            if (!nodes[i].getProperty(StressOptions.FIXED)) {
+                nodes[i].getPosition().set(x[i], y[i]);
+            }
+        }
+    }
+
+    /**
+     * Moves, rotates, and possibly mirrors the given coordinates such that those of the fixed nodes match the actual
+     * positions of these nodes as closely as possible. The coordinates remain unchanged if no node is fixed.
+     */
+    private void alignToFixedNodes(final double[] x, final double[] y) {
+        // centroids of the coordinates and the positions of the fixed nodes
+        int fixedCount = 0;
+        double centerX = 0;
+        double centerY = 0;
+        KVector fixedCenter = new KVector();
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i].getProperty(StressOptions.FIXED)) {
+                fixedCount++;
+                centerX += x[i];
+                centerY += y[i];
+                fixedCenter.add(nodes[i].getPosition());
+            }
+        }
+        if (fixedCount == 0) {
+            return;
+        }
+        centerX /= fixedCount;
+        centerY /= fixedCount;
+        fixedCenter.scale(1.0 / fixedCount);
+
+        // the rotation that maps the centered coordinates onto the centered positions best maximizes the sum of their
+        // dot products; it is determined by the sums of the dot and cross products, once without and once with
+        // mirroring at the x axis
+        double dot = 0;
+        double cross = 0;
+        double mirroredDot = 0;
+        double mirroredCross = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i].getProperty(StressOptions.FIXED)) {
+                double ax = x[i] - centerX;
+                double ay = y[i] - centerY;
+                double bx = nodes[i].getPosition().x - fixedCenter.x;
+                double by = nodes[i].getPosition().y - fixedCenter.y;
+                dot += ax * bx + ay * by;
+                cross += ax * by - ay * bx;
+                mirroredDot += ax * bx - ay * by;
+                mirroredCross += ax * by + ay * bx;
+            }
+        }
+        boolean mirror = Math.hypot(mirroredDot, mirroredCross) > Math.hypot(dot, cross);
+        double angle = mirror ? Math.atan2(mirroredCross, mirroredDot) : Math.atan2(cross, dot);
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+
+        for (int i = 0; i < nodes.length; i++) {
+            double ax = x[i] - centerX;
+            double ay = mirror ? centerY - y[i] : y[i] - centerY;
+            x[i] = fixedCenter.x + cos * ax - sin * ay;
+            y[i] = fixedCenter.y + sin * ax + cos * ay;
+        }
+    }
+
+    /**
+     * Computes the dominant eigenvector of the given symmetric matrix by power iteration. If {@code orthogonalTo} is
+     * given, the eigenvector orthogonal to that (normalized) vector is computed instead.
+     */
+    private static double[] dominantEigenvector(final double[][] matrix, final double[] orthogonalTo) {
+        int k = matrix.length;
+        double[] vector = new double[k];
+        for (int p = 0; p < k; p++) {
+            // a deterministic start vector that is unlikely to be orthogonal to the eigenvector
+            vector[p] = 1.0 + (double) p / k;
+        }
+        double[] next = new double[k];
+        for (int iteration = 0; iteration < POWER_ITERATIONS; iteration++) {
+            if (orthogonalTo != null) {
+                orthogonalize(vector, orthogonalTo);
+            }
+            for (int p = 0; p < k; p++) {
+                double sum = 0;
+                for (int q = 0; q < k; q++) {
+                    sum += matrix[p][q] * vector[q];
+                }
+                next[p] = sum;
+            }
+            double norm = normalize(next);
+            if (norm == 0) {
+                // no further direction to be found, which happens for path graphs, for instance
+                Arrays.fill(vector, 0);
+                return vector;
+            }
+            double[] swap = vector;
+            vector = next;
+            next = swap;
+        }
+        return vector;
+    }
+
+    private static void orthogonalize(final double[] vector, final double[] normalized) {
+        double dot = 0;
+        for (int p = 0; p < vector.length; p++) {
+            dot += vector[p] * normalized[p];
+        }
+        for (int p = 0; p < vector.length; p++) {
+            vector[p] -= dot * normalized[p];
+        }
+    }
+
+    private static double normalize(final double[] vector) {
+        double norm = 0;
+        for (double v : vector) {
+            norm += v * v;
+        }
+        norm = Math.sqrt(norm);
+        if (norm > 0) {
+            for (int p = 0; p < vector.length; p++) {
+                vector[p] /= norm;
+            }
+        }
+        return norm;
+    }
+
+
+    /////////////////////////////////////////////////////////////////////////////////////////////
+    // Iteration
+
+    /**
+     * Done if either stress improvement is small than {@link StressOptions#EPSILON} or the
+     * {@link StressOptions#ITERATION_LIMIT} is reached.
+     */
+    private boolean done(final int count, final double prevStress, final double curStress) {
+        return prevStress == 0
+            || (((prevStress - curStress) / prevStress) < epsilon)
+            || (count >= iterationLimit);
+    }
+
+    /**
+     * @return the sparse stress value of the current node positioning.
+     */
+    private double computeStress() {
+        double stress = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            KVector pos = nodes[i].getPosition();
+            for (int a = adjacencyStart[i]; a < adjacencyStart[i + 1]; a++) {
+                int j = adjacent[a];
+                // each adjacency is stored for both nodes
+                if (i < j) {
+                    double displacement = pos.distance(nodes[j].getPosition()) - adjacentDistance[a];
+                    stress += displacement * displacement / (adjacentDistance[a] * adjacentDistance[a]);
+                }
+            }
+            for (int p = 0; p < pivots.length; p++) {
+                if (pivotWeight[p][i] > 0) {
+                    double displacement = pos.distance(nodes[pivots[p]].getPosition()) - pivotDistance[p][i];
+                    stress += pivotWeight[p][i] * displacement * displacement;
+                }
+            }
+        }
+        return stress;
+    }
+
+    /**
+     * Moves the given node to the position that minimizes its stress terms while all other nodes stay in place.
+     */
+    private void updatePosition(final int i) {
+        KVector pos = nodes[i].getPosition();
+        double weightSum = 0;
+        double xDisp = 0;
+        double yDisp = 0;
+
+        for (int a = adjacencyStart[i]; a < adjacencyStart[i + 1]; a++) {
+            double d = adjacentDistance[a];
+            double w = 1 / (d * d);
+            weightSum += w;
+            KVector other = nodes[adjacent[a]].getPosition();
+            double eucDist = pos.distance(other);
+            if (eucDist > 0) {
+                xDisp += w * (other.x + d * (pos.x - other.x) / eucDist);
+                yDisp += w * (other.y + d * (pos.y - other.y) / eucDist);
+            }
+        }
+        for (int p = 0; p < pivots.length; p++) {
+            double w = pivotWeight[p][i];
+            if (w > 0) {
+                weightSum += w;
+                double d = pivotDistance[p][i];
+                KVector other = nodes[pivots[p]].getPosition();
+                double eucDist = pos.distance(other);
+                if (eucDist > 0) {
+                    xDisp += w * (other.x + d * (pos.x - other.x) / eucDist);
+                    yDisp += w * (other.y + d * (pos.y - other.y) / eucDist);
+                }
+            }
+        }
+
+        if (weightSum == 0) {
+            return;
+        }
+        if (dim != Dimension.Y) {
+            pos.x = xDisp / weightSum;
+        }
+        if (dim != Dimension.X) {
+            pos.y = yDisp / weightSum;
+        }
+    }
+
+    /**
+     * An entry of the priority queue used by {@link SparseStressMajorization#dijkstra(int)}.
+     */
+    private static final class QueueEntry implements Comparable<QueueEntry> {
+        private final int node;
+        private final double distance;
+
+        QueueEntry(final int node, final double distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(final QueueEntry other) {
+            return Double.compare(distance, other.distance);
+        }
+    }
+
+}
@@ -13,6 +13,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
+// elkjs-exclude-start
+import java.util.stream.IntStream;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.force.graph.FEdge;
 import org.eclipse.elk.alg.force.graph.FGraph;
@@ -32,6 +35,11 @@ import com.google.common.collect.Multimap;
  * The implementation supports performing a layout in one dimension only, preserving the coordinates of the other
  * dimension. For this, set {@link StressOptions#DIMENSION} to either {@link Dimension#X} or {@link Dimension#Y}.
  * Furthermore, nodes can be fixed using the {@link StressOptions#FIXED} option.
+ * 
+ * <p>If {@link StressOptions#PARALLEL} is set, the shortest paths from different nodes are computed concurrently.
+ * So are the new node positions of each iteration, which are then all based on the positions of the previous
+ * iteration instead of taking the positions already updated in the same iteration into account. This usually requires
+ * a few more iterations, but the result does not depend on how the work is distributed among threads.</p>
  */
 public class StressMajorization {
 
@@ -51,6 +59,8 @@ public class StressMajorization {
     private double epsilon;
     /** Maximum number of iterations (overrides the {@link #epsilon}). */
     private int iterationLimit;
+    /** Whether shortest paths and new positions are computed concurrently. */
+    private boolean parallel;
 
     private Multimap<FNode, FEdge> connectedEdges = LinkedListMultimap.create();
 
@@ -71,31 +81,46 @@ public class StressMajorization {
         this.iterationLimit = graph.getProperty(StressOptions.ITERATION_LIMIT);
         this.epsilon = graph.getProperty(StressOptions.EPSILON);
         this.desiredEdgeLength = graph.getProperty(StressOptions.DESIRED_EDGE_LENGTH);
-        
+        this.parallel = graph.getProperty(StressOptions.PARALLEL);
+
         connectedEdges.clear();
         for (FEdge edge : graph.getEdges()) {
             connectedEdges.put(edge.getSource(), edge);
             connectedEdges.put(edge.getTarget(), edge);
         }
 
-        // all pairs shortest path
+        // all pairs shortest path and weight matrix
         int n = graph.getNodes().size();
         apsp = new double[n][n];
-        for (FNode source : graph.getNodes()) {
-            dijkstra(source, apsp[source.id]);
-        }
-
-        // init weight matrix
         w = new double[n][n];
-        for (int i = 0; i < n; ++i) {
-            for (int j = 0; j < n; ++j) {
-                double dij = apsp[i][j];
-                double wij = 1.0 / (dij * dij);
-                w[i][j] = wij;
+        boolean initialized = false;
+        // elkjs-exclude-start
+        if (parallel) {
+            // the rows are independent of each other
+            graph.getNodes().parallelStream().forEach(this::initializeRow);
+            initialized = true;
+        }
+        // elkjs-exclude-end
+        if (!initialized) {
+            for (FNode source : graph.getNodes()) {
+                initializeRow(source);
             }
         }
     }
 
+    /**
+     * Computes the shortest path distances from the given node to all other nodes and the corresponding weights.
+     */
+    private void initializeRow(final FNode source) {
+        double[] dist = apsp[source.id];
+        dijkstra(source, dist);
+
+        double[] weights = w[source.id];
+        for (int j = 0; j < dist.length; ++j) {
+            weights[j] = 1.0 / (dist[j] * dist[j]);
+        }
+    }
+
     /**
      * Execute the stress-minimizing iteration until a termination criterion is reached. 
      */
@@ -113,17 +138,26 @@ public class StressMajorization {
                 prevStress = curStress;
             }
 
-            for (FNode u : graph.getNodes()) {
-
-                // note that we do not use 'NO_LAYOUT' here,
-                // since that option results in the node already
-                // being excluded by the layout engine
-                if (u.getProperty(StressOptions.FIXED)) {
-                    continue;
+            boolean updated = false;
+            // elkjs-exclude-start
+            if (parallel) {
+                updatePositionsConcurrently();
+                updated = true;
+            }
+            // elkjs-exclude-end
+            if (!updated) {
+                for (FNode u : graph.getNodes()) {
+
+                    // note that we do not use 'NO_LAYOUT' here,
+                    // since that option results in the node already
+                    // being excluded by the layout engine
+                    if (u.getProperty(StressOptions.FIXED)) {
+                        continue;
+                    }
+
+                    KVector newPos = computeNewPosition(u);
+                    u.getPosition().reset().add(newPos);
                 }
-
-                KVector newPos = computeNewPosition(u);
-                u.getPosition().reset().add(newPos);
             }
 
             curStress = computeStress();
@@ -131,6 +165,29 @@ public class StressMajorization {
         } while (!done(count++, prevStress, curStress));
     }
 
+    // elkjs-exclude-start
+    /**
+     * Computes the new positions of all nodes concurrently, based on the current positions, and applies them
+     * afterwards.
+     */
+    private void updatePositionsConcurrently() {
+        List<FNode> nodes = graph.getNodes();
+        KVector[] newPositions = new KVector[nodes.size()];
+        IntStream.range(0, nodes.size()).parallel().forEach(i -> {
+            FNode u = nodes.get(i);
+            if (!u.getProperty(StressOptions.FIXED)) {
+                newPositions[i] = computeNewPosition(u);
+            }
+        });
+
+        for (int i = 0; i < nodes.size(); ++i) {
+            if (newPositions[i] != null) {
+                nodes.get(i).getPosition().reset().add(newPositions[i]);
+            }
+        }
+    }
+    // elkjs-exclude-end
+
     /**
      * Performs Dijkstra's all pairs shortest path algorithm.
      */
@@ -189,21 +246,44 @@ public class StressMajorization {
      * @return the stress value of the current node positioning.
      */
     private double computeStress() {
-        double stress = 0;
         List<FNode> nodes = graph.getNodes();
+        // elkjs-exclude-start
+        if (parallel) {
+            // the rows are summed up one after another to keep the result independent of the threads' timing
+            double[] rowStress = new double[nodes.size()];
+            IntStream.range(0, nodes.size()).parallel().forEach(i -> rowStress[i] = addStress(nodes, i, 0));
+            double stress = 0;
+            for (int i = 0; i < rowStress.length; ++i) {
+                stress += rowStress[i];
+            }
+            return stress;
+        }
+        // elkjs-exclude-end
+
+        double stress = 0;
         // we know 'nodes' is an arraylist
         for (int i = 0; i < nodes.size(); ++i) {
-            FNode u = nodes.get(i);
-            for (int j = i + 1; j < nodes.size(); ++j) {
-                FNode v = nodes.get(j);
-                double eucDist = u.getPosition().distance(v.getPosition());
-                double eucDisplacement = eucDist - apsp[u.id][v.id];
-                stress += w[u.id][v.id] * eucDisplacement * eucDisplacement;
-            }
+            stress = addStress(nodes, i, stress);
         }
         return stress;
     }
 
+    /**
+     * @return the given stress plus the stress between the i-th node and all subsequent nodes, added one pair at a
+     *         time.
+     */
+    private double addStress(final List<FNode> nodes, final int i, final double stress) {
+        double sum = stress;
+        FNode u = nodes.get(i);
+        for (int j = i + 1; j < nodes.size(); ++j) {
+            FNode v = nodes.get(j);
+            double eucDist = u.getPosition().distance(v.getPosition());
+            double eucDisplacement = eucDist - apsp[u.id][v.id];
+            sum += w[u.id][v.id] * eucDisplacement * eucDisplacement;
+        }
+        return sum;
+    }
+
     /**
      * Computes a new position for the passed node. The procedure is described in
      * <em>Section 2.3 Localized optimization</em> of the paper.
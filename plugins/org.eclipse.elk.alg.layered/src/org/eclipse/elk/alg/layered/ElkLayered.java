@@ -17,6 +17,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.concurrent.ForkJoinTask;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.components.ComponentsProcessor;
 import org.eclipse.elk.alg.layered.compound.CompoundGraphPostprocessor;
@@ -25,6 +28,7 @@ import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.graph.LNode;
 import org.eclipse.elk.alg.layered.graph.LNode.NodeType;
 import org.eclipse.elk.alg.layered.graph.LPadding;
+import org.eclipse.elk.alg.layered.graph.LPort;
 import org.eclipse.elk.alg.layered.graph.Layer;
 import org.eclipse.elk.alg.layered.options.CrossingMinimizationStrategy;
 import org.eclipse.elk.alg.layered.options.GraphProperties;
@@ -33,6 +37,7 @@ import org.eclipse.elk.alg.layered.options.InternalProperties;
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
 import org.eclipse.elk.core.UnsupportedGraphException;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.alg.LayoutProcessorRunner;
 import org.eclipse.elk.core.math.KVector;
 import org.eclipse.elk.core.options.ContentAlignment;
 import org.eclipse.elk.core.options.PortSide;
@@ -43,6 +48,9 @@ import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.core.util.ElkUtil;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.core.util.Pair;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.SynchronizedProgressMonitor;
+// elkjs-exclude-end
 
 /**
  * The main entry point into ELK Layered. ELK Layered is a layout algorithm after the layered
@@ -112,6 +120,9 @@ public final class ElkLayered {
     private final CompoundGraphPreprocessor compoundGraphPreprocessor = new CompoundGraphPreprocessor();
     /** compound graph postprocessor. */
     private final CompoundGraphPostprocessor compoundGraphPostprocessor = new CompoundGraphPostprocessor();
+    /** executes the processors and reports metrics about them if requested. */
+    private final LayoutProcessorRunner<LGraph> processorRunner = new LayoutProcessorRunner<>(
+            LayeredOptions.ALGORITHM_ID, ElkLayered::countNodes, ElkLayered::countEdges);
     /** Test controller for a white box test. */
     private TestController testController = null;
 
@@ -143,13 +154,24 @@ public final class ElkLayered {
             // Execute layout on the sole component using the top-level progress monitor
             layout(components.get(0), theMonitor);
         } else {
-            // Execute layout on each component using a progress monitor subtask
-            float compWork = 1.0f / components.size();
-            for (LGraph comp : components) {
-                if (monitor.isCanceled()) {
+            boolean laidOutConcurrently = false;
+            // elkjs-exclude-start
+            laidOutConcurrently = layoutComponentsConcurrently(lgraph, components, theMonitor);
+            // elkjs-exclude-end
+            
+            if (laidOutConcurrently) {
+                if (theMonitor.isCanceled()) {
                     return;
                 }
-                layout(comp, theMonitor.subTask(compWork));
+            } else {
+                // Execute layout on each component using a progress monitor subtask
+                float compWork = 1.0f / components.size();
+                for (LGraph comp : components) {
+                    if (theMonitor.isCanceled()) {
+                        return;
+                    }
+                    layout(comp, theMonitor.subTask(compWork));
+                }
             }
         }
         componentsProcessor.combine(components, lgraph);
@@ -160,6 +182,50 @@ public final class ElkLayered {
         theMonitor.done();
     }
 
+    // elkjs-exclude-start
+    /**
+     * Lays out the given components concurrently if {@link LayeredOptions#PARALLEL_COMPONENTS} is set on the graph.
+     * Since layout processors keep state while processing a graph, each component is laid out by processors of its
+     * own, assembled by a {@link GraphConfigurator} of its own. This also gives each component a random number
+     * generator of its own. The method only returns once all components are laid out or cancellation was requested.
+     * 
+     * <p>Since test controllers are stateful, no concurrent layout is performed when one is installed.</p>
+     * 
+     * @param lgraph the graph the components were split from.
+     * @param components the components to lay out.
+     * @param monitor the progress monitor that receives a subtask for each component.
+     * @return {@code true} if the components were laid out, {@code false} if they still need to be laid out
+     *         sequentially.
+     */
+    private boolean layoutComponentsConcurrently(final LGraph lgraph, final List<LGraph> components,
+            final IElkProgressMonitor monitor) {
+        
+        if (testController != null || !lgraph.getProperty(LayeredOptions.PARALLEL_COMPONENTS)) {
+            return false;
+        }
+        
+        // The progress monitor is not thread-safe, so all components report to a synchronized view of it. The
+        // subtasks are created up front to keep them in the order of the components
+        final IElkProgressMonitor sharedMonitor = SynchronizedProgressMonitor.synchronize(monitor);
+        float compWork = 1.0f / components.size();
+        
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(components.size());
+        for (LGraph comp : components) {
+            IElkProgressMonitor compMonitor = sharedMonitor.subTask(compWork);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                if (!sharedMonitor.isCanceled()) {
+                    new GraphConfigurator().prepareGraphForLayout(comp);
+                    layout(comp, compMonitor);
+                }
+            }));
+        }
+        
+        // Tasks forked from a thread of a fork join pool stay in that pool, others go to the common pool
+        ForkJoinTask.invokeAll(tasks);
+        return true;
+    }
+    // elkjs-exclude-end
+
 
     ////////////////////////////////////////////////////////////////////////////////
     // Compound Graph Layout
@@ -180,14 +246,14 @@ public final class ElkLayered {
 
         // Preprocess the compound graph by splitting cross-hierarchy edges
         notifyProcessorReady(lgraph, compoundGraphPreprocessor);
-        compoundGraphPreprocessor.process(lgraph, theMonitor.subTask(1));
+        processorRunner.process(compoundGraphPreprocessor, lgraph, theMonitor.subTask(1));
         notifyProcessorFinished(lgraph, compoundGraphPreprocessor);
 
         hierarchicalLayout(lgraph, theMonitor.subTask(1));
 
         // Postprocess the compound graph by combining split cross-hierarchy edges
         notifyProcessorReady(lgraph, compoundGraphPostprocessor);
-        compoundGraphPostprocessor.process(lgraph, theMonitor.subTask(1));
+        processorRunner.process(compoundGraphPostprocessor, lgraph, theMonitor.subTask(1));
         notifyProcessorFinished(lgraph, compoundGraphPostprocessor);
 
         theMonitor.done();
@@ -250,7 +316,7 @@ public final class ElkLayered {
                         // elkjs-exclude-end
                         
                         notifyProcessorReady(graph, processor);
-                        processor.process(graph, monitor.subTask(1));
+                        processorRunner.process(processor, graph, monitor.subTask(1));
                         notifyProcessorFinished(graph, processor);
                         
                         slotIndex++;
@@ -266,7 +332,7 @@ public final class ElkLayered {
                         
                         // If processor operates on the full hierarchy, it must be executed on the root
                         notifyProcessorReady(graph, processor);
-                        processor.process(graph, monitor.subTask(1));
+                        processorRunner.process(processor, graph, monitor.subTask(1));
                         notifyProcessorFinished(graph, processor);
                         
                         slotIndex++;
@@ -603,7 +669,7 @@ public final class ElkLayered {
             // elkjs-exclude-end
             
             notifyProcessorReady(lgraph, processor);
-            processor.process(lgraph, monitor.subTask(monitorProgress));
+            processorRunner.process(processor, lgraph, monitor.subTask(monitorProgress));
             notifyProcessorFinished(lgraph, processor);
             
             slotIndex++;
@@ -651,6 +717,45 @@ public final class ElkLayered {
     }
 
 
+    ////////////////////////////////////////////////////////////////////////////////
+    // Metrics
+
+    /**
+     * Returns the number of nodes of the given graph, whether they are assigned to layers or not.
+     */
+    private static int countNodes(final LGraph lgraph) {
+        int count = lgraph.getLayerlessNodes().size();
+        for (Layer layer : lgraph) {
+            count += layer.getNodes().size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of edges of the given graph.
+     */
+    private static int countEdges(final LGraph lgraph) {
+        int count = countOutgoingEdges(lgraph.getLayerlessNodes());
+        for (Layer layer : lgraph) {
+            count += countOutgoingEdges(layer.getNodes());
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of edges leaving the given nodes.
+     */
+    private static int countOutgoingEdges(final List<LNode> nodes) {
+        int count = 0;
+        for (LNode node : nodes) {
+            for (LPort port : node.getPorts()) {
+                count += port.getOutgoingEdges().size();
+            }
+        }
+        return count;
+    }
+
+
     ////////////////////////////////////////////////////////////////////////////////
     // Graph Postprocessing (Size and External Ports)
 
@@ -17,11 +17,13 @@ import org.eclipse.elk.alg.layered.graph.LGraphUtil;
 import org.eclipse.elk.alg.layered.graph.LNode;
 import org.eclipse.elk.alg.layered.intermediate.IntermediateProcessorStrategy;
 import org.eclipse.elk.alg.layered.options.CrossingMinimizationStrategy;
+import org.eclipse.elk.alg.layered.options.CycleBreakingStrategy;
 import org.eclipse.elk.alg.layered.options.GraphCompactionStrategy;
 import org.eclipse.elk.alg.layered.options.GraphProperties;
 import org.eclipse.elk.alg.layered.options.GreedySwitchType;
 import org.eclipse.elk.alg.layered.options.InternalProperties;
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.layered.options.LayeringStrategy;
 import org.eclipse.elk.alg.layered.options.NodePromotionStrategy;
 import org.eclipse.elk.alg.layered.options.OrderingStrategy;
 import org.eclipse.elk.alg.layered.options.Spacings;
@@ -121,6 +123,12 @@ final class GraphConfigurator {
                     lgraph.getProperty(LayeredOptions.EDGE_ROUTING) == EdgeRouting.ORTHOGONAL);
         }
         
+        // incremental layout reuses the previous layering, which replaces cycle breaking and layering
+        if (lgraph.getProperty(LayeredOptions.INCREMENTAL_ACTIVATE)) {
+            lgraph.setProperty(LayeredOptions.CYCLE_BREAKING_STRATEGY, CycleBreakingStrategy.INCREMENTAL);
+            lgraph.setProperty(LayeredOptions.LAYERING_STRATEGY, LayeringStrategy.INCREMENTAL);
+        }
+        
         // copy the port constraints to keep a list of original port constraints
         copyPortContraints(lgraph);
         
@@ -216,9 +224,10 @@ final class GraphConfigurator {
             configuration.addAll(LABEL_MANAGEMENT_ADDITIONS);
         }
         
-        // If the graph should be laid out interactively or you really want it,
+        // If the graph should be laid out interactively or incrementally or you really want it,
         // add the layers and positions to the nodes.
         if (lgraph.getProperty(LayeredOptions.INTERACTIVE_LAYOUT)
+                || lgraph.getProperty(LayeredOptions.INCREMENTAL_ACTIVATE)
                 || lgraph.getProperty(LayeredOptions.GENERATE_POSITION_AND_LAYER_IDS)) {
             configuration.addAfter(LayeredPhases.P5_EDGE_ROUTING, 
                     IntermediateProcessorStrategy.CONSTRAINTS_POSTPROCESSOR);
@@ -280,6 +289,13 @@ final class GraphConfigurator {
             configuration.addBefore(LayeredPhases.P3_NODE_ORDERING,
                     IntermediateProcessorStrategy.SEMI_INTERACTIVE_CROSSMIN_PROCESSOR);
         }
+        
+        // Introduce in-layer constraints to preserve the order of the nodes an incremental layout keeps stable
+        if (lgraph.getProperty(LayeredOptions.INCREMENTAL_ACTIVATE) && lgraph.getProperty(
+                LayeredOptions.CROSSING_MINIMIZATION_STRATEGY) == CrossingMinimizationStrategy.LAYER_SWEEP) {
+            configuration.addBefore(LayeredPhases.P3_NODE_ORDERING,
+                    IntermediateProcessorStrategy.INCREMENTAL_CROSSMIN_PROCESSOR);
+        }
 
         // Configure greedy switch
         //  Note that in the case of hierarchical layout, the configuration may further be adjusted by
@@ -341,7 +357,7 @@ final class GraphConfigurator {
      * 
      * <h3>Non-hierarchical layout</h3>
      * <ol>
-     *  <li>no interactive crossing minimization is performed</li>
+     *  <li>no interactive crossing minimization is performed and the layout is not incremental</li>
      *  <li>the {@link LayeredOptions#CROSSING_MINIMIZATION_GREEDY_SWITCH_TYPE} option is set to something different 
      *      than OFF</li>
      *  <li>the activationThreshold is larger than or equal to the graph's number of nodes (or '0')</li>
@@ -364,6 +380,7 @@ final class GraphConfigurator {
         GreedySwitchType greedySwitchType = lgraph.getProperty(LayeredOptions.CROSSING_MINIMIZATION_GREEDY_SWITCH_TYPE);
         boolean interactiveCrossMin =
                 lgraph.getProperty(LayeredOptions.CROSSING_MINIMIZATION_SEMI_INTERACTIVE) 
+                || lgraph.getProperty(LayeredOptions.INCREMENTAL_ACTIVATE)
                 || lgraph.getProperty(
                         LayeredOptions.CROSSING_MINIMIZATION_STRATEGY) == CrossingMinimizationStrategy.INTERACTIVE;
         int activationThreshold =
@@ -24,6 +24,7 @@ import static org.eclipse.elk.core.options.PortSide.SIDES_SOUTH;
 import static org.eclipse.elk.core.options.PortSide.SIDES_SOUTH_WEST;
 import static org.eclipse.elk.core.options.PortSide.SIDES_WEST;
 
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
@@ -337,5 +338,15 @@ public class ComponentsToCGraphTransformer<N, E> implements
         public double getVerticalSpacing(final CNode cNode1, final CNode cNode2) {
             return Math.min(cNode1.getVerticalSpacing(), cNode2.getVerticalSpacing());
         }
+
+        @Override
+        public double getMaximalHorizontalSpacing(final Collection<? extends CNode> cNodes) {
+            return cNodes.stream().mapToDouble(CNode::getHorizontalSpacing).max().orElse(0);
+        }
+
+        @Override
+        public double getMaximalVerticalSpacing(final Collection<? extends CNode> cNodes) {
+            return cNodes.stream().mapToDouble(CNode::getVerticalSpacing).max().orElse(0);
+        }
     };
 }
@@ -15,7 +15,8 @@ import com.google.common.math.DoubleMath;
  * Internal Class for tolerance affected double comparisons.
  */
 public final class CompareFuzzy {
-    static final double TOLERANCE = 0.0001;
+    /** Epsilon for double compares. */
+    public static final double TOLERANCE = 0.0001;
     
     private CompareFuzzy() {
     }
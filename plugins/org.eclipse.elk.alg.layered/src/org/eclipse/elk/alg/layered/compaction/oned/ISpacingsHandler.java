@@ -9,6 +9,8 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.compaction.oned;
 
+import java.util.Collection;
+
 /**
  * An implementation of this class is able to report both the vertical and the horizontal spacing
  * between any pair of {@link CNode}s. Different implementations of {@link CNode}s may have
@@ -38,6 +40,32 @@ public interface ISpacingsHandler<T extends CNode> {
      */
     double getVerticalSpacing(T cNode1, T cNode2);
 
+    /**
+     * Constraint calculation algorithms may use this bound to avoid comparing nodes that are too far apart to
+     * collide. By default, no bound is known.
+     * 
+     * @param cNodes
+     *            the nodes of the graph being compacted.
+     * @return an upper bound on the horizontal spacing reported for any pair of the passed nodes, or
+     *         {@link Double#POSITIVE_INFINITY} if no bound is known.
+     */
+    default double getMaximalHorizontalSpacing(final Collection<? extends T> cNodes) {
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Constraint calculation algorithms may use this bound to avoid comparing nodes that are too far apart to
+     * collide. By default, no bound is known.
+     * 
+     * @param cNodes
+     *            the nodes of the graph being compacted.
+     * @return an upper bound on the vertical spacing reported for any pair of the passed nodes, or
+     *         {@link Double#POSITIVE_INFINITY} if no bound is known.
+     */
+    default double getMaximalVerticalSpacing(final Collection<? extends T> cNodes) {
+        return Double.POSITIVE_INFINITY;
+    }
+
     /**
      * A default implementation, returning for either spacing the maximum of the two desired
      * spacings.
@@ -52,5 +80,15 @@ public interface ISpacingsHandler<T extends CNode> {
         public double getVerticalSpacing(final CNode cNode1, final CNode cNode2) {
             return Math.max(cNode1.getVerticalSpacing(), cNode2.getVerticalSpacing());
         }
+
+        @Override
+        public double getMaximalHorizontalSpacing(final Collection<? extends CNode> cNodes) {
+            return cNodes.stream().mapToDouble(CNode::getHorizontalSpacing).max().orElse(0);
+        }
+
+        @Override
+        public double getMaximalVerticalSpacing(final Collection<? extends CNode> cNodes) {
+            return cNodes.stream().mapToDouble(CNode::getVerticalSpacing).max().orElse(0);
+        }
     };
 }
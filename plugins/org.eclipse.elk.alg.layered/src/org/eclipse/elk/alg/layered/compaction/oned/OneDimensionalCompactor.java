@@ -14,6 +14,7 @@ import java.util.Map;
 
 import org.eclipse.elk.alg.layered.compaction.oned.algs.ICompactionAlgorithm;
 import org.eclipse.elk.alg.layered.compaction.oned.algs.IConstraintCalculationAlgorithm;
+import org.eclipse.elk.alg.layered.compaction.oned.algs.IntervalConstraintCalculation;
 import org.eclipse.elk.alg.layered.compaction.oned.algs.LongestPathCompaction;
 import org.eclipse.elk.alg.layered.compaction.oned.algs.QuadraticConstraintCalculation;
 import org.eclipse.elk.alg.layered.compaction.oned.algs.ScanlineConstraintCalculator;
@@ -44,6 +45,9 @@ public final class OneDimensionalCompactor {
     /** Constraint calculation by pair-wise comparison of CNodes. */
     public static final IConstraintCalculationAlgorithm QUADRATIC_CONSTRAINTS =
             new QuadraticConstraintCalculation();
+    /** Constraint calculation yielding the same constraints as {@link #QUADRATIC_CONSTRAINTS} using a sweep line. */
+    public static final IConstraintCalculationAlgorithm INTERVAL_CONSTRAINTS =
+            new IntervalConstraintCalculation();
     /** Currently used instance of the constraint calculation algorithm. */
     private IConstraintCalculationAlgorithm constraintAlgorithm = SCANLINE_CONSTRAINTS;
 
@@ -9,7 +9,18 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.graph;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
 import org.eclipse.elk.alg.layered.graph.transform.ElkGraphTransformer;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.properties.IPropertyHolder;
+import org.eclipse.elk.graph.properties.IPropertyValueProxy;
 import org.eclipse.elk.graph.properties.MapPropertyHolder;
 
 import com.google.common.base.Strings;
@@ -27,6 +38,11 @@ import com.google.common.base.Strings;
  * runs on the same graph. As a consequence, hash tables and hash sets would store their content
  * in different order, which can lead to different layouts in some cases. The deterministic hash
  * code implemented here guarantees that such effects will not occur.</p>
+ * 
+ * <p>The values of the most frequently used properties, as listed in {@link PropertySlots}, are not kept in the
+ * property map but in an array indexed by the properties' slots. This is transparent to users of the
+ * {@link IPropertyHolder} interface: the map returned by {@link #getAllProperties()} is a view of both, and writes
+ * through it end up in the slots as well.</p>
  */
 public abstract class LGraphElement extends MapPropertyHolder {
 
@@ -37,6 +53,9 @@ public abstract class LGraphElement extends MapPropertyHolder {
     /** Identifier value, may be arbitrarily used by algorithms. */
     public int id;
     // CHECKSTYLEON VisibilityModifier
+
+    /** values of the properties that have a slot, indexed by slot; created lazily. */
+    private Object[] slotValues;
     
     /**
      * Returns a string that is useful to identify the element while debugging.
@@ -50,5 +69,238 @@ public abstract class LGraphElement extends MapPropertyHolder {
         }
         return null;
     }
-    
+
+    @Override
+    public <T> MapPropertyHolder setProperty(final IProperty<? super T> property, final T value) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot < 0) {
+            return super.setProperty(property, value);
+        }
+        if (slotValues == null) {
+            if (value == null) {
+                return this;
+            }
+            slotValues = new Object[PropertySlots.count()];
+        }
+        slotValues[slot] = value;
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getProperty(final IProperty<T> property) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot < 0) {
+            return super.getProperty(property);
+        }
+
+        // same as in MapPropertyHolder
+        Object value = slotValues == null ? null : slotValues[slot];
+        if (value instanceof IPropertyValueProxy) {
+            value = ((IPropertyValueProxy) value).resolveValue(property);
+            if (value != null) {
+                slotValues[slot] = value;
+                return (T) value;
+            }
+        } else if (value != null) {
+            return (T) value;
+        }
+
+        T defaultValue = property.getDefault();
+        if (defaultValue instanceof Cloneable) {
+            setProperty(property, defaultValue);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public boolean hasProperty(final IProperty<?> property) {
+        int slot = PropertySlots.slotOf(property);
+        if (slot < 0) {
+            return super.hasProperty(property);
+        }
+        return slotValues != null && slotValues[slot] != null;
+    }
+
+    @Override
+    public MapPropertyHolder copyProperties(final IPropertyHolder other) {
+        if (other instanceof LGraphElement) {
+            // copy the slots directly instead of going through the view getAllProperties() returns
+            LGraphElement otherElement = (LGraphElement) other;
+            if (otherElement.slotValues != null) {
+                if (slotValues == null) {
+                    slotValues = new Object[PropertySlots.count()];
+                }
+                for (int slot = 0; slot < slotValues.length; slot++) {
+                    if (otherElement.slotValues[slot] != null) {
+                        slotValues[slot] = otherElement.slotValues[slot];
+                    }
+                }
+            }
+            copyMapProperties(otherElement.getMapProperties());
+        } else if (other != null) {
+            copyMapProperties(other.getAllProperties());
+        }
+        return this;
+    }
+
+    @Override
+    public Map<IProperty<?>, Object> getAllProperties() {
+        return new AllProperties();
+    }
+
+    /**
+     * Returns the properties that are kept in the property map, that is, those without a slot.
+     */
+    private Map<IProperty<?>, Object> getMapProperties() {
+        return super.getAllProperties();
+    }
+
+    private void copyMapProperties(final Map<IProperty<?>, Object> properties) {
+        for (Entry<IProperty<?>, Object> entry : properties.entrySet()) {
+            setProperty(asObjectProperty(entry.getKey()), entry.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IProperty<Object> asObjectProperty(final IProperty<?> property) {
+        return (IProperty<Object>) property;
+    }
+
+    /**
+     * View of the properties in the property map and in the slots, which spares callers a copy of the map. Writes
+     * through the view go to {@link #setProperty(IProperty, Object)}, so properties with a slot end up in their slot.
+     */
+    private final class AllProperties extends AbstractMap<IProperty<?>, Object> {
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof IProperty<?> && hasProperty((IProperty<?>) key);
+        }
+
+        @Override
+        public Object get(final Object key) {
+            if (!(key instanceof IProperty<?>)) {
+                return null;
+            }
+            int slot = PropertySlots.slotOf((IProperty<?>) key);
+            if (slot < 0) {
+                return getMapProperties().get(key);
+            }
+            return slotValues == null ? null : slotValues[slot];
+        }
+
+        @Override
+        public Object put(final IProperty<?> key, final Object value) {
+            Object oldValue = get(key);
+            setProperty(asObjectProperty(key), value);
+            return oldValue;
+        }
+
+        @Override
+        public Object remove(final Object key) {
+            Object oldValue = get(key);
+            if (oldValue != null) {
+                setProperty(asObjectProperty((IProperty<?>) key), null);
+            }
+            return oldValue;
+        }
+
+        @Override
+        public Set<Entry<IProperty<?>, Object>> entrySet() {
+            return new AbstractSet<Entry<IProperty<?>, Object>>() {
+                @Override
+                public Iterator<Entry<IProperty<?>, Object>> iterator() {
+                    return new AllPropertiesIterator();
+                }
+
+                @Override
+                public int size() {
+                    int size = getMapProperties().size();
+                    if (slotValues != null) {
+                        for (Object value : slotValues) {
+                            if (value != null) {
+                                size++;
+                            }
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+
+    /**
+     * Iterates over the entries of the property map, followed by the slots that have a value.
+     */
+    private final class AllPropertiesIterator implements Iterator<Entry<IProperty<?>, Object>> {
+
+        private final Iterator<Entry<IProperty<?>, Object>> mapIterator = getMapProperties().entrySet().iterator();
+        private int nextSlot = nextSlot(0);
+        /** slot of the entry returned last, or -1 if that entry came from the property map. */
+        private int lastSlot = -1;
+
+        @Override
+        public boolean hasNext() {
+            return mapIterator.hasNext() || nextSlot < slotCount();
+        }
+
+        @Override
+        public Entry<IProperty<?>, Object> next() {
+            if (mapIterator.hasNext()) {
+                lastSlot = -1;
+                return mapIterator.next();
+            }
+            if (nextSlot >= slotCount()) {
+                throw new NoSuchElementException();
+            }
+            lastSlot = nextSlot;
+            nextSlot = nextSlot(lastSlot + 1);
+            return new SlotEntry(lastSlot);
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot < 0) {
+                mapIterator.remove();
+            } else {
+                slotValues[lastSlot] = null;
+            }
+        }
+
+        private int nextSlot(final int from) {
+            int slot = from;
+            while (slot < slotCount() && slotValues[slot] == null) {
+                slot++;
+            }
+            return slot;
+        }
+
+        private int slotCount() {
+            return slotValues == null ? 0 : slotValues.length;
+        }
+    }
+
+    /**
+     * Entry of a slot, whose value is written back to the slot.
+     */
+    private final class SlotEntry extends AbstractMap.SimpleEntry<IProperty<?>, Object> {
+
+        /** the serial version UID. */
+        private static final long serialVersionUID = -2907512823410232468L;
+
+        private final int slot;
+
+        SlotEntry(final int slot) {
+            super(PropertySlots.property(slot), slotValues[slot]);
+            this.slot = slot;
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            setProperty(asObjectProperty(getKey()), value);
+            return super.setValue(value);
+        }
+    }
+
 }
@@ -661,7 +661,7 @@ public final class LGraphUtil {
             
             // if port coordinates are (0,0), we default to port offset 0 to make the common case
             // frustration-free
-            if (!port.getAllProperties().containsKey(LayeredOptions.PORT_BORDER_OFFSET)
+            if (!port.hasProperty(LayeredOptions.PORT_BORDER_OFFSET)
                     && portSide != PortSide.UNDEFINED
                     && (port.getPosition().x != 0 || port.getPosition().y != 0)) {
                 
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.graph;
+
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.graph.properties.IProperty;
+
+/**
+ * Assigns dense integer slots to the properties that are accessed most frequently on the elements of a layered
+ * graph. {@link LGraphElement} stores the values of these properties in an array instead of its property map, which
+ * saves the map entries and makes each access cheaper than a map lookup.
+ *
+ * <p>Slots are looked up in a small open addressing table. Properties are compared by identity first and by
+ * {@link Object#equals(Object)} second, so property instances that are equal to a slotted property, such as layout
+ * option data with the same identifier, end up in the same slot.</p>
+ */
+final class PropertySlots {
+
+    /** the properties that get a slot, in slot order. */
+    private static final IProperty<?>[] PROPERTIES = {
+        InternalProperties.ORIGIN,
+        InternalProperties.MODEL_ORDER,
+        InternalProperties.EXT_PORT_SIDE,
+        InternalProperties.PORT_DUMMY,
+        InternalProperties.LONG_EDGE_SOURCE,
+        InternalProperties.LONG_EDGE_TARGET,
+        InternalProperties.REVERSED,
+        InternalProperties.IN_LAYER_LAYOUT_UNIT,
+        InternalProperties.IN_LAYER_CONSTRAINT,
+        InternalProperties.IN_LAYER_SUCCESSOR_CONSTRAINTS,
+        InternalProperties.BARYCENTER_ASSOCIATES,
+        LayeredOptions.PORT_CONSTRAINTS,
+        LayeredOptions.JUNCTION_POINTS,
+        LayeredOptions.LAYERING_LAYER_CONSTRAINT,
+        LayeredOptions.CROSSING_MINIMIZATION_IN_LAYER_PRED_OF,
+        LayeredOptions.CROSSING_MINIMIZATION_IN_LAYER_SUCC_OF,
+        LayeredOptions.EDGE_THICKNESS,
+        LayeredOptions.PRIORITY_DIRECTION,
+    };
+
+    /** the lookup table; its length is a power of two at least twice the number of properties. */
+    private static final IProperty<?>[] TABLE_KEYS;
+    private static final int[] TABLE_SLOTS;
+
+    static {
+        int capacity = Integer.highestOneBit(PROPERTIES.length * 2 - 1) << 1;
+        TABLE_KEYS = new IProperty<?>[capacity];
+        TABLE_SLOTS = new int[capacity];
+        for (int slot = 0; slot < PROPERTIES.length; slot++) {
+            int index = indexOf(PROPERTIES[slot]);
+            if (TABLE_KEYS[index] != null) {
+                throw new IllegalStateException("Property " + PROPERTIES[slot] + " has been assigned two slots.");
+            }
+            TABLE_KEYS[index] = PROPERTIES[slot];
+            TABLE_SLOTS[index] = slot;
+        }
+    }
+
+    private PropertySlots() {
+    }
+
+    /**
+     * Returns the number of slots.
+     */
+    static int count() {
+        return PROPERTIES.length;
+    }
+
+    /**
+     * Returns the property of the given slot.
+     */
+    static IProperty<?> property(final int slot) {
+        return PROPERTIES[slot];
+    }
+
+    /**
+     * Returns the slot of the given property, or {@code -1} if it has none.
+     */
+    static int slotOf(final IProperty<?> property) {
+        int index = indexOf(property);
+        return TABLE_KEYS[index] == null ? -1 : TABLE_SLOTS[index];
+    }
+
+    /**
+     * Returns the table index at which the given property is or would be stored.
+     */
+    private static int indexOf(final IProperty<?> property) {
+        int hash = property.hashCode();
+        int mask = TABLE_KEYS.length - 1;
+        int index = (hash ^ (hash >>> 16)) & mask;
+        while (TABLE_KEYS[index] != null && TABLE_KEYS[index] != property && !TABLE_KEYS[index].equals(property)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+}
@@ -1193,8 +1193,11 @@ class ElkGraphImporter {
         NodePlacementStrategy nodePlaceStrat = lgraph.getProperty(LayeredOptions.NODE_PLACEMENT_STRATEGY);
         boolean bendPointsRequired = crossMinStrat == CrossingMinimizationStrategy.INTERACTIVE
                 || nodePlaceStrat == NodePlacementStrategy.INTERACTIVE;
+        // incremental layout also needs to know which edges were routed before, even if they were straight
+        boolean routeRequired = lgraph.getProperty(LayeredOptions.INCREMENTAL_ACTIVATE);
         
-        if (edgeSection != null && !edgeSection.getBendPoints().isEmpty() && bendPointsRequired) {
+        if (edgeSection != null
+                && (!edgeSection.getBendPoints().isEmpty() && bendPointsRequired || routeRequired)) {
             KVectorChain originalBendpoints = ElkUtil.createVectorChain(edgeSection);
             KVectorChain importedBendpoints = new KVectorChain();
             
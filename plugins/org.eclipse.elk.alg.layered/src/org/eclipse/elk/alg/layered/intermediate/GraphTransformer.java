@@ -213,7 +213,7 @@ public final class GraphTransformer implements ILayoutProcessor<LGraph> {
             mirrorNodeLabelPlacementX(node);
 
             // mirror position
-            if (node.getAllProperties().containsKey(LayeredOptions.POSITION)) {
+            if (node.hasProperty(LayeredOptions.POSITION)) {
                 mirrorX(node.getProperty(LayeredOptions.POSITION), offset - node.getSize().x);
             }
             
@@ -248,6 +248,14 @@ public final class GraphTransformer implements ILayoutProcessor<LGraph> {
                         }
                     }
                     
+                    // Mirror the bend points of the previous layout, if we kept them
+                    KVectorChain originalBendPoints = edge.getProperty(InternalProperties.ORIGINAL_BENDPOINTS);
+                    if (originalBendPoints != null) {
+                        for (KVector bendPoint : originalBendPoints) {
+                            mirrorX(bendPoint, offset);
+                        }
+                    }
+                    
                     // Mirror edge label positions
                     for (LLabel label : edge.getLabels()) {
                         mirrorX(label.getPosition(), offset - label.getSize().x);
@@ -412,7 +420,7 @@ public final class GraphTransformer implements ILayoutProcessor<LGraph> {
             mirrorNodeLabelPlacementY(node);
             
             // mirror position
-            if (node.getAllProperties().containsKey(LayeredOptions.POSITION)) {
+            if (node.hasProperty(LayeredOptions.POSITION)) {
                 mirrorY(node.getProperty(LayeredOptions.POSITION), offset - node.getSize().y);
             }
             
@@ -447,6 +455,14 @@ public final class GraphTransformer implements ILayoutProcessor<LGraph> {
                         }
                     }
                     
+                    // Mirror the bend points of the previous layout, if we kept them
+                    KVectorChain originalBendPoints = edge.getProperty(InternalProperties.ORIGINAL_BENDPOINTS);
+                    if (originalBendPoints != null) {
+                        for (KVector bendPoint : originalBendPoints) {
+                            mirrorY(bendPoint, offset);
+                        }
+                    }
+                    
                     // Mirror edge label positions
                     for (LLabel label : edge.getLabels()) {
                         mirrorY(label.getPosition(), offset - label.getSize().y);
@@ -613,6 +629,14 @@ public final class GraphTransformer implements ILayoutProcessor<LGraph> {
                         }
                     }
                     
+                    // Transpose the bend points of the previous layout, if we kept them
+                    KVectorChain originalBendPoints = edge.getProperty(InternalProperties.ORIGINAL_BENDPOINTS);
+                    if (originalBendPoints != null) {
+                        for (KVector bendPoint : originalBendPoints) {
+                            transpose(bendPoint);
+                        }
+                    }
+                    
                     // Transpose edge labels
                     for (LLabel label : edge.getLabels()) {
                         transpose(label.getPosition());
@@ -839,7 +863,7 @@ public final class GraphTransformer implements ILayoutProcessor<LGraph> {
         }
         
         // POSITION
-        if (node.getAllProperties().containsKey(LayeredOptions.POSITION)) {
+        if (node.hasProperty(LayeredOptions.POSITION)) {
             KVector pos = node.getProperty(LayeredOptions.POSITION);
             double tmp = pos.x;
             pos.x = pos.y;
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.intermediate;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LNode.NodeType;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+
+/**
+ * Preserves the order of the stable nodes of an incremental layout, i.e. the regular nodes that are not marked with
+ * {@link InternalProperties#INCREMENTAL_DIRTY}, by inserting in-layer successor constraints between them that follow
+ * their {@link LayeredOptions#CROSSING_MINIMIZATION_POSITION_ID position IDs}. Dirty nodes and dummy nodes remain
+ * free to be placed anywhere by a crossing minimizer that supports such constraints, e.g. our
+ * {@link org.eclipse.elk.alg.layered.p3order.LayerSweepCrossingMinimizer LayerSweepCrossingMinimizer}.
+ *
+ * <dl>
+ *   <dt>Precondition:</dt><dd>a layered graph.</dd>
+ *   <dt>Postcondition:</dt><dd>inserted in-layer constraints to preserve the stable nodes' order</dd>
+ *   <dt>Slots:</dt><dd>Before phase 3.</dd>
+ *   <dt>Same-slot dependencies:</dt><dd>Any layer-altering processor, such as {@link NodePromotion},
+ *                                       must be executed prior to this processor.</dd>
+ * </dl>
+ */
+public class IncrementalCrossMinProcessor implements ILayoutProcessor<LGraph> {
+
+    @Override
+    public void process(final LGraph layeredGraph, final IElkProgressMonitor progressMonitor) {
+        progressMonitor.begin("Incremental Crossing Minimization Processor", 1);
+
+        boolean addedConstraints = false;
+
+        for (Layer l : layeredGraph) {
+            Optional<LNode> reduced = l.getNodes().stream()
+                .filter(n -> n.getType() == NodeType.NORMAL)
+                .filter(n -> !n.getProperty(InternalProperties.INCREMENTAL_DIRTY))
+                .filter(n -> n.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID) >= 0)
+                .sorted(Comparator.comparingInt(n -> n.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID)))
+                .reduce((prev, cur) -> {
+                    prev.getProperty(InternalProperties.IN_LAYER_SUCCESSOR_CONSTRAINTS).add(cur);
+                    return cur;
+                });
+            addedConstraints |= reduced.isPresent();
+        }
+
+        // If we added in-layer successor constraints, make subsequent phases aware
+        if (addedConstraints) {
+            layeredGraph.setProperty(InternalProperties.IN_LAYER_SUCCESSOR_CONSTRAINTS_BETWEEN_NON_DUMMIES, true);
+        }
+
+        progressMonitor.done();
+    }
+}
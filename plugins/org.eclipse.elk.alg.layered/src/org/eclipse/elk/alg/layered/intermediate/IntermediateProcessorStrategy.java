@@ -71,6 +71,8 @@ public enum IntermediateProcessorStrategy implements ILayoutProcessorFactory<LGr
     HIERARCHICAL_PORT_CONSTRAINT_PROCESSOR,
     /** Adds successor constraints between regular nodes before crossing minimization. */
     SEMI_INTERACTIVE_CROSSMIN_PROCESSOR,
+    /** Adds successor constraints between the stable nodes of an incremental layout. */
+    INCREMENTAL_CROSSMIN_PROCESSOR,
     /** Inserts breaking points which are used to 'wrap' the graph after crossing minimization. */
     BREAKING_POINT_INSERTER,
     /** Takes a layered graph and turns it into a properly layered graph. */
@@ -250,6 +252,9 @@ public enum IntermediateProcessorStrategy implements ILayoutProcessorFactory<LGr
         case HYPERNODE_PROCESSOR:
             return new HypernodesProcessor();
 
+        case INCREMENTAL_CROSSMIN_PROCESSOR:
+            return new IncrementalCrossMinProcessor();
+            
         case IN_LAYER_CONSTRAINT_PROCESSOR:
             return new InLayerConstraintProcessor();
 
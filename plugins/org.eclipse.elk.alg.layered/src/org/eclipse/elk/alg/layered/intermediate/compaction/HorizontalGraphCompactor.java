@@ -9,7 +9,10 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.intermediate.compaction;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 import org.eclipse.elk.alg.common.compaction.oned.CNode;
 import org.eclipse.elk.alg.common.compaction.oned.ICompactionAlgorithm;
@@ -97,6 +100,9 @@ public class HorizontalGraphCompactor implements ILayoutProcessor<LGraph> {
             case SCANLINE:
                 odc.setConstraintAlgorithm(new EdgeAwareScanlineConstraintCalculation(lGraph));
                 break;
+            case INTERVAL:
+                odc.setConstraintAlgorithm(OneDimensionalCompactor.INTERVAL_CONSTRAINTS);
+                break;
             default:
                 odc.setConstraintAlgorithm(OneDimensionalCompactor.QUADRATIC_CONSTRAINTS);
         }
@@ -248,6 +254,28 @@ public class HorizontalGraphCompactor implements ILayoutProcessor<LGraph> {
                     node1 != null ? node1.getType() : NodeType.LONG_EDGE, 
                     node2 != null ? node2.getType() : NodeType.LONG_EDGE);
         }
+
+        @Override
+        public double getMaximalHorizontalSpacing(final Collection<CNode> cNodes) {
+            Spacings spacings = lGraph.getProperty(InternalProperties.SPACINGS);
+            return spacings.getMaximalHorizontalSpacing(getNodeTypes(cNodes));
+        }
+
+        @Override
+        public double getMaximalVerticalSpacing(final Collection<CNode> cNodes) {
+            // vertical segments of the same edge are assigned a spacing of 1
+            Spacings spacings = lGraph.getProperty(InternalProperties.SPACINGS);
+            return Math.max(1, spacings.getMaximalVerticalSpacing(getNodeTypes(cNodes)));
+        }
+
+        private Set<NodeType> getNodeTypes(final Collection<CNode> cNodes) {
+            Set<NodeType> nodeTypes = EnumSet.noneOf(NodeType.class);
+            for (CNode cNode : cNodes) {
+                LNode lNode = getLNodeOrNull(cNode);
+                nodeTypes.add(lNode != null ? lNode.getType() : NodeType.LONG_EDGE);
+            }
+            return nodeTypes;
+        }
     };
 
 }
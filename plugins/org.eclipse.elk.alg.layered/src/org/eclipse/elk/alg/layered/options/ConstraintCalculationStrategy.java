@@ -16,6 +16,7 @@ package org.eclipse.elk.alg.layered.options;
  * 
  * @see org.eclipse.elk.alg.layered.compaction.oned.algs.QuadraticConstraintCalculation QuadraticConstraintCalculation
  * @see org.eclipse.elk.alg.layered.compaction.oned.algs.ScanlineConstraintCalculator ScanlineConstraintCalculator
+ * @see org.eclipse.elk.alg.layered.compaction.oned.algs.IntervalConstraintCalculation IntervalConstraintCalculation
  */
 public enum ConstraintCalculationStrategy {
 
@@ -27,5 +28,11 @@ public enum ConstraintCalculationStrategy {
     /** 
      * Use a scanline technique.
      */
-    SCANLINE
+    SCANLINE,
+
+    /**
+     * Determine the same constraints as {@link #QUADRATIC}, but only compare elements that overlap vertically
+     * when taking spacings into account.
+     */
+    INTERVAL
 }
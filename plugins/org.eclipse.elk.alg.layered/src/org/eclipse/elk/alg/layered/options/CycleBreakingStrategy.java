@@ -14,6 +14,7 @@ import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.p1cycles.DepthFirstCycleBreaker;
 import org.eclipse.elk.alg.layered.p1cycles.GreedyCycleBreaker;
 import org.eclipse.elk.alg.layered.p1cycles.GreedyModelOrderCycleBreaker;
+import org.eclipse.elk.alg.layered.p1cycles.IncrementalCycleBreaker;
 import org.eclipse.elk.alg.layered.p1cycles.InteractiveCycleBreaker;
 import org.eclipse.elk.alg.layered.p1cycles.ModelOrderCycleBreaker;
 import org.eclipse.elk.core.alg.ILayoutPhase;
@@ -53,7 +54,14 @@ public enum CycleBreakingStrategy implements ILayoutPhaseFactory<LayeredPhases,
     /**
      * Applies a greedy heuristic to minimize the number of reversed edges but uses the model order as a tie-breaker.
      */
-    GREEDY_MODEL_ORDER;
+    GREEDY_MODEL_ORDER,
+    
+    /**
+     * Reuses the layering of the previous layout, given by the layer IDs of the nodes, and only breaks cycles
+     * between new nodes and the nodes close to them. Used for incremental layout.
+     */
+    @AdvancedPropertyValue
+    INCREMENTAL;
     
 
     @Override
@@ -74,6 +82,9 @@ public enum CycleBreakingStrategy implements ILayoutPhaseFactory<LayeredPhases,
         case GREEDY_MODEL_ORDER:
             return new GreedyModelOrderCycleBreaker();
             
+        case INCREMENTAL:
+            return new IncrementalCycleBreaker();
+            
         default:
             throw new IllegalArgumentException(
                     "No implementation is available for the cycle breaker " + this.toString());
@@ -452,7 +452,14 @@ public final class InternalProperties {
      * This is used to cache this once it was calculated.
      */
     public static final IProperty<Map<LNode, Integer>> TARGET_NODE_MODEL_ORDER = new Property<>("targetNode.modelOrder");
-    
+
+    /**
+     * Set on nodes that are laid out again during an incremental layout, i.e. that may change the layer and
+     * position they had in the previous layout. Set by the {@link org.eclipse.elk.alg.layered.p1cycles.
+     * IncrementalCycleBreaker IncrementalCycleBreaker}.
+     */
+    public static final IProperty<Boolean> INCREMENTAL_DIRTY = new Property<>("incremental.dirty", false);
+
     /**
      * Hidden default constructor.
      */
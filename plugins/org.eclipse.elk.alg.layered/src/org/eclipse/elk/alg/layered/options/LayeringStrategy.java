@@ -14,6 +14,7 @@ import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.p2layers.BreadthFirstModelOrderLayerer;
 import org.eclipse.elk.alg.layered.p2layers.CoffmanGrahamLayerer;
 import org.eclipse.elk.alg.layered.p2layers.DepthFirstModelOrderLayerer;
+import org.eclipse.elk.alg.layered.p2layers.IncrementalLayerer;
 import org.eclipse.elk.alg.layered.p2layers.InteractiveLayerer;
 import org.eclipse.elk.alg.layered.p2layers.LongestPathLayerer;
 import org.eclipse.elk.alg.layered.p2layers.LongestPathSourceLayerer;
@@ -81,7 +82,13 @@ public enum LayeringStrategy implements ILayoutPhaseFactory<LayeredPhases, LGrap
      * Dummy labels are only placed in layers between real nodes.
      */
     @ExperimentalPropertyValue
-    DF_MODEL_ORDER;
+    DF_MODEL_ORDER,
+    /**
+     * Reuses the layering of the previous layout, given by the layer IDs of the nodes, and moves only nodes whose
+     * layer ID is missing or contradicts the edges. Used for incremental layout.
+     */
+    @AdvancedPropertyValue
+    INCREMENTAL;
     
     @Override
     public ILayoutPhase<LayeredPhases, LGraph> create() {
@@ -112,6 +119,9 @@ public enum LayeringStrategy implements ILayoutPhaseFactory<LayeredPhases, LGrap
             
         case DF_MODEL_ORDER:
             return new DepthFirstModelOrderLayerer();
+            
+        case INCREMENTAL:
+            return new IncrementalLayerer();
 
         default:
             throw new IllegalArgumentException(
@@ -78,7 +78,7 @@ public enum NodeFlexibility {
      */
     public static NodeFlexibility getNodeFlexibility(final LNode lNode) {
         NodeFlexibility nf;
-        if (lNode.getAllProperties().containsKey(LayeredOptions.NODE_PLACEMENT_NETWORK_SIMPLEX_NODE_FLEXIBILITY)) {
+        if (lNode.hasProperty(LayeredOptions.NODE_PLACEMENT_NETWORK_SIMPLEX_NODE_FLEXIBILITY)) {
             nf = lNode.getProperty(LayeredOptions.NODE_PLACEMENT_NETWORK_SIMPLEX_NODE_FLEXIBILITY);
         } else {
             nf = lNode.getGraph().getProperty(LayeredOptions.NODE_PLACEMENT_NETWORK_SIMPLEX_NODE_FLEXIBILITY_DEFAULT);
@@ -9,6 +9,8 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.options;
 
+import java.util.Set;
+
 import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.graph.LGraphElement;
 import org.eclipse.elk.alg.layered.graph.LNode;
@@ -202,6 +204,40 @@ public final class Spacings {
         return getLocalSpacing(nt1, nt2, nodeTypeSpacingOptionsVertical);
     }
 
+    /**
+     * @param nodeTypes
+     *            a set of node types
+     * @return the largest horizontal spacing to be preserved between any two of the given node types, ignoring
+     *         individual spacings of nodes.
+     */
+    public double getMaximalHorizontalSpacing(final Set<NodeType> nodeTypes) {
+        return getMaximalSpacing(nodeTypes, nodeTypeSpacingOptionsHorizontal);
+    }
+
+    /**
+     * @param nodeTypes
+     *            a set of node types
+     * @return the largest vertical spacing to be preserved between any two of the given node types, ignoring
+     *         individual spacings of nodes.
+     */
+    public double getMaximalVerticalSpacing(final Set<NodeType> nodeTypes) {
+        return getMaximalSpacing(nodeTypes, nodeTypeSpacingOptionsVertical);
+    }
+
+    private double getMaximalSpacing(final Set<NodeType> nodeTypes,
+            final IProperty<Double>[][] nodeTypeSpacingMapping) {
+        double max = 0;
+        for (NodeType nt1 : nodeTypes) {
+            for (NodeType nt2 : nodeTypes) {
+                IProperty<Double> layoutOption = nodeTypeSpacingMapping[nt1.ordinal()][nt2.ordinal()];
+                if (layoutOption != null) {
+                    max = Math.max(max, graph.getProperty(layoutOption));
+                }
+            }
+        }
+        return max;
+    }
+
     private double getLocalSpacing(final LNode n1, final LNode n2, final IProperty<Double>[][] nodeTypeSpacingMapping) {
         NodeType t1 = n1.getType();
         NodeType t2 = n2.getType();
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p1cycles;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.elk.alg.layered.LayeredPhases;
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LNode.NodeType;
+import org.eclipse.elk.alg.layered.intermediate.IntermediateProcessorStrategy;
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.alg.ILayoutPhase;
+import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A cycle breaker for incremental layout that reuses the layering of the previous layout, given by the
+ * {@link LayeredOptions#LAYERING_LAYER_ID layer IDs} and {@link LayeredOptions#CROSSING_MINIMIZATION_POSITION_ID
+ * position IDs} the previous run left on the nodes.
+ *
+ * <p>Regular nodes without IDs are new. They and all nodes within
+ * {@link LayeredOptions#INCREMENTAL_PROPAGATION_DISTANCE} edges of them are <em>dirty</em> and marked with
+ * {@link InternalProperties#INCREMENTAL_DIRTY}. All other nodes are <em>stable</em> and keep their previous layer.
+ * Dirty nodes are visited in topological order of the dirty part of the graph and placed in the first layer after
+ * their predecessors, but not before their previous layer. Finally, all edges that point against the resulting
+ * layering are reversed. This means that the layering of the stable nodes is never changed: edges between stable
+ * nodes that point against the previous layering, like the edges reversed by the previous layout, and edges from a
+ * dirty node to a stable node that is too far left are reversed instead.</p>
+ *
+ * <p>The computed layers are stored as layer IDs of the dirty nodes, to be picked up by the
+ * {@link org.eclipse.elk.alg.layered.p2layers.IncrementalLayerer IncrementalLayerer}. Apart from reading the previous
+ * layers and a single pass over the edges to find the ones to reverse, only the dirty nodes and their edges are
+ * processed.</p>
+ *
+ * <dl>
+ *   <dt>Precondition:</dt><dd>an unlayered graph</dd>
+ *   <dt>Postcondition:</dt><dd>the graph has no cycles; all nodes have a layer ID such that edges point from
+ *     lower to higher layer IDs</dd>
+ * </dl>
+ */
+public final class IncrementalCycleBreaker implements ILayoutPhase<LayeredPhases, LGraph> {
+
+    /** intermediate processing configuration. */
+    private static final LayoutProcessorConfiguration<LayeredPhases, LGraph> INTERMEDIATE_PROCESSING_CONFIGURATION =
+        LayoutProcessorConfiguration.<LayeredPhases, LGraph>create()
+            .addAfter(LayeredPhases.P5_EDGE_ROUTING, IntermediateProcessorStrategy.REVERSED_EDGE_RESTORER);
+
+    /** the layer of each node, indexed by node id. */
+    private int[] layers;
+    /** whether each node is dirty, indexed by node id. */
+    private boolean[] dirty;
+    /** the dirty nodes, ordered by id. */
+    private List<LNode> dirtyNodes;
+    /** the dirty nodes in topological order, built in reverse. */
+    private List<LNode> topologicalOrder;
+    /** state of each dirty node: 0 = unvisited, 1 = on the current path, 2 = finished, 3 = placed. */
+    private int[] visitState;
+
+    @Override
+    public LayoutProcessorConfiguration<LayeredPhases, LGraph> getLayoutProcessorConfiguration(final LGraph graph) {
+        return INTERMEDIATE_PROCESSING_CONFIGURATION;
+    }
+
+    @Override
+    public void process(final LGraph layeredGraph, final IElkProgressMonitor monitor) {
+        monitor.begin("Incremental cycle breaking", 1);
+
+        List<LNode> nodes = layeredGraph.getLayerlessNodes();
+        int nodeCount = nodes.size();
+        layers = new int[nodeCount];
+        dirty = new boolean[nodeCount];
+
+        int index = 0;
+        for (LNode node : nodes) {
+            node.id = index;
+            layers[index] = node.getProperty(LayeredOptions.LAYERING_LAYER_ID);
+            index++;
+        }
+
+        markDirtyNodes(nodes, layeredGraph.getProperty(LayeredOptions.INCREMENTAL_PROPAGATION_DISTANCE));
+
+        // visit the dirty nodes in topological order, ignoring edges that close cycles
+        topologicalOrder = Lists.newArrayListWithCapacity(dirtyNodes.size());
+        visitState = new int[nodeCount];
+        for (LNode node : dirtyNodes) {
+            if (visitState[node.id] == 0) {
+                visit(node);
+            }
+        }
+        for (int i = topologicalOrder.size() - 1; i >= 0; i--) {
+            placeDirtyNode(topologicalOrder.get(i));
+        }
+
+        // reverse the edges that point against the layering; these are not necessarily incident to dirty nodes
+        List<LEdge> revEdges = Lists.newArrayList();
+        for (LNode source : nodes) {
+            for (LEdge edge : source.getOutgoingEdges()) {
+                LNode target = edge.getTarget().getNode();
+                if (target != source && layers[target.id] <= layers[source.id]) {
+                    revEdges.add(edge);
+                }
+            }
+        }
+        for (LNode node : dirtyNodes) {
+            node.setProperty(LayeredOptions.LAYERING_LAYER_ID, layers[node.id]);
+            node.setProperty(InternalProperties.INCREMENTAL_DIRTY, true);
+        }
+        for (LEdge edge : revEdges) {
+            edge.reverse(layeredGraph, true);
+        }
+
+        // release the created resources
+        layers = null;
+        dirty = null;
+        dirtyNodes = null;
+        topologicalOrder = null;
+        visitState = null;
+        monitor.done();
+    }
+
+    /**
+     * Marks the nodes that have to be laid out again. Nodes other than regular nodes, such as external port dummies,
+     * are dirty as well, but changes do not propagate from them.
+     *
+     * @param nodes the nodes of the graph
+     * @param distance the maximal number of edges between a dirty node and the closest changed node
+     */
+    private void markDirtyNodes(final List<LNode> nodes, final int distance) {
+        int[] distances = new int[nodes.size()];
+        Deque<LNode> queue = new ArrayDeque<>();
+        dirtyNodes = Lists.newArrayList();
+
+        for (LNode node : nodes) {
+            distances[node.id] = -1;
+            if (node.getType() != NodeType.NORMAL) {
+                dirty[node.id] = true;
+                dirtyNodes.add(node);
+            } else if (layers[node.id] < 0
+                    || node.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID) < 0) {
+                distances[node.id] = 0;
+                queue.add(node);
+            }
+        }
+
+        // breadth-first search up to the propagation distance, ignoring the direction of edges
+        while (!queue.isEmpty()) {
+            LNode node = queue.poll();
+            if (!dirty[node.id]) {
+                dirty[node.id] = true;
+                dirtyNodes.add(node);
+            }
+            if (distances[node.id] < distance) {
+                for (LEdge edge : node.getConnectedEdges()) {
+                    LNode other = edge.getSource().getNode() == node
+                            ? edge.getTarget().getNode()
+                            : edge.getSource().getNode();
+                    if (distances[other.id] < 0 && !dirty[other.id]) {
+                        distances[other.id] = distances[node.id] + 1;
+                        queue.add(other);
+                    }
+                }
+            }
+        }
+
+        // keep the order of the nodes to make the result independent of the order in which they were found
+        dirtyNodes.sort(Comparator.comparingInt(node -> node.id));
+    }
+
+    /**
+     * Performs a depth-first search on the dirty nodes starting at the given node, adding nodes to the topological
+     * order once all their dirty successors have been added. The search keeps the outgoing edges still to be
+     * explored for each node on the current path on an explicit stack, so long paths cannot overflow the call stack.
+     */
+    private void visit(final LNode start) {
+        Deque<LNode> path = new ArrayDeque<>();
+        Deque<Iterator<LEdge>> pendingEdges = new ArrayDeque<>();
+        visitState[start.id] = 1;
+        path.push(start);
+        pendingEdges.push(start.getOutgoingEdges().iterator());
+
+        while (!path.isEmpty()) {
+            Iterator<LEdge> edges = pendingEdges.peek();
+            if (edges.hasNext()) {
+                LNode target = edges.next().getTarget().getNode();
+                // targets on the current path close a cycle and are ignored
+                if (dirty[target.id] && visitState[target.id] == 0) {
+                    visitState[target.id] = 1;
+                    path.push(target);
+                    pendingEdges.push(target.getOutgoingEdges().iterator());
+                }
+            } else {
+                LNode node = path.pop();
+                pendingEdges.pop();
+                visitState[node.id] = 2;
+                topologicalOrder.add(node);
+            }
+        }
+    }
+
+    /**
+     * Computes the layer of a dirty node whose dirty predecessors have already been placed. Dirty predecessors that
+     * have not been placed yet are connected through edges that close a cycle.
+     */
+    private void placeDirtyNode(final LNode node) {
+        int layer = Math.max(layers[node.id], 0);
+        boolean hasPredecessors = false;
+        for (LEdge edge : node.getIncomingEdges()) {
+            LNode source = edge.getSource().getNode();
+            if (source != node && (!dirty[source.id] || visitState[source.id] == 3)) {
+                layer = Math.max(layer, layers[source.id] + 1);
+                hasPredecessors = true;
+            }
+        }
+
+        int firstStableSuccessor = Integer.MAX_VALUE;
+        for (LEdge edge : node.getOutgoingEdges()) {
+            LNode target = edge.getTarget().getNode();
+            if (!dirty[target.id]) {
+                firstStableSuccessor = Math.min(firstStableSuccessor, layers[target.id]);
+            }
+        }
+
+        // sources are moved close to their stable successors to avoid long edges
+        if (!hasPredecessors && firstStableSuccessor != Integer.MAX_VALUE) {
+            layer = Math.max(layer, firstStableSuccessor - 1);
+        }
+
+        // edges to stable successors in the same layer are reversed, so the node must be placed behind them
+        boolean sameLayer = true;
+        while (sameLayer) {
+            sameLayer = false;
+            for (LEdge edge : node.getOutgoingEdges()) {
+                LNode target = edge.getTarget().getNode();
+                if (!dirty[target.id] && layers[target.id] == layer) {
+                    layer++;
+                    sameLayer = true;
+                }
+            }
+        }
+
+        layers[node.id] = layer;
+        visitState[node.id] = 3;
+    }
+
+}
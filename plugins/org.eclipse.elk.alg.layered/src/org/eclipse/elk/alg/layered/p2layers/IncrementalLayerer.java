@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p2layers;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+import org.eclipse.elk.alg.layered.LayeredPhases;
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.alg.layered.intermediate.IntermediateProcessorStrategy;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.core.alg.ILayoutPhase;
+import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A node layerer for incremental layout that puts nodes into layers according to their
+ * {@link LayeredOptions#LAYERING_LAYER_ID layer IDs}. Usually, these were computed by the
+ * {@link org.eclipse.elk.alg.layered.p1cycles.IncrementalCycleBreaker IncrementalCycleBreaker} from the layering of
+ * the previous layout. Nodes whose layer ID is missing or not consistent with the edges are moved to the first layer
+ * after their predecessors, along with the nodes they push further right. Since the cycle breaker already assigns
+ * consistent layer IDs, this repair usually touches no node at all. Empty layers are removed.
+ *
+ * <p>Within each layer, the nodes are ordered by their {@link LayeredOptions#CROSSING_MINIMIZATION_POSITION_ID
+ * position IDs}, followed by the nodes without a position ID. Crossing minimization thus starts out from the node
+ * order of the previous layout.</p>
+ *
+ * <dl>
+ *   <dt>Precondition:</dt><dd>the graph has no cycles</dd>
+ *   <dt>Postcondition:</dt><dd>all nodes have been assigned a layer such that
+ *     edges connect only nodes from layers with increasing indices</dd>
+ * </dl>
+ */
+public final class IncrementalLayerer implements ILayoutPhase<LayeredPhases, LGraph> {
+
+    /** intermediate processing configuration. */
+    private static final LayoutProcessorConfiguration<LayeredPhases, LGraph> BASELINE_PROCESSING_CONFIGURATION =
+        LayoutProcessorConfiguration.<LayeredPhases, LGraph>create()
+            .addBefore(LayeredPhases.P1_CYCLE_BREAKING,
+                    IntermediateProcessorStrategy.EDGE_AND_LAYER_CONSTRAINT_EDGE_REVERSER)
+            .addBefore(LayeredPhases.P2_LAYERING, IntermediateProcessorStrategy.LAYER_CONSTRAINT_PREPROCESSOR)
+            .addBefore(LayeredPhases.P3_NODE_ORDERING, IntermediateProcessorStrategy.LAYER_CONSTRAINT_POSTPROCESSOR);
+
+    /** the layer index of each node, indexed by node id. */
+    private int[] layerIndices;
+
+    @Override
+    public LayoutProcessorConfiguration<LayeredPhases, LGraph> getLayoutProcessorConfiguration(final LGraph graph) {
+        return BASELINE_PROCESSING_CONFIGURATION;
+    }
+
+    @Override
+    public void process(final LGraph layeredGraph, final IElkProgressMonitor monitor) {
+        monitor.begin("Incremental node layering", 1);
+
+        List<LNode> nodes = layeredGraph.getLayerlessNodes();
+        layerIndices = new int[nodes.size()];
+        int[] positionIds = new int[nodes.size()];
+
+        int index = 0;
+        for (LNode node : nodes) {
+            node.id = index++;
+            layerIndices[node.id] = Math.max(node.getProperty(LayeredOptions.LAYERING_LAYER_ID), 0);
+            int positionId = node.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID);
+            positionIds[node.id] = positionId < 0 ? Integer.MAX_VALUE : positionId;
+        }
+
+        repairLayering(nodes);
+
+        int maxLayerIndex = 0;
+        for (LNode node : nodes) {
+            maxLayerIndex = Math.max(maxLayerIndex, layerIndices[node.id]);
+        }
+
+        // create the layers, skipping the empty ones
+        List<List<LNode>> layerContents = Lists.newArrayList();
+        for (int i = 0; i <= maxLayerIndex; i++) {
+            layerContents.add(null);
+        }
+        for (LNode node : nodes) {
+            List<LNode> content = layerContents.get(layerIndices[node.id]);
+            if (content == null) {
+                content = Lists.newArrayList();
+                layerContents.set(layerIndices[node.id], content);
+            }
+            content.add(node);
+        }
+
+        for (List<LNode> content : layerContents) {
+            if (content != null) {
+                Layer layer = new Layer(layeredGraph);
+                layeredGraph.getLayers().add(layer);
+                // order the nodes by position ID, putting nodes without one last
+                content.sort(Comparator.comparingInt((LNode node) -> positionIds[node.id])
+                        .thenComparingInt(node -> node.id));
+                for (LNode node : content) {
+                    node.setLayer(layer);
+                }
+            }
+        }
+
+        // empty the list of unlayered nodes
+        nodes.clear();
+        layerIndices = null;
+        monitor.done();
+    }
+
+    /**
+     * Moves the targets of edges that do not point to a higher layer behind their predecessors. Only the nodes
+     * reachable from such targets can move, so only they are processed, in topological order.
+     *
+     * @param nodes the nodes of the graph
+     */
+    private void repairLayering(final List<LNode> nodes) {
+        // collect the nodes reachable from the targets of violating edges
+        boolean[] affected = new boolean[nodes.size()];
+        Deque<LNode> queue = new ArrayDeque<>();
+        for (LNode node : nodes) {
+            for (LEdge edge : node.getOutgoingEdges()) {
+                LNode target = edge.getTarget().getNode();
+                if (target != node && !affected[target.id] && layerIndices[target.id] <= layerIndices[node.id]) {
+                    affected[target.id] = true;
+                    queue.add(target);
+                }
+            }
+        }
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        List<LNode> affectedNodes = Lists.newArrayList();
+        while (!queue.isEmpty()) {
+            LNode node = queue.poll();
+            affectedNodes.add(node);
+            for (LEdge edge : node.getOutgoingEdges()) {
+                LNode target = edge.getTarget().getNode();
+                if (!affected[target.id]) {
+                    affected[target.id] = true;
+                    queue.add(target);
+                }
+            }
+        }
+
+        // move the affected nodes behind their predecessors in topological order
+        int[] unplacedPredecessors = new int[nodes.size()];
+        for (LNode node : affectedNodes) {
+            for (LEdge edge : node.getIncomingEdges()) {
+                LNode source = edge.getSource().getNode();
+                if (source != node && affected[source.id]) {
+                    unplacedPredecessors[node.id]++;
+                }
+            }
+        }
+        for (LNode node : affectedNodes) {
+            if (unplacedPredecessors[node.id] == 0) {
+                queue.add(node);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            LNode node = queue.poll();
+            for (LEdge edge : node.getIncomingEdges()) {
+                LNode source = edge.getSource().getNode();
+                if (source != node) {
+                    layerIndices[node.id] = Math.max(layerIndices[node.id], layerIndices[source.id] + 1);
+                }
+            }
+            for (LEdge edge : node.getOutgoingEdges()) {
+                LNode target = edge.getTarget().getNode();
+                if (target != node && --unplacedPredecessors[target.id] == 0) {
+                    queue.add(target);
+                }
+            }
+        }
+    }
+
+}
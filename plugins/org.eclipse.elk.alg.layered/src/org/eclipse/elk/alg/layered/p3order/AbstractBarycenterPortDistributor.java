@@ -48,6 +48,7 @@ public abstract class AbstractBarycenterPortDistributor implements ISweepPortDis
     private int[][] nodePositions;
     private float[] portBarycenter;
     private List<LPort> inLayerPorts;
+    private boolean reorderedPorts;
 
     /**
      * Constructs a port distributor for the given array of port ranks. 
@@ -79,6 +80,7 @@ public abstract class AbstractBarycenterPortDistributor implements ISweepPortDis
             final int currentIndex,
             final boolean isForwardSweep) {
         
+        reorderedPorts = false;
         updateNodePositions(nodeOrder, currentIndex);
         LNode[] freeLayer = nodeOrder[currentIndex];
         PortSide side = isForwardSweep ? PortSide.WEST : PortSide.EAST;
@@ -106,6 +108,11 @@ public abstract class AbstractBarycenterPortDistributor implements ISweepPortDis
         return false;
     }
 
+    @Override
+    public boolean hasReorderedPorts() {
+        return reorderedPorts;
+    }
+
     /**
      * Determine ranks for all ports of specific type in the given layer.
      * The ranks are written to the {@link #getPortRanks()} array.
@@ -151,7 +158,7 @@ public abstract class AbstractBarycenterPortDistributor implements ISweepPortDis
             distributePorts(node, node.getPorts(PortSide.SOUTH));
             distributePorts(node, node.getPorts(PortSide.NORTH));
             // sort the ports by considering the side, type, and barycenter values
-            sortPorts(node);
+            reorderedPorts |= sortPorts(node);
         }
     }
 
@@ -342,30 +349,41 @@ public abstract class AbstractBarycenterPortDistributor implements ISweepPortDis
      *
      * @param node
      *            a node
+     * @return whether the order of the ports has changed
      */
-    private void sortPorts(final LNode node) {
-        Collections.sort(node.getPorts(), (port1, port2) -> {
-            PortSide side1 = port1.getSide();
-            PortSide side2 = port2.getSide();
-
-            if (side1 != side2) {
-                // sort according to the node side
-                return side1.ordinal() - side2.ordinal();
+    private boolean sortPorts(final LNode node) {
+        // the sort is stable, so ports that are already in order stay where they are
+        List<LPort> ports = node.getPorts();
+        for (int i = 1; i < ports.size(); i++) {
+            if (comparePorts(ports.get(i - 1), ports.get(i)) > 0) {
+                Collections.sort(ports, this::comparePorts);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int comparePorts(final LPort port1, final LPort port2) {
+        PortSide side1 = port1.getSide();
+        PortSide side2 = port2.getSide();
+
+        if (side1 != side2) {
+            // sort according to the node side
+            return side1.ordinal() - side2.ordinal();
+        } else {
+            float port1Bary = portBarycenter[port1.id];
+            float port2Bary = portBarycenter[port2.id];
+            if (port1Bary == 0 && port2Bary == 0) {
+                return 0;
+            } else if (port1Bary == 0) {
+                return -1;
+            } else if (port2Bary == 0) {
+                return 1;
             } else {
-                float port1Bary = portBarycenter[port1.id];
-                float port2Bary = portBarycenter[port2.id];
-                if (port1Bary == 0 && port2Bary == 0) {
-                    return 0;
-                } else if (port1Bary == 0) {
-                    return -1;
-                } else if (port2Bary == 0) {
-                    return 1;
-                } else {
-                    // sort according to the position value
-                    return Float.compare(port1Bary, port2Bary);
-                }
+                // sort according to the position value
+                return Float.compare(port1Bary, port2Bary);
             }
-        });
+        }
     }
 
     private int nPorts;
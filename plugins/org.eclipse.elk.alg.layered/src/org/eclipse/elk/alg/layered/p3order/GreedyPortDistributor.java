@@ -35,13 +35,20 @@ public class GreedyPortDistributor implements ISweepPortDistributor, IInitializa
     private int nPorts;
     private int[] portPos;
     private BetweenLayerEdgeTwoNodeCrossingsCounter hierarchicalCrossingsCounter;
+    private boolean reorderedPorts;
 
     @Override
     public boolean distributePortsWhileSweeping(final LNode[][] nodeOrder, final int currentIndex,
             final boolean isForwardSweep) {
         initialize(nodeOrder, currentIndex, isForwardSweep);
 
-        return distributePortsInLayer(nodeOrder, currentIndex, isForwardSweep);
+        reorderedPorts = distributePortsInLayer(nodeOrder, currentIndex, isForwardSweep);
+        return reorderedPorts;
+    }
+
+    @Override
+    public boolean hasReorderedPorts() {
+        return reorderedPorts;
     }
 
     private boolean distributePortsInLayer(final LNode[][] nodeOrder, final int currentIndex,
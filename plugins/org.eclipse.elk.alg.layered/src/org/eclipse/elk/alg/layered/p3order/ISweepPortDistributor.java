@@ -35,6 +35,14 @@ public interface ISweepPortDistributor extends IInitializable {
      */
     boolean distributePortsWhileSweeping(LNode[][] order, int freeLayerIndex,
             boolean isForwardSweep);
+
+    /**
+     * Whether the last call of {@link #distributePortsWhileSweeping(LNode[][], int, boolean)} changed the order of
+     * the ports of any node, in the free layer or in the layer it was swept from.
+     *
+     * @return {@code true} if ports have been reordered.
+     */
+    boolean hasReorderedPorts();
     
     /**
      * Make a port distributor.
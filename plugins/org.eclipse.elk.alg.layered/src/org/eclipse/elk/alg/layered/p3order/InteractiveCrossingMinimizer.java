@@ -146,13 +146,14 @@ public final class InteractiveCrossingMinimizer implements ILayoutPhase<LayeredP
     }
     
     /**
-     * Determine a vertical position for the given node.
+     * Determine a vertical position for the given node. Also used by the {@link LayerSweepCrossingMinimizer} to keep
+     * the previous order of layers untouched by an incremental layout.
      * 
      * @param node a node
      * @param horizPos the horizontal position at which to measure (relevant for edges)
      * @return the vertical position used for sorting
      */
-    private double getPos(final LNode node, final double horizPos) {
+    static double getPos(final LNode node, final double horizPos) {
         switch (node.getType()) {
         case LONG_EDGE:
             LEdge edge = (LEdge) node.getProperty(InternalProperties.ORIGIN);
@@ -16,9 +16,13 @@ import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Consumer;
+// elkjs-exclude-start
+import java.util.stream.IntStream;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.IHierarchyAwareLayoutProcessor;
 import org.eclipse.elk.alg.layered.LayeredPhases;
+import org.eclipse.elk.alg.layered.graph.LEdge;
 import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.graph.LNode;
 import org.eclipse.elk.alg.layered.graph.LNode.NodeType;
@@ -60,6 +64,13 @@ import com.google.common.collect.Sets;
  * 
  * Therefore this is a <i>hierarchical</i> processor which must have access to the root graph.
  * <p>
+ * For non-deterministic heuristics, the graph is laid out several times with different random decisions and the best
+ * result is kept. If {@link LayeredOptions#CROSSING_MINIMIZATION_PARALLEL_RUNS} is set, these runs are executed
+ * concurrently on copies of the graph, provided that the graph is the root graph and is not swept into any of its
+ * child graphs. The runs then all start from the initial node order instead of the result of the previous run, and
+ * the best run is chosen by its number of crossings, with ties broken by the run's index.
+ * </p>
+ * <p>
  * Reference for the original layer sweep:
  * <ul>
  * <li>Kozo Sugiyama, Shojiro Tagawa, and Mitsuhiko Toda. Methods for visual understanding of hierarchical system
@@ -88,6 +99,7 @@ public class LayerSweepCrossingMinimizer
     private Random random;
     private long randomSeed;
     private CrossMinType crossMinType;
+    private IElkProgressMonitor monitor;
 
     /**
      * Creates LayerSweepHierarchicalCrossingMinimizer using given minimizer type.
@@ -119,6 +131,7 @@ public class LayerSweepCrossingMinimizer
             return;
         }
 
+        monitor = progressMonitor;
         List<GraphInfoHolder> graphsToSweepOn = initialize(layeredGraph);
 
         Consumer<GraphInfoHolder> minimizingMethod = chooseMinimizingMethod(graphsToSweepOn);
@@ -127,12 +140,16 @@ public class LayerSweepCrossingMinimizer
 
         transferNodeAndPortOrdersToGraph();
 
+        monitor = null;
         progressMonitor.done();
     }
 
     private Consumer<GraphInfoHolder> chooseMinimizingMethod(final List<GraphInfoHolder> graphsToSweepOn) {
         GraphInfoHolder parent = graphsToSweepOn.get(0);
-        if (!parent.crossMinDeterministic()) {
+        if (!parent.crossMinDeterministic()
+                && parent.lGraph().getProperty(LayeredOptions.INCREMENTAL_ACTIVATE)) {
+            return this::minimizeCrossingsIncrementally;
+        } else if (!parent.crossMinDeterministic()) {
             return this::compareDifferentRandomizedLayouts;
         } else if (parent.crossMinAlwaysImproves()) {
             return this::minimizeCrossingsNoCounter;
@@ -176,6 +193,105 @@ public class LayerSweepCrossingMinimizer
         setCurrentlyBestNodeOrders();
     }
 
+    /**
+     * For incremental layout. The layerer ordered the nodes of each layer as in the previous layout, and the order of
+     * the nodes that did not change is fixed by in-layer constraints. A single forward sweep starting from that order
+     * thus suffices to place the new nodes and the long edge dummies. Moreover, only the layers touched by the change
+     * are passed to the crossing minimizer. The other layers keep the order of the previous layout, see
+     * {@link #keepPreviousOrder(LNode[])}.
+     */
+    private void minimizeCrossingsIncrementally(final GraphInfoHolder gData) {
+        random.setSeed(randomSeed);
+        graphsWhoseNodeOrderChanged.clear();
+
+        LNode[][] nodes = gData.currentNodeOrder();
+        distributePortsWhileSweeping(gData, 0, true);
+        sweepInHierarchicalNodes(nodes[0], true, false);
+        for (int i = 1; i < nodes.length; i++) {
+            if (!keepPreviousOrder(nodes[i])) {
+                gData.crossMinimizer().minimizeCrossings(nodes, i, true, false);
+            }
+            distributePortsWhileSweeping(gData, i, true);
+            sweepInHierarchicalNodes(nodes[i], true, false);
+        }
+        graphsWhoseNodeOrderChanged.add(gData);
+
+        setCurrentlyBestNodeOrders();
+        saveAllNodeOrdersOfChangedGraphs();
+    }
+
+    /**
+     * Restores the previous order of a layer of an incremental layout if the layer was not touched by the change, i.e.
+     * if it consists of stable regular nodes and long edge dummies of edges between stable nodes that were already
+     * routed in the previous layout. The stable nodes are already in their previous order, and the dummies are
+     * inserted between them where their edges crossed the layer in the previous layout.
+     *
+     * @param layer
+     *            the nodes of the layer
+     * @return {@code true} if the layer was untouched and its order has been restored
+     */
+    private boolean keepPreviousOrder(final LNode[] layer) {
+        // the horizontal position at which the edges crossed the layer
+        double horizPos = 0;
+        int nodeCount = 0;
+        for (LNode node : layer) {
+            if (node.getType() == NodeType.LONG_EDGE) {
+                if (!isStableLongEdgeDummy(node)) {
+                    return false;
+                }
+            } else if (!isStableNode(node)) {
+                return false;
+            } else if (node.getPosition().x > 0) {
+                horizPos += node.getPosition().x + node.getSize().x / 2;
+                nodeCount++;
+            }
+        }
+        if (nodeCount == 0) {
+            return false;
+        }
+        horizPos /= nodeCount;
+
+        LNode[] previousOrder = layer.clone();
+        double[] pos = new double[layer.length];
+        List<Integer> stableNodes = Lists.newArrayList();
+        List<Integer> dummies = Lists.newArrayList();
+        for (int i = 0; i < layer.length; i++) {
+            pos[i] = InteractiveCrossingMinimizer.getPos(layer[i], horizPos);
+            if (layer[i].getType() == NodeType.LONG_EDGE) {
+                dummies.add(i);
+            } else {
+                stableNodes.add(i);
+            }
+        }
+        dummies.sort(Comparator.comparingDouble(i -> pos[i]));
+
+        // merge the dummies into the stable nodes without changing the order of the latter
+        int nextNode = 0;
+        int nextDummy = 0;
+        for (int i = 0; i < layer.length; i++) {
+            if (nextDummy < dummies.size() && (nextNode == stableNodes.size()
+                    || pos[dummies.get(nextDummy)] < pos[stableNodes.get(nextNode)])) {
+                layer[i] = previousOrder[dummies.get(nextDummy++)];
+            } else {
+                layer[i] = previousOrder[stableNodes.get(nextNode++)];
+            }
+        }
+        return true;
+    }
+
+    private boolean isStableNode(final LNode node) {
+        return node.getType() == NodeType.NORMAL && !node.getProperty(InternalProperties.INCREMENTAL_DIRTY);
+    }
+
+    private boolean isStableLongEdgeDummy(final LNode dummy) {
+        LEdge edge = (LEdge) dummy.getProperty(InternalProperties.ORIGIN);
+        LPort source = dummy.getProperty(InternalProperties.LONG_EDGE_SOURCE);
+        LPort target = dummy.getProperty(InternalProperties.LONG_EDGE_TARGET);
+        return edge.getProperty(InternalProperties.ORIGINAL_BENDPOINTS) != null
+                && source != null && isStableNode(source.getNode())
+                && target != null && isStableNode(target.getNode());
+    }
+
     private void compareDifferentRandomizedLayouts(final GraphInfoHolder gData) {
         // Reset the seed, otherwise copies of hierarchical graphs in different parent nodes are
         // layouted differently.
@@ -184,8 +300,13 @@ public class LayerSweepCrossingMinimizer
         // In order to only copy graphs whose node order has changed, save them in a set.
         graphsWhoseNodeOrderChanged.clear();
 
-        if (gData.lGraph().getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0
-            || gData.lGraph().getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0) {
+        // elkjs-exclude-start
+        if (compareDifferentRandomizedLayoutsConcurrently(gData)) {
+            return;
+        }
+        // elkjs-exclude-end
+
+        if (countsModelOrderViolations(gData)) {
             double bestCrossings = Double.MAX_VALUE;
             if (gData.lGraph().getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_STRATEGY) != OrderingStrategy.NONE) {
                 // The first run should begin with a forward sweep.
@@ -195,6 +316,7 @@ public class LayerSweepCrossingMinimizer
             int thouroughness = gData.lGraph().getProperty(LayeredOptions.THOROUGHNESS);
             for (int i = 0; i < thouroughness; i++) {
                 double crossings = minimizeCrossingsNodePortOrderWithCounter(gData);
+                logRandomizedRun(i, crossings);
                 if (crossings < bestCrossings) {
                     bestCrossings = crossings;
                     saveAllNodeOrdersOfChangedGraphs();
@@ -213,6 +335,7 @@ public class LayerSweepCrossingMinimizer
             int thouroughness = gData.lGraph().getProperty(LayeredOptions.THOROUGHNESS);
             for (int i = 0; i < thouroughness; i++) {
                 int crossings = minimizeCrossingsWithCounter(gData);
+                logRandomizedRun(i, crossings);
                 if (crossings < bestCrossings) {
                     bestCrossings = crossings;
                     saveAllNodeOrdersOfChangedGraphs();
@@ -224,6 +347,85 @@ public class LayerSweepCrossingMinimizer
         }
     }
 
+    // elkjs-exclude-start
+    /**
+     * Executes the randomized runs for the given graph concurrently if
+     * {@link LayeredOptions#CROSSING_MINIMIZATION_PARALLEL_RUNS} is set, the graph has no parent node, and the graph is
+     * not swept into any of its child graphs. Each run works on its own {@link SweepGraphCopy} with a random number generator seeded with a value
+     * drawn from this minimizer's generator in run order, which makes the result independent of the order in which
+     * the runs finish. The node and port order of the run with the fewest crossings is stored as the graph's best
+     * order; ties are resolved in favor of the run with the lower index.
+     * 
+     * @return {@code true} if the runs were executed, {@code false} if they still need to be executed sequentially.
+     */
+    private boolean compareDifferentRandomizedLayoutsConcurrently(final GraphInfoHolder gData) {
+        LGraph graph = gData.lGraph();
+        int thoroughness = graph.getProperty(LayeredOptions.THOROUGHNESS);
+        // A copy knows neither the graph's parent node nor the graphs around it, which the treatment of external
+        // ports relies on
+        if (!graph.getProperty(LayeredOptions.CROSSING_MINIMIZATION_PARALLEL_RUNS) || thoroughness < 2
+                || gData.hasParent()
+                || gData.childGraphs().stream().anyMatch(child -> !graphInfoHolders.get(child.id).dontSweepInto())) {
+            return false;
+        }
+
+        // The copies are created up front so that the runs never access the original graph
+        boolean countModelOrderViolations = countsModelOrderViolations(gData);
+        boolean tryInitialOrder =
+                graph.getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_STRATEGY) != OrderingStrategy.NONE;
+        SweepGraphCopy[] copies = new SweepGraphCopy[thoroughness];
+        for (int i = 0; i < thoroughness; i++) {
+            copies[i] = new SweepGraphCopy(graph);
+            LGraph copy = copies[i].graph();
+            copy.setProperty(InternalProperties.RANDOM, new Random(random.nextLong()));
+            // As in the sequential case, the first two runs start with the initial order
+            copy.setProperty(InternalProperties.FIRST_TRY_WITH_INITIAL_ORDER, tryInitialOrder && i == 0);
+            copy.setProperty(InternalProperties.SECOND_TRY_WITH_INITIAL_ORDER, tryInitialOrder && i == 1);
+        }
+
+        double[] crossings = new double[thoroughness];
+        SweepCopy[] results = new SweepCopy[thoroughness];
+        IntStream.range(0, thoroughness).parallel().forEach(i -> {
+            LayerSweepCrossingMinimizer run = new LayerSweepCrossingMinimizer(crossMinType);
+            run.initialize(copies[i].graph());
+            GraphInfoHolder runData = run.graphInfoHolders.get(0);
+            crossings[i] = countModelOrderViolations
+                    ? run.minimizeCrossingsNodePortOrderWithCounter(runData)
+                    : run.minimizeCrossingsWithCounter(runData);
+            SweepCopy result = runData.currentlyBestNodeAndPortOrder();
+            results[i] = result != null ? copies[i].toOriginal(result) : null;
+        });
+
+        int best = 0;
+        for (int i = 0; i < thoroughness; i++) {
+            logRandomizedRun(i, crossings[i]);
+            if (crossings[i] < crossings[best]) {
+                best = i;
+            }
+        }
+        // A run that keeps the initial order does not record it
+        gData.setBestNodeNPortOrder(results[best] != null ? results[best] : new SweepCopy(gData.currentNodeOrder()));
+        return true;
+    }
+    // elkjs-exclude-end
+
+    /**
+     * Whether violations of the model order are counted as crossings, weighted by their configured influence.
+     */
+    private boolean countsModelOrderViolations(final GraphInfoHolder gData) {
+        return gData.lGraph().getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0
+            || gData.lGraph().getProperty(LayeredOptions.CONSIDER_MODEL_ORDER_CROSSING_COUNTER_NODE_INFLUENCE) != 0;
+    }
+
+    /**
+     * Reports the number of crossings a randomized run ended up with, which helps to tune the thoroughness.
+     */
+    private void logRandomizedRun(final int run, final double crossings) {
+        if (monitor != null && monitor.isLoggingEnabled()) {
+            monitor.log("Randomized run " + run + ": " + crossings + " crossings");
+        }
+    }
+
     private int minimizeCrossingsWithCounter(final GraphInfoHolder gData) {
         boolean isForwardSweep = random.nextBoolean();
 
@@ -437,15 +639,14 @@ public class LayerSweepCrossingMinimizer
         LNode[][] nodes = graph.currentNodeOrder();
         int length = nodes.length;
 
-        boolean improved =
-                graph.portDistributor().distributePortsWhileSweeping(nodes, firstIndex(forward, length), forward);
+        boolean improved = distributePortsWhileSweeping(graph, firstIndex(forward, length), forward);
         LNode[] firstLayer = nodes[firstIndex(forward, length)];
         improved |= sweepInHierarchicalNodes(firstLayer, forward, firstSweep);
         for (int i = firstFree(forward, length); isNotEnd(length, i, forward); i += next(forward)) {
             improved |= graph.crossMinimizer().minimizeCrossings(nodes, i, forward,
                     firstSweep && !graph.lGraph().getProperty(InternalProperties.FIRST_TRY_WITH_INITIAL_ORDER)
                     && !graph.lGraph().getProperty(InternalProperties.SECOND_TRY_WITH_INITIAL_ORDER));
-            improved |= graph.portDistributor().distributePortsWhileSweeping(nodes, i, forward);
+            improved |= distributePortsWhileSweeping(graph, i, forward);
             improved |= sweepInHierarchicalNodes(nodes[i], forward, firstSweep);
         }
 
@@ -453,6 +654,21 @@ public class LayerSweepCrossingMinimizer
         return improved;
     }
 
+    private boolean distributePortsWhileSweeping(final GraphInfoHolder graph, final int freeLayerIndex,
+            final boolean forward) {
+        boolean improved =
+                graph.portDistributor().distributePortsWhileSweeping(graph.currentNodeOrder(), freeLayerIndex, forward);
+        if (graph.portDistributor().hasReorderedPorts()) {
+            // the crossings counter only keeps track of node switches
+            graph.crossCounter().notifyPortsReordered(freeLayerIndex);
+            int fixedLayerIndex = freeLayerIndex - next(forward);
+            if (fixedLayerIndex >= 0 && fixedLayerIndex < graph.currentNodeOrder().length) {
+                graph.crossCounter().notifyPortsReordered(fixedLayerIndex);
+            }
+        }
+        return improved;
+    }
+
     private boolean sweepInHierarchicalNodes(final LNode[] layer, final boolean isForwardSweep,
             final boolean isFirstSweep) {
         boolean improved = false;
@@ -497,14 +713,21 @@ public class LayerSweepCrossingMinimizer
         }
 
         List<LPort> ports = parent.getPorts();
+        boolean reordered = false;
         for (int i = 0; i < ports.size(); i++) {
             LPort port = ports.get(i);
             if (isOnEndOfSweepSide(port, onRightMostLayer) && isHierarchical(port)) {
                 // Only on external port dummy node has a port as its origin.
-                ports.set(i, originPort(lastLayer[j]));
+                LPort origin = originPort(lastLayer[j]);
+                reordered |= origin != port;
+                ports.set(i, origin);
                 j += next(onRightMostLayer);
             }
         }
+        if (reordered) {
+            GraphInfoHolder parentGraph = graphInfoHolders.get(parent.getGraph().id);
+            parentGraph.crossCounter().notifyPortsReordered(parent.getLayer().getIndex());
+        }
     }
 
     private LNode[] sortPortDummiesByPortPositions(final LNode parentNode,
@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.eclipse.elk.alg.layered.graph.LGraph;
 import org.eclipse.elk.alg.layered.graph.LNode;
@@ -62,6 +63,36 @@ class SweepCopy {
         portOrders = new ArrayList<>(sc.portOrders);
     }
 
+    /**
+     * Copies the given node and port orders, replacing each node and port by its counterpart.
+     * 
+     * @param sc
+     *            the node and port orders to copy.
+     * @param nodeMapping
+     *            returns the node to use in place of a given node.
+     * @param portMapping
+     *            returns the port to use in place of a given port.
+     */
+    SweepCopy(final SweepCopy sc, final Function<LNode, LNode> nodeMapping,
+            final Function<LPort, LPort> portMapping) {
+        
+        nodeOrder = new LNode[sc.nodeOrder.length][];
+        portOrders = new ArrayList<>(sc.portOrders.size());
+        for (int i = 0; i < nodeOrder.length; i++) {
+            nodeOrder[i] = new LNode[sc.nodeOrder[i].length];
+            List<List<LPort>> layer = new ArrayList<>(nodeOrder[i].length);
+            portOrders.add(layer);
+            for (int j = 0; j < nodeOrder[i].length; j++) {
+                nodeOrder[i][j] = nodeMapping.apply(sc.nodeOrder[i][j]);
+                List<LPort> ports = new ArrayList<>(sc.portOrders.get(i).get(j).size());
+                for (LPort port : sc.portOrders.get(i).get(j)) {
+                    ports.add(portMapping.apply(port));
+                }
+                layer.add(ports);
+            }
+        }
+    }
+
     private LNode[][] deepCopy(final LNode[][] currentlyBestNodeOrder) {
         if (currentlyBestNodeOrder == null) {
             return null;
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p3order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.elk.alg.layered.graph.LEdge;
+import org.eclipse.elk.alg.layered.graph.LGraph;
+import org.eclipse.elk.alg.layered.graph.LNode;
+import org.eclipse.elk.alg.layered.graph.LPort;
+import org.eclipse.elk.alg.layered.graph.Layer;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.properties.IPropertyHolder;
+import org.eclipse.elk.graph.properties.MapPropertyHolder;
+
+import com.google.common.collect.Maps;
+
+/**
+ * A structural copy of a single layered graph that a randomized crossing minimization run can work on in isolation.
+ * Crossing minimization reorders the port lists of the nodes it processes, which is why concurrent runs cannot share
+ * the original graph. The copy contains layers, nodes, ports and edges along with their properties. Property values
+ * that refer to copied nodes or ports, such as layout unit or successor constraints, are redirected to the copies;
+ * all other values are shared with the original graph and must not be modified. Nested graphs are not copied, and
+ * the copy has no parent node, so only root graphs can be copied.
+ *
+ * <p>
+ * Node and port orders computed on the copy can be translated back to the original graph using
+ * {@link #toOriginal(SweepCopy)}.
+ * </p>
+ */
+final class SweepGraphCopy {
+
+    /** The copied graph. */
+    private final LGraph copy = new LGraph();
+    /** Maps original nodes to their copies and vice versa. */
+    private final Map<LNode, LNode> nodeCopies = Maps.newHashMap();
+    private final Map<LNode, LNode> nodeOriginals = Maps.newHashMap();
+    /** Maps original ports to their copies and vice versa. */
+    private final Map<LPort, LPort> portCopies = Maps.newHashMap();
+    private final Map<LPort, LPort> portOriginals = Maps.newHashMap();
+
+    /**
+     * Copies the given graph.
+     *
+     * @param graph
+     *            the graph to copy. Its nodes must already be assigned to layers.
+     * @throws IllegalArgumentException
+     *             if the graph has a parent node or an edge of the graph leaves the graph.
+     */
+    SweepGraphCopy(final LGraph graph) {
+        if (graph.getParentNode() != null) {
+            throw new IllegalArgumentException("Graph " + graph + " is nested in node " + graph.getParentNode() + ".");
+        }
+        copy.copyProperties(graph);
+
+        // Layers, nodes and ports, keeping their order
+        for (Layer layer : graph) {
+            Layer layerCopy = new Layer(copy);
+            copy.getLayers().add(layerCopy);
+            for (LNode node : layer) {
+                LNode nodeCopy = new LNode(copy);
+                nodeCopy.setType(node.getType());
+                nodeCopy.getPosition().set(node.getPosition());
+                nodeCopy.getSize().set(node.getSize());
+                nodeCopy.setLayer(layerCopy);
+                nodeCopies.put(node, nodeCopy);
+                nodeOriginals.put(nodeCopy, node);
+
+                for (LPort port : node.getPorts()) {
+                    LPort portCopy = new LPort();
+                    portCopy.getPosition().set(port.getPosition());
+                    portCopy.getSize().set(port.getSize());
+                    portCopy.getAnchor().set(port.getAnchor());
+                    portCopy.setExplicitlySuppliedPortAnchor(port.isExplicitlySuppliedPortAnchor());
+                    portCopy.setConnectedToExternalNodes(port.isConnectedToExternalNodes());
+                    portCopy.setSide(port.getSide());
+                    portCopy.setNode(nodeCopy);
+                    portCopies.put(port, portCopy);
+                    portOriginals.put(portCopy, port);
+                }
+                nodeCopy.cachePortSides();
+            }
+        }
+
+        // Edges, keeping the order of the edge lists of all ports
+        Map<LEdge, LEdge> edgeCopies = Maps.newHashMap();
+        for (Entry<LPort, LPort> entry : portCopies.entrySet()) {
+            for (LEdge edge : entry.getKey().getOutgoingEdges()) {
+                LPort targetCopy = portCopies.get(edge.getTarget());
+                if (targetCopy == null) {
+                    throw new IllegalArgumentException("Edge " + edge + " leaves the graph.");
+                }
+                LEdge edgeCopy = new LEdge();
+                edgeCopy.setSource(entry.getValue());
+                edgeCopy.setTarget(targetCopy);
+                edgeCopies.put(edge, edgeCopy);
+            }
+        }
+        for (Entry<LPort, LPort> entry : portCopies.entrySet()) {
+            LPort port = entry.getKey();
+            LPort portCopy = entry.getValue();
+            if (port.getIncomingEdges().size() != portCopy.getIncomingEdges().size()) {
+                throw new IllegalArgumentException("An edge incident to port " + port + " leaves the graph.");
+            }
+            copyEdgeOrder(port.getIncomingEdges(), portCopy.getIncomingEdges(), edgeCopies);
+            copyEdgeOrder(port.getOutgoingEdges(), portCopy.getOutgoingEdges(), edgeCopies);
+        }
+
+        // Properties may refer to other nodes and ports, which is why they are copied once everything exists
+        for (Entry<LNode, LNode> entry : nodeCopies.entrySet()) {
+            copyProperties(entry.getKey(), entry.getValue());
+        }
+        for (Entry<LPort, LPort> entry : portCopies.entrySet()) {
+            copyProperties(entry.getKey(), entry.getValue());
+        }
+        for (Entry<LEdge, LEdge> entry : edgeCopies.entrySet()) {
+            copyProperties(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the copied graph.
+     */
+    LGraph graph() {
+        return copy;
+    }
+
+    /**
+     * Translates node and port orders computed on the copy to the original graph.
+     *
+     * @param sweep
+     *            node and port orders that refer to nodes and ports of the copy.
+     * @return the same node and port orders referring to the original nodes and ports.
+     */
+    SweepCopy toOriginal(final SweepCopy sweep) {
+        return new SweepCopy(sweep, nodeOriginals::get, portOriginals::get);
+    }
+
+    private void copyEdgeOrder(final List<LEdge> originalEdges, final List<LEdge> copiedEdges,
+            final Map<LEdge, LEdge> edgeCopies) {
+
+        copiedEdges.clear();
+        for (LEdge edge : originalEdges) {
+            copiedEdges.add(edgeCopies.get(edge));
+        }
+    }
+
+    private void copyProperties(final IPropertyHolder original, final MapPropertyHolder copiedHolder) {
+        for (Entry<IProperty<?>, Object> property : original.getAllProperties().entrySet()) {
+            copiedHolder.setProperty(asObjectProperty(property.getKey()), redirect(property.getValue()));
+        }
+    }
+
+    /**
+     * Returns the copy of the given value if it is a node or port of the graph, or a list of such. Other values are
+     * returned unchanged.
+     */
+    private Object redirect(final Object value) {
+        if (value instanceof LNode) {
+            return nodeCopies.getOrDefault(value, (LNode) value);
+        } else if (value instanceof LPort) {
+            return portCopies.getOrDefault(value, (LPort) value);
+        } else if (value instanceof List<?>) {
+            List<?> list = (List<?>) value;
+            if (list.stream().anyMatch(element -> element instanceof LNode || element instanceof LPort)) {
+                List<Object> redirected = new ArrayList<>(list.size());
+                for (Object element : list) {
+                    redirected.add(redirect(element));
+                }
+                return redirected;
+            }
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IProperty<Object> asObjectProperty(final IProperty<?> property) {
+        return (IProperty<Object>) property;
+    }
+
+}
@@ -25,6 +25,11 @@ import org.eclipse.elk.core.options.PortSide;
 public final class AllCrossingsCounter implements IInitializable {
 
     private CrossingsCounter crossingCounter;
+    /**
+     * A counter for each pair of neighboring layers without hyperedges, which updates the number of crossings between
+     * them when only a few nodes have moved since the last count.
+     */
+    private CrossingsCounter[] betweenLayersCounters;
     private boolean[] hasHyperEdgesEastOfIndex;
     private HyperedgeCrossingsCounter hyperedgeCrossingsCounter;
 
@@ -65,6 +70,22 @@ public final class AllCrossingsCounter implements IInitializable {
         return crossings;
     }
 
+    /**
+     * Notify the counter that the order of the ports of some nodes in the given layer has changed since the last count.
+     * Crossings next to the layer are then counted from scratch by the next call of
+     * {@link #countAllCrossings(LNode[][])}.
+     *
+     * @param layerIndex
+     *            the index of the layer
+     */
+    public void notifyPortsReordered(final int layerIndex) {
+        for (int l = Math.max(0, layerIndex - 1); l <= layerIndex && l < betweenLayersCounters.length; l++) {
+            if (betweenLayersCounters[l] != null) {
+                betweenLayersCounters[l].notifyPortsReordered();
+            }
+        }
+    }
+
     private int countCrossingsAt(final int layerIndex, final LNode[][] currentOrder) {
         int totalCrossings = 0;
         LNode[] leftLayer = currentOrder[layerIndex];
@@ -75,7 +96,7 @@ public final class AllCrossingsCounter implements IInitializable {
                 totalCrossings += crossingCounter.countInLayerCrossingsOnSide(leftLayer, PortSide.EAST);
                 totalCrossings += crossingCounter.countInLayerCrossingsOnSide(rightLayer, PortSide.WEST);
             } else {
-                totalCrossings = crossingCounter.countCrossingsBetweenLayers(leftLayer, rightLayer);
+                totalCrossings = betweenLayersCounters[layerIndex].updateCrossingsBetweenLayers(leftLayer, rightLayer);
             }
         }
 
@@ -120,5 +141,14 @@ public final class AllCrossingsCounter implements IInitializable {
         int[] portPos = new int[nPorts];
         hyperedgeCrossingsCounter = new HyperedgeCrossingsCounter(inLayerEdgeCounts, hasNorthSouthPorts, portPos);
         crossingCounter = new CrossingsCounter(portPos);
+
+        // Each port is only counted between one pair of layers, so the incremental counters can share their positions
+        int[] betweenLayersPortPos = new int[nPorts];
+        betweenLayersCounters = new CrossingsCounter[hasHyperEdgesEastOfIndex.length];
+        for (int l = 0; l < betweenLayersCounters.length; l++) {
+            if (!hasHyperEdgesEastOfIndex[l]) {
+                betweenLayersCounters[l] = new CrossingsCounter(betweenLayersPortPos);
+            }
+        }
     }
 }
@@ -11,6 +11,7 @@ package org.eclipse.elk.alg.layered.p3order.counting;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
@@ -128,6 +129,11 @@ import com.google.common.collect.Lists;
  * <li>southern nsl dummies with western edges north-to-south
  * <li>southern nsl dummies with eastern edges south-to-north
  * 
+ * <h3>Incremental counting</h3>
+ * Switching two neighboring nodes of a layer only changes crossings between edges incident to these two nodes. Once
+ * initialized with {@link #initCrossingsBetweenLayers(LNode[], LNode[])}, the counter keeps track of the number of
+ * crossings between two layers while nodes or ports are switched or a layer is reordered, counting only the crossings
+ * that can change instead of recounting all crossings after each change.
  */
 public final class CrossingsCounter {
     private final int[] portPositions;
@@ -137,6 +143,15 @@ public final class CrossingsCounter {
 
     private int[] nodeCardinalities;
 
+    /** Current node order of the left and the right layer while counting incrementally. */
+    private LNode[][] incrementalOrder;
+    /** Index of each node in {@link #incrementalOrder}, indexed by layer and node id. */
+    private int[][] incrementalIndex;
+    /** Number of crossings between the two layers while counting incrementally. */
+    private int incrementalCrossings;
+    /** Whether ports of the nodes counted incrementally have been reordered since their positions were computed. */
+    private boolean incrementalPortsReordered;
+
     /**
      * Create crossings counter.
      * 
@@ -323,10 +338,278 @@ public final class CrossingsCounter {
         }
     }
 
+    /**
+     * Count in-layer and between-layer crossings between the two given layers, just like
+     * {@link #countCrossingsBetweenLayers(LNode[], LNode[])}, and keep track of this number while nodes and ports are
+     * switched using {@link #switchNodesBetweenLayers(LNode, LNode)} and
+     * {@link #switchPortsBetweenLayers(LPort, LPort)} or layers are reordered using
+     * {@link #reorderLayerBetweenLayers(LNode[])}. Other counting methods must not be used in between, since they
+     * reinitialize the port positions.
+     *
+     * @param leftLayerNodes
+     *            left layer
+     * @param rightLayerNodes
+     *            right layer
+     * @return number of crossings.
+     */
+    public int initCrossingsBetweenLayers(final LNode[] leftLayerNodes, final LNode[] rightLayerNodes) {
+        incrementalOrder = new LNode[][] { leftLayerNodes.clone(), rightLayerNodes.clone() };
+        incrementalIndex = new int[2][];
+        for (int layer = 0; layer < 2; layer++) {
+            LNode[] order = incrementalOrder[layer];
+            int maxId = -1;
+            for (LNode node : order) {
+                maxId = Math.max(maxId, node.id);
+            }
+            incrementalIndex[layer] = new int[maxId + 1];
+            for (int i = 0; i < order.length; i++) {
+                incrementalIndex[layer][order[i].id] = i;
+            }
+        }
+        List<LPort> ports = initPortPositionsCounterClockwise(leftLayerNodes, rightLayerNodes);
+        indexTree = new BinaryIndexedTree(ports.size());
+        incrementalPortsReordered = false;
+        incrementalCrossings = countCrossingsOnPorts(ports);
+        return incrementalCrossings;
+    }
+
+    /**
+     * Count in-layer and between-layer crossings between the two given layers, just like
+     * {@link #countCrossingsBetweenLayers(LNode[], LNode[])}. If the counter has been counting incrementally between
+     * layers with the same nodes and no reordering of ports has been reported by {@link #notifyPortsReordered()}
+     * since, the number of crossings is updated by {@link #reorderLayerBetweenLayers(LNode[])}. Otherwise, it is
+     * counted from scratch with {@link #initCrossingsBetweenLayers(LNode[], LNode[])}. The port positions are only
+     * maintained for these layers, so each pair of layers needs a counter of its own.
+     *
+     * @param leftLayerNodes
+     *            left layer
+     * @param rightLayerNodes
+     *            right layer
+     * @return number of crossings.
+     */
+    public int updateCrossingsBetweenLayers(final LNode[] leftLayerNodes, final LNode[] rightLayerNodes) {
+        if (incrementalOrder == null || incrementalPortsReordered || !isIncrementalLayer(0, leftLayerNodes)
+                || !isIncrementalLayer(1, rightLayerNodes)) {
+            return initCrossingsBetweenLayers(leftLayerNodes, rightLayerNodes);
+        }
+        if (!Arrays.equals(incrementalOrder[0], leftLayerNodes)) {
+            reorderLayerBetweenLayers(leftLayerNodes);
+        }
+        if (!Arrays.equals(incrementalOrder[1], rightLayerNodes)) {
+            reorderLayerBetweenLayers(rightLayerNodes);
+        }
+        return incrementalCrossings;
+    }
+
+    /**
+     * Notify the counter that ports of the nodes counted incrementally may have been reordered other than by
+     * {@link #switchPortsBetweenLayers(LPort, LPort)}. Switching nodes keeps the order of their ports, so the next call
+     * of {@link #updateCrossingsBetweenLayers(LNode[], LNode[])} has to count from scratch.
+     */
+    public void notifyPortsReordered() {
+        incrementalPortsReordered = true;
+    }
+
+    /**
+     * Returns the number of crossings between the layers passed to
+     * {@link #initCrossingsBetweenLayers(LNode[], LNode[])}, given the switches and reorderings since.
+     *
+     * @return number of crossings.
+     */
+    public int getCrossingsBetweenLayers() {
+        return incrementalCrossings;
+    }
+
+    /**
+     * Count the crossings between the layers passed to {@link #initCrossingsBetweenLayers(LNode[], LNode[])} if the
+     * given neighboring nodes were switched. The nodes are not switched.
+     *
+     * @param upperNode
+     *            the upper node
+     * @param lowerNode
+     *            the node directly below the upper node
+     * @return number of crossings in the switched order.
+     */
+    public int countCrossingsBetweenLayersIfSwitched(final LNode upperNode, final LNode lowerNode) {
+        int change = switchNodesAndCountChange(upperNode, lowerNode);
+        switchNodesAndCountChange(lowerNode, upperNode);
+        return incrementalCrossings + change;
+    }
+
+    /**
+     * Switch two neighboring nodes of one of the layers passed to {@link #initCrossingsBetweenLayers(LNode[], LNode[])}
+     * and update the number of crossings. Only the counter's view of the order changes; the caller is responsible for
+     * switching the nodes in its own node order.
+     *
+     * @param upperNode
+     *            the upper node
+     * @param lowerNode
+     *            the node directly below the upper node
+     * @return number of crossings in the switched order.
+     */
+    public int switchNodesBetweenLayers(final LNode upperNode, final LNode lowerNode) {
+        incrementalCrossings += switchNodesAndCountChange(upperNode, lowerNode);
+        return incrementalCrossings;
+    }
+
+    /**
+     * Switch two neighboring ports on the same side of a node of one of the layers passed to
+     * {@link #initCrossingsBetweenLayers(LNode[], LNode[])} and update the number of crossings. The caller is
+     * responsible for switching the ports in the node's port list.
+     *
+     * @param upperPort
+     *            the port previously further north
+     * @param lowerPort
+     *            the port previously further south
+     * @return number of crossings in the switched order.
+     */
+    public int switchPortsBetweenLayers(final LPort upperPort, final LPort lowerPort) {
+        List<LPort> ports = connectedPortsSortedByPosition(upperPort, lowerPort);
+        int before = countCrossingsOnPorts(ports);
+        removeEnds(ports);
+        switchPorts(upperPort, lowerPort);
+        Collections.sort(ports, (a, b) -> Integer.compare(positionOf(a), positionOf(b)));
+        int after = countCrossingsOnPorts(ports);
+        removeEnds(ports);
+        incrementalCrossings += after - before;
+        return incrementalCrossings;
+    }
+
+    /**
+     * Change the order of one of the layers passed to {@link #initCrossingsBetweenLayers(LNode[], LNode[])} and update
+     * the number of crossings. If the new order is close to the current one, as is common once a sweep has converged,
+     * it is reached by switching neighboring nodes. Otherwise, the crossings are recounted.
+     *
+     * @param newOrder
+     *            the nodes of the layer in their new order
+     * @return number of crossings in the new order.
+     */
+    public int reorderLayerBetweenLayers(final LNode[] newOrder) {
+        if (newOrder.length == 0) {
+            return incrementalCrossings;
+        }
+        int layer = incrementalLayerOf(newOrder[0]);
+        LNode[] order = incrementalOrder[layer];
+        int[] target = new int[incrementalIndex[layer].length];
+        for (int i = 0; i < newOrder.length; i++) {
+            target[newOrder[i].id] = i;
+        }
+
+        // insertion sort, giving up once switching becomes more expensive than recounting
+        int remainingSwitches = order.length;
+        for (int i = 1; i < order.length; i++) {
+            for (int j = i; j > 0 && target[order[j - 1].id] > target[order[j].id]; j--) {
+                if (remainingSwitches-- == 0) {
+                    return layer == 0 ? initCrossingsBetweenLayers(newOrder, incrementalOrder[1])
+                            : initCrossingsBetweenLayers(incrementalOrder[0], newOrder);
+                }
+                switchNodesBetweenLayers(order[j - 1], order[j]);
+            }
+        }
+        return incrementalCrossings;
+    }
+
     // - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - -
     //                                  PRIVATE API
     // - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - 
     
+    /**
+     * Switches two neighboring nodes while counting incrementally and returns the resulting change in crossings.
+     */
+    private int switchNodesAndCountChange(final LNode upperNode, final LNode lowerNode) {
+        int layer = incrementalLayerOf(upperNode);
+        int[] index = incrementalIndex[layer];
+        int upperIndex = index[upperNode.id];
+        if (incrementalLayerOf(lowerNode) != layer || index[lowerNode.id] != upperIndex + 1) {
+            throw new IllegalArgumentException("Nodes " + upperNode + " and " + lowerNode + " are not neighbors.");
+        }
+
+        // ports of the left layer are indexed top-down, those of the right layer bottom-up
+        PortSide side = layer == 0 ? PortSide.EAST : PortSide.WEST;
+        LNode first = layer == 0 ? upperNode : lowerNode;
+        LNode second = layer == 0 ? lowerNode : upperNode;
+
+        List<LPort> ports = connectedPortsSortedByPosition(first, second, side);
+        int before = countCrossingsOnPorts(ports);
+        removeEnds(ports);
+
+        List<LPort> firstPorts = first.getPortSideView(side);
+        List<LPort> secondPorts = second.getPortSideView(side);
+        for (LPort port : firstPorts) {
+            portPositions[port.id] += secondPorts.size();
+        }
+        for (LPort port : secondPorts) {
+            portPositions[port.id] -= firstPorts.size();
+        }
+        incrementalOrder[layer][upperIndex] = lowerNode;
+        incrementalOrder[layer][upperIndex + 1] = upperNode;
+        index[lowerNode.id] = upperIndex;
+        index[upperNode.id] = upperIndex + 1;
+
+        Collections.sort(ports, (a, b) -> Integer.compare(positionOf(a), positionOf(b)));
+        int after = countCrossingsOnPorts(ports);
+        removeEnds(ports);
+        return after - before;
+    }
+
+    /**
+     * Checks whether the given nodes are the nodes of the given layer while counting incrementally, in any order.
+     */
+    private boolean isIncrementalLayer(final int layer, final LNode[] nodes) {
+        LNode[] order = incrementalOrder[layer];
+        int[] index = incrementalIndex[layer];
+        if (nodes.length != order.length) {
+            return false;
+        }
+        for (LNode node : nodes) {
+            if (node.id < 0 || node.id >= index.length || order[index[node.id]] != node) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns 0 if the node belongs to the left and 1 if it belongs to the right layer while counting incrementally.
+     */
+    private int incrementalLayerOf(final LNode node) {
+        for (int layer = 0; layer < 2; layer++) {
+            int[] index = incrementalIndex[layer];
+            if (node.id < index.length && incrementalOrder[layer][index[node.id]] == node) {
+                return layer;
+            }
+        }
+        throw new IllegalArgumentException("Node " + node + " is not part of the layers being counted.");
+    }
+
+    private List<LPort> connectedPortsSortedByPosition(final LNode first, final LNode second, final PortSide side) {
+        Set<LPort> ports = new TreeSet<>((a, b) -> Integer.compare(positionOf(a), positionOf(b)));
+        for (LNode node : new LNode[] { first, second }) {
+            for (LPort port : node.getPortSideView(side)) {
+                ports.add(port);
+                for (LEdge edge : port.getConnectedEdges()) {
+                    if (!isPortSelfLoop(edge)) {
+                        ports.add(otherEndOf(edge, port));
+                    }
+                }
+            }
+        }
+        return Lists.newArrayList(ports);
+    }
+
+    /**
+     * Removes all end positions that counting crossings on the given ports may have left in the index tree. This is
+     * cheaper than clearing the whole tree if there are only a few ports.
+     */
+    private void removeEnds(final List<LPort> ports) {
+        for (LPort port : ports) {
+            indexTree.removeAll(positionOf(port));
+            for (LEdge edge : port.getConnectedEdges()) {
+                indexTree.removeAll(positionOf(otherEndOf(edge, port)));
+            }
+        }
+    }
+
     private List<LPort> connectedInLayerPortsSortedByPosition(final LNode upperNode, final LNode lowerNode,
             final PortSide side) {
         Set<LPort> ports = new TreeSet<>((a, b) -> Integer.compare(positionOf(a), positionOf(b)));
@@ -16,21 +16,17 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.Stack;
 import java.util.function.Predicate;
 import java.util.stream.StreamSupport;
 
-import org.eclipse.elk.alg.common.networksimplex.NEdge;
-import org.eclipse.elk.alg.common.networksimplex.NGraph;
-import org.eclipse.elk.alg.common.networksimplex.NNode;
+import org.eclipse.elk.alg.common.networksimplex.CompactNGraph;
 import org.eclipse.elk.alg.common.networksimplex.NetworkSimplex;
 import org.eclipse.elk.alg.layered.LayeredPhases;
 import org.eclipse.elk.alg.layered.graph.LEdge;
 import org.eclipse.elk.alg.layered.graph.LGraph;
-import org.eclipse.elk.alg.layered.graph.LGraphElement;
 import org.eclipse.elk.alg.layered.graph.LLabel;
 import org.eclipse.elk.alg.layered.graph.LNode;
 import org.eclipse.elk.alg.layered.graph.LNode.NodeType;
@@ -54,8 +50,6 @@ import org.eclipse.elk.core.util.IElkProgressMonitor;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.google.common.math.DoubleMath;
 /**
  * Implements the node placement strategy as described by Gansner et al. in the following paper. It
@@ -159,15 +153,17 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
     private LGraph lGraph;
     /** The spacings of the graph. */
     private Spacings spacings;
+    /** The internally used network simplex graph while it is being built. */
+    private CompactNGraph.Builder nGraphBuilder;
     /** The internally used network simplex graph. */
-    private NGraph nGraph;
+    private CompactNGraph nGraph;
     
     /** Mapping of the internal representations of nodes, indexed by {@link LNode#id}. */
     private NodeRep[] nodeReps;
     /** Mapping of the internal representations of edges, indexed by {@link LEdge#id}. */
     private EdgeRep[] edgeReps;
-    /** Mapping of network simplex nodes to the graph elements they represent. */
-    private Map<LGraphElement, NNode> portMap = Maps.newHashMap();
+    /** Network simplex nodes representing east and west ports, indexed by {@link LPort#id}, {@code -1} otherwise. */
+    private int[] portReps;
     
     /** Node count of {@link #lGraph}. The field is uninitialized until {@link #buildInitialAuxiliaryGraph()} 
      *  has been executed. */
@@ -182,7 +178,7 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
     private boolean[] crossing;
 
     // used for a special version of node flexibility
-    private Set<NEdge> flexibleWhereSpacePermitsEdges = Sets.newHashSet();
+    private List<Integer> flexibleWhereSpacePermitsEdges = Lists.newArrayList();
     
     // - - - - - - edge weights used in the auxiliary network simplex graph - - - - - -  
     /** Basis for the weight of edges. */
@@ -229,6 +225,13 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
         insertNorthSouthAuxiliaryEdges();
         insertInLayerEdgeAuxiliaryEdges();
         
+        // make sure the ngraph is connected. Cases where this doesn't have to be the case include
+        //  hierarchical nodes with unconnected ports that are (in the case of hierarchical layout) 
+        //  converted into unconnected dummy nodes
+        nGraphBuilder.makeConnected();
+        nGraph = nGraphBuilder.create();
+        nGraphBuilder = null;
+        
         if (lGraph.getProperty(LayeredOptions.NODE_PLACEMENT_FAVOR_STRAIGHT_EDGES)) {
             IElkProgressMonitor pm = progressMonitor.subTask(1);
             pm.begin("Straight Edges Pre-Processing", 1);
@@ -236,18 +239,13 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
             pm.done();
         }
         
-        // make sure the ngraph is connected. Cases where this doesn't have to be the case include
-        //  hierarchical nodes with unconnected ports that are (in the case of hierarchical layout) 
-        //  converted into unconnected dummy nodes
-        nGraph.makeConnected();
-        
         // --------------------------------
         // #2 execute the network simplex
         // --------------------------------
         // compared to {@link NetworkSimplexLayerer} a significantly larger iteration limit 
         // is selected here because the node placement uses an auxiliary graph with
         // larger node and edge count
-        int iterLimit = layeredGraph.getProperty(LayeredOptions.THOROUGHNESS) * nGraph.nodes.size();
+        int iterLimit = layeredGraph.getProperty(LayeredOptions.THOROUGHNESS) * nGraph.getNodeCount();
         
         NetworkSimplex.forGraph(nGraph)
             .withIterationLimit(iterLimit)
@@ -265,14 +263,15 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
             
             insertFlexibleWhereSpaceAuxiliaryEdges();
             // now the nodes may resize -> alter the weights
-            for (NEdge edge : flexibleWhereSpacePermitsEdges) {
-                edge.weight = NODE_SIZE_WEIGHT_FLEXIBLE;
+            for (int edge : flexibleWhereSpacePermitsEdges) {
+                nGraph.setWeight(edge, NODE_SIZE_WEIGHT_FLEXIBLE);
             }
 
-            // run network simplex a second time
+            // run network simplex a second time, starting from the result of the first run
             NetworkSimplex.forGraph(nGraph)
                 .withIterationLimit(iterLimit)
                 .withBalancing(false)
+                .withWarmStart(true)
                 .execute(pm.subTask(1));
             
             pm.done();
@@ -301,13 +300,14 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
     // ------------------------------------------------------------------------------------------------
     private void prepare() {
         
-        this.nGraph = new NGraph();
+        this.nGraphBuilder = CompactNGraph.of();
         
         // "integerify" port anchor and port positions
         //   note that margin.top and margin.bottom are not required to be integral
         //   since they do not influence the offset calculation for the edges
-        // ... while we're at it, we assign ids to the nodes and edges 
+        // ... while we're at it, we assign ids to the nodes, ports, and edges 
         int nodeIdx = 0;
+        int portIdx = 0;
         int edgeIdx = 0;
         for (Layer l : lGraph) {
             for (LNode lNode : l) {
@@ -321,6 +321,7 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                 // otherwise the port position can be altered such that it accounts for the anchor's position as well
                 boolean anchorMustBeInteger = isFlexibleNode(lNode);
                 for (LPort p : lNode.getPorts()) {
+                    p.id = portIdx++;
                     if (anchorMustBeInteger) {
                         // anchor
                         double y = p.getAnchor().y;
@@ -344,16 +345,19 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
         this.edgeCount = edgeIdx;
         this.nodeReps = new NodeRep[nodeIdx];
         this.edgeReps = new EdgeRep[edgeIdx];
+        this.portReps = new int[portIdx];
+        Arrays.fill(portReps, -1);
         this.flexibleWhereSpacePermitsEdges.clear();
     }
     
     private void cleanup() {
         this.lGraph = null;
+        this.nGraphBuilder = null;
         this.nGraph = null;
         
         this.nodeReps = null;
         this.edgeReps = null;
-        this.portMap.clear();
+        this.portReps = null;
 
         this.nodeState = null;
         this.crossing = null;
@@ -405,12 +409,7 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                     spacing += lastRep.origin.getSize().y;
                 }
 
-                NEdge.of()
-                    .delta((int) Math.ceil(spacing))
-                    .weight(0)
-                    .source(lastRep.tail)
-                    .target(nodeRep.head)
-                    .create();
+                nGraphBuilder.addEdge(lastRep.tail, nodeRep.head, 0, (int) Math.ceil(spacing));
             }
             
             // remember current elements for next iteration
@@ -423,15 +422,12 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
      */
     private NodeRep transformFixedPosNode(final LNode lNode) {
         
-        NNode singleNode = NNode.of()
-            .origin(lNode)
-            .type("non-flexible")
-            .create(nGraph);
+        int singleNode = nGraphBuilder.addNode();
         
         // register the ports with the node
         lNode.getPorts().stream()
             .filter(p -> PortSide.SIDES_EAST_WEST.contains(p.getSide()))
-            .forEach(p -> portMap.put(p, singleNode));
+            .forEach(p -> portReps[p.id] = singleNode);
         
         return new NodeRep(lNode, false, singleNode, singleNode);
     }
@@ -444,14 +440,8 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
         // -----------------------------------
         //          corner creation
         // -----------------------------------
-        NNode topLeft = NNode.of()
-                .origin(lNode)
-                .type("flexible-head")
-                .create(nGraph); 
-        NNode bottomLeft = NNode.of()
-                .origin(lNode)
-                .type("flexible-tail")
-                .create(nGraph);
+        int topLeft = nGraphBuilder.addNode();
+        int bottomLeft = nGraphBuilder.addNode();
         NodeRep corners = new NodeRep(lNode, true, topLeft, bottomLeft);
         
         // -----------------------------------
@@ -472,12 +462,7 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
             sizeWeight = NODE_SIZE_WEIGHT_FLEXIBLE; 
         }
         
-        NEdge nodeSizeEdge = NEdge.of()
-            .weight(sizeWeight)
-            .delta((int) Math.ceil(minHeight))
-            .source(topLeft)
-            .target(bottomLeft)
-            .create();
+        int nodeSizeEdge = nGraphBuilder.addEdge(topLeft, bottomLeft, sizeWeight, (int) Math.ceil(minHeight));
 
         if (nf == NodeFlexibility.NODE_SIZE_WHERE_SPACE_PERMITS) {
             flexibleWhereSpacePermitsEdges.add(nodeSizeEdge);
@@ -486,7 +471,7 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
         // -----------------------------------
         //          port transformation
         // -----------------------------------
-        // convert the ports to NNodes, note that the list of westward ports 
+        // convert the ports to network simplex nodes, note that the list of westward ports 
         // must be reversed since their original order is from bottom to top
         transformPorts(Lists.reverse(lNode.getPortSideView(PortSide.WEST)), corners);
         transformPorts(lNode.getPortSideView(PortSide.EAST), corners);
@@ -511,7 +496,7 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
             portSurrounding = new ElkMargin();
         }
         
-        NNode lastNNode = corners.head;
+        int lastNNode = corners.head;
         LPort lastPort = null;
         for (LPort port : ports) {
 
@@ -527,32 +512,20 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                 // + port.getMargin().top;
             }
             
-            // create NNode for the port
-            NNode nNode = NNode.of()
-                    .origin(port)
-                    .type("port")
-                    .create(nGraph);
-            portMap.put(port, nNode);
+            // create a network simplex node for the port
+            int nNode = nGraphBuilder.addNode();
+            portReps[port.id] = nNode;
             
-            // connect with previous NNode
-            NEdge.of()
-                .weight(0)
-                .delta((int) Math.ceil(spacing))
-                .source(lastNNode)
-                .target(nNode)
-                .create();
+            // connect with previous network simplex node
+            nGraphBuilder.addEdge(lastNNode, nNode, 0, (int) Math.ceil(spacing));
             
             lastPort = port;
             lastNNode = nNode;
         }
         
         // and connect to the bottom border 
-        NEdge.of()
-            .weight(0)
-            .delta((int) Math.ceil(portSurrounding.bottom + lastPort.getSize().y))
-            .source(lastNNode)
-            .target(corners.tail)
-            .create();
+        nGraphBuilder.addEdge(lastNNode, corners.tail, 0,
+                (int) Math.ceil(portSurrounding.bottom + lastPort.getSize().y));
     }
     
     private void transformEdges() {
@@ -565,9 +538,7 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
     
     private void transformEdge(final LEdge lEdge) {
         // a dummy node
-        NNode dummy = NNode.of()
-                .type("edge")
-                .create(nGraph);
+        int dummy = nGraphBuilder.addNode();
 
         // calculate port offsets
         NodeRep srcRep = nodeReps[lEdge.getSource().getNode().id];
@@ -593,27 +564,17 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
         double weight = getEdgeWeight(lEdge);
         
         // an edge to the source
-        NEdge left = NEdge.of(lEdge)
-            .weight(weight)
-            .delta(srcDelta)
-            .source(dummy)
-            .target(portMap.get(lEdge.getSource()))
-            .create();
+        int left = nGraphBuilder.addEdge(dummy, portReps[srcPort.id], weight, srcDelta);
 
         // an edge to the target
-        NEdge right = NEdge.of(lEdge)
-            .weight(weight)
-            .delta(tgtDelta)
-            .source(dummy)
-            .target(portMap.get(lEdge.getTarget()))
-            .create();
+        int right = nGraphBuilder.addEdge(dummy, portReps[tgtPort.id], weight, tgtDelta);
         
         // remember 
         EdgeRep edgeRep = new EdgeRep(lEdge, dummy, left, right);
         edgeReps[lEdge.id] = edgeRep;
     }
     
-    /** Insert {@link NEdge}s to keep edges connected to inverted ports short. */
+    /** Insert auxiliary edges to keep edges connected to inverted ports short. */
     private void insertInLayerEdgeAuxiliaryEdges() {
         lGraph.getLayers().stream()
             .flatMap(l -> l.getNodes().stream())
@@ -627,10 +588,10 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                 LPort thePort = srcIsDummy ? inLayerEdge.getTarget() : inLayerEdge.getSource();
                 LNode dummyNode = inLayerEdge.getOther(thePort).getNode();
                 
-                NNode portRep = portMap.get(thePort);
-                NNode dummyRep = nodeReps[dummyNode.id].head; // head/tail doesn't matter since it's a dummy node
+                int portRep = portReps[thePort.id];
+                int dummyRep = nodeReps[dummyNode.id].head; // head/tail doesn't matter since it's a dummy node
 
-                final NNode src, tgt;
+                final int src, tgt;
                 if (thePort.getNode().getIndex() < dummyNode.getIndex()) {
                     // port --> dummy
                     src = portRep;
@@ -641,16 +602,11 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                     tgt = portRep;
                 }
                 
-                NEdge.of()
-                    .delta(0)
-                    .weight(EDGE_WEIGHT_BASE)
-                    .source(src)
-                    .target(tgt) 
-                    .create();
+                nGraphBuilder.addEdge(src, tgt, EDGE_WEIGHT_BASE, 0);
             });
     }
     
-    /** Insert {@link NEdge}s to keep north and south port edges short. */
+    /** Insert auxiliary edges to keep north and south port edges short. */
     private void insertNorthSouthAuxiliaryEdges() {
         lGraph.getLayers().stream()
             .flatMap(l -> l.getNodes().stream())
@@ -659,12 +615,8 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                     LNode other = sp.getProperty(InternalProperties.PORT_DUMMY);
                     // if no edge was attached to the port, no dummy was created ...
                     if (other != null) {
-                        NEdge.of()
-                            .delta(0) // doesn't matter, separation is already taken care off
-                            .weight(SMALL_EDGE_WEIGHT)
-                            .source(nodeReps[n.id].tail)
-                            .target(nodeReps[other.id].head)
-                            .create();
+                        // the delta doesn't matter, separation is already taken care off
+                        nGraphBuilder.addEdge(nodeReps[n.id].tail, nodeReps[other.id].head, SMALL_EDGE_WEIGHT, 0);
                     }
                 }
                 
@@ -672,34 +624,35 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                     LNode other = sp.getProperty(InternalProperties.PORT_DUMMY);
                     // if no edge was attached to the port, no dummy was created ...
                     if (other != null) {
-                        NEdge.of()
-                            .delta(0) // doesn't matter
-                            .weight(SMALL_EDGE_WEIGHT)
-                            .source(nodeReps[other.id].tail)
-                            .target(nodeReps[n.id].head)
-                            .create();
+                        // the delta doesn't matter
+                        nGraphBuilder.addEdge(nodeReps[other.id].tail, nodeReps[n.id].head, SMALL_EDGE_WEIGHT, 0);
                     }
                 }
             });
     }
     
-    /** Inserts auxiliary edges for the case that {@link NodeFlexibility#NODE_SIZE_WHERE_SPACE_PERMITS} node exist. */
+    /**
+     * Inserts auxiliary edges for the case that {@link NodeFlexibility#NODE_SIZE_WHERE_SPACE_PERMITS} node exist.
+     * Since the structure of {@link #nGraph} is fixed, it is replaced by an extended copy that keeps the layering
+     * and spanning tree of the previous network simplex execution.
+     */
     private void insertFlexibleWhereSpaceAuxiliaryEdges() {
 
-        int minLayer = nGraph.nodes.stream().map(n -> n.layer).min(Integer::compare).get();
-        int maxLayer = nGraph.nodes.stream().map(n -> n.layer).max(Integer::compare).get();
-        int usedLayers = maxLayer - minLayer;
+        int minLayer = Integer.MAX_VALUE;
+        int maxLayer = Integer.MIN_VALUE;
+        for (int v = 0; v < nGraph.getNodeCount(); v++) {
+            minLayer = Math.min(minLayer, nGraph.getLayer(v));
+            maxLayer = Math.max(maxLayer, nGraph.getLayer(v));
+        }
+        final int firstLayer = minLayer;
+        final int usedLayers = maxLayer - minLayer;
         
-        NNode globalSource = NNode.of().create(nGraph);
-        NNode globalSink = NNode.of().create(nGraph);
+        final CompactNGraph.Builder builder = CompactNGraph.of(nGraph);
+        final int globalSource = builder.addNode();
+        final int globalSink = builder.addNode();
 
         // make sure the distance between source and sink is preserved
-        NEdge.of()
-            .weight(NODE_SIZE_WEIGHT_STATIC * 2)
-            .delta(usedLayers)
-            .source(globalSource)
-            .target(globalSink)
-            .create();
+        builder.addEdge(globalSource, globalSink, NODE_SIZE_WEIGHT_STATIC * 2, usedLayers);
         
         // fix the position of most non-flexible nodes and make sure the flexible nodes 
         // can only increase in size
@@ -707,20 +660,11 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
             .filter(nr -> nr.origin.getType() == NodeType.NORMAL)
             .filter(nr -> nr.origin.getPorts().size() > 1) // allow leaves to move
             .forEach(nr -> {
-                NEdge.of()
-                    .weight(0)
-                    .delta(nr.tail.layer - minLayer)
-                    .source(globalSource)
-                    .target(nr.tail)
-                    .create();
-            
-                NEdge.of()
-                    .weight(0)
-                    .delta(usedLayers - nr.head.layer)
-                    .source(nr.head)
-                    .target(globalSink)
-                    .create();
+                builder.addEdge(globalSource, nr.tail, 0, nGraph.getLayer(nr.tail) - firstLayer);
+                builder.addEdge(nr.head, globalSink, 0, usedLayers - nGraph.getLayer(nr.head));
             });
+        
+        nGraph = builder.create();
     }
     
     // ------------------------------------------------------------------------------------------------
@@ -732,8 +676,8 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
             for (LNode lNode : l) {
                 // find the node's corners
                 NodeRep nodeRep = nodeReps[lNode.id];
-                double minY = nodeRep.head.layer;
-                double maxY = nodeRep.tail.layer;
+                double minY = nGraph.getLayer(nodeRep.head);
+                double maxY = nGraph.getLayer(nodeRep.tail);
                 
                 // set new position and size
                 lNode.getPosition().y = minY;
@@ -752,8 +696,7 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                 if (flexibleNode && nf.isFlexiblePorts()) {
                     for (LPort p : lNode.getPorts()) {
                         if (PortSide.SIDES_EAST_WEST.contains(p.getSide())) {
-                            NNode nNode = portMap.get(p);
-                            p.getPosition().y = nNode.layer - minY;
+                            p.getPosition().y = nGraph.getLayer(portReps[p.id]) - minY;
                         }
                     }
                     // when the node got resized, the positions of labels and south ports have to be adjusted 
@@ -816,13 +759,13 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
     private static class NodeRep {
         public LNode origin;
         /** The 'head' of the node, that is the border with the lower y coordinate. */
-        public NNode head;
+        public int head;
         /** The 'tail' of a node. That is, the border with the larger y coordinate. */
-        public NNode tail;
+        public int tail;
         /** True if {@link #origin}'s {@link NodeFlexibility} doesn't equal {@link NodeFlexibility#NONE} .*/
         public boolean isFlexible;
 
-        NodeRep(final LNode origin, final boolean isFlexible, final NNode top, final NNode bottom) {
+        NodeRep(final LNode origin, final boolean isFlexible, final int top, final int bottom) {
             this.origin = origin;
             this.isFlexible = isFlexible;
             this.head = top;
@@ -834,10 +777,10 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
     private static class EdgeRep {
         @SuppressWarnings("unused")
         public LEdge origin;
-        public NEdge left; 
-        public NEdge right;
+        public int left; 
+        public int right;
         
-        EdgeRep(final LEdge origin, final NNode dummy, final NEdge left, final NEdge right) {
+        EdgeRep(final LEdge origin, final int dummy, final int left, final int right) {
             this.origin = origin;
             this.left = left; 
             this.right = right;
@@ -847,8 +790,8 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
          * @return {@code true} if the edge's source and the edge's target have the same y coordinate. {@code false}
          *         otherwise.
          */
-        public boolean isStraight() {
-            return notStraightBy() == 0;
+        public boolean isStraight(final CompactNGraph graph) {
+            return notStraightBy(graph) == 0;
         }
 
         /**
@@ -860,8 +803,9 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
          *         <li>Zero indicates that the edge is straight.</li>
          *         </ul>
          */
-        public int notStraightBy() {
-            return (left.target.layer - left.delta) - (right.target.layer - right.delta);
+        public int notStraightBy(final CompactNGraph graph) {
+            return (graph.getLayer(graph.getTarget(left)) - graph.getDelta(left))
+                    - (graph.getLayer(graph.getTarget(right)) - graph.getDelta(right));
         }
     }
     
@@ -1063,10 +1007,10 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
                 // at this point one can decide whether long edges are more important than "paths"
                 weight *= LONG_EDGE_VS_PATH_FACTOR;
                 
-                double oldLeftWeight = curRep.left.weight;
-                curRep.left.weight = Math.max(oldLeftWeight, oldLeftWeight + (weight - oldLeftWeight));
-                double oldRightWeight = curRep.right.weight;
-                curRep.right.weight = Math.max(oldRightWeight, oldRightWeight + (weight - oldRightWeight));
+                double oldLeftWeight = nGraph.getWeight(curRep.left);
+                nGraph.setWeight(curRep.left, Math.max(oldLeftWeight, oldLeftWeight + (weight - oldLeftWeight)));
+                double oldRightWeight = nGraph.getWeight(curRep.right);
+                nGraph.setWeight(curRep.right, Math.max(oldRightWeight, oldRightWeight + (weight - oldRightWeight)));
                 
                 last = cur;
             }
@@ -1113,20 +1057,17 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
         EdgeRep rightEdge = edgeReps[path.get(1).id];
 
         // is the edge already straight?
-        if (leftEdge.isStraight() && rightEdge.isStraight()) {
+        if (leftEdge.isStraight(nGraph) && rightEdge.isStraight(nGraph)) {
             return false;
         }
         
         // get center node
-        Object centerOrigin = leftEdge.right.target.origin;
-        if (!(centerOrigin instanceof LNode)) {
+        final LNode centerNode = path.get(0).getTarget().getNode();
+        final NodeRep nNode = nodeReps[centerNode.id];
+        // only two paths without flexible nodes are allowed here, otherwise the edges end at ports
+        if (nNode.isFlexible) {
             return false;
         }
-        // only two paths without flexible nodes are allowed here
-        assert centerOrigin instanceof LNode;
-        // can be a node or a port
-        final LNode centerNode = (LNode) centerOrigin;
-        final NodeRep nNode = nodeReps[centerNode.id];
         
         // identify on which side there is more space
         int nodeIndex = centerNode.getIndex();
@@ -1135,8 +1076,8 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
             LNode above = centerNode.getLayer().getNodes().get(nodeIndex - 1);
             NodeRep aboveRep = nodeReps[above.id];
             double spacing = Math.ceil(spacings.getVerticalSpacing(above, centerNode));
-            aboveDist = (nNode.head.layer - centerNode.getMargin().top) 
-                        - (aboveRep.head.layer + above.getSize().y + above.getMargin().bottom)
+            aboveDist = (nGraph.getLayer(nNode.head) - centerNode.getMargin().top) 
+                        - (nGraph.getLayer(aboveRep.head) + above.getSize().y + above.getMargin().bottom)
                         - spacing;
         }
         double belowDist = Double.POSITIVE_INFINITY;
@@ -1144,8 +1085,8 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
             LNode below = centerNode.getLayer().getNodes().get(nodeIndex + 1);
             NodeRep belowRep = nodeReps[below.id];
             double spacing = Math.ceil(spacings.getVerticalSpacing(below, centerNode));
-            belowDist = (belowRep.head.layer - below.getMargin().top) 
-                        - (nNode.head.layer + centerNode.getSize().y + centerNode.getMargin().bottom)
+            belowDist = (nGraph.getLayer(belowRep.head) - below.getMargin().top) 
+                        - (nGraph.getLayer(nNode.head) + centerNode.getSize().y + centerNode.getMargin().bottom)
                         - spacing;
         }
         
@@ -1177,12 +1118,12 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
         int c = -length(rightEdge.left);
         int d = +length(rightEdge.right);
 
-        boolean caseD = (leftEdge.notStraightBy() > 0 && rightEdge.notStraightBy() < 0);
-        boolean caseC = (leftEdge.notStraightBy() < 0 && rightEdge.notStraightBy() > 0);
-        boolean caseB =
-                leftEdge.left.target.layer + leftEdge.right.delta < rightEdge.right.target.layer + rightEdge.left.delta;
-        boolean caseA =
-                leftEdge.left.target.layer + leftEdge.right.delta > rightEdge.right.target.layer + rightEdge.left.delta;
+        boolean caseD = (leftEdge.notStraightBy(nGraph) > 0 && rightEdge.notStraightBy(nGraph) < 0);
+        boolean caseC = (leftEdge.notStraightBy(nGraph) < 0 && rightEdge.notStraightBy(nGraph) > 0);
+        int leftEnd = nGraph.getLayer(nGraph.getTarget(leftEdge.left)) + nGraph.getDelta(leftEdge.right);
+        int rightEnd = nGraph.getLayer(nGraph.getTarget(rightEdge.right)) + nGraph.getDelta(rightEdge.left);
+        boolean caseB = leftEnd < rightEnd;
+        boolean caseA = leftEnd > rightEnd;
 
         int move = 0;
         if (!caseD && !caseC) {
@@ -1202,9 +1143,9 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
         }
 
         // move the center node
-        nNode.head.layer += move;
+        nGraph.setLayer(nNode.head, nGraph.getLayer(nNode.head) + move);
         if (nNode.isFlexible) {
-            nNode.tail.layer += move;
+            nGraph.setLayer(nNode.tail, nGraph.getLayer(nNode.tail) + move);
         }
         
         return false;
@@ -1213,8 +1154,9 @@ public class NetworkSimplexPlacer implements ILayoutPhase<LayeredPhases, LGraph>
     /**
      * @return the length of the passed edge.
      */
-    private static int length(final NEdge edge) {
-        return Math.abs(edge.source.layer - edge.target.layer) - edge.delta;
+    private int length(final int edge) {
+        return Math.abs(nGraph.getLayer(nGraph.getSource(edge)) - nGraph.getLayer(nGraph.getTarget(edge)))
+                - nGraph.getDelta(edge);
     }
     
     // ------------------------------------------------------------------------------------------------
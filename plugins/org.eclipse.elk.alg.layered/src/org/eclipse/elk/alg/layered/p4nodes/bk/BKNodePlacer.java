@@ -14,6 +14,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.concurrent.ForkJoinTask;
+// elkjs-exclude-end
 
 import org.eclipse.elk.alg.layered.LayeredPhases;
 import org.eclipse.elk.alg.layered.graph.LEdge;
@@ -203,22 +206,29 @@ public final class BKNodePlacer implements ILayoutPhase<LayeredPhases, LGraph> {
         }
         
         BKAligner aligner = new BKAligner(layeredGraph, ni);
-        for (BKAlignedLayout bal : layouts) {
-            // Phase which determines the nodes' memberships in blocks. This happens in four different
-            // ways, either from processing the nodes from the first layer to the last or vice versa.
-            aligner.verticalAlignment(bal, markedEdges);
-            
-            // Additional phase which is not included in the original Brandes-Koepf Algorithm.
-            // It makes sure that the connected ports within a block are aligned to avoid unnecessary
-            // bend points. Also, the required size of each block is determined.
-            aligner.insideBlockShift(bal);
-        }
-
-        ICompactor compacter = new BKCompactor(layeredGraph, ni);
-        for (BKAlignedLayout bal : layouts) {
-            // This phase determines the y coordinates of the blocks and thus the vertical coordinates
-            // of all nodes.
-            compacter.horizontalCompaction(bal);
+        boolean computedConcurrently = false;
+        // elkjs-exclude-start
+        computedConcurrently = computeLayoutsConcurrently(layeredGraph, aligner, layouts);
+        // elkjs-exclude-end
+        
+        if (!computedConcurrently) {
+            for (BKAlignedLayout bal : layouts) {
+                // Phase which determines the nodes' memberships in blocks. This happens in four different
+                // ways, either from processing the nodes from the first layer to the last or vice versa.
+                aligner.verticalAlignment(bal, markedEdges);
+                
+                // Additional phase which is not included in the original Brandes-Koepf Algorithm.
+                // It makes sure that the connected ports within a block are aligned to avoid unnecessary
+                // bend points. Also, the required size of each block is determined.
+                aligner.insideBlockShift(bal);
+            }
+    
+            ICompactor compacter = new BKCompactor(layeredGraph, ni);
+            for (BKAlignedLayout bal : layouts) {
+                // This phase determines the y coordinates of the blocks and thus the vertical coordinates
+                // of all nodes.
+                compacter.horizontalCompaction(bal);
+            }
         }
 
         // Debug output
@@ -285,6 +295,42 @@ public final class BKNodePlacer implements ILayoutPhase<LayeredPhases, LGraph> {
         
         monitor.done();
     }
+
+    // elkjs-exclude-start
+    /**
+     * Computes the given layouts concurrently if {@link LayeredOptions#NODE_PLACEMENT_BK_PARALLEL_ALIGNMENTS} is
+     * set on the graph. The layouts only read the graph, the neighborhood information, and the marked edges, but
+     * the compactor keeps state while compacting a layout. Each layout is thus compacted by a compactor of its own,
+     * which is created up front since it reads the graph's properties.
+     * 
+     * @param layeredGraph the graph to compute the layouts for.
+     * @param aligner the aligner to use for all layouts.
+     * @param layouts the layouts to compute.
+     * @return {@code true} if the layouts were computed, {@code false} if they still need to be computed
+     *         sequentially.
+     */
+    private boolean computeLayoutsConcurrently(final LGraph layeredGraph, final BKAligner aligner,
+            final List<BKAlignedLayout> layouts) {
+        
+        if (layouts.size() < 2 || !layeredGraph.getProperty(LayeredOptions.NODE_PLACEMENT_BK_PARALLEL_ALIGNMENTS)) {
+            return false;
+        }
+        
+        List<ForkJoinTask<?>> tasks = Lists.newArrayListWithCapacity(layouts.size());
+        for (BKAlignedLayout bal : layouts) {
+            ICompactor compacter = new BKCompactor(layeredGraph, ni);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                aligner.verticalAlignment(bal, markedEdges);
+                aligner.insideBlockShift(bal);
+                compacter.horizontalCompaction(bal);
+            }));
+        }
+        
+        // Tasks forked from a thread of a fork join pool stay in that pool, others go to the common pool
+        ForkJoinTask.invokeAll(tasks);
+        return true;
+    }
+    // elkjs-exclude-end
     
 
     /////////////////////////////////////////////////////////////////////////////////////////////////////
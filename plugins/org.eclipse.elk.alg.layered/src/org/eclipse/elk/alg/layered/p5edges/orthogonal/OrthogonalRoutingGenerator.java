@@ -9,6 +9,8 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.layered.p5edges.orthogonal;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -166,19 +168,9 @@ public final class OrthogonalRoutingGenerator {
         createHyperEdgeSegments(
                 targetLayerNodes, routingStrategy.getTargetPortSide(), edgeSegments, portToEdgeSegmentMap);
 
-        // Our critical conflict threshold is a fraction of the minimum distance between two horizontal hyperedge
-        // segments
-        criticalConflictThreshold = CRITICAL_CONFLICT_THRESHOLD_FACTOR * minimumHorizontalSegmentDistance(edgeSegments);
-        
         // create dependencies for the hyperedge segment ordering graph and note how many critical dependencies have
         // been created
-        int criticalDependencyCount = 0;
-        for (int firstIdx = 0; firstIdx < edgeSegments.size() - 1; firstIdx++) {
-            HyperEdgeSegment firstSegment = edgeSegments.get(firstIdx);
-            for (int secondIdx = firstIdx + 1; secondIdx < edgeSegments.size(); secondIdx++) {
-                criticalDependencyCount += createDependencyIfNecessary(firstSegment, edgeSegments.get(secondIdx));
-            }
-        }
+        int criticalDependencyCount = createDependencies(edgeSegments);
 
         // write the full dependency graph to an output file
         // elkjs-exclude-start
@@ -278,6 +270,74 @@ public final class OrthogonalRoutingGenerator {
     ///////////////////////////////////////////////////////////////////////////////
     // Hyper Edge Graph Creation
 
+    /**
+     * Creates the dependencies between all pairs of hyperedge segments that need one, after deriving the critical
+     * conflict threshold from the segments' connection coordinates. Only segments whose extents come closer to each
+     * other than the larger of the two conflict thresholds can have conflicts or cause crossings, so instead of
+     * comparing all pairs of segments, we sweep over the segments in the order of their start coordinates and only
+     * compare segments that are close enough. The pairs are compared in the same order as if all pairs were compared
+     * with {@link #createDependencyIfNecessary(HyperEdgeSegment, HyperEdgeSegment)}, which keeps the order of each
+     * segment's dependencies and thus the cycle breaking result unchanged.
+     *
+     * @param edgeSegments
+     *            the hyperedge segments.
+     * @return the number of critical dependencies that were added
+     */
+    public int createDependencies(final List<HyperEdgeSegment> edgeSegments) {
+        // Our critical conflict threshold is a fraction of the minimum distance between two horizontal hyperedge
+        // segments
+        criticalConflictThreshold = CRITICAL_CONFLICT_THRESHOLD_FACTOR * minimumHorizontalSegmentDistance(edgeSegments);
+        
+        double margin = Math.max(conflictThreshold, criticalConflictThreshold);
+        
+        // Straight segments don't create dependencies, just as segments without any connection coordinates, whose
+        // extent is NaN
+        List<Integer> sweepOrder = Lists.newArrayListWithCapacity(edgeSegments.size());
+        for (int i = 0; i < edgeSegments.size(); i++) {
+            HyperEdgeSegment segment = edgeSegments.get(i);
+            if (Math.abs(segment.getStartCoordinate() - segment.getEndCoordinate()) >= TOLERANCE) {
+                sweepOrder.add(i);
+            }
+        }
+        sweepOrder.sort(Comparator.comparingDouble(i -> edgeSegments.get(i).getStartCoordinate()));
+        
+        // For each segment, collect the indices of the segments after it in the list that are close enough. Segments
+        // leave the active list once the sweep line has moved past their end by more than the margin
+        List<List<Integer>> candidates = Lists.newArrayListWithCapacity(edgeSegments.size());
+        for (int i = 0; i < edgeSegments.size(); i++) {
+            candidates.add(null);
+        }
+        
+        List<Integer> active = Lists.newArrayList();
+        for (int current : sweepOrder) {
+            double start = edgeSegments.get(current).getStartCoordinate();
+            active.removeIf(other -> edgeSegments.get(other).getEndCoordinate() + margin < start);
+            
+            for (int other : active) {
+                int first = Math.min(current, other);
+                if (candidates.get(first) == null) {
+                    candidates.set(first, Lists.newArrayList());
+                }
+                candidates.get(first).add(Math.max(current, other));
+            }
+            active.add(current);
+        }
+        
+        int criticalDependencyCount = 0;
+        for (int firstIdx = 0; firstIdx < edgeSegments.size(); firstIdx++) {
+            List<Integer> secondIndices = candidates.get(firstIdx);
+            if (secondIndices != null) {
+                HyperEdgeSegment firstSegment = edgeSegments.get(firstIdx);
+                Collections.sort(secondIndices);
+                for (int secondIdx : secondIndices) {
+                    criticalDependencyCount += createDependencyIfNecessary(firstSegment, edgeSegments.get(secondIdx));
+                }
+            }
+        }
+        
+        return criticalDependencyCount;
+    }
+
     /**
      * Creates hyperedge segments for the given layer.
      *
@@ -317,7 +377,7 @@ public final class OrthogonalRoutingGenerator {
      *            second hyperedge segments
      * @return the number of critical dependencies that were added
      */
-    int createDependencyIfNecessary(final HyperEdgeSegment he1, final HyperEdgeSegment he2) {
+    public int createDependencyIfNecessary(final HyperEdgeSegment he1, final HyperEdgeSegment he2) {
         // check if at least one of the two nodes is just a straight line; those don't
         // create dependencies since they don't take up a slot
         if (Math.abs(he1.getStartCoordinate() - he1.getEndCoordinate()) < TOLERANCE
@@ -17,6 +17,7 @@ import org.eclipse.elk.alg.mrtree.graph.TGraph;
 import org.eclipse.elk.alg.mrtree.options.MrTreeOptions;
 import org.eclipse.elk.core.alg.AlgorithmAssembler;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.alg.LayoutProcessorRunner;
 import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 
@@ -54,6 +55,10 @@ public final class MrTree {
     /** Our algorithm. */
     private List<ILayoutProcessor<TGraph>> algorithm;
 
+    /** Executes the processors and reports metrics about them if requested. */
+    private final LayoutProcessorRunner<TGraph> processorRunner = new LayoutProcessorRunner<>(
+            MrTreeOptions.ALGORITHM_ID, graph -> graph.getNodes().size(), graph -> graph.getEdges().size());
+
     // /////////////////////////////////////////////////////////////////////////////
     // Regular Layout
 
@@ -102,7 +107,8 @@ public final class MrTree {
         // Configure phases
         algorithmAssembler.setPhase(TreeLayoutPhases.P1_TREEIFICATION, TreeLayoutPhases.P1_TREEIFICATION);
         algorithmAssembler.setPhase(TreeLayoutPhases.P2_NODE_ORDERING, TreeLayoutPhases.P2_NODE_ORDERING);
-        algorithmAssembler.setPhase(TreeLayoutPhases.P3_NODE_PLACEMENT, TreeLayoutPhases.P3_NODE_PLACEMENT);
+        algorithmAssembler.setPhase(TreeLayoutPhases.P3_NODE_PLACEMENT,
+                graph.getProperty(MrTreeOptions.NODE_PLACEMENT_STRATEGY));
         algorithmAssembler.setPhase(TreeLayoutPhases.P4_EDGE_ROUTING, TreeLayoutPhases.P4_EDGE_ROUTING);
         
         // Assemble the algorithm
@@ -188,7 +194,7 @@ public final class MrTree {
             if (monitor.isCanceled()) {
                 return;
             }
-            processor.process(graph, monitor.subTask(1));
+            processorRunner.process(processor, graph, monitor.subTask(1));
         }
         monitor.done();
     }
@@ -18,9 +18,11 @@ import org.eclipse.elk.core.alg.ILayoutPhase;
 import org.eclipse.elk.core.alg.ILayoutPhaseFactory;
 
 /**
- * This algorithm's layout phases. Since none of the phases have alternative implementations, this enumeration also
- * serves as a layout phase factory (this is not quite true for the node ordering phase, but there was never a way
- * to switch between the two implementations; if there is one some day, each phase will have to get its own factory).
+ * This algorithm's layout phases. Except for the node placement phase, whose implementation is chosen through
+ * {@link org.eclipse.elk.alg.mrtree.options.NodePlacementStrategy}, none of the phases have alternative
+ * implementations, which is why this enumeration also serves as a layout phase factory (this is not quite true for
+ * the node ordering phase, but there was never a way to switch between the two implementations; if there is one
+ * some day, it will have to get its own factory as well).
  */
 public enum TreeLayoutPhases implements ILayoutPhaseFactory<TreeLayoutPhases, TGraph> {
     
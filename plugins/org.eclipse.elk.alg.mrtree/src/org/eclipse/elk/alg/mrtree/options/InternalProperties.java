@@ -76,6 +76,9 @@ public final class InternalProperties {
     /** The y coordinate of the node in the level. */
     public static final IProperty<Integer> YCOOR = new Property<Integer>("YCOOR", 0);
 
+    /** The x coordinate of the node in the level before it is rounded to {@link #XCOOR}. */
+    public static final IProperty<Double> XCOOR_UNROUNDED = new Property<Double>("XCOOR_UNROUNDED", 0d);
+
     /** The y height of the nodes level. */
     public static final IProperty<Double> LEVELHEIGHT = new Property<Double>("LEVELHEIGHT", 0d);
     
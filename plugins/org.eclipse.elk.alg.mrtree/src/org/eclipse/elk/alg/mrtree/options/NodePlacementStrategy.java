@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.mrtree.options;
+
+import org.eclipse.elk.alg.mrtree.TreeLayoutPhases;
+import org.eclipse.elk.alg.mrtree.graph.TGraph;
+import org.eclipse.elk.alg.mrtree.p3place.BuchheimNodePlacer;
+import org.eclipse.elk.alg.mrtree.p3place.NodePlacer;
+import org.eclipse.elk.core.alg.ILayoutPhase;
+import org.eclipse.elk.core.alg.ILayoutPhaseFactory;
+
+/**
+ * Node placement strategy and factory for the node placement phase.
+ */
+public enum NodePlacementStrategy implements ILayoutPhaseFactory<TreeLayoutPhases, TGraph> {
+
+    /** Walker's algorithm, see {@link NodePlacer}. */
+    WALKER,
+    /**
+     * Walker's algorithm in linear time as proposed by Buchheim et al., see {@link BuchheimNodePlacer}. Computes the
+     * same coordinates as {@link #WALKER}, but is much faster on large trees.
+     */
+    BUCHHEIM;
+
+    /* (non-Javadoc)
+     * @see org.eclipse.elk.core.alg.ILayoutPhaseFactory#create()
+     */
+    @Override
+    public ILayoutPhase<TreeLayoutPhases, TGraph> create() {
+        switch (this) {
+        case WALKER:
+            return new NodePlacer();
+
+        case BUCHHEIM:
+            return new BuchheimNodePlacer();
+
+        default:
+            throw new IllegalArgumentException(
+                    "No implementation is available for the node placer " + this.toString());
+        }
+    }
+
+}
@@ -0,0 +1,591 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.mrtree.p3place;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+// elkjs-exclude-start
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+// elkjs-exclude-end
+
+import org.eclipse.elk.alg.mrtree.TreeLayoutPhases;
+import org.eclipse.elk.alg.mrtree.graph.TGraph;
+import org.eclipse.elk.alg.mrtree.graph.TNode;
+import org.eclipse.elk.alg.mrtree.intermediate.IntermediateProcessorStrategy;
+import org.eclipse.elk.alg.mrtree.options.InternalProperties;
+import org.eclipse.elk.alg.mrtree.options.MrTreeOptions;
+import org.eclipse.elk.core.alg.ILayoutPhase;
+import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
+import org.eclipse.elk.core.options.Direction;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+
+/**
+ * Walker's node placement in linear time. The algorithm comes from
+ * <ul>
+ *   <li> Christoph Buchheim, Michael Jünger, Sebastian Leipert, Improving Walker's Algorithm to Run in Linear
+ *     Time, <em>Graph Drawing</em>, LNCS 2528, pp. 344-353, 2002.</li>
+ * </ul>
+ *
+ * <p>
+ * {@link NodePlacer} finds the contours of two neighboring subtrees by walking down the left neighbors of each
+ * level and summing up the modifiers of all ancestors at every step, which is quadratic in the worst case. This
+ * placer keeps a <em>thread</em> for every node on the border of a subtree that points to the next node of the
+ * contour, and an <em>ancestor</em> pointer that identifies the sibling subtree a contour node belongs to. Shifting
+ * the smaller subtrees between two conflicting subtrees is postponed until all children of a node are placed. With
+ * this, each contour node is visited a constant number of times.
+ * </p>
+ *
+ * <p>
+ * All per-node values are kept in primitive arrays indexed by the breadth-first order of the nodes, in which the
+ * children of a node are numbered consecutively. Both traversals are iterative, which makes the placer suitable for
+ * very deep trees as well. For every tree, the resulting coordinates are the ones {@link NodePlacer} computes, up to
+ * floating-point rounding. Unlike {@link NodePlacer}, this placer does not need the neighbor and sibling
+ * properties.
+ * </p>
+ *
+ * <p>
+ * If {@link MrTreeOptions#PARALLEL_NODE_PLACEMENT} is set, large subtrees are placed concurrently before their
+ * contours are merged.
+ * </p>
+ */
+public class BuchheimNodePlacer implements ILayoutPhase<TreeLayoutPhases, TGraph> {
+
+    /** intermediate processing configuration. */
+    private static final LayoutProcessorConfiguration<TreeLayoutPhases, TGraph> INTERMEDIATE_PROCESSING_CONFIG =
+            LayoutProcessorConfiguration.<TreeLayoutPhases, TGraph>create()
+                    .addBefore(TreeLayoutPhases.P2_NODE_ORDERING, IntermediateProcessorStrategy.ROOT_PROC)
+                    .addBefore(TreeLayoutPhases.P3_NODE_PLACEMENT, IntermediateProcessorStrategy.LEVEL_HEIGHT)
+                    .before(TreeLayoutPhases.P4_EDGE_ROUTING)
+                        .add(IntermediateProcessorStrategy.DIRECTION_PROC)
+                        .add(IntermediateProcessorStrategy.NODE_POSITION_PROC);
+
+    /** Marks a missing node in the index arrays. */
+    private static final int NONE = -1;
+
+    private double spacing;
+
+    /** The nodes in breadth-first order. */
+    private TNode[] nodes;
+    /** The index of each node's parent, or {@link #NONE} for the root. */
+    private int[] parent;
+    /** The index of each node's first child. The children of a node are numbered consecutively. */
+    private int[] firstChild;
+    /** The number of children of each node. */
+    private int[] childCount;
+    /** The size of each node along the levels. */
+    private double[] size;
+
+    /** The preliminary coordinate of each node, relative to its parent's subtree. */
+    private double[] prelim;
+    /** The modifier of each node, which is applied to all of its descendants. */
+    private double[] modifier;
+    /** The shift that will be applied to a node and all siblings left of it by {@link #executeShifts(int)}. */
+    private double[] shift;
+    /** The change of the shift per sibling, see {@link #moveSubtree(int, int, double)}. */
+    private double[] change;
+    /** The next node on a contour if a node has no children, or {@link #NONE}. */
+    private int[] thread;
+    /** The node whose apportioning last reached a node on the right contour. */
+    private int[] ancestor;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LayoutProcessorConfiguration<TreeLayoutPhases, TGraph> getLayoutProcessorConfiguration(final TGraph graph) {
+        return INTERMEDIATE_PROCESSING_CONFIG;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void process(final TGraph tGraph, final IElkProgressMonitor progressMonitor) {
+        progressMonitor.begin("Buchheim node placement", 2);
+
+        spacing = tGraph.getProperty(MrTreeOptions.SPACING_NODE_NODE).doubleValue();
+        Direction direction = tGraph.getProperty(MrTreeOptions.DIRECTION);
+
+        // Set Direction to DOWN if its UNDEFINED
+        if (direction == Direction.UNDEFINED) {
+            direction = Direction.DOWN;
+            tGraph.setProperty(MrTreeOptions.DIRECTION, direction);
+        }
+
+        TNode root = null;
+        for (TNode tNode : tGraph.getNodes()) {
+            if (tNode.getProperty(InternalProperties.ROOT)) {
+                root = tNode;
+                break;
+            }
+        }
+
+        init(root, direction);
+
+        // Preliminary positioning, children before their parents
+        firstWalk(tGraph);
+        progressMonitor.worked(1);
+
+        // Final positioning, parents before their children
+        secondWalk(-root.getProperty(InternalProperties.LEVELHEIGHT) / 2);
+        progressMonitor.worked(1);
+
+        // Release the arrays, the placer may be kept for further layouts
+        nodes = null;
+        parent = null;
+        firstChild = null;
+        childCount = null;
+        size = null;
+        prelim = null;
+        modifier = null;
+        shift = null;
+        change = null;
+        thread = null;
+        ancestor = null;
+
+        progressMonitor.done();
+    }
+
+    /**
+     * Numbers the nodes of the tree below the given root in breadth-first order and initializes all arrays.
+     *
+     * @param root
+     *            the root of the tree.
+     * @param direction
+     *            the layout direction, which determines the size of the nodes along the levels.
+     */
+    private void init(final TNode root, final Direction direction) {
+        List<TNode> order = new ArrayList<>();
+        List<Integer> parents = new ArrayList<>();
+        order.add(root);
+        parents.add(NONE);
+
+        int count = 1;
+        int[] first = new int[16];
+        int[] children = new int[16];
+        for (int i = 0; i < order.size(); i++) {
+            if (i == first.length) {
+                first = Arrays.copyOf(first, 2 * i);
+                children = Arrays.copyOf(children, 2 * i);
+            }
+            first[i] = count;
+            for (TNode child : order.get(i).getChildren()) {
+                order.add(child);
+                parents.add(i);
+                count++;
+            }
+            children[i] = count - first[i];
+        }
+
+        int n = order.size();
+        nodes = order.toArray(new TNode[n]);
+        parent = new int[n];
+        firstChild = Arrays.copyOf(first, n);
+        childCount = Arrays.copyOf(children, n);
+        size = new double[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = parents.get(i);
+            size[i] = direction.isVertical() ? nodes[i].getSize().x : nodes[i].getSize().y;
+        }
+
+        prelim = new double[n];
+        modifier = new double[n];
+        shift = new double[n];
+        change = new double[n];
+        thread = new int[n];
+        Arrays.fill(thread, NONE);
+        ancestor = new int[n];
+        for (int i = 0; i < n; i++) {
+            ancestor[i] = i;
+        }
+    }
+
+    /**
+     * Assigns every node its preliminary coordinate and its modifier. Since children are numbered after their
+     * parents, walking the nodes backwards is a postorder walk on the levels.
+     *
+     * @param tGraph
+     *            the graph being laid out, which determines whether subtrees are placed concurrently.
+     */
+    private void firstWalk(final TGraph tGraph) {
+        boolean placedConcurrently = false;
+        // elkjs-exclude-start
+        placedConcurrently = firstWalkConcurrently(tGraph);
+        // elkjs-exclude-end
+
+        if (!placedConcurrently) {
+            for (int v = nodes.length - 1; v >= 0; v--) {
+                placeChildren(v);
+            }
+        }
+
+        // The root has no siblings, so it is simply centered above its children
+        prelim[0] = childCount[0] == 0 ? 0d : midPoint(0);
+    }
+
+    // elkjs-exclude-start
+    /**
+     * Places the subtrees of the tree concurrently if {@link MrTreeOptions#PARALLEL_NODE_PLACEMENT} is set on the
+     * graph. Placing the children of a node only reads and writes values of nodes in that node's subtree, so
+     * disjoint subtrees can be placed independently. The result is the same as in the sequential mode.
+     *
+     * <p>
+     * Subtrees with fewer nodes than the threshold whose parents have larger subtrees are placed sequentially. The
+     * children of every larger node are placed by whichever task finishes the last of its children, which then
+     * continues upwards. No task waits for another one, so the nesting of tasks does not grow with the depth of the
+     * tree.
+     * </p>
+     *
+     * @param tGraph
+     *            the graph being laid out.
+     * @return {@code true} if all nodes were placed, {@code false} if they still need to be placed sequentially.
+     */
+    private boolean firstWalkConcurrently(final TGraph tGraph) {
+        if (!tGraph.getProperty(MrTreeOptions.PARALLEL_NODE_PLACEMENT)) {
+            return false;
+        }
+
+        int threshold = tGraph.getProperty(MrTreeOptions.PARALLEL_NODE_PLACEMENT_THRESHOLD);
+        if (nodes.length < threshold) {
+            return false;
+        }
+
+        // Children are numbered after their parents, so the sizes of the children are known when a node is reached
+        int[] subtreeSize = new int[nodes.length];
+        for (int v = nodes.length - 1; v >= 0; v--) {
+            subtreeSize[v] += 1;
+            if (v > 0) {
+                subtreeSize[parent[v]] += subtreeSize[v];
+            }
+        }
+
+        // The subtrees to start from are the small subtrees directly below large nodes and the large leaves
+        AtomicIntegerArray pendingChildren = new AtomicIntegerArray(nodes.length);
+        List<Integer> starts = new ArrayList<>();
+        for (int v = 0; v < nodes.length; v++) {
+            if (subtreeSize[v] >= threshold) {
+                pendingChildren.set(v, childCount[v]);
+                if (childCount[v] == 0) {
+                    starts.add(v);
+                }
+            } else if (subtreeSize[parent[v]] >= threshold) {
+                starts.add(v);
+            }
+        }
+
+        // Every task places at least as many nodes as the threshold, apart from the last one
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        int from = 0;
+        int taskSize = 0;
+        for (int i = 0; i < starts.size(); i++) {
+            taskSize += subtreeSize[starts.get(i)];
+            if (taskSize >= threshold || i == starts.size() - 1) {
+                final List<Integer> taskStarts = starts.subList(from, i + 1);
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    for (int start : taskStarts) {
+                        placeSubtreeAndAncestors(start, subtreeSize[start], pendingChildren);
+                    }
+                }).fork());
+                from = i + 1;
+                taskSize = 0;
+            }
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+        return true;
+    }
+
+    /**
+     * Places the subtree of a node, and then the children of each of its ancestors as long as the subtree was the
+     * last one of that ancestor's children to be done.
+     *
+     * @param v
+     *            the root of the subtree.
+     * @param size
+     *            the number of nodes in the subtree.
+     * @param pendingChildren
+     *            the number of children of each large node whose subtrees are not yet placed.
+     */
+    private void placeSubtreeAndAncestors(final int v, final int size, final AtomicIntegerArray pendingChildren) {
+        placeSubtree(v, size);
+        int w = v;
+        while (w != 0) {
+            w = parent[w];
+            // The atomic update makes the values written by the tasks that placed the other children visible
+            if (pendingChildren.decrementAndGet(w) > 0) {
+                return;
+            }
+            placeChildren(w);
+        }
+    }
+
+    /**
+     * Places the subtree of a node in the current thread.
+     *
+     * @param root
+     *            the root of the subtree.
+     * @param size
+     *            the number of nodes in the subtree.
+     */
+    private void placeSubtree(final int root, final int size) {
+        // Collect the subtree in preorder, the reverse of which is a postorder
+        int[] order = new int[size];
+        int count = 0;
+        int[] stack = new int[size];
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0) {
+            int v = stack[--top];
+            order[count++] = v;
+            for (int w = firstChild[v]; w < firstChild[v] + childCount[v]; w++) {
+                stack[top++] = w;
+            }
+        }
+
+        for (int i = count - 1; i >= 0; i--) {
+            placeChildren(order[i]);
+        }
+    }
+    // elkjs-exclude-end
+
+    /**
+     * Assigns the children of a node their preliminary coordinates and modifiers. The children are placed and
+     * apportioned one by one, so each child sees the final position of its left sibling. The subtrees of the
+     * children must already be placed.
+     *
+     * @param v
+     *            a node.
+     */
+    private void placeChildren(final int v) {
+        if (childCount[v] == 0) {
+            return;
+        }
+
+        int first = firstChild[v];
+        int last = first + childCount[v] - 1;
+        int defaultAncestor = first;
+        for (int w = first; w <= last; w++) {
+            if (w == first) {
+                // No sibling on the left to worry about
+                prelim[w] = childCount[w] == 0 ? 0d : midPoint(w);
+            } else {
+                prelim[w] = prelim[w - 1] + spacing + meanNodeWidth(w - 1, w);
+                if (childCount[w] > 0) {
+                    modifier[w] = prelim[w] - midPoint(w);
+                }
+                defaultAncestor = apportion(w, defaultAncestor);
+            }
+        }
+        executeShifts(v);
+    }
+
+    /**
+     * Returns the midpoint of the first and the last child of the given node.
+     *
+     * @param v
+     *            a node with children.
+     * @return the midpoint of its outermost children.
+     */
+    private double midPoint(final int v) {
+        return (prelim[firstChild[v] + childCount[v] - 1] + prelim[firstChild[v]]) / 2f;
+    }
+
+    /**
+     * Moves the subtree of the given node to the right until it does not overlap its left siblings' subtrees, and
+     * spreads the distance over the smaller subtrees in between, see {@link NodePlacer}. The left contour of the
+     * node's subtree and the right contour of its left siblings' subtrees are walked down simultaneously, and threads
+     * are added to the shallower of the two forests afterwards.
+     *
+     * @param v
+     *            a node with a left sibling.
+     * @param defaultAncestor
+     *            the left sibling to use if the ancestor pointer of a contour node is outdated.
+     * @return the default ancestor for the next sibling.
+     */
+    private int apportion(final int v, final int defaultAncestor) {
+        int newDefaultAncestor = defaultAncestor;
+
+        // i = inside, o = outside, r = right (the new subtree), l = left (its left siblings)
+        int vir = v;
+        int vor = v;
+        int vil = v - 1;
+        int vol = firstChild[parent[v]];
+        double sir = modifier[vir];
+        double sor = modifier[vor];
+        double sil = modifier[vil];
+        double sol = modifier[vol];
+
+        int nextVil = nextRight(vil);
+        int nextVir = nextLeft(vir);
+        while (nextVil != NONE && nextVir != NONE) {
+            vil = nextVil;
+            vir = nextVir;
+            vol = nextLeft(vol);
+            vor = nextRight(vor);
+            ancestor[vor] = v;
+
+            double moveDistance = prelim[vil] + sil + spacing + meanNodeWidth(vil, vir) - prelim[vir] - sir;
+            if (0 < moveDistance) {
+                moveSubtree(ancestor(vil, v, newDefaultAncestor), v, moveDistance);
+                sir += moveDistance;
+                sor += moveDistance;
+            }
+
+            sil += modifier[vil];
+            sir += modifier[vir];
+            sol += modifier[vol];
+            sor += modifier[vor];
+
+            nextVil = nextRight(vil);
+            nextVir = nextLeft(vir);
+        }
+
+        if (nextVil != NONE && nextRight(vor) == NONE) {
+            // The left siblings' subtrees are deeper
+            thread[vor] = nextVil;
+            modifier[vor] += sil - sor;
+        }
+        if (nextVir != NONE && nextLeft(vol) == NONE) {
+            // The new subtree is deeper
+            thread[vol] = nextVir;
+            modifier[vol] += sir - sol;
+            newDefaultAncestor = v;
+        }
+        return newDefaultAncestor;
+    }
+
+    /**
+     * Moves the subtree of {@code wr} to the right by the given distance. The siblings between {@code wl} and
+     * {@code wr} are moved by linearly decreasing portions of that distance once {@link #executeShifts(int)} is
+     * called for their parent.
+     *
+     * @param wl
+     *            the left sibling that conflicts with {@code wr}.
+     * @param wr
+     *            the subtree to move.
+     * @param distance
+     *            the distance to move {@code wr} by.
+     */
+    private void moveSubtree(final int wl, final int wr, final double distance) {
+        // Siblings are numbered consecutively, so the index difference is the number of subtrees to shift
+        double portion = distance / (wr - wl);
+        change[wr] -= portion;
+        change[wl] += portion;
+        shift[wr] += distance;
+        prelim[wr] += distance;
+        modifier[wr] += distance;
+    }
+
+    /**
+     * Applies the postponed shifts of {@link #moveSubtree(int, int, double)} to the children of the given node.
+     *
+     * @param v
+     *            a node with children.
+     */
+    private void executeShifts(final int v) {
+        double currentShift = 0;
+        double currentChange = 0;
+        for (int w = firstChild[v] + childCount[v] - 1; w >= firstChild[v]; w--) {
+            prelim[w] += currentShift;
+            modifier[w] += currentShift;
+            currentChange += change[w];
+            currentShift += shift[w] + currentChange;
+        }
+    }
+
+    /**
+     * Returns the sibling of {@code v} whose subtree contains the given contour node.
+     *
+     * @param vil
+     *            a node on the right contour of the left siblings of {@code v}.
+     * @param v
+     *            the node being apportioned.
+     * @param defaultAncestor
+     *            the node to return if the ancestor pointer of {@code vil} is outdated.
+     * @return the left sibling of {@code v} that is the ancestor of {@code vil}.
+     */
+    private int ancestor(final int vil, final int v, final int defaultAncestor) {
+        int a = ancestor[vil];
+        return parent[a] == parent[v] ? a : defaultAncestor;
+    }
+
+    /**
+     * Returns the next node on the left contour below the given node.
+     *
+     * @param v
+     *            a node.
+     * @return its first child, its thread, or {@link #NONE}.
+     */
+    private int nextLeft(final int v) {
+        return childCount[v] > 0 ? firstChild[v] : thread[v];
+    }
+
+    /**
+     * Returns the next node on the right contour below the given node.
+     *
+     * @param v
+     *            a node.
+     * @return its last child, its thread, or {@link #NONE}.
+     */
+    private int nextRight(final int v) {
+        return childCount[v] > 0 ? firstChild[v] + childCount[v] - 1 : thread[v];
+    }
+
+    /**
+     * Returns the mean width of the two given nodes, see {@link NodePlacer}.
+     *
+     * @param left
+     *            the left hand node.
+     * @param right
+     *            the right hand node.
+     * @return the sum of the halves of both widths.
+     */
+    private double meanNodeWidth(final int left, final int right) {
+        return size[left] / 2d + size[right] / 2d;
+    }
+
+    /**
+     * Assigns the final coordinates. The coordinate of a node is its preliminary coordinate plus the modifiers of all
+     * its ancestors, and the y-coordinate is determined by the heights of its ancestors' levels. The nodes are visited
+     * in breadth-first order, and the sums are kept per node.
+     *
+     * @param rootY
+     *            the y coordinate of the level above the root.
+     */
+    private void secondWalk(final double rootY) {
+        int n = nodes.length;
+        // The sum of modifiers of each node's strict ancestors, and the y-coordinate of the top of its level
+        double[] modSum = new double[n];
+        double[] levelY = new double[n];
+        levelY[0] = rootY;
+
+        for (int v = 0; v < n; v++) {
+            TNode tNode = nodes[v];
+            double levelHeight = tNode.getProperty(InternalProperties.LEVELHEIGHT);
+
+            double xTemp = prelim[v] + modSum[v];
+            double yTemp = levelY[v] + (levelHeight / 2);
+            tNode.setProperty(InternalProperties.XCOOR_UNROUNDED, xTemp);
+            tNode.setProperty(InternalProperties.XCOOR, (int) Math.round(xTemp));
+            tNode.setProperty(InternalProperties.YCOOR, (int) Math.round(yTemp));
+
+            double childModSum = modSum[v] + modifier[v];
+            double childY = levelY[v] + levelHeight + spacing;
+            for (int w = firstChild[v]; w < firstChild[v] + childCount[v]; w++) {
+                modSum[w] = childModSum;
+                levelY[w] = childY;
+            }
+        }
+    }
+
+}
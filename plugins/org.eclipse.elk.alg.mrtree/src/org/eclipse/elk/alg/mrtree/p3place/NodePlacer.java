@@ -321,6 +321,7 @@ public class NodePlacer implements ILayoutPhase<TreeLayoutPhases, TGraph> {
             double yTemp = yCoor + (tNode.getProperty(InternalProperties.LEVELHEIGHT) / 2);
             // We do not check to see that xTemp and yTemp are of the proper size, because the
             // framework will take care of this.
+            tNode.setProperty(InternalProperties.XCOOR_UNROUNDED, xTemp);
             tNode.setProperty(InternalProperties.XCOOR, (int) Math.round(xTemp));
             tNode.setProperty(InternalProperties.YCOOR, (int) Math.round(yTemp));
             // Apply the modifier value for this node to all its offspring.
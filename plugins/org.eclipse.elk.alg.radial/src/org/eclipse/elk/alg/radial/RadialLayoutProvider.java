@@ -19,6 +19,7 @@ import org.eclipse.elk.core.AbstractLayoutProvider;
 import org.eclipse.elk.core.alg.AlgorithmAssembler;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
+import org.eclipse.elk.core.alg.LayoutProcessorRunner;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.graph.ElkNode;
 
@@ -30,6 +31,8 @@ import org.eclipse.elk.graph.ElkNode;
 public class RadialLayoutProvider extends AbstractLayoutProvider {
     private final AlgorithmAssembler<RadialLayoutPhases, ElkNode> algorithmAssembler =
             AlgorithmAssembler.<RadialLayoutPhases, ElkNode> create(RadialLayoutPhases.class);
+    private final LayoutProcessorRunner<ElkNode> processorRunner = new LayoutProcessorRunner<>(
+            RadialOptions.ALGORITHM_ID, graph -> graph.getChildren().size(), graph -> graph.getContainedEdges().size());
 
     @Override
     public void layout(final ElkNode layoutGraph, final IElkProgressMonitor progressMonitor) {
@@ -58,8 +61,8 @@ public class RadialLayoutProvider extends AbstractLayoutProvider {
         layoutGraph.setProperty(RadialOptions.RADIUS, layoutRadius);
         
         // execute the different phases
-        for (ILayoutProcessor<ElkNode> processor : assembleAlgorithm(layoutGraph)) {
-            processor.process(layoutGraph, progressMonitor.subTask(1));
+        for (ILayoutProcessor<ElkNode> processor : algorithm) {
+            processorRunner.process(processor, layoutGraph, progressMonitor.subTask(1));
         }
 
         progressMonitor.done();
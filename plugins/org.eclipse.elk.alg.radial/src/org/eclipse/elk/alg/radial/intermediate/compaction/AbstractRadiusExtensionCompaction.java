@@ -10,6 +10,7 @@
 package org.eclipse.elk.alg.radial.intermediate.compaction;
 
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 import org.eclipse.elk.graph.ElkNode;
 
@@ -17,6 +18,11 @@ import org.eclipse.elk.graph.ElkNode;
  * The class provides basic logic for extending or compacting radii, like overlap calculation.
  */
 public class AbstractRadiusExtensionCompaction {
+    /** The maximum number of steps a layer is extended by. */
+    private static final int MAX_STEPS = 1 << 30;
+    /** The number of values {@link #layerLayout(List)} records per node. */
+    private static final int LAYOUT_VALUES = 5;
+
     /** The step size with which the contraction takes place. Default is one. */
     private int compactionStep = 1;
 
@@ -68,6 +74,160 @@ public class AbstractRadiusExtensionCompaction {
         }
     }
     
+    /**
+     * Extends a list of nodes from the same radius by the smallest number of steps after which they do not overlap.
+     * This is what calling {@link #contractLayer(List, boolean)} until the nodes do not overlap anymore does, but
+     * the number of steps is found by a binary search, which assumes that nodes which do not overlap keep doing so
+     * if they are moved further away from the root.
+     * 
+     * @param layerNodes
+     *            List of nodes of one radius that shall be moved.
+     * @param isOverlapping
+     *            Determines whether the nodes overlap at their current positions.
+     * @return the number of steps the nodes were moved by.
+     */
+    public int extendLayerUntilFree(final List<ElkNode> layerNodes, final BooleanSupplier isOverlapping) {
+        if (!isOverlapping.getAsBoolean() || compactionStep <= 0) {
+            return 0;
+        }
+
+        double[] layout = layerLayout(layerNodes);
+
+        // Double the number of steps until the nodes do not overlap anymore
+        int overlappingSteps = 0;
+        int freeSteps = 1;
+        moveLayer(layerNodes, layout, freeSteps);
+        while (isOverlapping.getAsBoolean() && freeSteps < MAX_STEPS) {
+            overlappingSteps = freeSteps;
+            freeSteps *= 2;
+            moveLayer(layerNodes, layout, freeSteps);
+        }
+
+        // Find the smallest number of steps in between for which the nodes do not overlap
+        while (freeSteps - overlappingSteps > 1) {
+            int steps = overlappingSteps + (freeSteps - overlappingSteps) / 2;
+            moveLayer(layerNodes, layout, steps);
+            if (isOverlapping.getAsBoolean()) {
+                overlappingSteps = steps;
+            } else {
+                freeSteps = steps;
+            }
+        }
+
+        moveLayer(layerNodes, layout, freeSteps);
+        return freeSteps;
+    }
+
+    /**
+     * Contracts a list of nodes from the same radius by the largest number of steps for which they do not overlap, but
+     * at most until one of them would reach the root. This is what calling {@link #contractLayer(List, boolean)}
+     * until the nodes overlap and undoing the last step does, but the number of steps is found by a binary search,
+     * which assumes that nodes which overlap keep doing so if they are moved further towards the root.
+     * 
+     * @param layerNodes
+     *            List of nodes of one radius that shall be moved.
+     * @param isOverlapping
+     *            Determines whether the nodes overlap at their current positions.
+     * @return the number of steps the nodes were moved by.
+     */
+    public int contractLayerWhileFree(final List<ElkNode> layerNodes, final BooleanSupplier isOverlapping) {
+        if (isOverlapping.getAsBoolean() || compactionStep <= 0) {
+            return 0;
+        }
+
+        double[] layout = layerLayout(layerNodes);
+
+        // A node must not be moved across the root, since that would reverse its direction
+        int maxSteps = MAX_STEPS;
+        for (int i = 0; i < layerNodes.size(); i++) {
+            double length = layout[LAYOUT_VALUES * i + 4];
+            maxSteps = Math.min(maxSteps, Math.max(0, (int) Math.ceil(length / compactionStep) - 1));
+        }
+
+        // Double the number of steps until the nodes overlap
+        int freeSteps = 0;
+        int overlappingSteps = -1;
+        int steps = 1;
+        while (overlappingSteps < 0 && freeSteps < maxSteps) {
+            steps = Math.min(steps, maxSteps);
+            moveLayer(layerNodes, layout, -steps);
+            if (isOverlapping.getAsBoolean()) {
+                overlappingSteps = steps;
+            } else {
+                freeSteps = steps;
+                steps *= 2;
+            }
+        }
+
+        // Find the largest number of steps in between for which the nodes do not overlap
+        if (overlappingSteps >= 0) {
+            while (overlappingSteps - freeSteps > 1) {
+                steps = freeSteps + (overlappingSteps - freeSteps) / 2;
+                moveLayer(layerNodes, layout, -steps);
+                if (isOverlapping.getAsBoolean()) {
+                    overlappingSteps = steps;
+                } else {
+                    freeSteps = steps;
+                }
+            }
+        }
+
+        moveLayer(layerNodes, layout, -freeSteps);
+        return freeSteps;
+    }
+
+    /**
+     * Records the center of each given node, the unit vector from the root's center to it, and the distance between
+     * both centers.
+     * 
+     * @param layerNodes
+     *            List of nodes of one radius.
+     * @return center x, center y, unit vector x, unit vector y, and distance, for each node.
+     */
+    private double[] layerLayout(final List<ElkNode> layerNodes) {
+        double rootX = root.getX() + root.getWidth() / 2;
+        double rootY = root.getY() + root.getHeight() / 2;
+
+        double[] layout = new double[LAYOUT_VALUES * layerNodes.size()];
+        for (int i = 0; i < layerNodes.size(); i++) {
+            ElkNode node = layerNodes.get(i);
+            double xPos = node.getX() + node.getWidth() / 2;
+            double yPos = node.getY() + node.getHeight() / 2;
+            double x = xPos - rootX;
+            double y = yPos - rootY;
+            double length = Math.sqrt(x * x + y * y);
+
+            int offset = LAYOUT_VALUES * i;
+            layout[offset] = xPos;
+            layout[offset + 1] = yPos;
+            // A node placed on the root has no direction to move in
+            layout[offset + 2] = length > 0 ? x / length : 0;
+            layout[offset + 3] = length > 0 ? y / length : 0;
+            layout[offset + 4] = length;
+        }
+        return layout;
+    }
+
+    /**
+     * Moves the given nodes along the vectors from the root to them, starting from the recorded layout.
+     * 
+     * @param layerNodes
+     *            List of nodes of one radius.
+     * @param layout
+     *            the layout recorded by {@link #layerLayout(List)}.
+     * @param steps
+     *            the number of steps to move the nodes by, negative to move them towards the root.
+     */
+    private void moveLayer(final List<ElkNode> layerNodes, final double[] layout, final int steps) {
+        double distance = (double) steps * compactionStep;
+        for (int i = 0; i < layerNodes.size(); i++) {
+            ElkNode node = layerNodes.get(i);
+            int offset = LAYOUT_VALUES * i;
+            node.setX(layout[offset] + layout[offset + 2] * distance - node.getWidth() / 2);
+            node.setY(layout[offset + 1] + layout[offset + 3] * distance - node.getHeight() / 2);
+        }
+    }
+
 //    /**
 //     * Moves children of a node by the amount of the given vector in the direction of their connection to the root.
 //     * Since the parent/ancestor node might have moved since nodes in that layer overlapped all children have to be 
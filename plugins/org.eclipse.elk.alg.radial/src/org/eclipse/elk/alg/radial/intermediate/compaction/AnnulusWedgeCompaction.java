@@ -91,19 +91,15 @@ public class AnnulusWedgeCompaction extends AbstractRadiusExtensionCompaction im
      */
     private void contractWedge(final ElkNode wedgeParent, final List<ElkNode> predecessors,
             final ElkNode radialPredecessor, final ElkNode radialSuccessor, final List<ElkNode> currentRadiusNodes) {
-        boolean isOverlapping = overlapping(predecessors, radialPredecessor, radialSuccessor, currentRadiusNodes);
-        boolean wasContracted = false;
-
-        while (!isOverlapping) {
-            contractLayer(currentRadiusNodes, true);
-            wasContracted = true;
-            isOverlapping = overlapping(predecessors, radialPredecessor, radialSuccessor, currentRadiusNodes);
+        // The order of the nodes does not change while they are moved along their incoming edges
+        if (sorter != null) {
+            sorter.sort(currentRadiusNodes);
         }
+        OverlapIndex predecessorIndex = new OverlapIndex(predecessors, getSpacing());
+        double predecessorRadius = maxRadius(predecessors);
+        contractLayerWhileFree(currentRadiusNodes, () -> overlapping(predecessorIndex, predecessorRadius,
+                radialPredecessor, radialSuccessor, currentRadiusNodes));
 
-        // undo last step
-        if (wasContracted) {
-            contractLayer(currentRadiusNodes, false);
-        }
         // continue with the nodes from the next radius
         List<ElkNode> nextLevelNodes = RadialUtil.getNextLevelNodes(currentRadiusNodes);
         if (!nextLevelNodes.isEmpty()) {
@@ -116,18 +112,23 @@ public class AnnulusWedgeCompaction extends AbstractRadiusExtensionCompaction im
 
     /**
      * Calculate the overlaps. Overlaps are considered between the nodes of the wedge of one radius. Furthermore the
-     * overlaps of the nodes and it's predecessors and between the leftmost node and the right contour of the wedge to
-     * it's left are considered. And between the overlaps between the rightmost node and left contour of the wedge to
-     * it's right.
+     * overlaps of the nodes and it's predecessors, which are looked up in an index, and between the leftmost node and
+     * the right contour of the wedge to it's left are considered. And between the overlaps between the rightmost node
+     * and left contour of the wedge to it's right. Nodes must also stay outside the radius of their predecessors, just
+     * like in {@link RadialCompaction}. Otherwise the binary search of the contraction could skip over the
+     * predecessors and move a node right next to the root.
      * 
      * @param layerNodes
      * @return
      */
-    private boolean overlapping(final List<ElkNode> predecessors, final ElkNode leftParent, final ElkNode rightParent,
-            final List<ElkNode> layerNodes) {
-        if (sorter != null) {
-            sorter.sort(layerNodes);
+    private boolean overlapping(final OverlapIndex predecessors, final double predecessorRadius,
+            final ElkNode leftParent, final ElkNode rightParent, final List<ElkNode> layerNodes) {
+        for (ElkNode node : layerNodes) {
+            if (radius(node) - getSpacing() <= predecessorRadius) {
+                return true;
+            }
         }
+
         ElkNode firstNode = layerNodes.get(0);
 
         // overlap with left wedge contour
@@ -148,16 +149,42 @@ public class AnnulusWedgeCompaction extends AbstractRadiusExtensionCompaction im
 
         // overlaps with the predecessors
         for (ElkNode sortedNode : layerNodes) {
-            for (ElkNode predecessor : predecessors) {
-                if (overlap(sortedNode, predecessor)) {
-                    return true;
-                }
+            if (predecessors.overlaps(sortedNode, this::overlap)) {
+                return true;
             }
         }
 
         return false;
     }
 
+    /**
+     * Calculate the largest radius any of the given nodes is placed on.
+     * 
+     * @param nodes
+     *            Nodes of the graph.
+     * @return the largest radius.
+     */
+    private double maxRadius(final List<ElkNode> nodes) {
+        double maxRadius = 0;
+        for (ElkNode node : nodes) {
+            maxRadius = Math.max(maxRadius, radius(node));
+        }
+        return maxRadius;
+    }
+
+    /**
+     * Calculate the distance between the centers of the root and the given node.
+     * 
+     * @param node
+     *            A node of the graph.
+     * @return the radius the given node is placed on.
+     */
+    private double radius(final ElkNode node) {
+        double x = node.getX() + node.getWidth() / 2 - root.getX() - root.getWidth() / 2;
+        double y = node.getY() + node.getHeight() / 2 - root.getY() - root.getHeight() / 2;
+        return Math.sqrt(x * x + y * y);
+    }
+
     /**
      * Check if a node overlaps with a neighboring wedge contour.
      * 
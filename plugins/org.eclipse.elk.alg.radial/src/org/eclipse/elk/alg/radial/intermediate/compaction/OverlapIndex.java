@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.intermediate.compaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+import org.eclipse.elk.graph.ElkNode;
+
+/**
+ * A spatial hash of nodes that do not move, used to find the nodes a moving node may overlap without comparing it to
+ * all of them. Each node is registered in every cell of a uniform grid its bounds, enlarged by the spacing, intersect.
+ * The cells are as large as the largest enlarged node, so each node is registered in at most four cells.
+ */
+public class OverlapIndex {
+
+    /** The indexed nodes. */
+    private final List<ElkNode> nodes;
+    /** The spacing by which node bounds are enlarged. */
+    private final double spacing;
+    /** The width and height of a grid cell. */
+    private final double cellSize;
+    /** The nodes registered in each non-empty cell. */
+    private final Map<Long, List<ElkNode>> cells = new HashMap<>();
+
+    /**
+     * Creates an index of the given nodes.
+     *
+     * @param nodes
+     *            the nodes to index. They must not move while the index is in use.
+     * @param spacing
+     *            the spacing between nodes that is considered by the overlap test.
+     */
+    public OverlapIndex(final Collection<ElkNode> nodes, final double spacing) {
+        this.nodes = new ArrayList<>(nodes);
+        this.spacing = spacing;
+
+        double maxSize = 1;
+        for (ElkNode node : nodes) {
+            maxSize = Math.max(maxSize, Math.max(node.getWidth(), node.getHeight()) + spacing);
+        }
+        this.cellSize = maxSize;
+
+        for (ElkNode node : nodes) {
+            int minX = cell(node.getX() - spacing / 2);
+            int maxX = cell(node.getX() + node.getWidth() + spacing / 2);
+            int minY = cell(node.getY() - spacing / 2);
+            int maxY = cell(node.getY() + node.getHeight() + spacing / 2);
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    cells.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(node);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given node overlaps any of the indexed nodes. Only indexed nodes that share a grid cell with
+     * the node are passed to the overlap test.
+     *
+     * @param node
+     *            a node, which may be moved between calls.
+     * @param overlap
+     *            the overlap test, which must not report an overlap for nodes whose bounds, enlarged by half the
+     *            spacing, are disjoint.
+     * @return {@code true} if the overlap test holds for the node and one of the indexed nodes.
+     */
+    public boolean overlaps(final ElkNode node, final BiPredicate<ElkNode, ElkNode> overlap) {
+        int minX = cell(node.getX() - spacing / 2);
+        int maxX = cell(node.getX() + node.getWidth() + spacing / 2);
+        int minY = cell(node.getY() - spacing / 2);
+        int maxY = cell(node.getY() + node.getHeight() + spacing / 2);
+
+        // A node much larger than the others may cover more cells than there are nodes
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) > nodes.size()) {
+            for (ElkNode other : nodes) {
+                if (overlap.test(node, other)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                List<ElkNode> cellNodes = cells.get(key(x, y));
+                if (cellNodes != null) {
+                    for (ElkNode other : cellNodes) {
+                        if (overlap.test(node, other)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private int cell(final double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(final int x, final int y) {
+        return ((long) x << Integer.SIZE) | (y & 0xFFFFFFFFL);
+    }
+
+}
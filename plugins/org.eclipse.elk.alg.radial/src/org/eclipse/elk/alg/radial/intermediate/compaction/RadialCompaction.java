@@ -57,17 +57,7 @@ public class RadialCompaction extends AbstractRadiusExtensionCompaction implemen
      */
     public void contract(final List<ElkNode> nodes) {
         if (!nodes.isEmpty()) {
-            boolean isOverlapping = overlapping(nodes);
-            boolean wasContracted = false;
-            while (!isOverlapping) {
-                contractLayer(nodes, true);
-                wasContracted = true;
-                isOverlapping = overlapping(nodes);
-            }
-            // undo last step
-            if (wasContracted) {
-                contractLayer(nodes, false);
-            }
+            contractLayerWhileFree(nodes, () -> overlapping(nodes));
             List<ElkNode> nextLevelNodes = RadialUtil.getNextLevelNodes(nodes);
             if (sorter != null) {
                 sorter.sort(nextLevelNodes);
@@ -20,76 +20,60 @@ import org.eclipse.elk.graph.ElkNode;
  * Count the number of crossings of the edges between root and the first radius. The algorithm expects the
  * {@link CoreOptions.POSITION} option to be set. <em>Warning</em>: It makes assumptions that the position points to a node <em>in</em>
  * the tree-parent node!
+ * 
+ * <p>
+ * The position is taken relative to the center of the root. The crossings are counted by a
+ * {@link RadialCrossingCounter}, which sorts the edges around the root instead of testing each pair of them.
+ * </p>
  */
-public class CrossingMinimizationPosition implements IEvaluation {
-
-    /** The root node of the graph. */
-    private ElkNode root;
+public class CrossingMinimizationPosition implements IRotationEvaluation {
 
     @Override
     public double evaluate(final ElkNode rootNode) {
-        this.root = rootNode;
-        int crossings = 0;
-        List<ElkNode> nodes = RadialUtil.getSuccessors(rootNode);
+        return createCounter(rootNode).getCrossings();
+    }
 
-        int k = 0;
-        for (ElkNode node1 : nodes) {
-            k++;
-            for (int i = k; i < nodes.size(); i++) {
-                if (isCrossing(node1, nodes.get(i))) {
-                    crossings += 1;
-                }
-            }
+    /**
+     * {@inheritDoc} The crossings are counted once and then updated for each rotation, which only requires recounting
+     * the edges that start to run around the root the other way.
+     */
+    @Override
+    public double[] evaluateRotations(final ElkNode rootNode, final double[] angles) {
+        RadialCrossingCounter counter = createCounter(rootNode);
+        double[] crossings = new double[angles.length];
+        double currentAngle = 0;
+        for (int i = 0; i < angles.length; i++) {
+            counter.rotateTargets(angles[i] - currentAngle);
+            currentAngle = angles[i];
+            crossings[i] = counter.getCrossings();
         }
         return crossings;
     }
 
     /**
-     * Calculate if two edges are crossing by calculating the line between the nodes and their node position.
+     * Create a crossing counter for the edges from the node positions in the root to the centers of the nodes.
      * 
-     * @param node1
-     *            The first node for checking the crossing.
-     * @param node2
-     *            The second node for checking the crossing.
-     * @return Returns if the lines of the nodes are crossing.
+     * @param rootNode
+     *            The root node.
+     * @return A counter for the edges of the first radius.
      */
-    private boolean isCrossing(final ElkNode node1, final ElkNode node2) {
-        // root
-        double rootX = root.getX() + root.getWidth() / 2;
-        double rootY = root.getX() + root.getWidth() / 2;
+    private RadialCrossingCounter createCounter(final ElkNode rootNode) {
+        double rootX = rootNode.getX() + rootNode.getWidth() / 2;
+        double rootY = rootNode.getY() + rootNode.getHeight() / 2;
 
-        // node1
-        double xPos1 = node1.getX() + node1.getWidth() / 2;
-        double yPos1 = node1.getY() + node1.getHeight() / 2;
-        KVector node1Vector = new KVector(xPos1, yPos1);
-
-        KVector position1 = node1.getProperty(CoreOptions.POSITION);
-        position1.x = position1.x + rootX;
-        position1.y = position1.y + rootY;
-
-        double m1 = (node1Vector.y - position1.y) / (node1Vector.x - position1.x);
-        double b1 = node1Vector.y - m1 * node1Vector.x;
-
-        // node2
-        double xPos2 = node2.getX() + node2.getWidth() / 2;
-        double yPos2 = node2.getY() + node2.getHeight() / 2;
-        KVector node2Vector = new KVector(xPos2, yPos2);
-
-        KVector position2 = node2.getProperty(CoreOptions.POSITION);
-        position2.x = position2.x + rootX;
-        position2.y = position2.y + rootY;
-
-        double m2 = (node2Vector.y - position2.y) / (node2Vector.x - position2.x);
-        double b2 = node2Vector.y - m2 * node2Vector.x;
+        List<ElkNode> nodes = RadialUtil.getSuccessors(rootNode);
+        double[] sourceAngles = new double[nodes.size()];
+        double[] targetAngles = new double[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            ElkNode node = nodes.get(i);
+            KVector position = node.getProperty(CoreOptions.POSITION);
+            sourceAngles[i] = Math.atan2(position.y, position.x);
 
-        double xCut = (b1 - b2) / (m2 - m1);
-        // check whether the cut occurs on the relevant line segment
-        if ((position1.x < xCut && node1Vector.x < xCut) || (xCut < position1.x && xCut < node1Vector.x)) {
-            return false;
-        } else if ((position2.x < xCut && node2Vector.x < xCut) || (xCut < position2.x && xCut < node2Vector.x)) {
-            return false;
+            double xPos = node.getX() + node.getWidth() / 2 - rootX;
+            double yPos = node.getY() + node.getHeight() / 2 - rootY;
+            targetAngles[i] = Math.atan2(yPos, xPos);
         }
-        return true;
+        return new RadialCrossingCounter(sourceAngles, targetAngles);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.intermediate.optimization;
+
+import org.eclipse.elk.graph.ElkNode;
+
+/**
+ * An evaluation that can score rotations of a layout around the root without the layout being rotated.
+ */
+public interface IRotationEvaluation extends IEvaluation {
+
+    /**
+     * Evaluate the current graph status as if all nodes but the root were rotated around the center of the root. The
+     * result for each angle equals what {@link #evaluate(ElkNode)} returns after rotating the nodes by that angle.
+     * 
+     * @param root The root node of the graph.
+     * @param angles The rotation angles to evaluate.
+     * @return the score of each rotation.
+     */
+    double[] evaluateRotations(ElkNode root, double[] angles);
+}
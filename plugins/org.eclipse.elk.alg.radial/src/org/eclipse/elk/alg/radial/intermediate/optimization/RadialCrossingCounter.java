@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.intermediate.optimization;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Counts the crossings of straight edges that leave a center outwards, such as the edges between the root and the
+ * first radius. Each edge is given by the polar angle of its source and of its target around the center and runs the
+ * shorter way around from one to the other. Two edges cross if their angular order at the sources differs from that at
+ * the targets, taking into account how often the edges wind around the center. This is exact for straight edges whose
+ * distance from the center grows from source to target.
+ *
+ * <p>
+ * The crossings are counted in O(n log n) time by counting the inversions of the edges sorted by source angle.
+ * Afterwards, the count is updated in linear time if a single target moves, so many rotations of the targets can be
+ * evaluated without counting from scratch.
+ * </p>
+ */
+public class RadialCrossingCounter {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    /** The source angle of each edge in [0, 2π). */
+    private final double[] sources;
+    /** The angle each edge sweeps from its source to its target, in [-π, π) unless an update is in progress. */
+    private final double[] spans;
+    /** The current number of crossings. */
+    private long crossings;
+
+    /**
+     * Creates a counter for the given edges and counts their crossings.
+     *
+     * @param sourceAngles
+     *            the polar angle of the source of each edge.
+     * @param targetAngles
+     *            the polar angle of the target of each edge.
+     */
+    public RadialCrossingCounter(final double[] sourceAngles, final double[] targetAngles) {
+        int edgeCount = sourceAngles.length;
+        sources = new double[edgeCount];
+        spans = new double[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            sources[i] = normalize(sourceAngles[i], 0);
+            spans[i] = normalize(targetAngles[i] - sources[i], -Math.PI);
+        }
+        crossings = countCrossings();
+    }
+
+    /**
+     * Returns the number of crossings of the edges with their current targets.
+     *
+     * @return the number of crossings.
+     */
+    public long getCrossings() {
+        return crossings;
+    }
+
+    /**
+     * Moves the target of a single edge, for example because the subtree it leads to was rotated, and updates the
+     * number of crossings in linear time.
+     *
+     * @param edge
+     *            the index of the edge.
+     * @param targetAngle
+     *            the new polar angle of its target.
+     */
+    public void setTargetAngle(final int edge, final double targetAngle) {
+        crossings -= countCrossings(edge);
+        spans[edge] = normalize(targetAngle - sources[edge], -Math.PI);
+        crossings += countCrossings(edge);
+    }
+
+    /**
+     * Rotates all targets around the center and updates the number of crossings. Rotating all targets does not change
+     * how they are ordered relative to each other, so only the edges whose target passes the point opposite of their
+     * source, and thus starts to run around the other way, have to be recounted.
+     *
+     * @param angle
+     *            the angle to rotate the targets by.
+     */
+    public void rotateTargets(final double angle) {
+        double rotation = normalize(angle, -Math.PI);
+        int[] wrapped = new int[spans.length];
+        int wrappedCount = 0;
+        for (int i = 0; i < spans.length; i++) {
+            spans[i] += rotation;
+            if (spans[i] < -Math.PI || spans[i] >= Math.PI) {
+                wrapped[wrappedCount++] = i;
+            }
+        }
+
+        // Updating an edge takes linear time, so recount from scratch if many edges changed their direction
+        if (wrappedCount > 1 + 2 * (32 - Integer.numberOfLeadingZeros(spans.length))) {
+            for (int i = 0; i < wrappedCount; i++) {
+                spans[wrapped[i]] = normalize(spans[wrapped[i]], -Math.PI);
+            }
+            crossings = countCrossings();
+        } else {
+            for (int i = 0; i < wrappedCount; i++) {
+                int edge = wrapped[i];
+                crossings -= countCrossings(edge);
+                spans[edge] = normalize(spans[edge], -Math.PI);
+                crossings += countCrossings(edge);
+            }
+        }
+    }
+
+    /**
+     * Counts the crossings of all edges. With every span shorter than π, edge {@code a} crosses edge {@code b} or its
+     * copy shifted by one turn in either direction at most once. Let {@code I} be the number of inversions among the
+     * edges together with their copies shifted by one turn, and {@code S} the number of inversions among the edges
+     * alone. Then {@code I} counts each crossing of two unshifted edges twice, once among the edges and once among
+     * their copies, and each crossing with a shifted copy once, so there are {@code I - S} crossings.
+     */
+    private long countCrossings() {
+        int edgeCount = sources.length;
+        double[] starts = new double[2 * edgeCount];
+        double[] ends = new double[2 * edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            starts[i] = sources[i];
+            ends[i] = sources[i] + spans[i];
+            starts[edgeCount + i] = sources[i] + TWO_PI;
+            ends[edgeCount + i] = sources[i] + spans[i] + TWO_PI;
+        }
+        return countInversions(starts, ends, 2 * edgeCount) - countInversions(starts, ends, edgeCount);
+    }
+
+    /**
+     * Counts the pairs among the first {@code count} edges that are ordered one way by their start and the other way
+     * by their end. Pairs with equal starts or equal ends are not counted.
+     */
+    private static long countInversions(final double[] starts, final double[] ends, final int count) {
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        // Ordering equal starts by their ends keeps them from counting as inversions
+        Arrays.sort(order, Comparator.<Integer> comparingDouble(i -> starts[i]).thenComparingDouble(i -> ends[i]));
+
+        double[] sorted = new double[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = ends[order[i]];
+        }
+        return mergeSort(sorted, new double[count], 0, count);
+    }
+
+    /**
+     * Sorts the given range of values and returns the number of pairs it contains that were strictly out of order.
+     */
+    private static long mergeSort(final double[] values, final double[] buffer, final int from, final int to) {
+        if (to - from < 2) {
+            return 0;
+        }
+        int middle = (from + to) >>> 1;
+        long inversions = mergeSort(values, buffer, from, middle) + mergeSort(values, buffer, middle, to);
+
+        int left = from;
+        int right = middle;
+        int index = from;
+        while (left < middle && right < to) {
+            if (values[right] < values[left]) {
+                // The value is smaller than all values remaining on the left
+                inversions += middle - left;
+                buffer[index++] = values[right++];
+            } else {
+                buffer[index++] = values[left++];
+            }
+        }
+        while (left < middle) {
+            buffer[index++] = values[left++];
+        }
+        while (right < to) {
+            buffer[index++] = values[right++];
+        }
+        System.arraycopy(buffer, from, values, from, to - from);
+        return inversions;
+    }
+
+    /**
+     * Counts the crossings of a single edge with all other edges.
+     */
+    private long countCrossings(final int edge) {
+        long edgeCrossings = 0;
+        for (int other = 0; other < sources.length; other++) {
+            if (other != edge) {
+                double startDifference = sources[edge] - sources[other];
+                double endDifference = startDifference + spans[edge] - spans[other];
+                edgeCrossings += countTurnsBetween(startDifference, endDifference);
+            }
+        }
+        return edgeCrossings;
+    }
+
+    /**
+     * Two edges cross once for every copy of one of them, shifted by a whole number of turns, that they are ordered
+     * differently against at their sources and at their targets. Returns the number of multiples of a full turn that
+     * lie strictly between the two given differences of the edges' angles.
+     */
+    private static long countTurnsBetween(final double startDifference, final double endDifference) {
+        double min = Math.min(startDifference, endDifference) / TWO_PI;
+        double max = Math.max(startDifference, endDifference) / TWO_PI;
+        return Math.max(0, (long) Math.ceil(max) - (long) Math.floor(min) - 1);
+    }
+
+    /**
+     * Shifts an angle by full turns into the turn starting at the given lower bound.
+     */
+    private static double normalize(final double angle, final double lowerBound) {
+        double normalized = angle - TWO_PI * Math.floor((angle - lowerBound) / TWO_PI);
+        // Rounding may leave the angle exactly at the upper bound
+        return normalized >= lowerBound + TWO_PI ? lowerBound : normalized;
+    }
+
+}
@@ -57,9 +57,7 @@ public class RadiusExtensionOverlapRemoval extends AbstractRadiusExtensionCompac
                 oldPositions.add(new KVector(node.getX(), node.getY()));
             }
             progressMonitor.logGraph(graph, "Before removing overlaps");
-            while (overlapLayer(nodes)) {
-                contractLayer(nodes, false);
-            }
+            extendLayerUntilFree(nodes, () -> overlapLayer(nodes));
             progressMonitor.logGraph(graph, "After removing overlaps");
 
             double movedX = 0;
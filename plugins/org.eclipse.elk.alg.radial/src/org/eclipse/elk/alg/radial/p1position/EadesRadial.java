@@ -15,6 +15,7 @@ import org.eclipse.elk.alg.radial.InternalProperties;
 import org.eclipse.elk.alg.radial.RadialLayoutPhases;
 import org.eclipse.elk.alg.radial.RadialUtil;
 import org.eclipse.elk.alg.radial.intermediate.optimization.IEvaluation;
+import org.eclipse.elk.alg.radial.intermediate.optimization.IRotationEvaluation;
 import org.eclipse.elk.alg.radial.options.RadialOptions;
 import org.eclipse.elk.alg.radial.p1position.wedge.IAnnulusWedgeCriteria;
 import org.eclipse.elk.alg.radial.sorting.IRadialSorter;
@@ -62,7 +63,23 @@ public class EadesRadial implements ILayoutPhase<RadialLayoutPhases, ElkNode> {
         double optimalOffset = 0;
         double optimalValue = Double.MAX_VALUE;
 
-        if (optimizer != null) {
+        if (optimizer instanceof IRotationEvaluation && (sorter == null || sorter.isPositionIndependent())) {
+            // Each offset rotates the layout around the root, so it suffices to position the nodes once. A sorter
+            // that orders by position could order the successors differently for each offset, though.
+            positionNodes(root, 0, 0, 2 * Math.PI, 0);
+            double[] offsets = new double[CIRCLE_DEGREES];
+            for (int i = 0; i < CIRCLE_DEGREES; i++) {
+                offsets[i] = i * DEGREE_TO_RAD;
+            }
+            double[] values = ((IRotationEvaluation) optimizer).evaluateRotations(root, offsets);
+            for (int i = 0; i < CIRCLE_DEGREES; i++) {
+                // Take the first occurence of the minimum
+                if (values[i] < optimalValue) {
+                    optimalOffset = offsets[i];
+                    optimalValue = values[i];
+                }
+            }
+        } else if (optimizer != null) {
             for (int i = 0; i < CIRCLE_DEGREES; i++) {
                 double offset = i * DEGREE_TO_RAD;
                 positionNodes(root, 0, 0, 2 * Math.PI, offset);
@@ -42,4 +42,9 @@ public class IDSorter implements IRadialSorter {
         // nothing to do here
     }
 
+    @Override
+    public boolean isPositionIndependent() {
+        return true;
+    }
+
 }
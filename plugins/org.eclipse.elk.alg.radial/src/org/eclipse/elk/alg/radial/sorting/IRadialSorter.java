@@ -34,4 +34,14 @@ public interface IRadialSorter {
      *            The root node of the graph.
      */
     void initialize(ElkNode root);
+
+    /**
+     * Whether the order the sorter produces does not depend on the current positions of the nodes. Only then does
+     * rotating a layout yield the same layout as positioning the nodes with the rotation as offset.
+     * 
+     * @return {@code true} if the order is independent of the node positions.
+     */
+    default boolean isPositionIndependent() {
+        return false;
+    }
 }
@@ -19,6 +19,7 @@ import org.eclipse.elk.core.AbstractLayoutProvider;
 import org.eclipse.elk.core.alg.AlgorithmAssembler;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
+import org.eclipse.elk.core.alg.LayoutProcessorRunner;
 import org.eclipse.elk.core.math.ElkPadding;
 import org.eclipse.elk.core.math.KVector;
 import org.eclipse.elk.core.options.CoreOptions;
@@ -44,6 +45,10 @@ public class RectPackingLayoutProvider extends AbstractLayoutProvider {
     /** The thing that will assemble the processors that will constitute our algorithm. */
     private final AlgorithmAssembler<RectPackingLayoutPhases, ElkNode> algorithmAssembler =
             AlgorithmAssembler.<RectPackingLayoutPhases, ElkNode>create(RectPackingLayoutPhases.class);
+    /** Executes the processors and reports metrics about them if requested. */
+    private final LayoutProcessorRunner<ElkNode> processorRunner = new LayoutProcessorRunner<>(
+            RectPackingOptions.ALGORITHM_ID, graph -> graph.getChildren().size(),
+            graph -> graph.getContainedEdges().size());
     
     /**
      * Calculating and applying layout to the model.
@@ -115,7 +120,7 @@ public class RectPackingLayoutProvider extends AbstractLayoutProvider {
             }
             // elkjs-exclude-end
             
-            processor.process(layoutGraph, progressMonitor.subTask(monitorProgress));
+            processorRunner.process(processor, layoutGraph, progressMonitor.subTask(monitorProgress));
             slotIndex++;
         }
 
@@ -15,11 +15,11 @@ import org.eclipse.elk.alg.rectpacking.RectPackingLayoutPhases;
 import org.eclipse.elk.alg.rectpacking.options.InternalProperties;
 import org.eclipse.elk.alg.rectpacking.options.RectPackingOptions;
 import org.eclipse.elk.alg.rectpacking.util.DrawingData;
+import org.eclipse.elk.alg.rectpacking.util.RectRow;
 import org.eclipse.elk.core.alg.ILayoutPhase;
 import org.eclipse.elk.core.alg.LayoutProcessorConfiguration;
 import org.eclipse.elk.core.math.ElkPadding;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
-import org.eclipse.elk.graph.ElkGraphFactory;
 import org.eclipse.elk.graph.ElkNode;
 
 /**
@@ -53,8 +53,10 @@ public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode>
         double nodeNodeSpacing = graph.getProperty(RectPackingOptions.SPACING_NODE_NODE);
         ElkPadding padding = graph.getProperty(RectPackingOptions.PADDING);
         
+        double targetWidth = graph.getProperty(InternalProperties.TARGET_WIDTH);
+        
         RowFillingAndCompaction secondIt = new RowFillingAndCompaction(aspectRatio, nodeNodeSpacing);
-        DrawingData drawing = secondIt.start(rectangles, progressMonitor, graph, padding);
+        DrawingData drawing = secondIt.start(rectangles, progressMonitor, graph, padding, targetWidth);
         // elkjs-exclude-start
         if (progressMonitor.isLoggingEnabled()) {
             progressMonitor.logGraph(graph, "Compacted");
@@ -63,35 +65,53 @@ public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode>
         // Begin possible iterations to improve rectpacking by setting a new target width and repeating the compaction.
         copyRowWidthChangeValues(graph, secondIt);
         
-        // Begin more compaction iterations if more than one iteration is specified.
+        // Begin more compaction iterations if more than one iteration is specified. Each iteration packs the children
+        // of the graph again, so the positions of the best packing so far are kept to restore them if it remains best.
         int iterations = graph.getProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS);
+        double[] bestX = iterations > 1 ? new double[rectangles.size()] : null;
+        double[] bestY = iterations > 1 ? new double[rectangles.size()] : null;
         while (iterations > 1) {
-            // Create a shallow clone based on properties and sizes of children (not grandchildren).
-            ElkNode clone = clone(graph);
             double oldSM = drawing.getScaleMeasure();
-            // Calculate new target width and configure clone.
-            configureSecondIteration(graph, clone, drawing);
+            // Calculate new target width.
+            double newTargetWidth = computeNextTargetWidth(graph, drawing);
+            if (newTargetWidth == targetWidth) {
+                // The packing would be the same as the current one, and so would all further ones.
+                break;
+            }
+            
+            for (int i = 0; i < rectangles.size(); i++) {
+                bestX[i] = rectangles.get(i).getX();
+                bestY[i] = rectangles.get(i).getY();
+            }
+            List<RectRow> bestRows = graph.getProperty(InternalProperties.ROWS);
+            double bestAdditionalHeight = graph.getProperty(InternalProperties.ADDITIONAL_HEIGHT);
+            
             // Run additional compaction step.
-            secondIt = new RowFillingAndCompaction(aspectRatio, nodeNodeSpacing);
-            DrawingData newDrawing = secondIt.start(rectangles, progressMonitor, clone, padding);
+            DrawingData newDrawing = secondIt.start(rectangles, progressMonitor, graph, padding, newTargetWidth);
 
             // elkjs-exclude-start
             if (progressMonitor.isLoggingEnabled()) {
-                progressMonitor.logGraph(clone, "Layouted clone " + iterations);
+                progressMonitor.logGraph(graph, "Compaction iteration " + iterations);
             }
             // elkjs-exclude-end
             // Compare scale measure and choose the best packing.
             double newSM = newDrawing.getScaleMeasure();
 
             if (newSM >= oldSM && newSM == (double) newSM) {
-                // If the new packing is better apply packing to original graph.
-                for (int i = 0; i < clone.getChildren().size(); i++) {
-                    copyPosition(clone.getChildren().get(i), graph.getChildren().get(i));
-                }
+                // If the new packing is better keep it.
+                targetWidth = newTargetWidth;
                 copyRowWidthChangeValues(graph, secondIt);
                 drawing.setDrawingWidth(newDrawing.getDrawingWidth());
                 drawing.setDrawingHeight(newDrawing.getDrawingHeight());
-
+            } else {
+                // Restore the previous packing. Since nothing changed, further iterations would yield this packing
+                // again.
+                for (int i = 0; i < rectangles.size(); i++) {
+                    rectangles.get(i).setLocation(bestX[i], bestY[i]);
+                }
+                graph.setProperty(InternalProperties.ROWS, bestRows);
+                graph.setProperty(InternalProperties.ADDITIONAL_HEIGHT, bestAdditionalHeight);
+                break;
             }
             iterations--;
         }
@@ -125,14 +145,18 @@ public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode>
     }
     
     /**
-     * Set new target width on clone.
+     * Computes the target width for the next compaction iteration. The row width changes of the current drawing are
+     * always applied to the initial {@link InternalProperties#TARGET_WIDTH} of the graph.
      * 
      * @param layoutGraph The original graph.
-     * @param drawing The initial drawing.
+     * @param drawing The current drawing.
+     * @return The new target width, which is the initial target width of the graph if the aspect ratio of the current
+     *         drawing seems to be fine.
      */
-    private void configureSecondIteration(ElkNode layoutGraph, ElkNode clone, DrawingData drawing) {
+    private double computeNextTargetWidth(ElkNode layoutGraph, DrawingData drawing) {
         ElkPadding padding = layoutGraph.getProperty(RectPackingOptions.PADDING);
         double aspectRatio = layoutGraph.getProperty(RectPackingOptions.ASPECT_RATIO);
+        double targetWidth = layoutGraph.getProperty(InternalProperties.TARGET_WIDTH);
         // Try to layout again if the aspect ratio seems to be bad
         if (layoutGraph.getChildren().size() > 1
                 && layoutGraph.getProperty(InternalProperties.MIN_ROW_INCREASE) != Double.POSITIVE_INFINITY
@@ -140,54 +164,17 @@ public class Compactor implements ILayoutPhase<RectPackingLayoutPhases, ElkNode>
                         / (drawing.getDrawingHeight() + padding.getVertical()) < aspectRatio) {
             // The drawing is too high, this means the approximated target width is too low
             // The new target width will be set to the next higher value that would change something.
-            clone.setProperty(InternalProperties.TARGET_WIDTH, layoutGraph.getProperty(InternalProperties.TARGET_WIDTH)
-                    + layoutGraph.getProperty(InternalProperties.MIN_ROW_INCREASE));
+            return targetWidth + layoutGraph.getProperty(InternalProperties.MIN_ROW_INCREASE);
         } else if (layoutGraph.getChildren().size() > 1
                 && layoutGraph.getProperty(InternalProperties.MIN_ROW_DECREASE) != Double.POSITIVE_INFINITY
                 && (drawing.getDrawingWidth() + padding.getHorizontal())
                         / (drawing.getDrawingHeight() + padding.getVertical()) > aspectRatio) {
             // The drawing is too high, this means the approximated target width is too high.
             // The new target width will be set to the next smaller value that would change something.
-            clone.setProperty(InternalProperties.TARGET_WIDTH,
-                    Math.max(layoutGraph.getProperty(InternalProperties.MIN_WIDTH),
-                    clone.getProperty(InternalProperties.TARGET_WIDTH)
-                    - layoutGraph.getProperty(InternalProperties.MIN_ROW_DECREASE)));
-        }
-    }
-    
-    /**
-     * Clones a node including all properties and its children with their properties.
-     * 
-     * @param node The node to clone
-     * @return The clones node
-     */
-    private ElkNode clone(ElkNode node) {
-        ElkNode clone = ElkGraphFactory.eINSTANCE.createElkNode();
-        clone.copyProperties(node);
-        for (ElkNode child : node.getChildren()) {
-            ElkNode newChild = ElkGraphFactory.eINSTANCE.createElkNode();
-            newChild.setParent(clone);
-            newChild.setDimensions(child.getWidth(), child.getHeight());
-            newChild.setIdentifier(child.getIdentifier());
-            newChild.setLocation(child.getX(), child.getY());
-            clone.getChildren().add(newChild);
-            newChild.copyProperties(child);
-        }
-        return clone;
-    }
-
-    /**
-     * Copy the position of dimension of a node to the other and does the same for its children.
-     * 
-     * @param node The node to copy from.
-     * @param other The node to copy to.
-     */
-    private void copyPosition(ElkNode node, ElkNode other) {
-        other.setDimensions(node.getWidth(), node.getHeight());
-        other.setLocation(node.getX(), node.getY());
-        for (int i = 0; i < node.getChildren().size(); i++) {
-            copyPosition(node.getChildren().get(i), other.getChildren().get(i));
+            return Math.max(layoutGraph.getProperty(InternalProperties.MIN_WIDTH),
+                    targetWidth - layoutGraph.getProperty(InternalProperties.MIN_ROW_DECREASE));
         }
+        return targetWidth;
     }
 
 }
@@ -9,11 +9,11 @@
  *******************************************************************************/
 package org.eclipse.elk.alg.rectpacking.p2packing;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.elk.alg.rectpacking.options.RectPackingOptions;
 import org.eclipse.elk.alg.rectpacking.util.Block;
+import org.eclipse.elk.alg.rectpacking.util.PlacementPool;
 import org.eclipse.elk.alg.rectpacking.util.RectRow;
 import org.eclipse.elk.graph.ElkNode;
 
@@ -41,10 +41,25 @@ public final class InitialPlacement {
      * @return returns the rows in which the rectangles were placed.
      */
     protected static List<RectRow> place(final List<ElkNode> rectangles, final double boundingWidth, final double nodeNodeSpacing) {
-        List<RectRow> rows = new ArrayList<RectRow>();
-        RectRow row = new RectRow(0, nodeNodeSpacing);
+        return place(rectangles, boundingWidth, nodeNodeSpacing, new PlacementPool(nodeNodeSpacing));
+    }
+
+    /**
+     * Simply places the rectangles as {@link RectRow}s onto the drawing area, bounded by the calculated bounding box
+     * width. The rows and blocks are obtained from the given pool.
+     * 
+     * @param rectangles The rectangles to be placed.
+     * @param boundingWidth The width of the bounding box.
+     * @param nodeNodeSpacing The spacing between two nodes.
+     * @param pool The pool to obtain the rows and blocks from.
+     * @return returns the rows in which the rectangles were placed.
+     */
+    protected static List<RectRow> place(final List<ElkNode> rectangles, final double boundingWidth,
+            final double nodeNodeSpacing, final PlacementPool pool) {
+        List<RectRow> rows = pool.obtainRowList();
+        RectRow row = pool.obtainRow(0);
         double drawingHeight = 0;
-        row.addBlock(new Block(0, 0, row, nodeNodeSpacing));
+        row.addBlock(pool.obtainBlock(0, 0, row));
         double currentWidth = 0;
         
         for (ElkNode rect : rectangles) {
@@ -57,8 +72,8 @@ public final class InitialPlacement {
                 currentWidth = 0;
                 drawingHeight += row.getHeight() + nodeNodeSpacing;
                 rows.add(row);
-                row = new RectRow(drawingHeight, nodeNodeSpacing);
-                block = new Block(0, row.getY(), row, nodeNodeSpacing);
+                row = pool.obtainRow(drawingHeight);
+                block = pool.obtainBlock(0, row.getY(), row);
                 row.addBlock(block);
                 currentWidth = 0;
             }
@@ -70,8 +85,7 @@ public final class InitialPlacement {
                 block.addChild(rect);
             } else {
                 // Case rect does not fit in block. Add new block to the right of it.
-                Block newBlock = new Block(block.getX() + block.getWidth() + nodeNodeSpacing, row.getY(), row,
-                        nodeNodeSpacing);
+                Block newBlock = pool.obtainBlock(block.getX() + block.getWidth() + nodeNodeSpacing, row.getY(), row);
                 row.addBlock(newBlock);
                 newBlock.addChild(rect);
             }
@@ -19,6 +19,7 @@ import org.eclipse.elk.alg.rectpacking.util.BlockStack;
 import org.eclipse.elk.alg.rectpacking.util.DrawingData;
 import org.eclipse.elk.alg.rectpacking.util.DrawingDataDescriptor;
 import org.eclipse.elk.alg.rectpacking.util.DrawingUtil;
+import org.eclipse.elk.alg.rectpacking.util.PlacementPool;
 import org.eclipse.elk.alg.rectpacking.util.RectRow;
 import org.eclipse.elk.core.math.ElkPadding;
 import org.eclipse.elk.core.math.KVector;
@@ -37,6 +38,13 @@ public class RowFillingAndCompaction {
     private double aspectRatio;
     /** Spacing between two nodes. */
     private double nodeNodeSpacing;
+    /** The pool of the current placement. */
+    private PlacementPool pool;
+    /**
+     * The pool of the previous placement, which is reused by the next placement. Its rows are kept intact until then
+     * such that they can be restored if the current placement is not better.
+     */
+    private PlacementPool previousPool;
 
     /**
      * The minimum width that has to be removed from the target width not allow the last element of a row in it.
@@ -68,6 +76,8 @@ public class RowFillingAndCompaction {
     public RowFillingAndCompaction(final double aspectRatio, final double nodeNodeSpacing) {
         this.aspectRatio = aspectRatio;
         this.nodeNodeSpacing = nodeNodeSpacing;
+        this.pool = new PlacementPool(nodeNodeSpacing);
+        this.previousPool = new PlacementPool(nodeNodeSpacing);
     }
 
     //////////////////////////////////////////////////////////////////
@@ -81,14 +91,40 @@ public class RowFillingAndCompaction {
      */
     public DrawingData start(final List<ElkNode> rectangles,
             final IElkProgressMonitor progressMonitor, final ElkNode layoutGraph, final ElkPadding padding) {
-        double targetWidth = layoutGraph.getProperty(InternalProperties.TARGET_WIDTH);
+        return start(rectangles, progressMonitor, layoutGraph, padding,
+                layoutGraph.getProperty(InternalProperties.TARGET_WIDTH));
+    }
+
+    /**
+     * Placement of the rectangles given by {@link ElkNode} inside a bounding box of the given target width. The same
+     * object may be used for several placements, each of which resets the potential row width changes. The rows of a
+     * placement remain valid until the placement after the next one, which reuses their rows and blocks.
+     * @param rectangles The set of rectangles to be placed inside the bounding box.
+     * @param progressMonitor The progress monitor.
+     * @param layoutGraph The graph whose children are placed.
+     * @param padding The padding of the graph.
+     * @param targetWidth The target width to place the rectangles in.
+     * @return Drawing data for a produced drawing.
+     */
+    public DrawingData start(final List<ElkNode> rectangles, final IElkProgressMonitor progressMonitor,
+            final ElkNode layoutGraph, final ElkPadding padding, final double targetWidth) {
+        potentialRowWidthDecreaseMin = Double.POSITIVE_INFINITY;
+        potentialRowWidthDecreaseMax = 0;
+        potentialRowWidthIncreaseMin = Double.POSITIVE_INFINITY;
+        potentialRowWidthIncreaseMax = 0;
         double minWidth = layoutGraph.getProperty(InternalProperties.MIN_WIDTH);
         double minHeight = layoutGraph.getProperty(InternalProperties.MIN_HEIGHT);
         // Reset coordinates potentially set by width approximation.
         DrawingUtil.resetCoordinates(layoutGraph.getChildren());
 
+        // Reuse the rows and blocks of the placement before the previous one.
+        PlacementPool currentPool = previousPool;
+        previousPool = pool;
+        pool = currentPool;
+        pool.recycle();
+
         // Initial placement for rectangles in blocks in each row.
-        List<RectRow> rows = InitialPlacement.place(layoutGraph.getChildren(), targetWidth, nodeNodeSpacing);
+        List<RectRow> rows = InitialPlacement.place(layoutGraph.getChildren(), targetWidth, nodeNodeSpacing, pool);
         
         // Compaction of blocks.
         for (int rowIdx = 0; rowIdx < rows.size(); rowIdx++) {
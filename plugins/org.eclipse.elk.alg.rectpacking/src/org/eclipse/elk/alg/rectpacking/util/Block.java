@@ -45,7 +45,7 @@ public class Block {
     /** Rectangles contained in this block. */
     private final List<ElkNode> children = new ArrayList<ElkNode>();
     /** The rectangles in children assigned to rows. */
-    private List<BlockRow> rows = new ArrayList<BlockRow>();
+    private final List<BlockRow> rows = new ArrayList<BlockRow>();
     /** X coordinate of this block. */
     private double x;
     /** Y coordinate of this block. */
@@ -60,6 +60,8 @@ public class Block {
     private boolean fixed;
     /** Whether the current block has a fixed position. */
     private boolean positionFixed;
+    /** The pool this block and its rows were obtained from, if any. */
+    private PlacementPool pool;
 
     //////////////////////////////////////////////////////////////////
     // Constructor
@@ -100,7 +102,7 @@ public class Block {
      */
     public void addChild(final ElkNode rect) {
         if (rows.isEmpty()) {
-            rows.add(new BlockRow(this.x, this.y, nodeNodeSpacing));
+            rows.add(createRow(this.x, this.y));
         }
         this.children.add(rect);
         this.rows.get(rows.size() - 1).addRectangle(rect);
@@ -110,7 +112,7 @@ public class Block {
     public void addChildInNewRow(final ElkNode rect) {
         this.children.add(rect);
         BlockRow lastRow = getLastRow();
-        rows.add(new BlockRow(this.x, lastRow.getY() + lastRow.getHeight() + nodeNodeSpacing, nodeNodeSpacing));
+        rows.add(createRow(this.x, lastRow.getY() + lastRow.getHeight() + nodeNodeSpacing));
         getLastRow().addRectangle(rect);
         adjustSizeAdd(rect);
         
@@ -155,6 +157,16 @@ public class Block {
         this.y = yCoord;
     }
 
+    /**
+     * Creates a new row for this block, which is not yet added to its rows.
+     * @param xCoord The x-coordinate of the row.
+     * @param yCoord The y-coordinate of the row.
+     * @return The new row.
+     */
+    private BlockRow createRow(final double xCoord, final double yCoord) {
+        return pool == null ? new BlockRow(xCoord, yCoord, nodeNodeSpacing) : pool.obtainBlockRow(xCoord, yCoord);
+    }
+
     /**
      * Shifts rectangles by the given vector.
      * @param xChange Change in x-coordinate.
@@ -255,7 +267,7 @@ public class Block {
         int row = 0;
         if (placeRects) {
             rows.clear();
-            rows.add(new BlockRow(this.x, this.y, nodeNodeSpacing));
+            rows.add(createRow(this.x, this.y));
         }
         // Current index in row.
         int index = 0;
@@ -271,7 +283,7 @@ public class Block {
                 widthInRow = 0;
                 if (placeRects) {
                     row++;
-                    rows.add(new BlockRow(this.x, currentY, nodeNodeSpacing));
+                    rows.add(createRow(this.x, currentY));
                 }
                 // Reset current index in row
                 index = 0;
@@ -586,4 +598,42 @@ public class Block {
     public void resetBlock() {
         adjustSizeAfterRemove();
     }
+
+    /**
+     * Resets this block to an empty block at the given location.
+     * 
+     * @param xCoord
+     *            x-coordinate of the block.
+     * @param yCoord
+     *            y-coordinate of the block.
+     * @param parentRow
+     *            row this block is assigned to.
+     */
+    void reset(final double xCoord, final double yCoord, final RectRow parentRow) {
+        this.smallestRectWidth = Double.POSITIVE_INFINITY;
+        this.minWidth = 0;
+        this.width = 0;
+        this.minHeight = 0;
+        this.smallestRectHeight = Double.POSITIVE_INFINITY;
+        this.averageHeight = 0;
+        this.maxHeight = 0;
+        this.height = 0;
+        this.children.clear();
+        this.rows.clear();
+        this.x = xCoord;
+        this.y = yCoord;
+        this.parentRow = parentRow;
+        this.stack = null;
+        this.fixed = false;
+        this.positionFixed = false;
+    }
+
+    /**
+     * Sets the pool new rows of this block are obtained from.
+     * 
+     * @param pool The pool.
+     */
+    void setPool(final PlacementPool pool) {
+        this.pool = pool;
+    }
 }
@@ -49,7 +49,7 @@ public class BlockRow {
     /**
      * Rectangles assigned to the row.
      */
-    private List<ElkNode> rects = new ArrayList<>();
+    private final List<ElkNode> rects = new ArrayList<>();
 
     //////////////////////////////////////////////////////////////////
     // Constructors.
@@ -138,6 +138,19 @@ public class BlockRow {
         }
     }
     
+    /**
+     * Resets this row to an empty row at the given location.
+     * @param x The x-coordinate of the row.
+     * @param y The y-coordinate of the row.
+     */
+    void reset(final double x, final double y) {
+        this.x = x;
+        this.y = y;
+        this.width = 0;
+        this.height = 0;
+        this.rects.clear();
+    }
+    
     //////////////////////////////////////////////////////////////////
     // Getters and setters.
 
@@ -23,7 +23,7 @@ public class BlockStack {
     /**
      * The blocks assigned to this stack.
      */
-    private List<Block> blocks;
+    private final List<Block> blocks;
     /**
      * x-coordinate of this stack.
      */
@@ -177,6 +177,19 @@ public class BlockStack {
         }
     }
 
+    /**
+     * Resets this stack to an empty stack at the given location.
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     */
+    void reset(final double x, final double y) {
+        blocks.clear();
+        this.x = x;
+        this.y = y;
+        this.width = 0;
+        this.height = 0;
+    }
+
     //////////////////////////////////////////////////////////////////
     // Helper methods.
     
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.rectpacking.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the {@link RectRow}s, {@link Block}s, {@link BlockStack}s, and {@link BlockRow}s of a placement such that
+ * they can be reset and reused by a later placement instead of being allocated again. Rows and blocks obtained from
+ * a pool obtain their stacks and block rows from the same pool.
+ *
+ * <p>
+ * Objects are handed out in the order they were created, and none of them is handed out twice until
+ * {@link #recycle()} is called. After that, everything obtained from this pool before must not be used anymore.
+ * </p>
+ */
+public class PlacementPool {
+    //////////////////////////////////////////////////////////////////
+    // Fields.
+    /** Spacing between two nodes. */
+    private final double nodeNodeSpacing;
+    /** The list of rows handed out by {@link #obtainRowList()}. */
+    private final List<RectRow> rowList = new ArrayList<>();
+    /** All rows created by this pool. */
+    private final List<RectRow> rows = new ArrayList<>();
+    /** All blocks created by this pool. */
+    private final List<Block> blocks = new ArrayList<>();
+    /** All stacks created by this pool. */
+    private final List<BlockStack> stacks = new ArrayList<>();
+    /** All block rows created by this pool. */
+    private final List<BlockRow> blockRows = new ArrayList<>();
+    /** Number of rows handed out since the last recycling. */
+    private int usedRows = 0;
+    /** Number of blocks handed out since the last recycling. */
+    private int usedBlocks = 0;
+    /** Number of stacks handed out since the last recycling. */
+    private int usedStacks = 0;
+    /** Number of block rows handed out since the last recycling. */
+    private int usedBlockRows = 0;
+
+    //////////////////////////////////////////////////////////////////
+    // Constructors.
+    /**
+     * Creates an empty pool.
+     *
+     * @param nodeNodeSpacing The spacing between two nodes used by all objects of this pool.
+     */
+    public PlacementPool(final double nodeNodeSpacing) {
+        this.nodeNodeSpacing = nodeNodeSpacing;
+    }
+
+    //////////////////////////////////////////////////////////////////
+    // Public methods.
+    /**
+     * Makes all objects of this pool available again.
+     */
+    public void recycle() {
+        usedRows = 0;
+        usedBlocks = 0;
+        usedStacks = 0;
+        usedBlockRows = 0;
+    }
+
+    /**
+     * Returns the empty list of rows of this pool.
+     *
+     * @return The list of rows.
+     */
+    public List<RectRow> obtainRowList() {
+        rowList.clear();
+        return rowList;
+    }
+
+    /**
+     * Returns an empty row.
+     *
+     * @param y The y-coordinate of the row.
+     * @return The row.
+     */
+    public RectRow obtainRow(final double y) {
+        if (usedRows == rows.size()) {
+            RectRow row = new RectRow(y, nodeNodeSpacing);
+            row.setPool(this);
+            rows.add(row);
+        } else {
+            rows.get(usedRows).reset(y);
+        }
+        return rows.get(usedRows++);
+    }
+
+    /**
+     * Returns an empty block.
+     *
+     * @param x The x-coordinate of the block.
+     * @param y The y-coordinate of the block.
+     * @param parentRow The row the block is assigned to.
+     * @return The block.
+     */
+    public Block obtainBlock(final double x, final double y, final RectRow parentRow) {
+        if (usedBlocks == blocks.size()) {
+            Block block = new Block(x, y, parentRow, nodeNodeSpacing);
+            block.setPool(this);
+            blocks.add(block);
+        } else {
+            blocks.get(usedBlocks).reset(x, y, parentRow);
+        }
+        return blocks.get(usedBlocks++);
+    }
+
+    /**
+     * Returns an empty stack.
+     *
+     * @param x The x-coordinate of the stack.
+     * @param y The y-coordinate of the stack.
+     * @return The stack.
+     */
+    public BlockStack obtainStack(final double x, final double y) {
+        if (usedStacks == stacks.size()) {
+            stacks.add(new BlockStack(x, y, nodeNodeSpacing));
+        } else {
+            stacks.get(usedStacks).reset(x, y);
+        }
+        return stacks.get(usedStacks++);
+    }
+
+    /**
+     * Returns an empty block row.
+     *
+     * @param x The x-coordinate of the block row.
+     * @param y The y-coordinate of the block row.
+     * @return The block row.
+     */
+    public BlockRow obtainBlockRow(final double x, final double y) {
+        if (usedBlockRows == blockRows.size()) {
+            blockRows.add(new BlockRow(x, y, nodeNodeSpacing));
+        } else {
+            blockRows.get(usedBlockRows).reset(x, y);
+        }
+        return blockRows.get(usedBlockRows++);
+    }
+}
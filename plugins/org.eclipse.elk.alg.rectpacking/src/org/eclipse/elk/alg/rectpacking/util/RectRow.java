@@ -33,7 +33,9 @@ public class RectRow {
      * This row's stacks of blocks. 
      * Used during the compaction step for better handling and during the stuffing (expansion) process.
      */
-    private List<BlockStack> stacks = new ArrayList<BlockStack>();
+    private final List<BlockStack> stacks = new ArrayList<BlockStack>();
+    /** The pool this row and its stacks were obtained from, if any. */
+    private PlacementPool pool;
 
     /**
      * The width that was missing to add the first block of the next row into this one.
@@ -56,6 +58,17 @@ public class RectRow {
     //////////////////////////////////////////////////////////////////
     // Public methods.
 
+    /**
+     * Creates a new stack for this row, which is not yet added to its stacks.
+     * 
+     * @param x The x-coordinate of the stack.
+     * @param y The y-coordinate of the stack.
+     * @return The new stack.
+     */
+    public BlockStack createStack(final double x, final double y) {
+        return pool == null ? new BlockStack(x, y, nodeNodeSpacing) : pool.obtainStack(x, y);
+    }
+
     /**
      * Called by one of its assigned blocks when a change was made to respective block like removing or adding a
      * rectangle. By removing or adding a rectangle, the blocks dimensions change which might affect this rows
@@ -94,7 +107,7 @@ public class RectRow {
         double currentX = -1;
         for (Block block : children) {
             if (block.getX() != currentX) {
-                stacks.add(new BlockStack(block.getX(), this.y, nodeNodeSpacing));
+                stacks.add(createStack(block.getX(), this.y));
                 stacks.get(stacks.size() - 1).addBlock(block);
                 currentX = block.getX();
             } else {
@@ -242,7 +255,29 @@ public class RectRow {
      * Removes all created stacks. Should only be used when reevaluating the packing in a row.
      */
     public void resetStacks() {
-        this.stacks = new ArrayList<BlockStack>();
+        this.stacks.clear();
+    }
+
+    /**
+     * Resets this row to an empty row at the given y-coordinate.
+     * 
+     * @param y The y-coordinate of the row.
+     */
+    void reset(final double y) {
+        this.height = 0;
+        this.width = 0;
+        this.y = y;
+        this.children.clear();
+        this.stacks.clear();
+        this.potentialAdditionalWidthToGetLastBlock = 0;
+    }
 
+    /**
+     * Sets the pool new stacks of this row are obtained from.
+     * 
+     * @param pool The pool.
+     */
+    void setPool(final PlacementPool pool) {
+        this.pool = pool;
     }
 }
@@ -28,6 +28,7 @@ import org.eclipse.elk.alg.spore.options.TreeConstructionStrategy;
 import org.eclipse.elk.core.AbstractLayoutProvider;
 import org.eclipse.elk.core.alg.AlgorithmAssembler;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.alg.LayoutProcessorRunner;
 import org.eclipse.elk.core.data.LayoutAlgorithmData;
 import org.eclipse.elk.core.data.LayoutMetaDataService;
 import org.eclipse.elk.core.util.ElkUtil;
@@ -47,6 +48,9 @@ public class OverlapRemovalLayoutProvider extends AbstractLayoutProvider {
     private AlgorithmAssembler<SPOrEPhases, Graph> algorithmAssembler =
             AlgorithmAssembler.<SPOrEPhases, Graph>create(SPOrEPhases.class);
     private List<ILayoutProcessor<Graph>> algorithm;
+    private final LayoutProcessorRunner<Graph> processorRunner = new LayoutProcessorRunner<>(
+            SporeOverlapRemovalOptions.ALGORITHM_ID, graph -> graph.vertices.size(),
+            graph -> graph.tEdges == null ? 0 : graph.tEdges.size());
 
     @Override
     public void layout(final ElkNode layoutGraph, final IElkProgressMonitor progressMonitor) {
@@ -109,7 +113,7 @@ public class OverlapRemovalLayoutProvider extends AbstractLayoutProvider {
                     OverlapRemovalStrategy.GROW_TREE);
             algorithm = algorithmAssembler.build(graph);
             for (ILayoutProcessor<Graph> processor : algorithm) {
-                processor.process(graph, progressMonitor.subTask(1));
+                processorRunner.process(processor, graph, progressMonitor.subTask(1));
             }
             
             // update node positions 
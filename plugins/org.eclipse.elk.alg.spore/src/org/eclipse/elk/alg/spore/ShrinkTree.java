@@ -12,9 +12,11 @@ package org.eclipse.elk.alg.spore;
 import java.util.List;
 
 import org.eclipse.elk.alg.spore.graph.Graph;
+import org.eclipse.elk.alg.spore.options.SporeCompactionOptions;
 import org.eclipse.elk.alg.spore.options.StructureExtractionStrategy;
 import org.eclipse.elk.core.alg.AlgorithmAssembler;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.alg.LayoutProcessorRunner;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 
 /**
@@ -36,6 +38,9 @@ public final class ShrinkTree {
     private AlgorithmAssembler<SPOrEPhases, Graph> algorithmAssembler =
             AlgorithmAssembler.<SPOrEPhases, Graph>create(SPOrEPhases.class);
     private List<ILayoutProcessor<Graph>> algorithm;
+    private final LayoutProcessorRunner<Graph> processorRunner = new LayoutProcessorRunner<>(
+            SporeCompactionOptions.ALGORITHM_ID, graph -> graph.vertices.size(),
+            graph -> graph.tEdges == null ? 0 : graph.tEdges.size());
     
     /**
      * Executes the phases of compaction by shrinking a tree.
@@ -60,7 +65,7 @@ public final class ShrinkTree {
         // only compact if there's more than one element to avoid lack of compaction edges and root node
         if (graph.vertices.size() > 1) {
             for (ILayoutProcessor<Graph> processor : algorithm) {
-                processor.process(graph, progressMonitor.subTask(1));
+                processorRunner.process(processor, graph, progressMonitor.subTask(1));
             }
         }
 
@@ -16,6 +16,7 @@ import org.eclipse.elk.core.AbstractLayoutProvider;
 import org.eclipse.elk.core.ITopdownLayoutProvider;
 import org.eclipse.elk.core.alg.AlgorithmAssembler;
 import org.eclipse.elk.core.alg.ILayoutProcessor;
+import org.eclipse.elk.core.alg.LayoutProcessorRunner;
 import org.eclipse.elk.core.math.KVector;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.graph.ElkNode;
@@ -30,6 +31,9 @@ public class TopdownpackingLayoutProvider extends AbstractLayoutProvider impleme
 
     private final AlgorithmAssembler<TopdownPackingPhases, GridElkNode> algorithmAssembler =
             AlgorithmAssembler.<TopdownPackingPhases, GridElkNode>create(TopdownPackingPhases.class);
+    private final LayoutProcessorRunner<GridElkNode> processorRunner = new LayoutProcessorRunner<>(
+            TopdownpackingOptions.ALGORITHM_ID, graph -> graph.getChildren().size(),
+            graph -> graph.getContainedEdges().size());
     
     @Override
     public void layout(ElkNode layoutGraph, IElkProgressMonitor progressMonitor) {
@@ -44,7 +48,7 @@ public class TopdownpackingLayoutProvider extends AbstractLayoutProvider impleme
         progressMonitor.begin("Topdown Packing", algorithm.size());
         
         for (ILayoutProcessor<GridElkNode> processor : algorithm) {
-            processor.process(wrappedGraph, progressMonitor.subTask(1));
+            processorRunner.process(processor, wrappedGraph, progressMonitor.subTask(1));
         }
         
         progressMonitor.done();
@@ -9,6 +9,10 @@
  *******************************************************************************/
 package org.eclipse.elk.core;
 
+// elkjs-exclude-start
+import java.util.concurrent.ForkJoinPool;
+// elkjs-exclude-end
+
 import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.graph.ElkNode;
 
@@ -32,5 +36,17 @@ public interface IGraphLayoutEngine {
      *             if the layout configuration included in the graph is inconsistent or incompatible
      */
     void layout(ElkNode layoutGraph, IElkProgressMonitor progressMonitor);
+    
+    // elkjs-exclude-start
+    /**
+     * Sets the pool used to lay out independent parts of a graph concurrently. Engines that do not support
+     * concurrent layout may ignore this, which is what the default implementation does.
+     * 
+     * @param pool
+     *            the pool to execute concurrent layout runs on, or {@code null} if a default pool shall be used
+     */
+    default void setForkJoinPool(final ForkJoinPool pool) {
+    }
+    // elkjs-exclude-end
 
 }
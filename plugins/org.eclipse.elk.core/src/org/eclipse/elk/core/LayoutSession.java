@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core;
+
+import java.util.Map;
+
+import org.eclipse.elk.core.data.LayoutAlgorithmData;
+import org.eclipse.elk.core.data.LayoutAlgorithmResolver;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.testing.TestController;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+
+import com.google.common.collect.Maps;
+
+/**
+ * A graph layout engine for laying out many similarly configured graphs one after another, for example in a service
+ * that computes layouts on request. Compared to a plain {@link RecursiveGraphLayoutEngine}, a session keeps the
+ * following things alive between layouts:
+ * <ul>
+ *   <li>The layout algorithms resolved for the algorithm identifiers configured on the graphs.</li>
+ *   <li>One layout provider instance for each layout algorithm used. Layout providers that assemble their algorithm
+ *     with an {@link org.eclipse.elk.core.alg.AlgorithmAssembler AlgorithmAssembler} thus keep their phase and
+ *     processor instances as well as the assembled list of processors, which is reused as long as the graphs require
+ *     the same processors.</li>
+ * </ul>
+ *
+ * <p>Layout providers are fetched from the instance pools of their layout algorithms when first needed. If a session's
+ * layout provider is in use while another graph is to be laid out with the same algorithm, for example because
+ * {@link org.eclipse.elk.core.options.CoreOptions#PARALLEL_LAYOUT} is enabled or because the session is used by
+ * several threads, a further instance is fetched from the pool and released back into it afterwards. Closing the
+ * session releases its layout providers into their pools as well.</p>
+ *
+ * <p>Example:</p>
+ * <pre>
+ * try (LayoutSession session = new LayoutSession()) {
+ *     for (ElkNode graph : graphs) {
+ *         session.layout(graph, new BasicProgressMonitor());
+ *     }
+ * }
+ * </pre>
+ */
+public class LayoutSession extends RecursiveGraphLayoutEngine implements AutoCloseable {
+
+    /** the algorithm resolver shared by all layouts of this session. */
+    private final SessionAlgorithmResolver algorithmResolver = new SessionAlgorithmResolver();
+    /** the layout providers of this session that are currently not in use. */
+    private final Map<LayoutAlgorithmData, AbstractLayoutProvider> idleProviders = Maps.newHashMap();
+    /** lock used for synchronization. */
+    private final Object lock = new Object();
+    /** whether the session has been closed. */
+    private boolean closed = false;
+
+    @Override
+    public void layout(final ElkNode layoutGraph, final TestController testController,
+            final IElkProgressMonitor progressMonitor) {
+        
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("The layout session has already been closed.");
+            }
+        }
+        super.layout(layoutGraph, testController, progressMonitor);
+    }
+
+    @Override
+    protected LayoutAlgorithmResolver getAlgorithmResolver() {
+        return algorithmResolver;
+    }
+
+    @Override
+    protected AbstractLayoutProvider fetchLayoutProvider(final LayoutAlgorithmData algorithmData) {
+        synchronized (lock) {
+            AbstractLayoutProvider layoutProvider = idleProviders.remove(algorithmData);
+            if (layoutProvider != null) {
+                return layoutProvider;
+            }
+        }
+        return super.fetchLayoutProvider(algorithmData);
+    }
+
+    @Override
+    protected void releaseLayoutProvider(final LayoutAlgorithmData algorithmData,
+            final AbstractLayoutProvider layoutProvider) {
+        
+        synchronized (lock) {
+            if (!closed && !idleProviders.containsKey(algorithmData)) {
+                idleProviders.put(algorithmData, layoutProvider);
+                return;
+            }
+        }
+        super.releaseLayoutProvider(algorithmData, layoutProvider);
+    }
+
+    /**
+     * Releases the layout providers kept by this session into the instance pools of their layout algorithms. Layouts
+     * still running finish normally, but no new layouts can be started.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            for (Map.Entry<LayoutAlgorithmData, AbstractLayoutProvider> entry : idleProviders.entrySet()) {
+                entry.getKey().getInstancePool().release(entry.getValue());
+            }
+            idleProviders.clear();
+        }
+    }
+    
+    
+    /**
+     * An algorithm resolver that remembers the layout algorithm resolved for each algorithm identifier.
+     */
+    private static final class SessionAlgorithmResolver extends LayoutAlgorithmResolver {
+        
+        /** the layout algorithms resolved so far, by the algorithm identifier they were resolved for. */
+        private final Map<String, LayoutAlgorithmData> resolvedAlgorithms = Maps.newHashMap();
+        
+        @Override
+        protected boolean resolveAndSetAlgorithm(final String algorithmId, final ElkNode node) {
+            LayoutAlgorithmData algorithmData;
+            synchronized (resolvedAlgorithms) {
+                algorithmData = resolvedAlgorithms.get(algorithmId);
+            }
+            
+            if (algorithmData == null) {
+                if (!super.resolveAndSetAlgorithm(algorithmId, node)) {
+                    return false;
+                }
+                synchronized (resolvedAlgorithms) {
+                    resolvedAlgorithms.put(algorithmId, node.getProperty(CoreOptions.RESOLVED_ALGORITHM));
+                }
+            } else {
+                node.setProperty(CoreOptions.RESOLVED_ALGORITHM, algorithmData);
+            }
+            return true;
+        }
+        
+    }
+
+}
@@ -13,6 +13,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+// elkjs-exclude-start
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+// elkjs-exclude-end
 
 import org.eclipse.elk.core.data.DeprecatedLayoutOptionReplacer;
 import org.eclipse.elk.core.data.LayoutAlgorithmData;
@@ -28,6 +32,9 @@ import org.eclipse.elk.core.options.TopdownSizeApproximator;
 import org.eclipse.elk.core.testing.TestController;
 import org.eclipse.elk.core.util.ElkUtil;
 import org.eclipse.elk.core.util.IElkProgressMonitor;
+// elkjs-exclude-start
+import org.eclipse.elk.core.util.SynchronizedProgressMonitor;
+// elkjs-exclude-end
 import org.eclipse.elk.graph.ElkBendPoint;
 import org.eclipse.elk.graph.ElkConnectableShape;
 import org.eclipse.elk.graph.ElkEdge;
@@ -62,6 +69,12 @@ import com.google.common.collect.Lists;
  * </p>
  * 
  * <p>
+ * If {@link CoreOptions#PARALLEL_LAYOUT} is enabled on a parent node, its children that are laid out separately are
+ * laid out concurrently on a {@link ForkJoinPool}, which can be configured through
+ * {@link #setForkJoinPool(ForkJoinPool)}. All of them are finished before the parent node itself is laid out.
+ * </p>
+ * 
+ * <p>
  * MIGRATE Extend the graph layout engine to offset edge coordinates properly
  * </p> 
  * 
@@ -70,6 +83,16 @@ import com.google.common.collect.Lists;
  */
 public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
     
+    // elkjs-exclude-start
+    /** the pool to run concurrent layouts on; if {@code null}, the common pool is used. */
+    private ForkJoinPool forkJoinPool;
+    
+    @Override
+    public void setForkJoinPool(final ForkJoinPool pool) {
+        this.forkJoinPool = pool;
+    }
+    // elkjs-exclude-end
+    
     /**
      * Performs recursive layout on the given layout graph.
      * 
@@ -97,7 +120,7 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
 
         if (!layoutGraph.hasProperty(CoreOptions.RESOLVED_ALGORITHM)) {
             // Apply the default algorithm resolver to the graph in order to obtain algorithm meta data
-            ElkUtil.applyVisitors(layoutGraph, new LayoutAlgorithmResolver());
+            ElkUtil.applyVisitors(layoutGraph, getAlgorithmResolver());
         }
         
         // Perform recursive layout of the whole substructure of the given node
@@ -234,18 +257,26 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                             // provider if yes its size needs to be pre-computed before computing the layout
                             LayoutAlgorithmData localAlgorithmData = 
                                     childNode.getProperty(CoreOptions.RESOLVED_ALGORITHM);
-                            if (childNode.getChildren().size() > 0
-                                    && localAlgorithmData.getInstancePool().fetch() instanceof ITopdownLayoutProvider) {
+                            AbstractLayoutProvider childLayoutProvider = null;
+                            if (childNode.getChildren().size() > 0) {
+                                childLayoutProvider = fetchLayoutProvider(localAlgorithmData);
+                                if (!(childLayoutProvider instanceof ITopdownLayoutProvider)) {
+                                    releaseLayoutProvider(localAlgorithmData, childLayoutProvider);
+                                    childLayoutProvider = null;
+                                }
+                            }
+                            
+                            if (childLayoutProvider != null) {
                                 // topdownlayout providers should not be used on hierarchical nodes
                                 if (childNode.getProperty(CoreOptions.TOPDOWN_NODE_TYPE)
                                         .equals(TopdownNodeTypes.HIERARCHICAL_NODE)) {
                                     throw new UnsupportedConfigurationException(
                                             "Topdown Layout Providers should only be used on parallel nodes.");
                                 }
-                                ITopdownLayoutProvider topdownLayoutProvider = 
-                                        (ITopdownLayoutProvider) localAlgorithmData.getInstancePool().fetch();
+                                KVector requiredSize = ((ITopdownLayoutProvider) childLayoutProvider)
+                                        .getPredictedGraphSize(childNode);
+                                releaseLayoutProvider(localAlgorithmData, childLayoutProvider);
                                 
-                                KVector requiredSize = topdownLayoutProvider.getPredictedGraphSize(childNode);
                                 childNode.setDimensions(Math.max(childNode.getWidth(), requiredSize.x), 
                                         Math.max(childNode.getHeight(), requiredSize.y));
                             } else if (childNode.getProperty(CoreOptions.TOPDOWN_SIZE_APPROXIMATOR) != null) {
@@ -398,12 +429,20 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
                 }
                 
                 // Layout each compound node contained in this node separately
-                for (ElkNode child : layoutNode.getChildren()) {
-                    List<ElkEdge> childLayoutSelfLoops = layoutRecursively(child, testController, progressMonitor); 
-                    childrenInsideSelfLoops.addAll(childLayoutSelfLoops);
-                    
-                    // Apply the LayoutOptions.SCALE_FACTOR if present
-                    ElkUtil.applyConfiguredNodeScaling(child);
+                boolean childrenLaidOut = false;
+                // elkjs-exclude-start
+                childrenLaidOut = layoutChildrenConcurrently(layoutNode, childrenInsideSelfLoops, testController,
+                        progressMonitor);
+                // elkjs-exclude-end
+                if (!childrenLaidOut) {
+                    for (ElkNode child : layoutNode.getChildren()) {
+                        List<ElkEdge> childLayoutSelfLoops =
+                                layoutRecursively(child, testController, progressMonitor); 
+                        childrenInsideSelfLoops.addAll(childLayoutSelfLoops);
+                        
+                        // Apply the LayoutOptions.SCALE_FACTOR if present
+                        ElkUtil.applyConfiguredNodeScaling(child);
+                    }
                 }
             }
 
@@ -435,6 +474,69 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
         }
     }
 
+    // elkjs-exclude-start
+    /**
+     * Lays out the children of the given node concurrently if {@link CoreOptions#PARALLEL_LAYOUT} is enabled on it
+     * and at least two of its children have children of their own. Each child is laid out recursively in its own
+     * task; the method only returns once all tasks have finished. The inside self loops of the children are
+     * collected in the order of the children, just as they would be when laying them out sequentially.
+     * 
+     * <p>Since test controllers are stateful, no concurrent layout is performed when one is given.</p>
+     * 
+     * @param layoutNode the node whose children to lay out.
+     * @param childrenInsideSelfLoops list that the children's inside self loops are added to.
+     * @param testController an optional test controller if this layout run is part of a unit test.
+     * @param progressMonitor monitor used to keep track of progress.
+     * @return {@code true} if the children were laid out, {@code false} if they still need to be laid out
+     *         sequentially.
+     */
+    private boolean layoutChildrenConcurrently(final ElkNode layoutNode, final List<ElkEdge> childrenInsideSelfLoops,
+            final TestController testController, final IElkProgressMonitor progressMonitor) {
+        
+        if (testController != null || !layoutNode.getProperty(CoreOptions.PARALLEL_LAYOUT)) {
+            return false;
+        }
+        
+        int compoundChildren = 0;
+        for (ElkNode child : layoutNode.getChildren()) {
+            if (!child.getChildren().isEmpty()) {
+                compoundChildren++;
+            }
+        }
+        if (compoundChildren < 2) {
+            return false;
+        }
+        
+        // The progress monitor is not thread-safe, so all tasks report to a synchronized view of it
+        final IElkProgressMonitor sharedMonitor = SynchronizedProgressMonitor.synchronize(progressMonitor);
+        
+        final List<ForkJoinTask<List<ElkEdge>>> tasks = Lists.newArrayListWithCapacity(
+                layoutNode.getChildren().size());
+        for (ElkNode child : layoutNode.getChildren()) {
+            tasks.add(ForkJoinTask.adapt(() -> {
+                List<ElkEdge> childLayoutSelfLoops = layoutRecursively(child, null, sharedMonitor);
+                
+                // Apply the LayoutOptions.SCALE_FACTOR if present
+                ElkUtil.applyConfiguredNodeScaling(child);
+                return childLayoutSelfLoops;
+            }));
+        }
+        
+        ForkJoinPool pool = forkJoinPool != null ? forkJoinPool : ForkJoinPool.commonPool();
+        if (ForkJoinTask.getPool() == pool) {
+            // We are already running as part of a concurrent layout on the pool, so simply fork the tasks
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+        }
+        
+        for (ForkJoinTask<List<ElkEdge>> task : tasks) {
+            childrenInsideSelfLoops.addAll(task.join());
+        }
+        return true;
+    }
+    // elkjs-exclude-end
+
     /**
      * Execute the given layout algorithm on a parent node.
      */
@@ -442,7 +544,7 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
             final TestController testController, final IElkProgressMonitor progressMonitor) {
         
         // Get an instance of the layout provider
-        AbstractLayoutProvider layoutProvider = algorithmData.getInstancePool().fetch();
+        AbstractLayoutProvider layoutProvider = fetchLayoutProvider(algorithmData);
         
         // If we have a test controller and the layout algorithm supports test controllers, setup the test
         if (testController != null && testController.targets(algorithmData)) {
@@ -452,7 +554,7 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
         try {
             // Perform layout on the current hierarchy level
             layoutProvider.layout(layoutNode, progressMonitor);
-            algorithmData.getInstancePool().release(layoutProvider);
+            releaseLayoutProvider(algorithmData, layoutProvider);
         } catch (Exception exception) {
             // The layout provider has failed - destroy it slowly and painfully
             layoutProvider.dispose();
@@ -464,6 +566,40 @@ public class RecursiveGraphLayoutEngine implements IGraphLayoutEngine {
         }
     }
 
+    /**
+     * Returns the resolver applied to graphs whose layout algorithms have not been resolved yet. The default
+     * implementation returns a new {@link LayoutAlgorithmResolver}.
+     * 
+     * @return the algorithm resolver to apply.
+     */
+    protected LayoutAlgorithmResolver getAlgorithmResolver() {
+        return new LayoutAlgorithmResolver();
+    }
+
+    /**
+     * Returns an instance of the layout provider of the given algorithm to lay out a graph with. The default
+     * implementation fetches it from the algorithm's instance pool.
+     * 
+     * @param algorithmData the layout algorithm to fetch a layout provider for.
+     * @return a layout provider that is not currently used by anyone else.
+     */
+    protected AbstractLayoutProvider fetchLayoutProvider(final LayoutAlgorithmData algorithmData) {
+        return algorithmData.getInstancePool().fetch();
+    }
+
+    /**
+     * Releases a layout provider obtained through {@link #fetchLayoutProvider(LayoutAlgorithmData)} after it has
+     * successfully laid out a graph. The default implementation releases it into the algorithm's instance pool.
+     * 
+     * @param algorithmData the layout algorithm the layout provider was fetched for.
+     * @param layoutProvider the layout provider, which may be used again.
+     */
+    protected void releaseLayoutProvider(final LayoutAlgorithmData algorithmData,
+            final AbstractLayoutProvider layoutProvider) {
+        
+        algorithmData.getInstancePool().release(layoutProvider);
+    }
+
     /**
      * Determines the total number of layout nodes in the given layout graph.
      * 
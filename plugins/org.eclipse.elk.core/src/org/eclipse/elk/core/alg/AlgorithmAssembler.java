@@ -76,7 +76,9 @@ import com.google.common.collect.Maps;
  * <p>
  * The assembler does not use phase or processor instances themselves, but instead relies on phase and processor
  * factories. It can cache phase and processor instances obtained from these factories between subsequent calls to the
- * {@link #build(Object)} method. By default, caching is enabled.
+ * {@link #build(Object)} method. By default, caching is enabled. If caching is enabled and an algorithm is built from
+ * the same phases and processors as the previously built one, the previously built list of processors is reused instead
+ * of sorting the processors again.
  * </p>
  * 
  * 
@@ -119,6 +121,10 @@ public final class AlgorithmAssembler<P extends Enum<P>, G>
     private final LayoutProcessorConfiguration<P, G> additionalProcessors;
     /** The cache for phase and processor instances, if caching is enabled. */
     private final Map<ILayoutProcessorFactory<G>, ILayoutProcessor<G>> cache;
+    /** The phases and the processors of each processing slot of the last algorithm built with caching enabled. */
+    private List<Object> lastAlgorithmKey;
+    /** The last algorithm built with caching enabled. */
+    private List<ILayoutProcessor<G>> lastAlgorithm;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Creation
@@ -161,6 +167,7 @@ public final class AlgorithmAssembler<P extends Enum<P>, G>
      */
     public AlgorithmAssembler<P, G> withCaching(final boolean enabled) {
         enableCaching = enabled;
+        forgetLastAlgorithm();
         return this;
     }
 
@@ -187,6 +194,7 @@ public final class AlgorithmAssembler<P extends Enum<P>, G>
      */
     public AlgorithmAssembler<P, G> withProcessorComparator(final Comparator<ILayoutProcessorFactory<G>> comparator) {
         processorComparator = comparator;
+        forgetLastAlgorithm();
         return this;
     }
 
@@ -200,6 +208,7 @@ public final class AlgorithmAssembler<P extends Enum<P>, G>
      */
     public AlgorithmAssembler<P, G> clearCache() {
         cache.clear();
+        forgetLastAlgorithm();
         return this;
     }
 
@@ -287,13 +296,31 @@ public final class AlgorithmAssembler<P extends Enum<P>, G>
                 .forEach(config -> processorConfiguration.addAll(config));
         processorConfiguration.addAll(additionalProcessors);
 
+        // The processors of each processing slot, including the one after the last phase
+        List<Set<ILayoutProcessorFactory<G>>> slots = Lists.newArrayListWithCapacity(numberOfPhases + 1);
+        for (P phase : phaseEnumConstants) {
+            slots.add(processorConfiguration.processorsBefore(phase));
+        }
+        slots.add(processorConfiguration.processorsAfter(phaseEnumConstants[phaseEnumConstants.length - 1]));
+
+        // With caching enabled, the same phases and processors result in the same algorithm as last time
+        List<Object> algorithmKey = null;
+        if (enableCaching) {
+            algorithmKey = Lists.newArrayListWithCapacity(2 * numberOfPhases + 1);
+            algorithmKey.addAll(phaseImplementations);
+            algorithmKey.addAll(slots);
+            if (algorithmKey.equals(lastAlgorithmKey)) {
+                return Lists.newArrayList(lastAlgorithm);
+            }
+        }
+
         // The list of processors the algorithm will be made up of
         List<ILayoutProcessor<G>> algorithm = Lists.newArrayList();
 
         // Add processors and phases to the algorithm
         for (P phase : phaseEnumConstants) {
             // Add processors
-            algorithm.addAll(retrieveProcessors(processorConfiguration.processorsBefore(phase)));
+            algorithm.addAll(retrieveProcessors(slots.get(phase.ordinal())));
 
             // Add the phase itself, if it exists
             ILayoutPhase<P, G> phaseImplementation = phaseImplementations.get(phase.ordinal());
@@ -303,8 +330,12 @@ public final class AlgorithmAssembler<P extends Enum<P>, G>
         }
 
         // Add processors after the last phase
-        algorithm.addAll(retrieveProcessors(
-                processorConfiguration.processorsAfter(phaseEnumConstants[phaseEnumConstants.length - 1])));
+        algorithm.addAll(retrieveProcessors(slots.get(numberOfPhases)));
+
+        if (enableCaching) {
+            lastAlgorithmKey = algorithmKey;
+            lastAlgorithm = Lists.newArrayList(algorithm);
+        }
 
         return algorithm;
     }
@@ -312,6 +343,15 @@ public final class AlgorithmAssembler<P extends Enum<P>, G>
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Utilities
 
+    /**
+     * Forgets the last built algorithm, such that the next call to {@link #build(Object)} assembles the algorithm
+     * again.
+     */
+    private void forgetLastAlgorithm() {
+        lastAlgorithmKey = null;
+        lastAlgorithm = null;
+    }
+
     /*
      * (non-Javadoc)
      * 
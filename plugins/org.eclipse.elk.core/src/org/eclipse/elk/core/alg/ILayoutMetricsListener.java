@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.alg;
+
+/**
+ * Listener interface for metrics about the execution of layout algorithms built by an {@link AlgorithmAssembler}.
+ * Instances can be registered with the {@link LayoutMetricsService}. As long as no listener is registered, no metrics
+ * are collected at all.
+ *
+ * <p>Listeners are called on the thread that executed the processor, which may be any thread that runs a layout.
+ * Implementations should thus be thread-safe and return quickly.</p>
+ */
+public interface ILayoutMetricsListener {
+
+    /**
+     * Called after a layout phase or an intermediate processor has finished processing a graph.
+     *
+     * @param metrics
+     *            the metrics collected while the processor was running.
+     */
+    void processorFinished(LayoutProcessorMetrics metrics);
+
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.alg;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Keeps the {@link ILayoutMetricsListener}s that are notified about every layout processor executed by a
+ * {@link LayoutProcessorRunner}. Registering the first listener enables collecting metrics for all layout runs in this
+ * Java runtime; once the last listener has been removed, processors are executed without any overhead again.
+ */
+public final class LayoutMetricsService {
+
+    /** The singleton instance of the service. */
+    private static final LayoutMetricsService INSTANCE = new LayoutMetricsService();
+
+    /** The registered listeners. The list is replaced instead of modified to allow reading it without locking. */
+    private volatile List<ILayoutMetricsListener> listeners = ImmutableList.of();
+
+    /**
+     * Returns the singleton instance of the service.
+     */
+    public static LayoutMetricsService getInstance() {
+        return INSTANCE;
+    }
+
+    private LayoutMetricsService() {
+    }
+
+    /**
+     * Registers the given listener. Has no effect if it is already registered.
+     */
+    public synchronized void addListener(final ILayoutMetricsListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners = ImmutableList.<ILayoutMetricsListener>builder().addAll(listeners).add(listener).build();
+        }
+    }
+
+    /**
+     * Removes the given listener. Has no effect if it is not registered.
+     */
+    public synchronized void removeListener(final ILayoutMetricsListener listener) {
+        ImmutableList.Builder<ILayoutMetricsListener> remaining = ImmutableList.builder();
+        for (ILayoutMetricsListener registered : listeners) {
+            if (registered != listener) {
+                remaining.add(registered);
+            }
+        }
+        listeners = remaining.build();
+    }
+
+    /**
+     * Returns whether metrics are collected, which is the case as long as at least one listener is registered.
+     */
+    public boolean isEnabled() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Notifies all registered listeners about the given metrics.
+     */
+    void notifyListeners(final LayoutProcessorMetrics metrics) {
+        for (ILayoutMetricsListener listener : listeners) {
+            listener.processorFinished(metrics);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.alg;
+
+/**
+ * Metrics collected while a single layout phase or intermediate processor was processing a graph. Times are given in
+ * nanoseconds. CPU time and allocated bytes refer to the thread that executed the processor; work that a processor
+ * delegates to other threads is not included. Both are {@code -1} if the Java runtime cannot measure them.
+ */
+public final class LayoutProcessorMetrics {
+
+    /** Identifier of the layout algorithm the processor is part of. */
+    private final String algorithmId;
+    /** The processor that was executed. */
+    private final ILayoutProcessor<?> processor;
+    /** Elapsed real time. */
+    private final long wallTime;
+    /** CPU time used by the executing thread, or {@code -1}. */
+    private final long cpuTime;
+    /** Bytes allocated by the executing thread, or {@code -1}. */
+    private final long allocatedBytes;
+    /** Number of nodes of the graph after the processor has finished. */
+    private final int nodeCount;
+    /** Number of edges of the graph after the processor has finished. */
+    private final int edgeCount;
+
+    /**
+     * Creates a new instance with the given values.
+     */
+    public LayoutProcessorMetrics(final String algorithmId, final ILayoutProcessor<?> processor, final long wallTime,
+            final long cpuTime, final long allocatedBytes, final int nodeCount, final int edgeCount) {
+
+        this.algorithmId = algorithmId;
+        this.processor = processor;
+        this.wallTime = wallTime;
+        this.cpuTime = cpuTime;
+        this.allocatedBytes = allocatedBytes;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+    }
+
+    /**
+     * Returns the identifier of the layout algorithm the processor is part of.
+     */
+    public String getAlgorithmId() {
+        return algorithmId;
+    }
+
+    /**
+     * Returns the processor that was executed.
+     */
+    public ILayoutProcessor<?> getProcessor() {
+        return processor;
+    }
+
+    /**
+     * Returns whether the processor implements one of the algorithm's phases, as opposed to being an intermediate
+     * processor.
+     */
+    public boolean isPhase() {
+        return processor instanceof ILayoutPhase;
+    }
+
+    /**
+     * Returns the elapsed real time in nanoseconds.
+     */
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Returns the CPU time the executing thread used in nanoseconds, or {@code -1} if it could not be measured.
+     */
+    public long getCpuTime() {
+        return cpuTime;
+    }
+
+    /**
+     * Returns the number of bytes the executing thread allocated, or {@code -1} if it could not be measured.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the number of nodes of the graph after the processor has finished.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the number of edges of the graph after the processor has finished.
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public String toString() {
+        return algorithmId + " " + processor.getClass().getSimpleName() + ": " + wallTime + "ns wall, " + cpuTime
+                + "ns cpu, " + allocatedBytes + " bytes, " + nodeCount + " nodes, " + edgeCount + " edges";
+    }
+
+}
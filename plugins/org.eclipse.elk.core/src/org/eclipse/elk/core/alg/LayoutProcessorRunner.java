@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.alg;
+
+// elkjs-exclude-start
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+// elkjs-exclude-end
+import java.util.function.ToIntFunction;
+
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+
+/**
+ * Executes the processors of an algorithm built by an {@link AlgorithmAssembler} and reports metrics about each
+ * execution to the {@link LayoutMetricsService}. Layout algorithms should call
+ * {@link #process(ILayoutProcessor, Object, IElkProgressMonitor)} instead of invoking their processors directly. If
+ * no {@link ILayoutMetricsListener} is registered, this does nothing but invoke the processor.
+ *
+ * @param <G>
+ *            type of the graph the algorithm operates on.
+ */
+public final class LayoutProcessorRunner<G> {
+
+    // elkjs-exclude-start
+    /** The bean that measures the CPU time of the current thread. */
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+    /** {@code com.sun.management.ThreadMXBean.getThreadAllocatedBytes(long)}, if the runtime offers it. */
+    private static final Method ALLOCATED_BYTES_METHOD = findAllocatedBytesMethod();
+    // elkjs-exclude-end
+
+    /** Identifier of the layout algorithm whose processors are executed. */
+    private final String algorithmId;
+    /** Function that counts the nodes of a graph. */
+    private final ToIntFunction<G> nodeCounter;
+    /** Function that counts the edges of a graph. */
+    private final ToIntFunction<G> edgeCounter;
+
+    /**
+     * Creates a runner for the processors of the given algorithm.
+     *
+     * @param algorithmId
+     *            identifier of the layout algorithm whose processors are executed.
+     * @param nodeCounter
+     *            function that counts the nodes of a graph. It is only called if metrics are collected.
+     * @param edgeCounter
+     *            function that counts the edges of a graph. It is only called if metrics are collected.
+     */
+    public LayoutProcessorRunner(final String algorithmId, final ToIntFunction<G> nodeCounter,
+            final ToIntFunction<G> edgeCounter) {
+
+        this.algorithmId = algorithmId;
+        this.nodeCounter = nodeCounter;
+        this.edgeCounter = edgeCounter;
+    }
+
+    /**
+     * Executes the given processor on the given graph and reports metrics about the execution if requested.
+     *
+     * @param processor
+     *            the processor to execute.
+     * @param graph
+     *            the graph to process.
+     * @param monitor
+     *            the progress monitor to pass to the processor.
+     */
+    public void process(final ILayoutProcessor<G> processor, final G graph, final IElkProgressMonitor monitor) {
+        LayoutMetricsService service = LayoutMetricsService.getInstance();
+        if (!service.isEnabled()) {
+            processor.process(graph, monitor);
+            return;
+        }
+
+        long cpuTime = -1;
+        long allocatedBytes = -1;
+        // elkjs-exclude-start
+        cpuTime = currentThreadCpuTime();
+        allocatedBytes = currentThreadAllocatedBytes();
+        // elkjs-exclude-end
+        long wallTime = nanoTime();
+
+        processor.process(graph, monitor);
+
+        wallTime = nanoTime() - wallTime;
+        // elkjs-exclude-start
+        cpuTime = difference(cpuTime, currentThreadCpuTime());
+        allocatedBytes = difference(allocatedBytes, currentThreadAllocatedBytes());
+        // elkjs-exclude-end
+
+        service.notifyListeners(new LayoutProcessorMetrics(algorithmId, processor, wallTime, cpuTime, allocatedBytes,
+                nodeCounter.applyAsInt(graph), edgeCounter.applyAsInt(graph)));
+    }
+
+    /**
+     * Returns the current value of the most precise available timer in nanoseconds.
+     */
+    private static long nanoTime() {
+        long time;
+        // elkjs-exclude-start
+        time = System.nanoTime();
+        // CHECKSTYLEOFF
+        // In GWT 'System.nanoTime()' is not available, so we resort to milliseconds here.
+        if (false)
+        // elkjs-exclude-end
+            time = System.currentTimeMillis() * 1_000_000L;
+        // CHECKSTYLEON
+        return time;
+    }
+
+    // elkjs-exclude-start
+    /**
+     * Returns the difference between two measurements, or {@code -1} if one of them failed.
+     */
+    private static long difference(final long before, final long after) {
+        return before < 0 || after < 0 ? -1 : after - before;
+    }
+
+    /**
+     * Returns the CPU time of the current thread in nanoseconds, or {@code -1} if it cannot be measured.
+     */
+    private static long currentThreadCpuTime() {
+        if (THREAD_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_BEAN.isThreadCpuTimeEnabled()) {
+            return THREAD_BEAN.getCurrentThreadCpuTime();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or {@code -1} if it cannot be measured.
+     */
+    private static long currentThreadAllocatedBytes() {
+        if (ALLOCATED_BYTES_METHOD != null) {
+            try {
+                return (Long) ALLOCATED_BYTES_METHOD.invoke(THREAD_BEAN, Thread.currentThread().getId());
+            } catch (ReflectiveOperationException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Looks up the method that measures allocated bytes. It is part of the {@code jdk.management} module, which we
+     * cannot rely on being available, so we look for it among the interfaces the thread bean implements.
+     */
+    private static Method findAllocatedBytesMethod() {
+        for (Class<?> clazz = THREAD_BEAN.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            for (Class<?> iface : clazz.getInterfaces()) {
+                if (iface.getName().equals("com.sun.management.ThreadMXBean")) {
+                    try {
+                        return iface.getMethod("getThreadAllocatedBytes", long.class);
+                    } catch (NoSuchMethodException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+    // elkjs-exclude-end
+
+}
@@ -9,14 +9,19 @@
  *******************************************************************************/
 package org.eclipse.elk.core.util;
 
-import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A pool for class instances. The pool can hold a configurable number of instances of the class. Note
  * that the number of instances created can well exceed the capacity of this pool. The capacity only
  * influences how many of those instances can be kept for later reuse.
  * 
- * <p>All of the instance methods in this class are thread-safe.</p>
+ * <p>All of the instance methods in this class are thread-safe. Instead of locking, the pool keeps its
+ * instances in a lock-free stack, so the most recently released instance is fetched first. The number of
+ * times an operation had to be retried because another thread modified the pool at the same time is
+ * available through {@link #getContentionCount()}.</p>
  *
  * @param <T> the type of instances that are held by this pool
  * @author msp
@@ -28,12 +33,14 @@ public final class InstancePool<T> {
     
     /** the instance factory to use for this pool. */
     private final IFactory<T> factory;
-    /** the list of currently held instances. */
-    private final LinkedList<T> instances = new LinkedList<T>();
+    /** the top of the stack of currently held instances. */
+    private final AtomicReference<Node<T>> top = new AtomicReference<Node<T>>();
+    /** the number of currently held instances, including those that are about to be added. */
+    private final AtomicInteger size = new AtomicInteger();
     /** the configured instance limit. */
-    private int limit;
-    /** lock used for synchronization. */
-    private final Object lock = new Object();
+    private final int limit;
+    /** the number of retried operations due to concurrent modifications. */
+    private final AtomicLong contentionCount = new AtomicLong();
     
     /**
      * Create an instance pool with an infinite capacity. 
@@ -62,11 +69,16 @@ public final class InstancePool<T> {
      * @return a class instance
      */
     public T fetch() {
-        synchronized (lock) {
-            if (instances.isEmpty()) {
+        while (true) {
+            Node<T> node = top.get();
+            if (node == null) {
                 return factory.create();
             }
-            return instances.removeFirst();
+            if (top.compareAndSet(node, node.next)) {
+                size.decrementAndGet();
+                return node.instance;
+            }
+            contentionCount.incrementAndGet();
         }
     }
     
@@ -77,12 +89,21 @@ public final class InstancePool<T> {
      * @param obj a class instance
      */
     public void release(final T obj) {
-        synchronized (lock) {
-            if (limit < 0 || instances.size() < limit) {
-                instances.addLast(obj);
-            } else {
-                factory.destroy(obj);
+        // Reserve a place in the pool first such that concurrent releases cannot exceed the limit
+        int newSize = size.incrementAndGet();
+        if (limit >= 0 && newSize > limit) {
+            size.decrementAndGet();
+            factory.destroy(obj);
+            return;
+        }
+        
+        Node<T> node = new Node<T>(obj);
+        while (true) {
+            node.next = top.get();
+            if (top.compareAndSet(node.next, node)) {
+                return;
             }
+            contentionCount.incrementAndGet();
         }
     }
     
@@ -90,11 +111,46 @@ public final class InstancePool<T> {
      * Clear the instance pool by disposing all instances that are currently held.
      */
     public void clear() {
-        synchronized (lock) {
-            for (T obj : instances) {
-                factory.destroy(obj);
-            }
-            instances.clear();
+        Node<T> node = top.getAndSet(null);
+        while (node != null) {
+            size.decrementAndGet();
+            factory.destroy(node.instance);
+            node = node.next;
+        }
+    }
+    
+    /**
+     * Returns the number of instances that are currently held by the pool.
+     * 
+     * @return the number of instances held
+     */
+    public int getSize() {
+        return size.get();
+    }
+    
+    /**
+     * Returns how many times fetching or releasing an instance had to be retried so far because another thread
+     * modified the pool at the same time. A steadily increasing value indicates that many threads compete for
+     * the pool's instances.
+     * 
+     * @return the number of retried operations
+     */
+    public long getContentionCount() {
+        return contentionCount.get();
+    }
+    
+    
+    /**
+     * An entry of the stack of held instances.
+     */
+    private static final class Node<T> {
+        /** the held instance. */
+        private final T instance;
+        /** the next entry of the stack, or {@code null}. */
+        private Node<T> next;
+        
+        Node(final T instance) {
+            this.instance = instance;
         }
     }
 
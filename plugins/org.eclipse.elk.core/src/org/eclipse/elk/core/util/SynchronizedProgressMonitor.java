@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.util;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.elk.core.util.LoggedGraph.Type;
+import org.eclipse.elk.graph.ElkNode;
+
+/**
+ * A progress monitor that forwards all calls to a delegate monitor while holding a lock. Sub-task monitors created
+ * through this monitor are wrapped as well and share the same lock. This allows several threads to report progress to
+ * the same monitor hierarchy, as is the case when independent parts of a graph are laid out concurrently. Since all
+ * monitors of the hierarchy are guarded by a single lock, calls that propagate progress to parent monitors are safe as
+ * well.
+ *
+ * <p>Lists returned by this monitor are snapshots taken while holding the lock, since other threads may keep adding
+ * to the underlying lists while they are iterated. For the same reason, sub-monitors and the parent monitor are
+ * returned wrapped as well.</p>
+ *
+ * <p>Note that progress reported by concurrently running sub-tasks may not add up exactly, since most monitor
+ * implementations assume that only one sub-task is active at a time.</p>
+ */
+public final class SynchronizedProgressMonitor implements IElkProgressMonitor {
+
+    /** the monitor calls are forwarded to. */
+    private final IElkProgressMonitor delegate;
+    /** the lock shared by all monitors of the hierarchy. */
+    private final Object lock;
+
+    /**
+     * Creates a synchronized progress monitor that forwards all calls to the given monitor.
+     *
+     * @param delegate the monitor to forward calls to.
+     */
+    public SynchronizedProgressMonitor(final IElkProgressMonitor delegate) {
+        this(delegate, new Object());
+    }
+
+    /**
+     * Creates a synchronized progress monitor that uses the given lock.
+     */
+    private SynchronizedProgressMonitor(final IElkProgressMonitor delegate, final Object lock) {
+        this.delegate = delegate;
+        this.lock = lock;
+    }
+
+    /**
+     * Returns a monitor that may safely be used by several threads. If the given monitor is already synchronized, it
+     * is returned as is.
+     *
+     * @param monitor the monitor to synchronize.
+     * @return a synchronized view of the given monitor.
+     */
+    public static IElkProgressMonitor synchronize(final IElkProgressMonitor monitor) {
+        if (monitor instanceof SynchronizedProgressMonitor) {
+            return monitor;
+        }
+        return new SynchronizedProgressMonitor(monitor);
+    }
+
+
+    /////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Work
+
+    @Override
+    public boolean isCanceled() {
+        synchronized (lock) {
+            return delegate.isCanceled();
+        }
+    }
+
+    @Override
+    public boolean begin(final String name, final float totalWork) {
+        synchronized (lock) {
+            return delegate.begin(name, totalWork);
+        }
+    }
+
+    @Override
+    public void worked(final float work) {
+        synchronized (lock) {
+            delegate.worked(work);
+        }
+    }
+
+    @Override
+    public void done() {
+        synchronized (lock) {
+            delegate.done();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        synchronized (lock) {
+            return delegate.isRunning();
+        }
+    }
+
+    @Override
+    public String getTaskName() {
+        synchronized (lock) {
+            return delegate.getTaskName();
+        }
+    }
+
+
+    /////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Sub-Tasks
+
+    @Override
+    public IElkProgressMonitor subTask(final float work) {
+        synchronized (lock) {
+            IElkProgressMonitor subMonitor = delegate.subTask(work);
+            if (subMonitor == null || subMonitor == delegate) {
+                return subMonitor == null ? null : this;
+            }
+            return new SynchronizedProgressMonitor(subMonitor, lock);
+        }
+    }
+
+    @Override
+    public List<IElkProgressMonitor> getSubMonitors() {
+        synchronized (lock) {
+            List<IElkProgressMonitor> subMonitors = delegate.getSubMonitors();
+            List<IElkProgressMonitor> snapshot = new ArrayList<>(subMonitors.size());
+            for (IElkProgressMonitor subMonitor : subMonitors) {
+                snapshot.add(new SynchronizedProgressMonitor(subMonitor, lock));
+            }
+            return Collections.unmodifiableList(snapshot);
+        }
+    }
+
+    @Override
+    public IElkProgressMonitor getParentMonitor() {
+        synchronized (lock) {
+            IElkProgressMonitor parentMonitor = delegate.getParentMonitor();
+            return parentMonitor == null ? null : new SynchronizedProgressMonitor(parentMonitor, lock);
+        }
+    }
+
+
+    /////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Debugging
+
+    @Override
+    public boolean isLoggingEnabled() {
+        synchronized (lock) {
+            return delegate.isLoggingEnabled();
+        }
+    }
+
+    @Override
+    public boolean isLogPersistenceEnabled() {
+        synchronized (lock) {
+            return delegate.isLogPersistenceEnabled();
+        }
+    }
+
+    @Override
+    public void log(final Object object) {
+        synchronized (lock) {
+            delegate.log(object);
+        }
+    }
+
+    @Override
+    public List<String> getLogs() {
+        synchronized (lock) {
+            List<String> logs = delegate.getLogs();
+            return logs == null ? null : Collections.unmodifiableList(new ArrayList<>(logs));
+        }
+    }
+
+    @Override
+    public void logGraph(final ElkNode graph, final String tag) {
+        synchronized (lock) {
+            delegate.logGraph(graph, tag);
+        }
+    }
+
+    @Override
+    public void logGraph(final Object graph, final String tag, final Type graphType) {
+        synchronized (lock) {
+            delegate.logGraph(graph, tag, graphType);
+        }
+    }
+
+    @Override
+    public List<LoggedGraph> getLoggedGraphs() {
+        synchronized (lock) {
+            List<LoggedGraph> loggedGraphs = delegate.getLoggedGraphs();
+            return loggedGraphs == null ? null : Collections.unmodifiableList(new ArrayList<>(loggedGraphs));
+        }
+    }
+
+    @Override
+    public Path getDebugFolder() {
+        synchronized (lock) {
+            return delegate.getDebugFolder();
+        }
+    }
+
+    @Override
+    public boolean isExecutionTimeMeasured() {
+        synchronized (lock) {
+            return delegate.isExecutionTimeMeasured();
+        }
+    }
+
+    @Override
+    public double getExecutionTime() {
+        synchronized (lock) {
+            return delegate.getExecutionTime();
+        }
+    }
+
+}
@@ -10,7 +10,9 @@
 package org.eclipse.elk.graph.json;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
 
 import org.eclipse.elk.core.util.Maybe;
 import org.eclipse.elk.graph.ElkNode;
@@ -22,6 +24,7 @@ import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Utility methods to import and export the ELK Graph JSON Format.
@@ -60,6 +63,26 @@ public final class ElkGraphJson {
         ib.jsonGraph = graph;
         return ib;
     }
+
+    /**
+     * Initializes an importer that reads the graph from the passed reader. The import is finished using the
+     * {@link ImportBuilder#toElk()} method. Instead of building a json tree first, the graph is created while the json
+     * is being read, which is faster and requires less memory for large graphs. The reader is not closed.
+     * 
+     * <p>
+     * Since the importer does not keep the json input, {@link ImportBuilder#rememberImporter(Maybe)} is not
+     * supported for graphs imported this way.
+     * </p>
+     * 
+     * @param graph
+     *            the reader to read the graph from.
+     * @return a builder instance that can be further configured.
+     */
+    public static ImportBuilder forGraph(final Reader graph) {
+        ImportBuilder ib = new ImportBuilder();
+        ib.graphReader = graph;
+        return ib;
+    }
     
     /**
      * Builder for importing.
@@ -68,6 +91,7 @@ public final class ElkGraphJson {
         
         private JsonObject jsonGraph;
         private String graph;
+        private Reader graphReader;
         private Maybe<JsonImporter> importerMaybe;
         /** See {@link JsonReader#setLenient(boolean)} for details. */
         private boolean lenient = true;
@@ -108,6 +132,10 @@ public final class ElkGraphJson {
          * @return the root node of the imported ELK Graph.
          */
         public ElkNode toElk() {
+            if (graphReader != null) {
+                return streamToElk();
+            }
+
             if (jsonGraph == null) {
                 // Due to a GSON workaround the following lines are a bit more complicated that they have to be.
                 // See the javadoc comment of GSON_ELEMENT_ADAPTER for details.
@@ -133,6 +161,23 @@ public final class ElkGraphJson {
 
             return elkGraph;
         }
+
+        /**
+         * Imports the graph from the {@link #graphReader} without building a json tree first.
+         */
+        private ElkNode streamToElk() {
+            if (importerMaybe != null) {
+                throw new IllegalStateException("An importer cannot be remembered for graphs imported from a reader.");
+            }
+
+            JsonReader reader = new JsonReader(graphReader);
+            reader.setLenient(this.lenient);
+            try {
+                return new JsonStreamImporter().transform(reader);
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+        }
     }
 
     /**
@@ -234,6 +279,34 @@ public final class ElkGraphJson {
             String json = gson.toJson(jsonGraph);
             return json;
         }
+
+        /**
+         * Perform the export using the specified configuration and write the result to the passed writer. Instead of
+         * building a json tree first, the graph is written while it is being traversed, which is faster and requires
+         * less memory for large graphs. The result is the same as the one of {@link #toJson()}. The writer is flushed
+         * but not closed.
+         * 
+         * @param writer
+         *            the writer to write the json representation of the graph to.
+         */
+        public void toJson(final Writer writer) {
+            JsonStreamExporter exporter = new JsonStreamExporter(omitZeroPosition, omitZeroDimension,
+                    omitLayoutInformation, shortLayoutOptionKeys, omitUnknownLayoutOptions);
+
+            // configure the json writer the same way gson configures it
+            JsonWriter jsonWriter = new JsonWriter(writer);
+            jsonWriter.setLenient(true);
+            jsonWriter.setHtmlSafe(false);
+            if (prettyPrint) {
+                jsonWriter.setIndent("  ");
+            }
+
+            try {
+                exporter.export(graph, jsonWriter);
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+        }
     }
 
 }
@@ -0,0 +1,478 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.data.LayoutOptionData;
+import org.eclipse.elk.core.math.KVector;
+import org.eclipse.elk.core.math.KVectorChain;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.IndividualSpacings;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.properties.IPropertyHolder;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Exporter from elk graph to json that writes the json document directly to a {@link JsonWriter} instead of building
+ * a json tree first. The output is the same as the one of the {@link JsonExporter}: ids are generated in the same
+ * order and members are written in the same order. Since edges may reference elements that are written later, ids
+ * are assigned to all elements before anything is written.
+ */
+final class JsonStreamExporter {
+
+    private final BiMap<ElkNode, String> nodeIdMap = HashBiMap.create();
+    private final BiMap<ElkPort, String> portIdMap = HashBiMap.create();
+    private final BiMap<ElkEdge, String> edgeIdMap = HashBiMap.create();
+    private final BiMap<ElkEdgeSection, String> edgeSectionIdMap = HashBiMap.create();
+
+    private int nodeIdCounter = 0;
+    private int portIdCounter = 0;
+    private int edgeIdCounter = 0;
+    private int edgeSectionIdCounter = 0;
+
+    private final Random random = new Random();
+
+    // configuration
+    private final boolean omitZeroPos;
+    private final boolean omitZeroDim;
+    private final boolean omitLayout;
+    private final boolean shortLayoutOptionKeys;
+    private final boolean omitUnknownLayoutOptions;
+
+    /**
+     * Creates a new exporter with the given configuration. See {@link ElkGraphJson.ExportBuilder} for details.
+     */
+    JsonStreamExporter(final boolean omitZeroPos, final boolean omitZeroDim, final boolean omitLayout,
+            final boolean shortLayoutOptionKeys, final boolean omitUnknownLayoutOptions) {
+
+        this.omitZeroPos = omitZeroPos;
+        this.omitZeroDim = omitZeroDim;
+        this.omitLayout = omitLayout;
+        this.shortLayoutOptionKeys = shortLayoutOptionKeys;
+        this.omitUnknownLayoutOptions = omitUnknownLayoutOptions;
+    }
+
+    /**
+     * Writes the given graph to the given writer.
+     *
+     * @param root
+     *            the root node of the graph to export.
+     * @param writer
+     *            the writer to write the json to.
+     * @throws IOException
+     *             if writing fails.
+     */
+    void export(final ElkNode root, final JsonWriter writer) throws IOException {
+        // assign ids in the order the JsonExporter assigns them
+        registerNodes(root);
+        registerEdges(root);
+
+        writeNode(root, writer);
+        writer.flush();
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Ids
+     */
+
+    private void registerNodes(final ElkNode node) {
+        nodeIdMap.put(node, assertUnique(idOrDefault(node.getIdentifier(), "n", nodeIdCounter), nodeIdMap.inverse()));
+        if (node.getIdentifier() == null) {
+            nodeIdCounter++;
+        }
+
+        for (ElkPort port : node.getPorts()) {
+            portIdMap.put(port,
+                    assertUnique(idOrDefault(port.getIdentifier(), "p", portIdCounter), portIdMap.inverse()));
+            if (port.getIdentifier() == null) {
+                portIdCounter++;
+            }
+        }
+
+        for (ElkNode child : node.getChildren()) {
+            registerNodes(child);
+        }
+    }
+
+    private void registerEdges(final ElkNode node) {
+        for (ElkEdge edge : node.getContainedEdges()) {
+            edgeIdMap.put(edge,
+                    assertUnique(idOrDefault(edge.getIdentifier(), "e", edgeIdCounter), edgeIdMap.inverse()));
+            if (edge.getIdentifier() == null) {
+                edgeIdCounter++;
+            }
+
+            // sections are only exported along with the layout
+            if (!omitLayout) {
+                for (ElkEdgeSection section : edge.getSections()) {
+                    edgeSectionIdMap.put(section, assertUnique(
+                            idOrDefault(section.getIdentifier(), "s", edgeSectionIdCounter),
+                            edgeSectionIdMap.inverse()));
+                    if (section.getIdentifier() == null) {
+                        edgeSectionIdCounter++;
+                    }
+                }
+            }
+        }
+
+        for (ElkNode child : node.getChildren()) {
+            registerEdges(child);
+        }
+    }
+
+    private static String idOrDefault(final String identifier, final String prefix, final int counter) {
+        return identifier != null ? identifier : prefix + counter;
+    }
+
+    private String assertUnique(final String id, final Map<String, ?> map) {
+        String tmp = id;
+        while (map.containsKey(tmp)) {
+            tmp = id + "_g" + Strings.padStart(String.valueOf(random.nextInt(1000000)), 6, '0');
+        }
+        return tmp;
+    }
+
+    private String idByShape(final ElkConnectableShape shape) {
+        String id = shape instanceof ElkPort ? portIdMap.get(shape) : null;
+        return id != null ? id : nodeIdMap.get(shape);
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Graph elements
+     */
+
+    private void writeNode(final ElkNode node, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(nodeIdMap.get(node));
+
+        // labels
+        if (!node.getLabels().isEmpty()) {
+            writer.name("labels").beginArray();
+            for (ElkLabel label : node.getLabels()) {
+                writeLabel(label, writer);
+            }
+            writer.endArray();
+        }
+
+        // ports
+        if (!node.getPorts().isEmpty()) {
+            writer.name("ports").beginArray();
+            for (ElkPort port : node.getPorts()) {
+                writePort(port, writer);
+            }
+            writer.endArray();
+        }
+
+        // children
+        if (!node.getChildren().isEmpty()) {
+            writer.name("children").beginArray();
+            for (ElkNode child : node.getChildren()) {
+                writeNode(child, writer);
+            }
+            writer.endArray();
+        }
+
+        // properties
+        writeProperties(node, writer);
+        writeIndividualSpacings(node, writer);
+        writeShapeLayout(node, writer);
+
+        // edges
+        if (!node.getContainedEdges().isEmpty()) {
+            writer.name("edges").beginArray();
+            for (ElkEdge edge : node.getContainedEdges()) {
+                writeEdge(edge, writer);
+            }
+            writer.endArray();
+        }
+
+        writer.endObject();
+    }
+
+    private void writePort(final ElkPort port, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(portIdMap.get(port));
+
+        // labels
+        if (!port.getLabels().isEmpty()) {
+            writer.name("labels").beginArray();
+            for (ElkLabel label : port.getLabels()) {
+                writeLabel(label, writer);
+            }
+            writer.endArray();
+        }
+
+        // properties and things
+        writeProperties(port, writer);
+        writeShapeLayout(port, writer);
+        writer.endObject();
+    }
+
+    private void writeEdge(final ElkEdge edge, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(edgeIdMap.get(edge));
+
+        // connection points
+        writer.name("sources").beginArray();
+        for (ElkConnectableShape source : edge.getSources()) {
+            String id = idByShape(source);
+            if (id == null) {
+                throw new JsonImportException("Unknown edge source: " + source);
+            }
+            writer.value(id);
+        }
+        writer.endArray();
+
+        writer.name("targets").beginArray();
+        for (ElkConnectableShape target : edge.getTargets()) {
+            String id = idByShape(target);
+            if (id == null) {
+                throw new JsonImportException("Unknown edge target: " + target);
+            }
+            writer.value(id);
+        }
+        writer.endArray();
+
+        // labels
+        if (!edge.getLabels().isEmpty()) {
+            writer.name("labels").beginArray();
+            for (ElkLabel label : edge.getLabels()) {
+                writeLabel(label, writer);
+            }
+            writer.endArray();
+        }
+
+        // sections
+        if (!omitLayout && !edge.getSections().isEmpty()) {
+            writer.name("sections").beginArray();
+            for (ElkEdgeSection section : edge.getSections()) {
+                writeSection(section, writer);
+            }
+            writer.endArray();
+        }
+
+        // transfer junction points, if existent
+        // make sure not to initialize an empty set of junction points by accident (#559)
+        if (!omitLayout && edge.hasProperty(CoreOptions.JUNCTION_POINTS)) {
+            KVectorChain jps = edge.getProperty(CoreOptions.JUNCTION_POINTS);
+            if (jps != null && !jps.isEmpty()) {
+                writer.name("junctionPoints").beginArray();
+                for (KVector jp : jps) {
+                    writePoint(jp.x, jp.y, writer);
+                }
+                writer.endArray();
+            }
+        }
+
+        // properties
+        writeProperties(edge, writer);
+        writer.endObject();
+    }
+
+    private void writeSection(final ElkEdgeSection section, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(edgeSectionIdMap.get(section));
+
+        writer.name("startPoint");
+        writePoint(section.getStartX(), section.getStartY(), writer);
+        writer.name("endPoint");
+        writePoint(section.getEndX(), section.getEndY(), writer);
+
+        if (!section.getBendPoints().isEmpty()) {
+            writer.name("bendPoints").beginArray();
+            for (ElkBendPoint bendPoint : section.getBendPoints()) {
+                writePoint(bendPoint.getX(), bendPoint.getY(), writer);
+            }
+            writer.endArray();
+        }
+
+        if (section.getIncomingShape() != null) {
+            writer.name("incomingShape").value(idByShape(section.getIncomingShape()));
+        }
+        if (section.getOutgoingShape() != null) {
+            writer.name("outgoingShape").value(idByShape(section.getOutgoingShape()));
+        }
+        writeSectionIds("incomingSections", section.getIncomingSections(), writer);
+        writeSectionIds("outgoingSections", section.getOutgoingSections(), writer);
+
+        writeProperties(section, writer);
+        writer.endObject();
+    }
+
+    private void writeSectionIds(final String name, final List<ElkEdgeSection> sections, final JsonWriter writer)
+            throws IOException {
+
+        if (!sections.isEmpty()) {
+            writer.name(name).beginArray();
+            for (ElkEdgeSection section : sections) {
+                writer.value(edgeSectionIdMap.get(section));
+            }
+            writer.endArray();
+        }
+    }
+
+    private void writeLabel(final ElkLabel label, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        if (label.getText() != null) {
+            writer.name("text").value(label.getText());
+        }
+        if (!Strings.isNullOrEmpty(label.getIdentifier())) {
+            writer.name("id").value(label.getIdentifier());
+        }
+
+        // properties and things
+        writeProperties(label, writer);
+        writeShapeLayout(label, writer);
+        writer.endObject();
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Layout options and layout
+     */
+
+    private void writeProperties(final IPropertyHolder holder, final JsonWriter writer) throws IOException {
+        Map<IProperty<?>, Object> properties = holder.getAllProperties();
+        // skip if empty
+        if (properties == null || properties.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> options = new LinkedHashMap<>();
+        for (Map.Entry<IProperty<?>, Object> p : properties.entrySet()) {
+            if (p.getKey() != null && p.getKey() != CoreOptions.SPACING_INDIVIDUAL) {
+                putOption(p.getKey(), p.getValue(), options);
+            }
+        }
+        writeOptions("layoutOptions", options, writer);
+    }
+
+    private void writeIndividualSpacings(final IPropertyHolder holder, final JsonWriter writer) throws IOException {
+        // skip if empty
+        if (!holder.hasProperty(CoreOptions.SPACING_INDIVIDUAL)) {
+            return;
+        }
+        IndividualSpacings individualSpacings = holder.getProperty(CoreOptions.SPACING_INDIVIDUAL);
+        Map<IProperty<?>, Object> properties = individualSpacings.getAllProperties();
+        if (properties == null || properties.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> options = new LinkedHashMap<>();
+        for (Map.Entry<IProperty<?>, Object> p : properties.entrySet()) {
+            if (p.getKey() != null) {
+                putOption(p.getKey(), p.getValue(), options);
+            }
+        }
+        writeOptions("individualSpacings", options, writer);
+    }
+
+    /**
+     * Adds the given option to the given map unless it is to be omitted. Like a json object, the map keeps only the
+     * last of several values with the same key.
+     */
+    private void putOption(final IProperty<?> property, final Object value, final Map<String, String> options) {
+        if (!omitUnknownLayoutOptions || isKnown(property)) {
+            String key = shortLayoutOptionKeys ? getShortOptionKey(property.getId()) : property.getId();
+            options.put(key, value.toString());
+        }
+    }
+
+    private static void writeOptions(final String name, final Map<String, String> options, final JsonWriter writer)
+            throws IOException {
+
+        writer.name(name).beginObject();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            writer.name(option.getKey()).value(option.getValue());
+        }
+        writer.endObject();
+    }
+
+    private void writeShapeLayout(final ElkShape shape, final JsonWriter writer) throws IOException {
+        // position
+        if (!omitLayout) {
+            // non-equality with double is fine here
+            if (!omitZeroPos || shape.getX() != 0.0) {
+                writer.name("x").value(Double.valueOf(shape.getX()));
+            }
+            if (!omitZeroPos || shape.getY() != 0.0) {
+                writer.name("y").value(Double.valueOf(shape.getY()));
+            }
+        }
+        // dimension
+        if (!omitZeroDim || shape.getWidth() != 0.0) {
+            writer.name("width").value(Double.valueOf(shape.getWidth()));
+        }
+        if (!omitZeroDim || shape.getHeight() != 0.0) {
+            writer.name("height").value(Double.valueOf(shape.getHeight()));
+        }
+    }
+
+    /**
+     * Writes a point. Coordinates are written as {@link Double} objects to obtain the same number format as a json
+     * tree serialized by Gson.
+     */
+    private static void writePoint(final double x, final double y, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("x").value(Double.valueOf(x));
+        writer.name("y").value(Double.valueOf(y));
+        writer.endObject();
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Convenience methods
+     */
+
+    private static boolean isKnown(final IProperty<?> property) {
+        return LayoutMetaDataService.getInstance().getOptionDataBySuffix(property.getId()) != null;
+    }
+
+    private static String getShortOptionKey(final String fullId) {
+        LayoutMetaDataService service = LayoutMetaDataService.getInstance();
+        LayoutOptionData option = service.getOptionDataBySuffix(fullId);
+        if (option == null) {
+            // if the option is unknown, return the full id
+            return fullId;
+        }
+        List<String> idSplit = Splitter.on('.').splitToList(option.getId());
+        int i = idSplit.size() - 1;
+        if (i >= 1 && idSplit.get(i - 1).equals(option.getGroup())) {
+            i--;
+        }
+        while (i >= 0) {
+            String suffix = Joiner.on('.').join(idSplit.subList(i, idSplit.size()));
+            if (service.getOptionDataBySuffix(suffix) != null) {
+                return suffix;
+            }
+            i--;
+        }
+        return option.getId();
+    }
+
+}
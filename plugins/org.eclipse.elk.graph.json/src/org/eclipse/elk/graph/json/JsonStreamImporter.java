@@ -0,0 +1,777 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import org.eclipse.elk.core.data.LayoutMetaDataService;
+import org.eclipse.elk.core.data.LayoutOptionData;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.IndividualSpacings;
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkGraphElement;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.properties.IPropertyHolder;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Importer from json to elk graph that reads the json document token by token instead of building a json tree first.
+ * Graph elements are created as soon as they are encountered. Since edges may reference nodes, ports, and edge
+ * sections that are declared later in the document, the references of edges and edge sections are remembered and
+ * resolved once the whole document has been read.
+ *
+ * <p>
+ * The importer accepts the same format as the {@link JsonImporter}, but does not keep any reference to the json
+ * input. Hence, it cannot {@link JsonImporter#transferLayout(ElkNode) transfer} a computed layout back to it.
+ * </p>
+ */
+final class JsonStreamImporter {
+
+    /* Id -> ElkGraph element maps. Id can be string or integer, thus Object is used. */
+    private final Map<Object, ElkNode> nodeIdMap = new HashMap<>();
+    private final Map<Object, ElkPort> portIdMap = new HashMap<>();
+    private final Map<Object, ElkEdgeSection> edgeSectionIdMap = new HashMap<>();
+
+    /** Edges whose references are yet to be resolved, keyed by the node they were declared in. */
+    private final ListMultimap<ElkNode, PendingEdge> pendingEdges = ArrayListMultimap.create();
+
+    /**
+     * Main entry point for the json to ELK graph transformation. Reads the top-level json object from the given reader
+     * and returns the corresponding ELK graph.
+     *
+     * @param reader
+     *            the reader positioned in front of the top-level json object.
+     * @return the root node of the imported ELK Graph.
+     * @throws IOException
+     *             if the json cannot be read.
+     */
+    ElkNode transform(final JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            throw formatError("Top-level element of the graph must be a json object.");
+        }
+
+        ElkNode root = readNode(reader, null);
+        resolveEdges(root);
+        return root;
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Graph elements
+     */
+
+    private ElkNode readNode(final JsonReader reader, final ElkNode parent) throws IOException {
+        ElkNode node = ElkGraphUtil.createNode(parent);
+        LegacyProperties legacyProperties = new LegacyProperties();
+        Object id = null;
+
+        beginObject(reader, "children");
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case "id":
+                id = readId(reader);
+                break;
+            case "ports":
+                beginArray(reader, name);
+                while (reader.hasNext()) {
+                    if (!skipNull(reader)) {
+                        readPort(reader, node);
+                    }
+                }
+                reader.endArray();
+                break;
+            case "children":
+                beginArray(reader, name);
+                while (reader.hasNext()) {
+                    if (!skipNull(reader)) {
+                        readNode(reader, node);
+                    }
+                }
+                reader.endArray();
+                break;
+            case "edges":
+                beginArray(reader, name);
+                while (reader.hasNext()) {
+                    if (!skipNull(reader)) {
+                        pendingEdges.put(node, readEdge(reader, node));
+                    }
+                }
+                reader.endArray();
+                break;
+            case "individualSpacings":
+                readIndividualSpacings(reader, node);
+                break;
+            default:
+                if (!readCommonMember(reader, name, node, legacyProperties)) {
+                    reader.skipValue();
+                }
+            }
+        }
+        reader.endObject();
+
+        nodeIdMap.put(requireId(id), node);
+        node.setIdentifier(id.toString());
+        legacyProperties.apply(node);
+        return node;
+    }
+
+    private void readPort(final JsonReader reader, final ElkNode parent) throws IOException {
+        ElkPort port = ElkGraphUtil.createPort(parent);
+        LegacyProperties legacyProperties = new LegacyProperties();
+        Object id = null;
+
+        beginObject(reader, "ports");
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("id")) {
+                id = readId(reader);
+            } else if (!readCommonMember(reader, name, port, legacyProperties)) {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        portIdMap.put(requireId(id), port);
+        port.setIdentifier(id.toString());
+        legacyProperties.apply(port);
+    }
+
+    private void readLabel(final JsonReader reader, final ElkGraphElement parent) throws IOException {
+        ElkLabel label = ElkGraphUtil.createLabel(null, parent);
+        LegacyProperties legacyProperties = new LegacyProperties();
+
+        beginObject(reader, "labels");
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case "text":
+                label.setText(readString(reader));
+                break;
+            case "id":
+                label.setIdentifier(readString(reader));
+                break;
+            default:
+                if (!readCommonMember(reader, name, label, legacyProperties)) {
+                    reader.skipValue();
+                }
+            }
+        }
+        reader.endObject();
+
+        legacyProperties.apply(label);
+    }
+
+    /**
+     * Reads the members that nodes, ports, and labels have in common: layout options, labels, and the shape layout.
+     *
+     * @return whether the member was consumed.
+     */
+    private boolean readCommonMember(final JsonReader reader, final String name, final ElkShape shape,
+            final LegacyProperties legacyProperties) throws IOException {
+
+        switch (name) {
+        case "layoutOptions":
+            // a null value lets the legacy properties apply, just like a missing one
+            legacyProperties.layoutOptionsPresent = readProperties(reader, shape);
+            return true;
+        case "properties":
+            legacyProperties.read(reader);
+            return true;
+        case "labels":
+            readLabels(reader, shape);
+            return true;
+        case "x":
+            readDouble(reader).ifPresent(x -> shape.setX(x));
+            return true;
+        case "y":
+            readDouble(reader).ifPresent(y -> shape.setY(y));
+            return true;
+        case "width":
+            readDouble(reader).ifPresent(width -> shape.setWidth(width));
+            return true;
+        case "height":
+            readDouble(reader).ifPresent(height -> shape.setHeight(height));
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private void readLabels(final JsonReader reader, final ElkGraphElement parent) throws IOException {
+        beginArray(reader, "labels");
+        while (reader.hasNext()) {
+            if (!skipNull(reader)) {
+                readLabel(reader, parent);
+            }
+        }
+        reader.endArray();
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Edges
+     */
+
+    private PendingEdge readEdge(final JsonReader reader, final ElkNode parent) throws IOException {
+        PendingEdge pending = new PendingEdge(ElkGraphUtil.createEdge(parent));
+        LegacyProperties legacyProperties = new LegacyProperties();
+        Object id = null;
+
+        beginObject(reader, "edges");
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case "id":
+                id = readId(reader);
+                break;
+            case "layoutOptions":
+                legacyProperties.layoutOptionsPresent = readProperties(reader, pending.edge);
+                break;
+            case "properties":
+                legacyProperties.read(reader);
+                break;
+            case "labels":
+                readLabels(reader, pending.edge);
+                break;
+            case "sources":
+                pending.sources = readIdArray(reader, name);
+                break;
+            case "targets":
+                pending.targets = readIdArray(reader, name);
+                break;
+            case "sections":
+                beginArray(reader, name);
+                while (reader.hasNext()) {
+                    if (!skipNull(reader)) {
+                        pending.sections.add(readEdgeSection(reader, pending.edge));
+                    }
+                }
+                reader.endArray();
+                break;
+            case "source":
+                pending.source = readId(reader);
+                break;
+            case "sourcePort":
+                pending.sourcePort = readOptionalId(reader);
+                break;
+            case "target":
+                pending.target = readId(reader);
+                break;
+            case "targetPort":
+                pending.targetPort = readOptionalId(reader);
+                break;
+            case "sourcePoint":
+                pending.sourcePoint = readPoint(reader);
+                pending.primitiveLayoutPresent = true;
+                break;
+            case "targetPoint":
+                pending.targetPoint = readPoint(reader);
+                pending.primitiveLayoutPresent = true;
+                break;
+            case "bendPoints":
+                pending.bendPoints = readPoints(reader, name);
+                pending.primitiveLayoutPresent = true;
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        requireId(id);
+        pending.edge.setIdentifier(id.toString());
+        legacyProperties.apply(pending.edge);
+        return pending;
+    }
+
+    private PendingSection readEdgeSection(final JsonReader reader, final ElkEdge edge) throws IOException {
+        PendingSection pending = new PendingSection(ElkGraphUtil.createEdgeSection(edge));
+        ElkEdgeSection section = pending.section;
+        Object id = null;
+        boolean startPointPresent = false;
+        boolean endPointPresent = false;
+
+        beginObject(reader, "sections");
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case "id":
+                id = readId(reader);
+                break;
+            case "startPoint":
+                double[] start = readPoint(reader);
+                if (start != null) {
+                    section.setStartLocation(start[0], start[1]);
+                    startPointPresent = true;
+                }
+                break;
+            case "endPoint":
+                double[] end = readPoint(reader);
+                if (end != null) {
+                    section.setEndLocation(end[0], end[1]);
+                    endPointPresent = true;
+                }
+                break;
+            case "bendPoints":
+                List<double[]> bendPoints = readPoints(reader, name);
+                if (bendPoints != null) {
+                    for (double[] bendPoint : bendPoints) {
+                        ElkGraphUtil.createBendPoint(section, bendPoint[0], bendPoint[1]);
+                    }
+                }
+                break;
+            case "incomingShape":
+                pending.incomingShape = readOptionalId(reader);
+                break;
+            case "outgoingShape":
+                pending.outgoingShape = readOptionalId(reader);
+                break;
+            case "incomingSections":
+                pending.incomingSections = readIdArray(reader, name);
+                break;
+            case "outgoingSections":
+                pending.outgoingSections = readIdArray(reader, name);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (!startPointPresent) {
+            throw formatError("All edge sections need a start point.");
+        }
+        if (!endPointPresent) {
+            throw formatError("All edge sections need an end point.");
+        }
+        edgeSectionIdMap.put(requireId(id), section);
+        section.setIdentifier(id.toString());
+        return pending;
+    }
+
+    /**
+     * Resolves the references of all edges now that every node, port, and edge section is known. Edges are visited in
+     * the same order as the {@link JsonImporter} visits them, hence edges whose containment changes end up in the same
+     * order in their new containing node.
+     */
+    private void resolveEdges(final ElkNode node) {
+        for (PendingEdge pending : pendingEdges.get(node)) {
+            if (pending.sources != null || pending.targets != null) {
+                resolveEdge(pending);
+            } else {
+                resolvePrimitiveEdge(pending);
+            }
+            ElkGraphUtil.updateContainment(pending.edge);
+        }
+
+        for (ElkNode child : node.getChildren()) {
+            resolveEdges(child);
+        }
+    }
+
+    private void resolveEdge(final PendingEdge pending) {
+        ElkEdge edge = pending.edge;
+        if (pending.sources != null) {
+            for (Object id : pending.sources) {
+                edge.getSources().add(shapeById(id));
+            }
+        }
+        if (pending.targets != null) {
+            for (Object id : pending.targets) {
+                edge.getTargets().add(shapeById(id));
+            }
+        }
+        checkConnected(edge);
+
+        for (PendingSection section : pending.sections) {
+            if (section.incomingShape != null) {
+                section.section.setIncomingShape(shapeById(section.incomingShape));
+            }
+            if (section.outgoingShape != null) {
+                section.section.setOutgoingShape(shapeById(section.outgoingShape));
+            }
+            resolveSections(section.incomingSections, section.section.getIncomingSections(), edge);
+            resolveSections(section.outgoingSections, section.section.getOutgoingSections(), edge);
+        }
+
+        // Special case: if the edge has only a single source, a single target, and a single edge section which has
+        // no incoming and outgoing shapes, set the incoming and outgoing shape to the source and target of the edge,
+        // respectively
+        if (edge.isConnected() && !edge.isHyperedge() && edge.getSections().size() == 1) {
+            ElkEdgeSection section = edge.getSections().get(0);
+            if (section.getIncomingShape() == null && section.getOutgoingShape() == null) {
+                section.setIncomingShape(edge.getSources().get(0));
+                section.setOutgoingShape(edge.getTargets().get(0));
+            }
+        }
+    }
+
+    private void resolveSections(final List<Object> ids, final List<ElkEdgeSection> sections, final ElkEdge edge) {
+        if (ids == null) {
+            return;
+        }
+        for (Object id : ids) {
+            ElkEdgeSection referencedSection = edgeSectionIdMap.get(id);
+            if (referencedSection == null) {
+                throw formatError("Referenced edge section does not exist: " + id + " (edge id: '"
+                        + edge.getIdentifier() + "').");
+            }
+            sections.add(referencedSection);
+        }
+    }
+
+    private void resolvePrimitiveEdge(final PendingEdge pending) {
+        ElkEdge edge = pending.edge;
+
+        // source
+        ElkNode srcNode = nodeIdMap.get(pending.source);
+        ElkPort srcPort = portIdMap.get(pending.sourcePort);
+        if (srcNode == null) {
+            throw formatError("An edge must have a source node (edge id: '" + edge.getIdentifier() + "').");
+        }
+        if (srcPort != null && srcPort.getParent() != srcNode) {
+            throw formatError("The source port of an edge must be a port of the edge's source node (edge id: '"
+                    + edge.getIdentifier() + "').");
+        }
+        edge.getSources().add(srcPort != null ? srcPort : srcNode);
+
+        // target
+        ElkNode tgtNode = nodeIdMap.get(pending.target);
+        ElkPort tgtPort = portIdMap.get(pending.targetPort);
+        if (tgtNode == null) {
+            throw formatError("An edge must have a target node (edge id: '" + edge.getIdentifier() + "').");
+        }
+        if (tgtPort != null && tgtPort.getParent() != tgtNode) {
+            throw formatError("The target port of an edge must be a port of the edge's target node (edge id: '"
+                    + edge.getIdentifier() + "').");
+        }
+        edge.getTargets().add(tgtPort != null ? tgtPort : tgtNode);
+
+        // if there's any edge route information available, turn it into an ElkSection
+        if (pending.primitiveLayoutPresent) {
+            ElkEdgeSection section = ElkGraphUtil.createEdgeSection(edge);
+            if (pending.sourcePoint != null) {
+                section.setStartLocation(pending.sourcePoint[0], pending.sourcePoint[1]);
+            }
+            if (pending.targetPoint != null) {
+                section.setEndLocation(pending.targetPoint[0], pending.targetPoint[1]);
+            }
+            if (pending.bendPoints != null) {
+                for (double[] bendPoint : pending.bendPoints) {
+                    ElkGraphUtil.createBendPoint(section, bendPoint[0], bendPoint[1]);
+                }
+            }
+        }
+    }
+
+    private void checkConnected(final ElkEdge edge) {
+        if (edge.getSources().isEmpty() || edge.getTargets().isEmpty()) {
+            throw formatError("An edge must have at least one source and one target (edge id: '"
+                    + edge.getIdentifier() + "').");
+        }
+    }
+
+    private ElkConnectableShape shapeById(final Object id) {
+        ElkNode node = nodeIdMap.get(id);
+        if (node != null) {
+            return node;
+        }
+        ElkPort port = portIdMap.get(id);
+        if (port != null) {
+            return port;
+        }
+        throw formatError("Referenced shape does not exist: " + id);
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Layout options
+     */
+
+    /**
+     * Reads the layout options object, if any, into the given holder and returns whether it was not {@code null}.
+     */
+    private boolean readProperties(final JsonReader reader, final IPropertyHolder holder) throws IOException {
+        if (skipNull(reader)) {
+            return false;
+        }
+        beginObject(reader, "layoutOptions");
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            setOption(holder, key, readString(reader));
+        }
+        reader.endObject();
+        return true;
+    }
+
+    private void readIndividualSpacings(final JsonReader reader, final IPropertyHolder holder) throws IOException {
+        if (skipNull(reader)) {
+            return;
+        }
+        if (!holder.hasProperty(CoreOptions.SPACING_INDIVIDUAL)) {
+            holder.setProperty(CoreOptions.SPACING_INDIVIDUAL, new IndividualSpacings());
+        }
+        readProperties(reader, holder.getProperty(CoreOptions.SPACING_INDIVIDUAL));
+    }
+
+    private static void setOption(final IPropertyHolder holder, final String id, final String value) {
+        LayoutOptionData optionData = LayoutMetaDataService.getInstance().getOptionDataBySuffix(id);
+        if (optionData != null && value != null) {
+            Object parsed = optionData.parseValue(value);
+            if (parsed != null) {
+                holder.setProperty(optionData, parsed);
+            }
+        }
+    }
+
+    /**
+     * Layout options given by the legacy {@code properties} member. They are only applied if the element does not
+     * have a {@code layoutOptions} member, which may well come later in the document.
+     */
+    private static final class LegacyProperties {
+
+        private boolean layoutOptionsPresent = false;
+        private List<String[]> options;
+
+        private void read(final JsonReader reader) throws IOException {
+            if (skipNull(reader)) {
+                return;
+            }
+            options = new ArrayList<>();
+            beginObject(reader, "properties");
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                options.add(new String[] { key, readString(reader) });
+            }
+            reader.endObject();
+        }
+
+        private void apply(final IPropertyHolder holder) {
+            if (options != null && !layoutOptionsPresent) {
+                for (String[] option : options) {
+                    setOption(holder, option[0], option[1]);
+                }
+            }
+        }
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Values
+     */
+
+    private static Object requireId(final Object id) {
+        if (id == null) {
+            throw formatError("Every element must have an id.");
+        }
+        return id;
+    }
+
+    /**
+     * Reads an id, which must be a string or an integer, and returns it as {@link String} or {@link Integer}.
+     */
+    private static Object readId(final JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING) {
+            return reader.nextString();
+        } else if (token == JsonToken.NUMBER) {
+            String number = reader.nextString();
+            double value = Double.parseDouble(number);
+            if (value % 1 == 0) {
+                return (int) value;
+            }
+            throw formatError("Id must be a string or an integer: '" + number + "'.");
+        }
+        String path = reader.getPath();
+        reader.skipValue();
+        throw formatError("Id must be a string or an integer (found " + token + " at " + path + ").");
+    }
+
+    private static Object readOptionalId(final JsonReader reader) throws IOException {
+        return skipNull(reader) ? null : readId(reader);
+    }
+
+    private static List<Object> readIdArray(final JsonReader reader, final String name) throws IOException {
+        if (skipNull(reader)) {
+            return null;
+        }
+        List<Object> ids = new ArrayList<>();
+        beginArray(reader, name);
+        while (reader.hasNext()) {
+            ids.add(readId(reader));
+        }
+        reader.endArray();
+        return ids;
+    }
+
+    /**
+     * Reads a primitive value as string. Returns {@code null} for json {@code null}.
+     */
+    private static String readString(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+        case STRING:
+        case NUMBER:
+            return reader.nextString();
+        case BOOLEAN:
+            return String.valueOf(reader.nextBoolean());
+        case NULL:
+            reader.nextNull();
+            return null;
+        default:
+            throw formatError("Expected a string, a number, or a boolean at " + reader.getPath() + ".");
+        }
+    }
+
+    /**
+     * Reads a number. Infinite values and NaN are replaced by zero. Returns an empty result for json {@code null}.
+     */
+    private static OptionalDouble readDouble(final JsonReader reader) throws IOException {
+        if (skipNull(reader)) {
+            return OptionalDouble.empty();
+        }
+        double value = readRawDouble(reader);
+        return OptionalDouble.of(Double.isInfinite(value) || Double.isNaN(value) ? 0.0 : value);
+    }
+
+    private static double readRawDouble(final JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            throw formatError("Expected a number at " + reader.getPath() + ".");
+        }
+        return reader.nextDouble();
+    }
+
+    /**
+     * Reads an object with {@code x} and {@code y} members. Missing coordinates are zero. Returns {@code null} for
+     * json {@code null}.
+     */
+    private static double[] readPoint(final JsonReader reader) throws IOException {
+        if (skipNull(reader)) {
+            return null;
+        }
+        double[] point = new double[2];
+        beginObject(reader, "point");
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("x")) {
+                point[0] = readRawDouble(reader);
+            } else if (name.equals("y")) {
+                point[1] = readRawDouble(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return point;
+    }
+
+    private static List<double[]> readPoints(final JsonReader reader, final String name) throws IOException {
+        if (skipNull(reader)) {
+            return null;
+        }
+        List<double[]> points = new ArrayList<>();
+        beginArray(reader, name);
+        while (reader.hasNext()) {
+            double[] point = readPoint(reader);
+            if (point != null) {
+                points.add(point);
+            }
+        }
+        reader.endArray();
+        return points;
+    }
+
+    /* ---------------------------------------------------------------------------
+     *   Convenience methods
+     */
+
+    /**
+     * Consumes the next value if it is json {@code null}.
+     *
+     * @return whether a {@code null} value was consumed.
+     */
+    private static boolean skipNull(final JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    private static void beginObject(final JsonReader reader, final String name) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            throw formatError("Expected '" + name + "' to contain json objects at " + reader.getPath() + ".");
+        }
+        reader.beginObject();
+    }
+
+    private static void beginArray(final JsonReader reader, final String name) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            throw formatError("Expected '" + name + "' to be a json array at " + reader.getPath() + ".");
+        }
+        reader.beginArray();
+    }
+
+    private static JsonImportException formatError(final String msg) {
+        return new JsonImportException(msg);
+    }
+
+    /**
+     * An edge that has been created but whose sources, targets, and sections are yet to be resolved.
+     */
+    private static final class PendingEdge {
+        private final ElkEdge edge;
+        private List<Object> sources;
+        private List<Object> targets;
+        private final List<PendingSection> sections = new ArrayList<>();
+
+        // primitive edges
+        private Object source;
+        private Object sourcePort;
+        private Object target;
+        private Object targetPort;
+        private boolean primitiveLayoutPresent = false;
+        private double[] sourcePoint;
+        private double[] targetPoint;
+        private List<double[]> bendPoints;
+
+        PendingEdge(final ElkEdge edge) {
+            this.edge = edge;
+        }
+    }
+
+    /**
+     * An edge section whose references to shapes and other sections are yet to be resolved.
+     */
+    private static final class PendingSection {
+        private final ElkEdgeSection section;
+        private Object incomingShape;
+        private Object outgoingShape;
+        private List<Object> incomingSections;
+        private List<Object> outgoingSections;
+
+        PendingSection(final ElkEdgeSection section) {
+            this.section = section;
+        }
+    }
+
+}
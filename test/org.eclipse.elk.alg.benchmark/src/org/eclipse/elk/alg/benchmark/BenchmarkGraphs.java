@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.alg.test.framework.graph.GraphFromFile;
+import org.eclipse.elk.alg.test.framework.io.AbsoluteResourcePath;
+import org.eclipse.elk.alg.test.framework.io.ModelResourcePath;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions.GraphType;
+import org.eclipse.elk.core.debug.grandom.generators.GeneratorOptions.RandVal;
+import org.eclipse.elk.core.debug.grandom.generators.RandomGraphGenerator;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+
+/**
+ * Provides the input graphs of the benchmarks. Random graphs are created with the {@link RandomGraphGenerator} and a
+ * fixed seed, such that each run of a benchmark lays out the same graphs.
+ */
+public final class BenchmarkGraphs {
+
+    /** The seed used to generate random graphs. */
+    private static final long SEED = 4711;
+    /** The number of edges per node of random graphs that need not be trees. */
+    private static final double EDGES_PER_NODE = 1.5;
+    /** The width and height of the nodes of dense layered graphs. */
+    private static final double NODE_SIZE = 20;
+    /** The prefix of the identifiers of all layout algorithms we benchmark. */
+    private static final String ALGORITHM_PREFIX = "org.eclipse.elk.";
+
+    /**
+     * Prevent instantiation.
+     */
+    private BenchmarkGraphs() {
+    }
+
+    /**
+     * Generates a random graph to be laid out with the given algorithm. Graphs for the tree layout algorithms are
+     * trees, all other graphs are general graphs.
+     *
+     * @param algorithm
+     *            identifier of the layout algorithm without the {@code org.eclipse.elk.} prefix.
+     * @param nodes
+     *            the number of nodes.
+     * @return the generated graph, configured to be laid out with the given algorithm.
+     */
+    public static ElkNode randomGraph(final String algorithm, final int nodes) {
+        PlainJavaInitialization.initializePlainJavaLayout();
+
+        GeneratorOptions options = new GeneratorOptions();
+        options.setProperty(GeneratorOptions.NUMBER_OF_NODES, RandVal.exact(nodes));
+        if (isTreeAlgorithm(algorithm)) {
+            options.setProperty(GeneratorOptions.GRAPH_TYPE, GraphType.TREE);
+        } else {
+            options.setProperty(GeneratorOptions.GRAPH_TYPE, GraphType.CUSTOM);
+            options.setProperty(GeneratorOptions.EDGES_ABSOLUTE,
+                    RandVal.exact(Math.round(nodes * EDGES_PER_NODE)));
+        }
+
+        ElkNode graph = new RandomGraphGenerator(new Random(SEED)).generate(options);
+        graph.setProperty(CoreOptions.ALGORITHM, ALGORITHM_PREFIX + algorithm);
+        return graph;
+    }
+
+    /**
+     * Generates a graph for the layered algorithm whose nodes are arranged in layers, with each node connected to
+     * randomly chosen nodes in the next layer. Between two layers, the orthogonal edge router thus has to route many
+     * edges that overlap each other.
+     *
+     * @param layers
+     *            the number of layers.
+     * @param nodesPerLayer
+     *            the number of nodes in each layer.
+     * @param edgesPerNode
+     *            the number of outgoing edges of each node not in the last layer.
+     * @return the generated graph, configured to be laid out with the layered algorithm.
+     */
+    public static ElkNode denseLayeredGraph(final int layers, final int nodesPerLayer, final int edgesPerNode) {
+        PlainJavaInitialization.initializePlainJavaLayout();
+
+        Random random = new Random(SEED);
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(CoreOptions.ALGORITHM, ALGORITHM_PREFIX + "layered");
+
+        List<ElkNode> previousLayer = null;
+        for (int layer = 0; layer < layers; layer++) {
+            List<ElkNode> currentLayer = new ArrayList<>(nodesPerLayer);
+            for (int i = 0; i < nodesPerLayer; i++) {
+                ElkNode node = ElkGraphUtil.createNode(graph);
+                node.setDimensions(NODE_SIZE, NODE_SIZE);
+                currentLayer.add(node);
+            }
+
+            if (previousLayer != null) {
+                for (ElkNode source : previousLayer) {
+                    for (int i = 0; i < edgesPerNode; i++) {
+                        ElkGraphUtil.createSimpleEdge(source, currentLayer.get(random.nextInt(nodesPerLayer)));
+                    }
+                }
+            }
+            previousLayer = currentLayer;
+        }
+        return graph;
+    }
+
+    /**
+     * Loads all graphs found at the given path inside ELK's models repository. The graphs keep the layout algorithm
+     * they are configured with.
+     *
+     * @param path
+     *            path inside the models repository, which may denote all graphs inside a directory as described in
+     *            {@link org.eclipse.elk.alg.test.framework.io.AbstractResourcePath AbstractResourcePath}.
+     * @return the loaded graphs.
+     * @throws IOException
+     *             if a graph could not be loaded.
+     */
+    public static List<ElkNode> modelGraphs(final String path) throws IOException {
+        PlainJavaInitialization.initializePlainJavaLayout();
+
+        List<ElkNode> graphs = new ArrayList<>();
+        for (AbsoluteResourcePath resource : new ModelResourcePath(path).withFilter(GraphFromFile.GRAPH_FILE_FILTER)
+                .listResources()) {
+
+            Resource emfResource = new ResourceSetImpl().getResource(
+                    URI.createFileURI(resource.getFile().getAbsolutePath()), true);
+            emfResource.load(Collections.emptyMap());
+            EObject content = emfResource.getContents().get(0);
+            if (content instanceof ElkNode) {
+                graphs.add((ElkNode) content);
+            }
+        }
+
+        if (graphs.isEmpty()) {
+            throw new IOException("No graphs found at " + path + " inside the models repository.");
+        }
+        return graphs;
+    }
+
+    private static boolean isTreeAlgorithm(final String algorithm) {
+        return algorithm.equals("mrtree") || algorithm.equals("radial");
+    }
+
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to lay out the test graphs of ELK's models repository, which the {@code MODELS_REPO}
+ * system property has to point to. Each graph is laid out with the algorithm it is configured with, and one
+ * operation lays out all graphs found at the given path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelGraphBenchmark {
+
+    /** Path of the graphs inside the models repository. */
+    @Param({ "tests/layered/**/", "realworld/ptolemy/**/" })
+    public String path;
+
+    private final RecursiveGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
+    private List<ElkNode> graphs;
+    private List<ElkNode> copies;
+
+    /**
+     * Loads the graphs to be laid out.
+     */
+    @Setup(Level.Trial)
+    public void loadGraphs() throws IOException {
+        graphs = BenchmarkGraphs.modelGraphs(path);
+    }
+
+    /**
+     * Copies the graphs such that each invocation starts from the same unlaid graphs.
+     */
+    @Setup(Level.Invocation)
+    public void copyGraphs() {
+        copies = new ArrayList<>(EcoreUtil.copyAll(graphs));
+    }
+
+    /**
+     * Lays out the copied graphs.
+     */
+    @Benchmark
+    public List<ElkNode> layout() {
+        for (ElkNode graph : copies) {
+            engine.layout(graph, new BasicProgressMonitor());
+        }
+        return copies;
+    }
+
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long each layout algorithm takes to lay out random graphs of different sizes. Each invocation lays
+ * out a fresh copy of the same graph; copying it is not part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomGraphBenchmark {
+
+    /** Identifier of the layout algorithm without the {@code org.eclipse.elk.} prefix. */
+    @Param({ "layered", "mrtree", "force", "stress", "radial", "rectpacking", "disco", "sporeOverlap" })
+    public String algorithm;
+
+    /** The number of nodes of the graph. */
+    @Param({ "20", "100", "500" })
+    public int nodes;
+
+    private final RecursiveGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
+    private ElkNode graph;
+    private ElkNode copy;
+
+    /**
+     * Generates the graph to be laid out.
+     */
+    @Setup(Level.Trial)
+    public void generateGraph() {
+        graph = BenchmarkGraphs.randomGraph(algorithm, nodes);
+    }
+
+    /**
+     * Copies the graph such that each invocation starts from the same unlaid graph.
+     */
+    @Setup(Level.Invocation)
+    public void copyGraph() {
+        copy = EcoreUtil.copy(graph);
+    }
+
+    /**
+     * Lays out the copied graph.
+     */
+    @Benchmark
+    public ElkNode layout() {
+        engine.layout(copy, new BasicProgressMonitor());
+        return copy;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.compaction.oned;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.core.math.ElkRectangle;
+import org.eclipse.elk.core.options.Direction;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests that the {@link IntervalConstraintCalculation} yields the same constraints as the
+ * {@link QuadraticConstraintCalculation}.
+ */
+public class IntervalConstraintCalculationTest {
+
+    private static final int MAX_SPACING = 6;
+
+    /** Pair-dependent spacings with a known upper bound. */
+    private static final ISpacingsHandler BOUNDED_SPACING_HANDLER = new ISpacingsHandler() {
+        @Override
+        public double getVerticalSpacing(final CNode cNode1, final CNode cNode2) {
+            return (cNode1.id + cNode2.id) % (MAX_SPACING + 1);
+        }
+        @Override
+        public double getHorizontalSpacing(final CNode cNode1, final CNode cNode2) {
+            return (cNode1.id * cNode2.id) % (MAX_SPACING + 1);
+        }
+        @Override
+        public double getMaximalVerticalSpacing(final Collection<CNode> cNodes) {
+            return MAX_SPACING;
+        }
+        @Override
+        public double getMaximalHorizontalSpacing(final Collection<CNode> cNodes) {
+            return MAX_SPACING;
+        }
+    };
+
+    /** Random with a fixed seed for determinism. */
+    private Random random = new Random(1);
+
+    @Test
+    public void testSameConstraintsAsQuadratic() {
+        for (Direction dir : EnumSet.of(Direction.LEFT, Direction.RIGHT, Direction.UP, Direction.DOWN)) {
+            for (int i = 0; i < 10; ++i) {
+                assertSameConstraints(generateRandomGraph(50 + random.nextInt(1000)), dir,
+                        BOUNDED_SPACING_HANDLER);
+            }
+        }
+    }
+
+    @Test
+    public void testUnboundedSpacings() {
+        assertSameConstraints(generateRandomGraph(200), Direction.LEFT,
+                OneDimensionalCompactorTest.TEST_SPACING_HANDLER);
+    }
+
+    private void assertSameConstraints(final CGraph graph, final Direction dir, final ISpacingsHandler handler) {
+        OneDimensionalCompactor compactor = new OneDimensionalCompactor(graph)
+                .setSpacingsHandler(handler)
+                .setConstraintAlgorithm(OneDimensionalCompactor.QUADRATIC_CONSTRAINTS)
+                .changeDirection(dir);
+
+        List<List<CNode>> expected = Lists.newArrayList();
+        for (CNode cNode : graph.cNodes) {
+            expected.add(Lists.newArrayList(cNode.constraints));
+        }
+
+        OneDimensionalCompactor.INTERVAL_CONSTRAINTS.calculateConstraints(compactor);
+        for (int i = 0; i < graph.cNodes.size(); ++i) {
+            assertEquals(expected.get(i), graph.cNodes.get(i).constraints);
+        }
+    }
+
+    private CGraph generateRandomGraph(final int n) {
+        CGraph graph = new CGraph(EnumSet.allOf(Direction.class));
+        for (int i = 0; i < n; ++i) {
+            // integral coordinates provoke equal positions and touching hitboxes
+            ElkRectangle hitbox = random.nextBoolean()
+                    ? new ElkRectangle(random.nextInt(500), random.nextInt(500), 1 + random.nextInt(30),
+                            1 + random.nextInt(30))
+                    : new ElkRectangle(random.nextDouble() * 500, random.nextDouble() * 500,
+                            random.nextDouble() * 30, random.nextDouble() * 30);
+            CNode.of().id(i).hitbox(hitbox).create(graph);
+        }
+        for (int i = 0; i + 1 < n; i += 2 + random.nextInt(20)) {
+            CGroup.of().nodes(graph.cNodes.get(i), graph.cNodes.get(i + 1)).create(graph);
+        }
+        return graph;
+    }
+
+}
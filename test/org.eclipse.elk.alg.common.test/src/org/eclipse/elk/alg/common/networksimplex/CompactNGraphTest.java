@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.common.networksimplex;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests the structure of {@link CompactNGraph}s created by its {@link CompactNGraph.Builder} and from
+ * {@link NGraph}s, as well as the transfer of layerings between them.
+ */
+public class CompactNGraphTest {
+
+    /** Random with a fixed seed for determinism. */
+    private Random random = new Random(1);
+
+    @Test
+    public void testBuilderAdjacency() {
+        CompactNGraph.Builder builder = CompactNGraph.of();
+        for (int i = 0; i < 4; ++i) {
+            builder.addNode();
+        }
+        Assert.assertEquals(0, builder.addEdge(0, 1, 1, 1));
+        Assert.assertEquals(1, builder.addEdge(2, 1, 1, 1));
+        Assert.assertEquals(2, builder.addEdge(1, 3, 1, 1));
+        Assert.assertEquals(3, builder.addEdge(0, 3, 1, 1));
+        CompactNGraph graph = builder.create();
+
+        Assert.assertEquals(4, graph.getNodeCount());
+        Assert.assertEquals(4, graph.getEdgeCount());
+        Assert.assertArrayEquals(new int[] { 0, 2, 0, 2 }, graph.inDegree);
+        Assert.assertArrayEquals(new int[] { 0, 2, 5, 6, 8 }, graph.incidentStart);
+        // incoming edges first, each group ordered by index
+        Assert.assertArrayEquals(new int[] { 0, 3, 0, 1, 2, 1, 2, 3 }, graph.incidentEdges);
+    }
+
+    @Test
+    public void testBuilderDegrees() {
+        CompactNGraph.Builder builder = CompactNGraph.of();
+        final int n = 500;
+        for (int i = 0; i < n; ++i) {
+            builder.addNode();
+        }
+        int[] inDegree = new int[n];
+        int[] outDegree = new int[n];
+        for (int i = 0; i < 4 * n; ++i) {
+            int src = random.nextInt(n - 1);
+            int tgt = src + 1 + random.nextInt(n - src - 1);
+            builder.addEdge(src, tgt, random.nextDouble() * 50, random.nextInt(50));
+            outDegree[src]++;
+            inDegree[tgt]++;
+        }
+        CompactNGraph graph = builder.create();
+
+        for (int v = 0; v < n; ++v) {
+            Assert.assertEquals(inDegree[v], graph.inDegree[v]);
+            Assert.assertEquals(inDegree[v] + outDegree[v], graph.incidentStart[v + 1] - graph.incidentStart[v]);
+            for (int i = graph.incidentStart[v]; i < graph.incidentStart[v + 1]; ++i) {
+                int e = graph.incidentEdges[i];
+                if (i < graph.incidentStart[v] + inDegree[v]) {
+                    Assert.assertEquals(v, graph.getTarget(e));
+                } else {
+                    Assert.assertEquals(v, graph.getSource(e));
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderUnknownNode() {
+        CompactNGraph.Builder builder = CompactNGraph.of();
+        builder.addNode();
+        builder.addEdge(0, 1, 1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderSelfLoop() {
+        CompactNGraph.Builder builder = CompactNGraph.of();
+        builder.addNode();
+        builder.addEdge(0, 0, 1, 1);
+    }
+
+    @Test
+    public void testBuilderMakeConnected() {
+        CompactNGraph.Builder builder = CompactNGraph.of();
+        for (int i = 0; i < 6; ++i) {
+            builder.addNode();
+        }
+        builder.addEdge(0, 1, 1, 1);
+        builder.addEdge(3, 2, 1, 1);
+        builder.addEdge(4, 2, 1, 1);
+
+        int root = builder.makeConnected();
+        Assert.assertEquals(6, root);
+        CompactNGraph graph = builder.create();
+
+        // one edge to the first node of each component: {0, 1}, {2, 3, 4}, and {5}
+        Assert.assertEquals(6, graph.getEdgeCount());
+        int[] expectedTargets = { 0, 2, 5 };
+        for (int i = 0; i < expectedTargets.length; ++i) {
+            Assert.assertEquals(root, graph.getSource(3 + i));
+            Assert.assertEquals(expectedTargets[i], graph.getTarget(3 + i));
+            Assert.assertEquals(0, graph.getDelta(3 + i));
+        }
+
+        Assert.assertEquals(-1, CompactNGraph.of(graph).makeConnected());
+    }
+
+    @Test
+    public void testBuilderLayering() {
+        CompactNGraph.Builder builder = CompactNGraph.of();
+        final int n = 4000;
+        for (int i = 0; i < n; ++i) {
+            builder.addNode();
+        }
+        for (int i = 0; i < 2 * n; ++i) {
+            int src = random.nextInt(n - 1);
+            int tgt = src + 1 + random.nextInt(n - src - 1);
+            builder.addEdge(src, tgt, random.nextDouble() * 50, random.nextInt(50));
+        }
+        for (int i = 0; i < n - 1; ++i) {
+            builder.addEdge(i, i + 1, random.nextDouble() * 50, random.nextInt(50));
+        }
+        CompactNGraph graph = builder.create();
+
+        NetworkSimplex.forGraph(graph).execute();
+        assertValidLayering(graph);
+    }
+
+    @Test
+    public void testExtend() {
+        CompactNGraph.Builder builder = CompactNGraph.of();
+        final int n = 200;
+        for (int i = 0; i < n; ++i) {
+            builder.addNode();
+        }
+        for (int i = 0; i < n - 1; ++i) {
+            builder.addEdge(i, i + 1, random.nextDouble() * 50, random.nextInt(5));
+        }
+        CompactNGraph graph = builder.create();
+        NetworkSimplex.forGraph(graph).execute();
+
+        CompactNGraph.Builder extension = CompactNGraph.of(graph);
+        int node = extension.addNode();
+        Assert.assertEquals(n, node);
+        Assert.assertEquals(n - 1, extension.addEdge(node, 0, 1, 1));
+        CompactNGraph extended = extension.create();
+
+        // nodes and edges of the original graph keep their indices, layers, and tree edges
+        for (int v = 0; v < n; ++v) {
+            Assert.assertEquals(graph.getLayer(v), extended.getLayer(v));
+        }
+        for (int e = 0; e < n - 1; ++e) {
+            Assert.assertEquals(graph.getSource(e), extended.getSource(e));
+            Assert.assertEquals(graph.getTarget(e), extended.getTarget(e));
+            Assert.assertEquals(graph.treeEdge[e], extended.treeEdge[e]);
+        }
+        Assert.assertEquals(0, extended.getLayer(node));
+        Assert.assertFalse(extended.treeEdge[n - 1]);
+
+        NetworkSimplex.forGraph(extended).withWarmStart(true).execute();
+        assertValidLayering(extended);
+    }
+
+    @Test
+    public void testFromGraph() {
+        for (int i = 0; i < 20; ++i) {
+            NGraph graph = generateRandomGraph(10 + random.nextInt(500));
+            List<NNode> nodes = Lists.newArrayList(graph.nodes);
+            for (NNode node : nodes) {
+                node.layer = random.nextInt(100);
+            }
+
+            CompactNGraph compactGraph = CompactNGraph.fromGraph(graph);
+
+            // nodes keep their order and layers, the incident edges their order
+            Assert.assertEquals(nodes.size(), compactGraph.getNodeCount());
+            for (int v = 0; v < nodes.size(); ++v) {
+                NNode node = nodes.get(v);
+                Assert.assertEquals(node.layer, compactGraph.getLayer(v));
+                Assert.assertEquals(node.getIncomingEdges().size(), compactGraph.inDegree[v]);
+
+                List<NEdge> incident = node.getConnectedEdges();
+                Assert.assertEquals(incident.size(), compactGraph.incidentStart[v + 1] - compactGraph.incidentStart[v]);
+                for (int j = 0; j < incident.size(); ++j) {
+                    int e = compactGraph.incidentEdges[compactGraph.incidentStart[v] + j];
+                    NEdge edge = incident.get(j);
+                    Assert.assertSame(edge.getSource(), nodes.get(compactGraph.getSource(e)));
+                    Assert.assertSame(edge.getTarget(), nodes.get(compactGraph.getTarget(e)));
+                    Assert.assertEquals(edge.weight, compactGraph.getWeight(e), 0);
+                    Assert.assertEquals(edge.delta, compactGraph.getDelta(e));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testApplyLayering() {
+        for (int i = 0; i < 20; ++i) {
+            NGraph graph = generateRandomGraph(10 + random.nextInt(500));
+            List<NNode> nodes = Lists.newArrayList(graph.nodes);
+
+            CompactNGraph compactGraph = CompactNGraph.fromGraph(graph);
+            NetworkSimplex.forGraph(compactGraph).execute();
+            compactGraph.applyLayering();
+
+            for (int v = 0; v < nodes.size(); ++v) {
+                Assert.assertEquals(compactGraph.getLayer(v), nodes.get(v).layer);
+            }
+            for (NNode node : nodes) {
+                for (NEdge e : node.getOutgoingEdges()) {
+                    Assert.assertTrue("Valid delta", e.getTarget().layer - e.getSource().layer >= e.delta);
+                    Assert.assertEquals(compactGraph.treeEdge[e.internalId], e.treeEdge);
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testApplyLayeringWithoutGraph() {
+        CompactNGraph.Builder builder = CompactNGraph.of();
+        builder.addNode();
+        builder.create().applyLayering();
+    }
+
+    private void assertValidLayering(final CompactNGraph graph) {
+        for (int e = 0; e < graph.getEdgeCount(); ++e) {
+            Assert.assertTrue("Valid delta",
+                    graph.getLayer(graph.getTarget(e)) - graph.getLayer(graph.getSource(e)) >= graph.getDelta(e));
+        }
+    }
+
+    private NGraph generateRandomGraph(final int n) {
+        NGraph graph = new NGraph();
+
+        // create nodes
+        for (int i = 0; i < n; ++i) {
+            NNode.of().id(i).create(graph);
+        }
+
+        // create edges, pointing from lower to higher ids to keep the graph acyclic
+        for (int i = 0; i < 2 * n; ++i) {
+            int src = random.nextInt(n - 1);
+            int tgt = src + 1 + random.nextInt(n - src - 1);
+            NEdge.of()
+                .delta(random.nextInt(5))
+                .weight(random.nextDouble() * 50)
+                .source(graph.nodes.get(src))
+                .target(graph.nodes.get(tgt))
+                .create();
+        }
+
+        // assert connectedness
+        graph.makeConnected();
+
+        return graph;
+    }
+}
@@ -45,6 +45,56 @@ public class NetworkSimplexTest {
         }
     }
     
+    @Test
+    public void testWarmStart() {
+        
+        for (int i = 0; i < 5; ++i) {
+            NGraph graph = generateRandomGraph();
+            NetworkSimplex.forGraph(graph).execute(new BasicProgressMonitor());
+            
+            // alter the graph slightly
+            for (int j = 0; j < 100; ++j) {
+                NNode node = graph.nodes.get(random.nextInt(graph.nodes.size()));
+                for (NEdge e : node.getOutgoingEdges()) {
+                    e.weight = random.nextDouble() * 50;
+                }
+            }
+            for (int j = 0; j < 100; ++j) {
+                int src = random.nextInt(graph.nodes.size() - 1);
+                int tgt = src + 1 + random.nextInt(graph.nodes.size() - src - 1);
+                NEdge.of()
+                    .delta(random.nextInt(50))
+                    .weight(random.nextDouble() * 50)
+                    .source(graph.nodes.get(src))
+                    .target(graph.nodes.get(tgt))
+                    .create();
+            }
+            
+            // starting from the previous result must lead to an optimal layering as well
+            NetworkSimplex.forGraph(graph).withWarmStart(true).execute(new BasicProgressMonitor());
+            for (NNode node : graph.nodes) {
+                for (NEdge e : node.getOutgoingEdges()) {
+                    Assert.assertTrue("Valid delta",
+                            e.getTarget().layer - e.getSource().layer >= e.delta);
+                }
+            }
+            double warmCost = cost(graph);
+            
+            NetworkSimplex.forGraph(graph).execute(new BasicProgressMonitor());
+            Assert.assertEquals(cost(graph), warmCost, 1e-6 * warmCost);
+        }
+    }
+    
+    private double cost(final NGraph graph) {
+        double cost = 0;
+        for (NNode node : graph.nodes) {
+            for (NEdge e : node.getOutgoingEdges()) {
+                cost += e.weight * (e.getTarget().layer - e.getSource().layer);
+            }
+        }
+        return cost;
+    }
+    
     private NGraph generateRandomGraph() {
         NGraph graph = new NGraph();
 
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.disco.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.common.polyomino.structures.PlanarGrid;
+import org.eclipse.elk.alg.common.polyomino.structures.TwoBitGrid;
+import org.eclipse.elk.core.util.Quadruple;
+import org.junit.Test;
+
+/**
+ * Compares the word-level operations of {@link PlanarGrid} with cell by cell implementations.
+ */
+public class PlanarGridTest {
+
+    /** Random with a fixed seed for determinism. */
+    private Random random = new Random(1);
+
+    /**
+     * Tests intersections of random grids at random offsets.
+     */
+    @Test
+    public void intersectionTest() {
+        for (int i = 0; i < 500; i++) {
+            PlanarGrid grid = randomGrid(1 + random.nextInt(150), 1 + random.nextInt(150), 0.05);
+            PlanarGrid other = randomGrid(1 + random.nextInt(70), 1 + random.nextInt(70), 0.2);
+            for (int j = 0; j < 10; j++) {
+                int xOffset = random.nextInt(200) - 100;
+                int yOffset = random.nextInt(200) - 100;
+                assertEquals(intersectsCellByCell(grid, other, xOffset, yOffset),
+                        grid.intersectsWithCenterBased(other, xOffset, yOffset));
+            }
+        }
+    }
+
+    /**
+     * Tests blocked cells in and weakly blocking of random areas.
+     */
+    @Test
+    public void areaTest() {
+        for (int i = 0; i < 500; i++) {
+            PlanarGrid grid = randomGrid(1 + random.nextInt(150), 1 + random.nextInt(50), 0.02);
+            int x1 = random.nextInt(grid.getWidth());
+            int x2 = x1 + random.nextInt(grid.getWidth() - x1);
+            int y1 = random.nextInt(grid.getHeight());
+            int y2 = y1 + random.nextInt(grid.getHeight() - y1);
+
+            boolean blocked = false;
+            for (int y = y1; y <= y2; y++) {
+                for (int x = x1; x <= x2; x++) {
+                    blocked |= grid.isBlocked(x, y);
+                }
+            }
+            assertEquals(blocked, grid.weaklyIntersectsArea(x1, y1, x2, y2));
+
+            PlanarGrid expected = copy(grid);
+            for (int y = y1; y <= y2; y++) {
+                for (int x = x1; x <= x2; x++) {
+                    if (!expected.isBlocked(x, y)) {
+                        expected.setWeaklyBlocked(x, y);
+                    }
+                }
+            }
+            grid.weaklyBlockArea(x1, y1, x2, y2);
+            assertEquals(expected.toString(), grid.toString());
+        }
+    }
+
+    /**
+     * Tests blocked cells in random areas that extend past the right edge of the grid, where cells are empty.
+     */
+    @Test
+    public void areaPastRightEdgeTest() {
+        for (int i = 0; i < 500; i++) {
+            PlanarGrid grid = randomGrid(1 + random.nextInt(150), 1 + random.nextInt(50), 0.02);
+            int x1 = random.nextInt(grid.getWidth() + 50);
+            int x2 = Math.max(x1, grid.getWidth()) + random.nextInt(100);
+            int y1 = random.nextInt(grid.getHeight());
+            int y2 = y1 + random.nextInt(grid.getHeight() - y1);
+
+            boolean blocked = false;
+            for (int y = y1; y <= y2; y++) {
+                for (int x = x1; x < grid.getWidth(); x++) {
+                    blocked |= grid.isBlocked(x, y);
+                }
+            }
+            assertEquals(blocked, grid.weaklyIntersectsArea(x1, y1, x2, y2));
+        }
+    }
+
+    /**
+     * Tests that areas reaching past the left edge of the grid are rejected.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void areaPastLeftEdgeTest() {
+        new PlanarGrid(10, 10).weaklyIntersectsArea(-1, 0, 5, 5);
+    }
+
+    /**
+     * Tests that areas reaching past the lower edge of the grid are rejected.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void areaPastLowerEdgeTest() {
+        new PlanarGrid(10, 10).weaklyIntersectsArea(0, 5, 5, 10);
+    }
+
+    /**
+     * Tests the bounds of the blocked cells of random grids.
+     */
+    @Test
+    public void filledBoundsTest() {
+        for (int i = 0; i < 200; i++) {
+            PlanarGrid grid = randomGrid(1 + random.nextInt(150), 1 + random.nextInt(150), 0.001);
+            int minX = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int minY = Integer.MAX_VALUE;
+            int maxY = Integer.MIN_VALUE;
+            for (int x = 0; x < grid.getWidth(); x++) {
+                for (int y = 0; y < grid.getHeight(); y++) {
+                    if (grid.isBlocked(x, y)) {
+                        minX = Math.min(minX, x);
+                        maxX = Math.max(maxX, x);
+                        minY = Math.min(minY, y);
+                        maxY = Math.max(maxY, y);
+                    }
+                }
+            }
+            Quadruple<Integer, Integer, Integer, Integer> bounds = grid.getFilledBounds();
+            assertEquals(minX, (int) bounds.getFirst());
+            assertEquals(minY, (int) bounds.getSecond());
+            assertEquals(maxX - minX + 1, (int) bounds.getThird());
+            assertEquals(maxY - minY + 1, (int) bounds.getFourth());
+        }
+    }
+
+    private boolean intersectsCellByCell(final PlanarGrid grid, final PlanarGrid other, final int xOffset,
+            final int yOffset) {
+        for (int x = 0; x < other.getWidth(); x++) {
+            int xTranslated = x - other.getCenterX() + xOffset;
+            for (int y = 0; y < other.getHeight(); y++) {
+                int yTranslated = y - other.getCenterY() + yOffset;
+                if (grid.inBoundsCenterBased(xTranslated, yTranslated)
+                        && (!other.isEmpty(x, y) && grid.isBlockedCenterBased(xTranslated, yTranslated)
+                                || other.isBlocked(x, y) && !grid.isEmptyCenterBased(xTranslated, yTranslated))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private PlanarGrid randomGrid(final int width, final int height, final double probability) {
+        PlanarGrid grid = new PlanarGrid(width, height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                double value = random.nextDouble();
+                if (value < probability) {
+                    grid.setBlocked(x, y);
+                } else if (value < 2 * probability) {
+                    grid.setWeaklyBlocked(x, y);
+                }
+            }
+        }
+        return grid;
+    }
+
+    private PlanarGrid copy(final TwoBitGrid grid) {
+        PlanarGrid copy = new PlanarGrid(grid.getWidth(), grid.getHeight());
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                if (grid.isBlocked(x, y)) {
+                    copy.setBlocked(x, y);
+                } else if (grid.isWeaklyBlocked(x, y)) {
+                    copy.setWeaklyBlocked(x, y);
+                }
+            }
+        }
+        return copy;
+    }
+
+}
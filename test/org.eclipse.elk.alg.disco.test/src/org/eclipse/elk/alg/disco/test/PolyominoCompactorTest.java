@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.disco.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.common.compaction.options.PolyominoOptions;
+import org.eclipse.elk.alg.common.polyomino.PolyominoCompactor;
+import org.eclipse.elk.alg.common.polyomino.structures.Direction;
+import org.eclipse.elk.alg.common.polyomino.structures.Polyomino;
+import org.eclipse.elk.alg.common.polyomino.structures.Polyominoes;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests that the concurrent candidate search of the {@link PolyominoCompactor} places polyominoes just like the
+ * sequential one.
+ */
+public class PolyominoCompactorTest {
+
+    /**
+     * Packs the same polyominoes sequentially and concurrently.
+     */
+    @Test
+    public void parallelCandidatesTest() {
+        for (int seed = 0; seed < 5; seed++) {
+            List<Polyomino> sequential = randomPolyominoes(300, seed);
+            new PolyominoCompactor().packPolyominoes(new Polyominoes<>(sequential, 1.0));
+
+            List<Polyomino> concurrent = randomPolyominoes(300, seed);
+            Polyominoes<Polyomino> polyHolder = new Polyominoes<>(concurrent, 1.0);
+            polyHolder.setProperty(PolyominoOptions.POLYOMINO_PARALLEL_CANDIDATES, true);
+            new PolyominoCompactor().packPolyominoes(polyHolder);
+
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.get(i).getX(), concurrent.get(i).getX());
+                assertEquals(sequential.get(i).getY(), concurrent.get(i).getY());
+            }
+        }
+    }
+
+    private List<Polyomino> randomPolyominoes(final int count, final long seed) {
+        Random random = new Random(seed);
+        List<Polyomino> polys = Lists.newArrayList();
+        for (int i = 0; i < count; i++) {
+            int width = 2 + random.nextInt(20);
+            int height = 2 + random.nextInt(20);
+            Polyomino poly = new Polyomino(width, height);
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    if (x == 0 || y == 0 || random.nextInt(4) > 0) {
+                        poly.setBlocked(x, y);
+                    }
+                }
+            }
+            if (random.nextInt(5) == 0) {
+                poly.addExtension(Direction.values()[random.nextInt(Direction.values().length)], 0, 1);
+            }
+            polys.add(poly);
+        }
+        return polys;
+    }
+
+}
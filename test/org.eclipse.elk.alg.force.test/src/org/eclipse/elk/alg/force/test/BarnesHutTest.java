@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.eclipse.elk.alg.force.ElkGraphImporter;
+import org.eclipse.elk.alg.force.graph.FGraph;
+import org.eclipse.elk.alg.force.graph.FNode;
+import org.eclipse.elk.alg.force.model.AbstractForceModel;
+import org.eclipse.elk.alg.force.model.EadesModel;
+import org.eclipse.elk.alg.force.model.FruchtermanReingoldModel;
+import org.eclipse.elk.alg.force.options.ForceOptions;
+import org.eclipse.elk.alg.force.options.InternalProperties;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.Test;
+
+/**
+ * Tests the Barnes-Hut approximation of repulsive forces.
+ */
+public class BarnesHutTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /**
+     * With a tiny theta, no cell is close enough to be approximated, so the first iteration must yield the same
+     * positions as the exact computation.
+     */
+    @Test
+    public void testTinyThetaMatchesExactForces() {
+        for (Supplier<AbstractForceModel> model : models()) {
+            FGraph exact = createGraph(30, 0);
+            model.get().layout(exact, new BasicProgressMonitor());
+            FGraph approximated = createGraph(30, 1e-9);
+            model.get().layout(approximated, new BasicProgressMonitor());
+
+            for (int i = 0; i < exact.getNodes().size(); i++) {
+                FNode exactNode = exact.getNodes().get(i);
+                FNode approximatedNode = approximated.getNodes().get(i);
+                assertEquals(exactNode.getPosition().x, approximatedNode.getPosition().x, 1e-6);
+                assertEquals(exactNode.getPosition().y, approximatedNode.getPosition().y, 1e-6);
+            }
+        }
+    }
+
+    /**
+     * A larger graph must be laid out with finite coordinates and without collapsing its nodes.
+     */
+    @Test
+    public void testLargeGraph() {
+        for (Supplier<AbstractForceModel> model : models()) {
+            FGraph graph = createGraph(2000, 0.8);
+            graph.setProperty(ForceOptions.ITERATIONS, 20);
+            model.get().layout(graph, new BasicProgressMonitor());
+
+            double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+            for (FNode node : graph.getNodes()) {
+                assertTrue(Double.isFinite(node.getPosition().x) && Double.isFinite(node.getPosition().y));
+                minX = Math.min(minX, node.getPosition().x);
+                maxX = Math.max(maxX, node.getPosition().x);
+            }
+            assertTrue(maxX > minX);
+        }
+    }
+
+    /**
+     * In Eades' model, connected particles attract each other instead of repulsing each other. Here, the two particles
+     * on the right share a cell that acts as a whole on the particle on the left, which is connected to one of them.
+     * Without the connected particle, the cell consists of a single particle, so the approximation must be exact.
+     */
+    @Test
+    public void testConnectedParticlesDoNotRepulse() {
+        FGraph exact = createTriangle(0);
+        new EadesModel().layout(exact, new BasicProgressMonitor());
+        FGraph approximated = createTriangle(0.5);
+        new EadesModel().layout(approximated, new BasicProgressMonitor());
+
+        for (int i = 0; i < exact.getNodes().size(); i++) {
+            FNode exactNode = exact.getNodes().get(i);
+            FNode approximatedNode = approximated.getNodes().get(i);
+            assertEquals(exactNode.getPosition().x, approximatedNode.getPosition().x, 1e-9);
+            assertEquals(exactNode.getPosition().y, approximatedNode.getPosition().y, 1e-9);
+        }
+    }
+
+    private List<Supplier<AbstractForceModel>> models() {
+        return Arrays.asList(EadesModel::new, FruchtermanReingoldModel::new);
+    }
+
+    /**
+     * Creates a graph of three nodes without extent that performs a single iteration with strong repulsive forces. The
+     * first node is far away from the other two and connected to the second one.
+     */
+    private FGraph createTriangle(final double theta) {
+        ElkNode elkGraph = ElkGraphUtil.createGraph();
+        ElkNode left = ElkGraphUtil.createNode(elkGraph);
+        ElkNode right = ElkGraphUtil.createNode(elkGraph);
+        right.setLocation(1000, 1000);
+        ElkGraphUtil.createNode(elkGraph).setLocation(1010, 1000);
+        ElkGraphUtil.createSimpleEdge(left, right);
+
+        FGraph fgraph = new ElkGraphImporter().importGraph(elkGraph);
+        fgraph.setProperty(InternalProperties.RANDOM, new Random(1));
+        fgraph.setProperty(ForceOptions.INTERACTIVE, true);
+        fgraph.setProperty(ForceOptions.ITERATIONS, 1);
+        fgraph.setProperty(ForceOptions.REPULSION, 1e6);
+        fgraph.setProperty(ForceOptions.BARNES_HUT_THETA, theta);
+        return fgraph;
+    }
+
+    /**
+     * Creates a graph of connected chains of nodes, with a few edges between the chains, that performs a single
+     * iteration.
+     */
+    private FGraph createGraph(final int nodeCount, final double theta) {
+        ElkNode elkGraph = ElkGraphUtil.createGraph();
+        Random random = new Random(0);
+        ElkNode previous = null;
+        for (int i = 0; i < nodeCount; i++) {
+            ElkNode node = ElkGraphUtil.createNode(elkGraph);
+            node.setDimensions(20, 20);
+            if (previous != null && i % 10 != 0) {
+                ElkGraphUtil.createSimpleEdge(previous, node);
+            } else if (previous != null) {
+                ElkGraphUtil.createSimpleEdge(elkGraph.getChildren().get(random.nextInt(i)), node);
+            }
+            previous = node;
+        }
+
+        FGraph fgraph = new ElkGraphImporter().importGraph(elkGraph);
+        fgraph.setProperty(InternalProperties.RANDOM, new Random(1));
+        fgraph.setProperty(ForceOptions.ITERATIONS, 1);
+        fgraph.setProperty(ForceOptions.BARNES_HUT_THETA, theta);
+        return fgraph;
+    }
+
+}
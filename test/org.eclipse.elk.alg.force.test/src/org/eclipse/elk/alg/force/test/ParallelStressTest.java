@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.force.options.StressOptions;
+import org.eclipse.elk.alg.force.stress.StressLayoutProvider;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the concurrent computation of stress majorization.
+ */
+public class ParallelStressTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Computing concurrently must yield the same layout every time, and its edges must be about as long as those of
+     * the sequential computation.
+     */
+    @Test
+    public void testParallelResemblesSequential() {
+        ElkNode sequential = layout(false);
+        ElkNode parallel = layout(true);
+        ElkNode parallelAgain = layout(true);
+
+        for (int i = 0; i < parallel.getChildren().size(); i++) {
+            assertEquals(parallel.getChildren().get(i).getX(), parallelAgain.getChildren().get(i).getX(), 0);
+            assertEquals(parallel.getChildren().get(i).getY(), parallelAgain.getChildren().get(i).getY(), 0);
+        }
+        double sequentialLength = meanEdgeLength(sequential);
+        assertEquals(sequentialLength, meanEdgeLength(parallel), sequentialLength * 0.05);
+    }
+
+    private ElkNode layout(final boolean parallel) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        Random random = new Random(0);
+        for (int i = 0; i < 150; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(20, 20);
+            if (i > 0) {
+                ElkGraphUtil.createSimpleEdge(graph.getChildren().get(random.nextInt(i)), node);
+            }
+        }
+        graph.setProperty(StressOptions.PARALLEL, parallel);
+        new StressLayoutProvider().layout(graph, new BasicProgressMonitor());
+        return graph;
+    }
+
+    private double meanEdgeLength(final ElkNode graph) {
+        double sum = 0;
+        for (ElkEdge edge : graph.getContainedEdges()) {
+            ElkNode source = ElkGraphUtil.connectableShapeToNode(edge.getSources().get(0));
+            ElkNode target = ElkGraphUtil.connectableShapeToNode(edge.getTargets().get(0));
+            sum += Math.hypot(source.getX() - target.getX(), source.getY() - target.getY());
+        }
+        return sum / graph.getContainedEdges().size();
+    }
+
+}
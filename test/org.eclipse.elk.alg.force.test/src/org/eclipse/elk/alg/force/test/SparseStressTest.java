@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.force.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.elk.alg.force.options.StressModelStrategy;
+import org.eclipse.elk.alg.force.options.StressOptions;
+import org.eclipse.elk.alg.force.stress.StressLayoutProvider;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the sparse stress model.
+ */
+public class SparseStressTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    private static final int GRID_SIZE = 12;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Laid out with the sparse model, a grid must look like its layout with the full model: edges must be about as
+     * long, and the grid must not fold, which would make its diagonal shorter. This must hold for a small number of
+     * pivots as well as for more pivots than there are nodes.
+     */
+    @Test
+    public void testGridResemblesFullModel() {
+        ElkNode full = layoutGrid(StressModelStrategy.FULL, 1);
+        double fullEdgeLength = meanEdgeLength(full);
+        double fullDiagonal = diagonal(full);
+
+        for (int pivots : new int[] { 10, 1000 }) {
+            ElkNode sparse = layoutGrid(StressModelStrategy.SPARSE, pivots);
+            for (ElkNode node : sparse.getChildren()) {
+                assertTrue(Double.isFinite(node.getX()) && Double.isFinite(node.getY()));
+            }
+            assertEquals(fullEdgeLength, meanEdgeLength(sparse), fullEdgeLength * 0.05);
+            assertEquals(fullDiagonal, diagonal(sparse), fullDiagonal * 0.05);
+        }
+    }
+
+    /**
+     * Fixed nodes must keep their positions, and the initial coordinates of the other nodes must fit them even though
+     * pivot MDS knows nothing about the fixed positions. Here, three corners of the grid are fixed far away from the
+     * origin in a rotated grid. Only one iteration is performed, so the result mostly shows the initial coordinates.
+     */
+    @Test
+    public void testFixedNodes() {
+        ElkNode graph = createGrid();
+        graph.setProperty(StressOptions.MODEL, StressModelStrategy.SPARSE);
+        graph.setProperty(StressOptions.ITERATION_LIMIT, 0);
+
+        double angle = Math.toRadians(30);
+        int[] fixedIndices = { 0, GRID_SIZE - 1, GRID_SIZE * (GRID_SIZE - 1) };
+        for (int index : fixedIndices) {
+            ElkNode node = graph.getChildren().get(index);
+            node.setProperty(StressOptions.FIXED, true);
+            node.setLocation(gridX(index, angle), gridY(index, angle));
+        }
+
+        new StressLayoutProvider().layout(graph, new BasicProgressMonitor());
+
+        // the whole drawing may have been moved, but the fixed nodes must not have moved relative to each other
+        ElkNode first = graph.getChildren().get(fixedIndices[0]);
+        for (int index : fixedIndices) {
+            ElkNode node = graph.getChildren().get(index);
+            assertEquals(gridX(index, angle) - gridX(0, angle), node.getX() - first.getX(), 1e-6);
+            assertEquals(gridY(index, angle) - gridY(0, angle), node.getY() - first.getY(), 1e-6);
+        }
+
+        // the other nodes must have been placed along with them
+        for (ElkEdge edge : graph.getContainedEdges()) {
+            assertTrue(distance(ElkGraphUtil.connectableShapeToNode(edge.getSources().get(0)),
+                    ElkGraphUtil.connectableShapeToNode(edge.getTargets().get(0))) < 200);
+        }
+        int lastIndex = GRID_SIZE * GRID_SIZE - 1;
+        ElkNode last = graph.getChildren().get(lastIndex);
+        assertEquals(gridX(lastIndex, angle) - gridX(0, angle), last.getX() - first.getX(), 400);
+        assertEquals(gridY(lastIndex, angle) - gridY(0, angle), last.getY() - first.getY(), 400);
+    }
+
+    /**
+     * Returns the x coordinate of the node with the given index in a grid with edges of the default length that is
+     * rotated by the given angle and moved far away from the origin.
+     */
+    private double gridX(final int index, final double angle) {
+        double x = index % GRID_SIZE * 100;
+        double y = index / GRID_SIZE * 100;
+        return 5000 + Math.cos(angle) * x - Math.sin(angle) * y;
+    }
+
+    /**
+     * Returns the y coordinate corresponding to {@link #gridX(int, double)}.
+     */
+    private double gridY(final int index, final double angle) {
+        double x = index % GRID_SIZE * 100;
+        double y = index / GRID_SIZE * 100;
+        return 7000 + Math.sin(angle) * x + Math.cos(angle) * y;
+    }
+
+    private ElkNode layoutGrid(final StressModelStrategy model, final int pivots) {
+        ElkNode graph = createGrid();
+        graph.setProperty(StressOptions.MODEL, model);
+        graph.setProperty(StressOptions.PIVOTS, pivots);
+        new StressLayoutProvider().layout(graph, new BasicProgressMonitor());
+        return graph;
+    }
+
+    private double meanEdgeLength(final ElkNode graph) {
+        double sum = 0;
+        for (ElkEdge edge : graph.getContainedEdges()) {
+            sum += distance(ElkGraphUtil.connectableShapeToNode(edge.getSources().get(0)),
+                    ElkGraphUtil.connectableShapeToNode(edge.getTargets().get(0)));
+        }
+        return sum / graph.getContainedEdges().size();
+    }
+
+    private double diagonal(final ElkNode graph) {
+        return distance(graph.getChildren().get(0), graph.getChildren().get(GRID_SIZE * GRID_SIZE - 1));
+    }
+
+    private ElkNode createGrid() {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        ElkNode[][] nodes = new ElkNode[GRID_SIZE][GRID_SIZE];
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                nodes[row][column] = ElkGraphUtil.createNode(graph);
+                nodes[row][column].setDimensions(20, 20);
+                if (column > 0) {
+                    ElkGraphUtil.createSimpleEdge(nodes[row][column - 1], nodes[row][column]);
+                }
+                if (row > 0) {
+                    ElkGraphUtil.createSimpleEdge(nodes[row - 1][column], nodes[row][column]);
+                }
+            }
+        }
+        return graph;
+    }
+
+    private double distance(final ElkNode node1, final ElkNode node2) {
+        // all nodes have the same size, so the distance of their corners equals that of their centers
+        return Math.hypot(node1.getX() - node2.getX(), node1.getY() - node2.getY());
+    }
+
+}
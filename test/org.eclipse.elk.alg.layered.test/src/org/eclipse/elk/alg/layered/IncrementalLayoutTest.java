@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests incremental layout, which reuses the layering and node order of the previous layout.
+ */
+public class IncrementalLayoutTest {
+
+    private static final int NODES = 60;
+    private static final int EDGES = 90;
+    private static final int COMPONENTS = 4;
+    private static final int COMPONENT_NODES = 15;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testUnchangedGraph() {
+        for (int seed = 0; seed < 5; seed++) {
+            ElkNode graph = createGraph(seed);
+            layout(graph);
+            Map<ElkNode, Integer> layers = layerIds(graph);
+            Map<ElkNode, Integer> positions = positionIds(graph);
+
+            layout(graph);
+            assertEquals(layers, layerIds(graph));
+            assertEquals(positions, positionIds(graph));
+        }
+    }
+
+    @Test
+    public void testAddedNode() {
+        for (int seed = 0; seed < 5; seed++) {
+            ElkNode graph = createGraph(seed);
+            layout(graph);
+            Map<ElkNode, Integer> layers = layerIds(graph);
+            Map<ElkNode, Integer> positions = positionIds(graph);
+
+            // add a node between two existing nodes
+            List<ElkNode> nodes = new ArrayList<>(graph.getChildren());
+            ElkNode source = nodes.get(seed);
+            ElkNode target = nodes.get(NODES - 1 - seed);
+            ElkNode newNode = ElkGraphUtil.createNode(graph);
+            newNode.setDimensions(20, 20);
+            ElkGraphUtil.createSimpleEdge(source, newNode);
+            ElkGraphUtil.createSimpleEdge(newNode, target);
+            layout(graph);
+
+            assertStable(graph, layers, positions, neighborhood(newNode, 1));
+            assertLayeringRespectsEdges(graph);
+        }
+    }
+
+    @Test
+    public void testReversedEdge() {
+        for (int seed = 0; seed < 5; seed++) {
+            ElkNode graph = createGraph(seed);
+            layout(graph);
+            Map<ElkNode, Integer> layers = layerIds(graph);
+            Map<ElkNode, Integer> positions = positionIds(graph);
+
+            // add an edge against the current layering, which is reversed instead of changing the layering
+            ElkNode source = null;
+            ElkNode target = null;
+            for (ElkNode node : graph.getChildren()) {
+                if (source == null || layers.get(node) > layers.get(source)) {
+                    source = node;
+                }
+                if (target == null || layers.get(node) < layers.get(target)) {
+                    target = node;
+                }
+            }
+            ElkGraphUtil.createSimpleEdge(source, target);
+            layout(graph);
+
+            assertStable(graph, layers, positions, Collections.emptySet());
+            assertLayeringRespectsEdges(graph);
+        }
+    }
+
+    @Test
+    public void testPropagationDistance() {
+        ElkNode graph = createGraph(0);
+        graph.setProperty(LayeredOptions.INCREMENTAL_PROPAGATION_DISTANCE, 0);
+        layout(graph);
+        Map<ElkNode, Integer> layers = layerIds(graph);
+        Map<ElkNode, Integer> positions = positionIds(graph);
+
+        ElkNode newNode = ElkGraphUtil.createNode(graph);
+        newNode.setDimensions(20, 20);
+        for (int i = 0; i < 5; i++) {
+            ElkGraphUtil.createSimpleEdge(graph.getChildren().get(i), newNode);
+        }
+        layout(graph);
+
+        // only the new node may be laid out again
+        assertStable(graph, layers, positions, neighborhood(newNode, 0));
+    }
+
+    @Test
+    public void testSeparateComponents() {
+        for (int seed = 0; seed < 5; seed++) {
+            Random random = new Random(seed);
+            ElkNode graph = ElkGraphUtil.createGraph();
+            graph.setProperty(LayeredOptions.INCREMENTAL_ACTIVATE, true);
+            List<List<ElkNode>> components = new ArrayList<>();
+            for (int i = 0; i < COMPONENTS; i++) {
+                components.add(createComponent(graph, random));
+            }
+            layout(graph);
+            Map<ElkNode, Integer> layers = layerIds(graph);
+            Map<ElkNode, Integer> positions = positionIds(graph);
+
+            // add a node between two nodes of the same component
+            List<ElkNode> component = components.get(seed % COMPONENTS);
+            ElkNode newNode = ElkGraphUtil.createNode(graph);
+            newNode.setDimensions(20, 20);
+            ElkGraphUtil.createSimpleEdge(component.get(1), newNode);
+            ElkGraphUtil.createSimpleEdge(newNode, component.get(component.size() - 2));
+            layout(graph);
+
+            // the layer and position IDs are only comparable within a component
+            Set<ElkNode> dirty = neighborhood(newNode, 1);
+            for (List<ElkNode> nodes : components) {
+                assertStable(nodes, layers, positions, dirty);
+            }
+            assertLayeringRespectsEdges(graph);
+        }
+    }
+
+    private void layout(final ElkNode graph) {
+        new LayeredLayoutProvider().layout(graph, new BasicProgressMonitor());
+    }
+
+    private ElkNode createGraph(final int seed) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(LayeredOptions.INCREMENTAL_ACTIVATE, true);
+        graph.setProperty(LayeredOptions.SEPARATE_CONNECTED_COMPONENTS, false);
+
+        Random random = new Random(seed);
+        List<ElkNode> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(10 + random.nextInt(20), 10 + random.nextInt(20));
+            nodes.add(node);
+        }
+        for (int i = 0; i < EDGES; i++) {
+            ElkGraphUtil.createSimpleEdge(nodes.get(random.nextInt(NODES)), nodes.get(random.nextInt(NODES)));
+        }
+        return graph;
+    }
+
+    /**
+     * Creates a connected component, whose nodes form a path with some additional random edges.
+     */
+    private List<ElkNode> createComponent(final ElkNode graph, final Random random) {
+        List<ElkNode> nodes = new ArrayList<>();
+        for (int i = 0; i < COMPONENT_NODES; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(10 + random.nextInt(20), 10 + random.nextInt(20));
+            if (i > 0) {
+                ElkGraphUtil.createSimpleEdge(nodes.get(random.nextInt(i)), node);
+            }
+            nodes.add(node);
+        }
+        for (int i = 0; i < COMPONENT_NODES / 2; i++) {
+            ElkGraphUtil.createSimpleEdge(nodes.get(random.nextInt(COMPONENT_NODES)),
+                    nodes.get(random.nextInt(COMPONENT_NODES)));
+        }
+        return nodes;
+    }
+
+    private Map<ElkNode, Integer> layerIds(final ElkNode graph) {
+        Map<ElkNode, Integer> layers = new HashMap<>();
+        for (ElkNode node : graph.getChildren()) {
+            layers.put(node, node.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+        }
+        return layers;
+    }
+
+    private Map<ElkNode, Integer> positionIds(final ElkNode graph) {
+        Map<ElkNode, Integer> positions = new HashMap<>();
+        for (ElkNode node : graph.getChildren()) {
+            positions.put(node, node.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID));
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the nodes within the given number of edges of the given node.
+     */
+    private Set<ElkNode> neighborhood(final ElkNode node, final int distance) {
+        Set<ElkNode> neighborhood = new HashSet<>();
+        neighborhood.add(node);
+        for (int i = 0; i < distance; i++) {
+            for (ElkNode neighbor : new ArrayList<>(neighborhood)) {
+                for (ElkEdge edge : ElkGraphUtil.allIncidentEdges(neighbor)) {
+                    neighborhood.add(ElkGraphUtil.connectableShapeToNode(edge.getSources().get(0)));
+                    neighborhood.add(ElkGraphUtil.connectableShapeToNode(edge.getTargets().get(0)));
+                }
+            }
+        }
+        return neighborhood;
+    }
+
+    /**
+     * Checks that the nodes outside the dirty set keep their layering and their relative order.
+     */
+    private void assertStable(final ElkNode graph, final Map<ElkNode, Integer> oldLayers,
+            final Map<ElkNode, Integer> oldPositions, final Set<ElkNode> dirty) {
+
+        assertStable(graph.getChildren(), oldLayers, oldPositions, dirty);
+    }
+
+    /**
+     * Checks that the given nodes, except for the dirty ones, keep their layering and their relative order.
+     */
+    private void assertStable(final List<ElkNode> nodes, final Map<ElkNode, Integer> oldLayers,
+            final Map<ElkNode, Integer> oldPositions, final Set<ElkNode> dirty) {
+
+        List<ElkNode> stable = new ArrayList<>();
+        for (ElkNode node : nodes) {
+            if (!dirty.contains(node)) {
+                stable.add(node);
+            }
+        }
+
+        for (ElkNode a : stable) {
+            for (ElkNode b : stable) {
+                int oldLayerComparison = Integer.compare(oldLayers.get(a), oldLayers.get(b));
+                int newLayerComparison = Integer.compare(a.getProperty(LayeredOptions.LAYERING_LAYER_ID),
+                        b.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+                assertEquals(oldLayerComparison, newLayerComparison);
+
+                if (oldLayerComparison == 0) {
+                    assertEquals(Integer.compare(oldPositions.get(a), oldPositions.get(b)),
+                            Integer.compare(a.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID),
+                                    b.getProperty(LayeredOptions.CROSSING_MINIMIZATION_POSITION_ID)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that edges only connect nodes of different layers, which is the case if cycles have been broken.
+     */
+    private void assertLayeringRespectsEdges(final ElkNode graph) {
+        for (ElkEdge edge : graph.getContainedEdges()) {
+            ElkNode source = ElkGraphUtil.connectableShapeToNode(edge.getSources().get(0));
+            ElkNode target = ElkGraphUtil.connectableShapeToNode(edge.getTargets().get(0));
+            if (source != target) {
+                assertTrue(source.getProperty(LayeredOptions.LAYERING_LAYER_ID)
+                        != target.getProperty(LayeredOptions.LAYERING_LAYER_ID));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.alg.ILayoutMetricsListener;
+import org.eclipse.elk.core.alg.LayoutMetricsService;
+import org.eclipse.elk.core.alg.LayoutProcessorMetrics;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that metrics are reported for the processors of the layered algorithm.
+ */
+public class LayoutMetricsTest {
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testMetricsAreReported() {
+        List<LayoutProcessorMetrics> reported = new ArrayList<>();
+        ILayoutMetricsListener listener = reported::add;
+
+        LayoutMetricsService service = LayoutMetricsService.getInstance();
+        service.addListener(listener);
+        try {
+            assertTrue(service.isEnabled());
+            new LayeredLayoutProvider().layout(createGraph(), new BasicProgressMonitor());
+        } finally {
+            service.removeListener(listener);
+        }
+        assertFalse(service.isEnabled());
+
+        // all five phases and at least some intermediate processors
+        assertTrue(reported.stream().filter(metrics -> metrics.isPhase()).count() >= 5);
+        assertTrue(reported.stream().anyMatch(metrics -> !metrics.isPhase()));
+        for (LayoutProcessorMetrics metrics : reported) {
+            assertEquals(LayeredOptions.ALGORITHM_ID, metrics.getAlgorithmId());
+            assertTrue(metrics.getWallTime() >= 0);
+            assertTrue(metrics.getCpuTime() >= -1);
+            assertTrue(metrics.getAllocatedBytes() >= -1);
+            assertTrue(metrics.getNodeCount() >= 3);
+            assertTrue(metrics.getEdgeCount() >= 2);
+        }
+
+        // nothing is reported once the listener has been removed
+        int reportedCount = reported.size();
+        new LayeredLayoutProvider().layout(createGraph(), new BasicProgressMonitor());
+        assertEquals(reportedCount, reported.size());
+    }
+
+    private ElkNode createGraph() {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        ElkNode n1 = ElkGraphUtil.createNode(graph);
+        ElkNode n2 = ElkGraphUtil.createNode(graph);
+        ElkNode n3 = ElkGraphUtil.createNode(graph);
+        ElkGraphUtil.createSimpleEdge(n1, n2);
+        ElkGraphUtil.createSimpleEdge(n1, n3);
+        return graph;
+    }
+
+}
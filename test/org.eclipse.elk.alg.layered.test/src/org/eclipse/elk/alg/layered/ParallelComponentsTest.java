@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests laying out the connected components of a graph concurrently.
+ */
+public class ParallelComponentsTest {
+
+    private static final int COMPONENTS = 40;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testComponentsAreLaidOut() {
+        ElkNode graph = createGraph();
+        BasicProgressMonitor monitor = new BasicProgressMonitor();
+        new LayeredLayoutProvider().layout(graph, monitor);
+
+        // one subtask per component
+        assertEquals(COMPONENTS, monitor.getSubMonitors().size());
+        for (IElkProgressMonitor componentMonitor : monitor.getSubMonitors()) {
+            assertFalse(componentMonitor.isRunning());
+        }
+
+        // the nodes of each component are placed next to each other
+        for (int i = 0; i < graph.getChildren().size(); i += 3) {
+            ElkNode source = graph.getChildren().get(i);
+            ElkNode target = graph.getChildren().get(i + 1);
+            assertTrue(target.getX() > source.getX());
+        }
+    }
+
+    @Test
+    public void testDeterministic() {
+        ElkNode first = createGraph();
+        new LayeredLayoutProvider().layout(first, new BasicProgressMonitor());
+        ElkNode second = createGraph();
+        new LayeredLayoutProvider().layout(second, new BasicProgressMonitor());
+
+        assertEquals(positions(first), positions(second));
+    }
+
+    /**
+     * Creates a graph with many components, each consisting of a node with edges to two other nodes.
+     */
+    private ElkNode createGraph() {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(LayeredOptions.PARALLEL_COMPONENTS, true);
+        for (int i = 0; i < COMPONENTS; i++) {
+            ElkNode n1 = ElkGraphUtil.createNode(graph);
+            ElkNode n2 = ElkGraphUtil.createNode(graph);
+            ElkNode n3 = ElkGraphUtil.createNode(graph);
+            for (ElkNode node : new ElkNode[] { n1, n2, n3 }) {
+                node.setDimensions(20, 20);
+            }
+            ElkGraphUtil.createSimpleEdge(n1, n2);
+            ElkGraphUtil.createSimpleEdge(n1, n3);
+        }
+        return graph;
+    }
+
+    private List<String> positions(final ElkNode graph) {
+        List<String> positions = new ArrayList<>();
+        for (ElkNode node : graph.getChildren()) {
+            positions.add(node.getX() + "," + node.getY());
+        }
+        return positions;
+    }
+
+}
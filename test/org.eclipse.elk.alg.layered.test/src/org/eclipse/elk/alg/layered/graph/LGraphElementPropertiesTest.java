@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.elk.alg.layered.options.InternalProperties;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.options.PortConstraints;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.eclipse.elk.graph.properties.Property;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that properties with a slot behave just like those kept in the property map.
+ */
+public class LGraphElementPropertiesTest {
+
+    private static final IProperty<String> UNSLOTTED = new Property<>("lgraphElementPropertiesTest.unslotted");
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testSetGetRemove() {
+        LNode node = new LNode(new LGraph());
+        assertFalse(node.hasProperty(InternalProperties.MODEL_ORDER));
+        assertTrue(node.getAllProperties().isEmpty());
+
+        node.setProperty(InternalProperties.MODEL_ORDER, 2);
+        node.setProperty(UNSLOTTED, "value");
+        assertTrue(node.hasProperty(InternalProperties.MODEL_ORDER));
+        assertEquals(Integer.valueOf(2), node.getProperty(InternalProperties.MODEL_ORDER));
+        assertEquals("value", node.getProperty(UNSLOTTED));
+
+        Map<IProperty<?>, Object> all = node.getAllProperties();
+        assertEquals(2, all.size());
+        assertTrue(all.containsKey(InternalProperties.MODEL_ORDER));
+        assertTrue(all.containsKey(UNSLOTTED));
+
+        node.setProperty(InternalProperties.MODEL_ORDER, null);
+        assertFalse(node.hasProperty(InternalProperties.MODEL_ORDER));
+        assertNull(node.getProperty(InternalProperties.MODEL_ORDER));
+    }
+
+    @Test
+    public void testEqualPropertyUsesSameSlot() {
+        LNode node = new LNode(new LGraph());
+        IProperty<PortConstraints> equalProperty = new Property<>(LayeredOptions.PORT_CONSTRAINTS.getId());
+        node.setProperty(equalProperty, PortConstraints.FIXED_ORDER);
+
+        assertTrue(node.hasProperty(LayeredOptions.PORT_CONSTRAINTS));
+        assertEquals(PortConstraints.FIXED_ORDER, node.getProperty(LayeredOptions.PORT_CONSTRAINTS));
+    }
+
+    @Test
+    public void testCloneableDefaultIsRemembered() {
+        LNode node = new LNode(new LGraph());
+        List<LNode> constraints = node.getProperty(InternalProperties.IN_LAYER_SUCCESSOR_CONSTRAINTS);
+        constraints.add(node);
+
+        assertSame(constraints, node.getProperty(InternalProperties.IN_LAYER_SUCCESSOR_CONSTRAINTS));
+        LNode other = new LNode(new LGraph());
+        assertNotSame(constraints, other.getProperty(InternalProperties.IN_LAYER_SUCCESSOR_CONSTRAINTS));
+    }
+
+    @Test
+    public void testCopyProperties() {
+        LGraph graph = new LGraph();
+        LNode node = new LNode(graph);
+        node.setProperty(InternalProperties.ORIGIN, graph);
+        node.setProperty(UNSLOTTED, "value");
+
+        LPort port = new LPort();
+        port.copyProperties(node);
+        assertSame(graph, port.getProperty(InternalProperties.ORIGIN));
+        assertEquals("value", port.getProperty(UNSLOTTED));
+
+        LEdge edge = new LEdge();
+        edge.copyProperties(port);
+        assertEquals(node.getAllProperties(), edge.getAllProperties());
+    }
+
+    @Test
+    public void testWritesThroughAllProperties() {
+        LGraph graph = new LGraph();
+        LNode source = new LNode(graph);
+        source.setProperty(InternalProperties.ORIGIN, graph);
+        source.setProperty(UNSLOTTED, "value");
+
+        // the way MapPropertyHolder subclasses such as IndividualSpacings copy properties
+        LNode node = new LNode(graph);
+        node.getAllProperties().putAll(source.getAllProperties());
+        assertSame(graph, node.getProperty(InternalProperties.ORIGIN));
+        assertEquals("value", node.getProperty(UNSLOTTED));
+
+        Map<IProperty<?>, Object> all = node.getAllProperties();
+        all.put(InternalProperties.MODEL_ORDER, 3);
+        assertEquals(Integer.valueOf(3), node.getProperty(InternalProperties.MODEL_ORDER));
+        assertSame(graph, all.remove(InternalProperties.ORIGIN));
+        assertFalse(node.hasProperty(InternalProperties.ORIGIN));
+
+        for (Map.Entry<IProperty<?>, Object> entry : all.entrySet()) {
+            if (entry.getKey().equals(InternalProperties.MODEL_ORDER)) {
+                entry.setValue(4);
+            }
+        }
+        assertEquals(Integer.valueOf(4), node.getProperty(InternalProperties.MODEL_ORDER));
+
+        all.clear();
+        assertTrue(node.getAllProperties().isEmpty());
+        assertFalse(node.hasProperty(InternalProperties.MODEL_ORDER));
+        assertFalse(node.hasProperty(UNSLOTTED));
+    }
+
+}
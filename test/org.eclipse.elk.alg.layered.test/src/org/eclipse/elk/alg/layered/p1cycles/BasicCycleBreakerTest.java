@@ -77,6 +77,11 @@ public class BasicCycleBreakerTest extends TestGraphCreator {
         return configuratorFor(CycleBreakingStrategy.GREEDY_MODEL_ORDER);
     }
     
+    @ConfiguratorProvider
+    public LayoutConfigurator incrementalConfigurator() {
+        return configuratorFor(CycleBreakingStrategy.INCREMENTAL);
+    }
+    
     @ConfiguratorProvider
     public LayoutConfigurator modelOrderPreferEdgesConfigurator() {
         LayoutConfigurator config = configuratorFor(CycleBreakingStrategy.MODEL_ORDER);
@@ -66,6 +66,11 @@ public class BasicLayerAssignmentTest {
         return configuratorFor(LayeringStrategy.COFFMAN_GRAHAM);
     }
     
+    @ConfiguratorProvider
+    public LayoutConfigurator incrementalConfigurator() {
+        return configuratorFor(LayeringStrategy.INCREMENTAL);
+    }
+    
     @ConfiguratorProvider
     public LayoutConfigurator longestPathConfigurator() {
         return configuratorFor(LayeringStrategy.LONGEST_PATH);
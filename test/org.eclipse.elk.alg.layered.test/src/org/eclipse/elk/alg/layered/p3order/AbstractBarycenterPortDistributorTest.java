@@ -90,6 +90,22 @@ public class AbstractBarycenterPortDistributorTest extends TestGraphCreator {
         assertThat(middleNode.getPorts(), is(expectedPortOrderMiddleNode));
     }
 
+    @Test
+    public void hasReorderedPorts_GivenCrossOnWesternSide_ShouldOnlyReportFirstDistribution() {
+        LNode[] leftNodes = addNodesToLayer(2, makeLayer(getGraph()));
+        LNode rightNode = addNodeToLayer(makeLayer(getGraph()));
+        eastWestEdgeFromTo(leftNodes[0], rightNode);
+        eastWestEdgeFromTo(leftNodes[1], rightNode);
+        GraphInfoHolder gd = new GraphInfoHolder(graph, CrossMinType.BARYCENTER, null);
+        LNode[][] nodes = graph.toNodeArray();
+
+        gd.portDistributor().distributePortsWhileSweeping(nodes, 1, true);
+        assertThat(gd.portDistributor().hasReorderedPorts(), is(true));
+
+        gd.portDistributor().distributePortsWhileSweeping(nodes, 1, true);
+        assertThat(gd.portDistributor().hasReorderedPorts(), is(false));
+    }
+
     private void distributePortsInCompleteGraph(final int numberOfPorts) {
         GraphInfoHolder gd = new GraphInfoHolder(graph, CrossMinType.BARYCENTER, null);
         LNode[][] nodes = graph.toNodeArray();
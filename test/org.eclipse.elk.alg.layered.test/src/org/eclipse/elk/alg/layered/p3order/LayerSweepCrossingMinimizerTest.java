@@ -1670,6 +1670,106 @@ public class LayerSweepCrossingMinimizerTest extends TestGraphCreator {
         assertEquals(leftNode.getPorts(), expectedPortOrder);
     }
 
+    /**
+     * <pre>
+     * *  *
+     *  \/
+     *  /\
+     * *  *
+     * </pre>
+     */
+    @Test
+    public void givenCrossWithParallelRuns_RemovesCrossing() {
+        Layer[] layers = makeLayers(2);
+        LNode[] leftNodes = addNodesToLayer(2, layers[0]);
+        LNode[] rightNodes = addNodesToLayer(2, layers[1]);
+        eastWestEdgeFromTo(leftNodes[0], rightNodes[1]);
+        eastWestEdgeFromTo(leftNodes[1], rightNodes[0]);
+
+        getGraph().setProperty(LayeredOptions.CROSSING_MINIMIZATION_PARALLEL_RUNS, true);
+        getGraph().setProperty(LayeredOptions.THOROUGHNESS, 4);
+        crossMin.process(getGraph(), new BasicProgressMonitor());
+
+        List<LNode> left = getGraph().getLayers().get(0).getNodes();
+        List<LNode> right = getGraph().getLayers().get(1).getNodes();
+        assertEquals(left.indexOf(leftNodes[0]) < left.indexOf(leftNodes[1]),
+                right.indexOf(rightNodes[1]) < right.indexOf(rightNodes[0]));
+    }
+
+    /**
+     * <pre>
+     * ____
+     * |  |\ /-*
+     * |  | x
+     * |*-+/ \-*
+     * |--|
+     * </pre>
+     *
+     * The nested graph has a parent node and is therefore never copied for parallel runs.
+     */
+    @Test
+    public void givenHierarchicalEdgeCrossingWithParallelRuns_RemovesCrossing() {
+        Layer[] layers = makeLayers(2);
+        LNode leftOuterNode = addNodeToLayer(layers[0]);
+        LNode[] rightNodes = addNodesToLayer(2, layers[1]);
+        eastWestEdgeFromTo(leftOuterNode, rightNodes[1]);
+
+        LGraph innerGraph = nestedGraph(leftOuterNode);
+        Layer[] innerLayers = makeLayers(2, innerGraph);
+        LNode innerNormalNode = addNodeToLayer(innerLayers[0]);
+        LPort hierarchPort = addPortOnSide(leftOuterNode, PortSide.EAST);
+        LNode innerDummyNode = addExternalPortDummyNodeToLayer(innerLayers[1], hierarchPort);
+        eastWestEdgeFromTo(innerNormalNode, innerDummyNode);
+
+        LPort rightTopPort = addPortOnSide(rightNodes[0], PortSide.WEST);
+        addEdgeBetweenPorts(hierarchPort, rightTopPort);
+
+        List<LNode> expectedCorrectOrder = copyOfSwitchOrderOfNodesInLayer(0, 1, 1);
+
+        getGraph().setProperty(LayeredOptions.CROSSING_MINIMIZATION_PARALLEL_RUNS, true);
+        getGraph().setProperty(LayeredOptions.THOROUGHNESS, 4);
+        innerGraph.setProperty(LayeredOptions.CROSSING_MINIMIZATION_PARALLEL_RUNS, true);
+        innerGraph.setProperty(LayeredOptions.THOROUGHNESS, 4);
+        crossMin.process(getGraph(), new BasicProgressMonitor());
+
+        assertThat(getGraph().getLayers().get(1).getNodes(), is(expectedCorrectOrder));
+    }
+
+    @Test
+    public void givenParallelRuns_ResultDoesNotDependOnScheduling() {
+        List<List<Integer>> expectedOrder = minimizeWithParallelRuns(new TestGraphCreator());
+        for (int i = 0; i < 5; i++) {
+            assertThat(minimizeWithParallelRuns(new TestGraphCreator()), is(expectedOrder));
+        }
+    }
+
+    /**
+     * Minimizes the crossings of a three layer graph using parallel runs and returns the resulting node order as
+     * indices into the initial order of each layer.
+     */
+    private List<List<Integer>> minimizeWithParallelRuns(final TestGraphCreator creator) {
+        LGraph g = creator.getMoreComplexThreeLayerGraph();
+        List<List<LNode>> initialOrder = Lists.newArrayList();
+        for (Layer layer : g) {
+            initialOrder.add(Lists.newArrayList(layer.getNodes()));
+        }
+
+        g.setProperty(InternalProperties.RANDOM, new Random(0));
+        g.setProperty(LayeredOptions.CROSSING_MINIMIZATION_PARALLEL_RUNS, true);
+        g.setProperty(LayeredOptions.THOROUGHNESS, 8);
+        new LayerSweepCrossingMinimizer(crossMinType).process(g, new BasicProgressMonitor());
+
+        List<List<Integer>> order = Lists.newArrayList();
+        for (int i = 0; i < initialOrder.size(); i++) {
+            List<Integer> layerOrder = Lists.newArrayList();
+            for (LNode node : g.getLayers().get(i)) {
+                layerOrder.add(initialOrder.get(i).indexOf(node));
+            }
+            order.add(layerOrder);
+        }
+        return order;
+    }
+
     private LPort[] reverse(final LPort[] rightOuterPorts) {
         LPort[] res = new LPort[rightOuterPorts.length];
         for (int i = 0; i < rightOuterPorts.length; i++) {
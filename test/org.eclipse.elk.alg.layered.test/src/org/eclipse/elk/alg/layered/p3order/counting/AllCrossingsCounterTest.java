@@ -12,7 +12,10 @@ package org.eclipse.elk.alg.layered.p3order.counting;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.elk.alg.layered.graph.LNode;
 import org.eclipse.elk.alg.layered.graph.LPort;
@@ -221,6 +224,66 @@ public class AllCrossingsCounterTest extends TestGraphCreator {
         assertThat(amountOfCrossings, is(1));
     }
 
+    @Test
+    public void countAfterReorderingNodesAndPorts() {
+        LNode[][] layers = new LNode[3][];
+        for (int l = 0; l < layers.length; l++) {
+            layers[l] = addNodesToLayer(15, makeLayer());
+        }
+        Random rand = new Random(0);
+        for (int l = 0; l < layers.length - 1; l++) {
+            for (int e = 0; e < 40; e++) {
+                eastWestEdgeFromTo(layers[l][rand.nextInt(15)], layers[l + 1][rand.nextInt(15)]);
+            }
+        }
+        LNode[][] order = graph.toNodeArray();
+        AllCrossingsCounter counter = new GraphInfoHolder(graph, CrossMinType.BARYCENTER, null).crossCounter();
+
+        for (int i = 0; i < 60; i++) {
+            int layerIndex = rand.nextInt(order.length);
+            LNode[] layer = order[layerIndex];
+            switch (i % 3) {
+            case 0:
+                // a few switches are counted incrementally
+                for (int j = 0; j < 3; j++) {
+                    int upper = rand.nextInt(layer.length - 1);
+                    LNode node = layer[upper];
+                    layer[upper] = layer[upper + 1];
+                    layer[upper + 1] = node;
+                }
+                break;
+            case 1:
+                // a shuffled layer is counted from scratch
+                Collections.shuffle(Arrays.asList(layer), rand);
+                break;
+            default:
+                // reordered ports are reported and counted from scratch as well
+                List<LPort> ports = layer[rand.nextInt(layer.length)].getPortSideView(PortSide.EAST);
+                if (ports.size() > 1) {
+                    Collections.swap(ports, 0, ports.size() - 1);
+                    counter.notifyPortsReordered(layerIndex);
+                }
+            }
+
+            int expected = 0;
+            for (int l = 0; l < order.length - 1; l++) {
+                expected += new CrossingsCounter(new int[getNumPorts(order)]).countCrossingsBetweenLayers(order[l],
+                        order[l + 1]);
+            }
+            assertThat(counter.countAllCrossings(order), is(expected));
+        }
+    }
+
+    private int getNumPorts(final LNode[][] order) {
+        int numPorts = 0;
+        for (LNode[] layer : order) {
+            for (LNode node : layer) {
+                numPorts += node.getPorts().size();
+            }
+        }
+        return numPorts;
+    }
+
     private int allCrossings() {
         LNode[][] nodeArray = graph.toNodeArray();
         int portId = 0;
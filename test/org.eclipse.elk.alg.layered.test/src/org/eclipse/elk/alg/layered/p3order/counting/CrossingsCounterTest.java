@@ -317,6 +317,77 @@ public class CrossingsCounterTest extends InLayerEdgeTestGraphCreator {
                 is(2));
     }
 
+    @Test
+    public void incrementalCounting_givenNodeSwitches_matchesRecount() {
+        makeTwoLayerRandomGraphWithNodesPerLayer(30, 3);
+        LNode[][] order = order();
+        counter = new CrossingsCounter(new int[getNumPorts(order)]);
+        counter.initCrossingsBetweenLayers(order[0], order[1]);
+
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            LNode[] layer = order[random.nextInt(2)];
+            int upper = random.nextInt(layer.length - 1);
+            int expected = counter.countCrossingsBetweenLayersIfSwitched(layer[upper], layer[upper + 1]);
+            assertThat(counter.switchNodesBetweenLayers(layer[upper], layer[upper + 1]), is(expected));
+            switchInArray(layer, upper);
+
+            assertThat(counter.getCrossingsBetweenLayers(), is(recount(order)));
+        }
+    }
+
+    @Test
+    public void incrementalCounting_givenPortSwitches_matchesRecount() {
+        LNode[] leftNodes = addNodesToLayer(3, makeLayer());
+        LNode[] rightNodes = addNodesToLayer(3, makeLayer());
+        LNode leftNode = leftNodes[1];
+        LPort[] leftPorts = addPortsOnSide(2, leftNode, PortSide.EAST);
+        eastWestEdgeFromTo(leftNodes[2], rightNodes[1]);
+        eastWestEdgeFromTo(leftPorts[0], rightNodes[1]);
+        eastWestEdgeFromTo(leftPorts[1], rightNodes[0]);
+        eastWestEdgeFromTo(leftNodes[0], rightNodes[0]);
+
+        LNode[][] order = order();
+        counter = new CrossingsCounter(new int[getNumPorts(order)]);
+        assertThat(counter.initCrossingsBetweenLayers(order[0], order[1]), is(1));
+
+        counter.switchPortsBetweenLayers(leftPorts[0], leftPorts[1]);
+        leftNode.getPorts().set(0, leftPorts[1]);
+        leftNode.getPorts().set(1, leftPorts[0]);
+        assertThat(counter.getCrossingsBetweenLayers(), is(0));
+        assertThat(counter.getCrossingsBetweenLayers(), is(recount(order)));
+    }
+
+    @Test
+    public void incrementalCounting_givenReorderings_matchesRecount() {
+        makeTwoLayerRandomGraphWithNodesPerLayer(30, 3);
+        LNode[][] order = order();
+        counter = new CrossingsCounter(new int[getNumPorts(order)]);
+        counter.initCrossingsBetweenLayers(order[0], order[1]);
+
+        Random random = new Random(2);
+        for (int i = 0; i < 20; i++) {
+            LNode[] layer = order[i % 2];
+            // alternate between slight changes, which are handled by switching, and shuffles, which are recounted
+            int switches = i % 4 < 2 ? 3 : layer.length * layer.length;
+            for (int j = 0; j < switches; j++) {
+                switchInArray(layer, random.nextInt(layer.length - 1));
+            }
+
+            assertThat(counter.reorderLayerBetweenLayers(layer), is(recount(order)));
+        }
+    }
+
+    private void switchInArray(final LNode[] layer, final int upper) {
+        LNode node = layer[upper];
+        layer[upper] = layer[upper + 1];
+        layer[upper + 1] = node;
+    }
+
+    private int recount(final LNode[][] order) {
+        return new CrossingsCounter(new int[getNumPorts(order)]).countCrossingsBetweenLayers(order[0], order[1]);
+    }
+
     @Ignore
     // @Test
     public void benchmark() {
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p4nodes;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.LayeredLayoutProvider;
+import org.eclipse.elk.alg.layered.options.FixedAlignment;
+import org.eclipse.elk.alg.layered.options.LayeredOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that computing the alignments of the BK node placer concurrently yields the same layout as computing them
+ * one after another.
+ */
+public class BKParallelAlignmentsTest {
+
+    private static final int NODES = 150;
+    private static final int EDGES = 250;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testSmallestAlignment() {
+        assertSameLayout(FixedAlignment.NONE, true);
+    }
+
+    @Test
+    public void testBalancedAlignment() {
+        assertSameLayout(FixedAlignment.BALANCED, false);
+    }
+
+    @Test
+    public void testFixedAlignment() {
+        assertSameLayout(FixedAlignment.LEFTUP, false);
+    }
+
+    private void assertSameLayout(final FixedAlignment alignment, final boolean favorStraightEdges) {
+        for (int seed = 0; seed < 5; seed++) {
+            ElkNode sequential = createGraph(seed, alignment, favorStraightEdges, false);
+            new LayeredLayoutProvider().layout(sequential, new BasicProgressMonitor());
+            ElkNode parallel = createGraph(seed, alignment, favorStraightEdges, true);
+            new LayeredLayoutProvider().layout(parallel, new BasicProgressMonitor());
+
+            assertEquals(positions(sequential), positions(parallel));
+        }
+    }
+
+    private ElkNode createGraph(final int seed, final FixedAlignment alignment, final boolean favorStraightEdges,
+            final boolean parallel) {
+
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_BK_FIXED_ALIGNMENT, alignment);
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_FAVOR_STRAIGHT_EDGES, favorStraightEdges);
+        graph.setProperty(LayeredOptions.NODE_PLACEMENT_BK_PARALLEL_ALIGNMENTS, parallel);
+
+        Random random = new Random(seed);
+        List<ElkNode> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(10 + random.nextInt(20), 10 + random.nextInt(20));
+            nodes.add(node);
+        }
+        for (int i = 0; i < EDGES; i++) {
+            ElkGraphUtil.createSimpleEdge(nodes.get(random.nextInt(NODES)), nodes.get(random.nextInt(NODES)));
+        }
+        return graph;
+    }
+
+    private List<String> positions(final ElkNode graph) {
+        List<String> positions = new ArrayList<>();
+        for (ElkNode node : graph.getChildren()) {
+            positions.add(node.getX() + "," + node.getY());
+        }
+        return positions;
+    }
+
+}
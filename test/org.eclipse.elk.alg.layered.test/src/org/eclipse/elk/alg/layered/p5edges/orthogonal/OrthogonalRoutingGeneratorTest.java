@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.layered.p5edges.orthogonal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.layered.p5edges.orthogonal.direction.RoutingDirection;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests the creation of dependencies between hyperedge segments in {@link OrthogonalRoutingGenerator}.
+ */
+public class OrthogonalRoutingGeneratorTest {
+
+    // CHECKSTYLEOFF MagicNumber
+
+    /** Random with a fixed seed for determinism. */
+    private Random random = new Random(0);
+
+    /**
+     * The sweep over the segments must create the same dependencies, in the same order, as comparing all pairs of
+     * segments. This includes segments without any connection coordinates, whose extent is NaN, and straight segments,
+     * neither of which get dependencies.
+     */
+    @Test
+    public void testDependenciesMatchPairwiseComparison() {
+        for (int i = 0; i < 50; i++) {
+            int segmentCount = 2 + random.nextInt(150);
+            double extent = 20 + random.nextInt(2000);
+            List<HyperEdgeSegment> sweptSegments = Lists.newArrayList();
+            List<HyperEdgeSegment> pairwiseSegments = Lists.newArrayList();
+            for (int j = 0; j < segmentCount; j++) {
+                HyperEdgeSegment segment = generateRandomSegment(extent);
+                sweptSegments.add(segment);
+                pairwiseSegments.add(copy(segment));
+            }
+
+            OrthogonalRoutingGenerator generator = new OrthogonalRoutingGenerator(RoutingDirection.WEST_TO_EAST,
+                    1 + random.nextInt(20), null);
+            int sweptCriticalCount = generator.createDependencies(sweptSegments);
+
+            // the generator keeps the critical conflict threshold derived from the same coordinates
+            int pairwiseCriticalCount = 0;
+            for (int first = 0; first < pairwiseSegments.size() - 1; first++) {
+                for (int second = first + 1; second < pairwiseSegments.size(); second++) {
+                    pairwiseCriticalCount += generator.createDependencyIfNecessary(pairwiseSegments.get(first),
+                            pairwiseSegments.get(second));
+                }
+            }
+
+            assertEquals(pairwiseCriticalCount, sweptCriticalCount);
+            for (int j = 0; j < segmentCount; j++) {
+                assertSameDependencies(pairwiseSegments, pairwiseSegments.get(j).getOutgoingSegmentDependencies(),
+                        sweptSegments, sweptSegments.get(j).getOutgoingSegmentDependencies());
+                assertSameDependencies(pairwiseSegments, pairwiseSegments.get(j).getIncomingSegmentDependencies(),
+                        sweptSegments, sweptSegments.get(j).getIncomingSegmentDependencies());
+            }
+        }
+    }
+
+    private void assertSameDependencies(final List<HyperEdgeSegment> expectedSegments,
+            final List<HyperEdgeSegmentDependency> expected, final List<HyperEdgeSegment> actualSegments,
+            final List<HyperEdgeSegmentDependency> actual) {
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            HyperEdgeSegmentDependency expectedDependency = expected.get(i);
+            HyperEdgeSegmentDependency actualDependency = actual.get(i);
+            assertSame(expectedDependency.getType(), actualDependency.getType());
+            assertEquals(expectedDependency.getWeight(), actualDependency.getWeight());
+            assertEquals(indexOf(expectedSegments, expectedDependency.getSource()),
+                    indexOf(actualSegments, actualDependency.getSource()));
+            assertEquals(indexOf(expectedSegments, expectedDependency.getTarget()),
+                    indexOf(actualSegments, actualDependency.getTarget()));
+        }
+    }
+
+    /**
+     * Returns the index of the given segment. Segments are equal if their marks are, so we cannot use
+     * {@link List#indexOf(Object)}.
+     */
+    private int indexOf(final List<HyperEdgeSegment> segments, final HyperEdgeSegment segment) {
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i) == segment) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Generates a segment somewhere within the given extent. Coordinates are multiples of 0.5 such that segments
+     * frequently share coordinates and thus have critical conflicts.
+     */
+    private HyperEdgeSegment generateRandomSegment(final double extent) {
+        HyperEdgeSegment segment = new HyperEdgeSegment(null);
+        int kind = random.nextInt(10);
+        if (kind == 0) {
+            // no connection coordinates at all, so start and end coordinate remain NaN
+            return segment;
+        }
+
+        double center = Math.floor(random.nextDouble() * extent);
+        if (kind == 1) {
+            // a straight segment
+            segment.getIncomingConnectionCoordinates().add(center);
+            segment.getOutgoingConnectionCoordinates().add(center);
+        } else {
+            int incomingCount = 1 + random.nextInt(4);
+            for (int i = 0; i < incomingCount; i++) {
+                segment.getIncomingConnectionCoordinates().add(center + (random.nextInt(81) - 40) / 2.0);
+            }
+            int outgoingCount = 1 + random.nextInt(4);
+            for (int i = 0; i < outgoingCount; i++) {
+                segment.getOutgoingConnectionCoordinates().add(center + (random.nextInt(81) - 40) / 2.0);
+            }
+            Collections.sort(segment.getIncomingConnectionCoordinates());
+            Collections.sort(segment.getOutgoingConnectionCoordinates());
+        }
+        segment.recomputeExtent();
+        return segment;
+    }
+
+    private HyperEdgeSegment copy(final HyperEdgeSegment segment) {
+        HyperEdgeSegment copy = new HyperEdgeSegment(null);
+        copy.getIncomingConnectionCoordinates().addAll(segment.getIncomingConnectionCoordinates());
+        copy.getOutgoingConnectionCoordinates().addAll(segment.getOutgoingConnectionCoordinates());
+        copy.recomputeExtent();
+        return copy;
+    }
+
+}
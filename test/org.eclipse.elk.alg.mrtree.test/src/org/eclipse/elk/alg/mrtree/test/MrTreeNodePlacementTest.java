@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.mrtree.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.mrtree.ComponentsProcessor;
+import org.eclipse.elk.alg.mrtree.ElkGraphImporter;
+import org.eclipse.elk.alg.mrtree.MrTree;
+import org.eclipse.elk.alg.mrtree.graph.TGraph;
+import org.eclipse.elk.alg.mrtree.graph.TNode;
+import org.eclipse.elk.alg.mrtree.options.InternalProperties;
+import org.eclipse.elk.alg.mrtree.options.MrTreeOptions;
+import org.eclipse.elk.alg.mrtree.options.NodePlacementStrategy;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.UnsupportedGraphException;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.Direction;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that the linear-time node placement computes the same positions as Walker's algorithm, whether or not it
+ * places subtrees concurrently.
+ */
+public class MrTreeNodePlacementTest {
+
+    /** Both placers sum up the same values in different orders, which yields tiny floating-point differences. */
+    private static final double EPSILON = 1e-6;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * Lays out random trees of different shapes with both strategies and compares the node positions. The coordinates
+     * along the levels are compared before they are rounded, since the tiny differences between the placers may
+     * round an x.5 coordinate differently. The coordinates across the levels must be the same.
+     */
+    @Test
+    public void testSamePositions() {
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            long seed = random.nextLong();
+            int nodeCount = 2 + random.nextInt(300);
+            int maxChildren = 1 + random.nextInt(6);
+            Direction direction = i % 2 == 0 ? Direction.DOWN : Direction.RIGHT;
+
+            List<TNode> walker = layoutTree(createTree(new Random(seed), nodeCount, maxChildren), direction,
+                    NodePlacementStrategy.WALKER);
+            List<TNode> buchheim = layoutTree(createTree(new Random(seed), nodeCount, maxChildren), direction,
+                    NodePlacementStrategy.BUCHHEIM);
+
+            for (int j = 0; j < nodeCount; j++) {
+                TNode walkerNode = walker.get(j);
+                TNode buchheimNode = buchheim.get(j);
+                assertEquals(walkerNode.getProperty(InternalProperties.XCOOR_UNROUNDED),
+                        buchheimNode.getProperty(InternalProperties.XCOOR_UNROUNDED), EPSILON);
+                if (direction == Direction.DOWN) {
+                    assertEquals(walkerNode.getPosition().y, buchheimNode.getPosition().y, 0);
+                } else {
+                    assertEquals(walkerNode.getPosition().x, buchheimNode.getPosition().x, 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lays out random trees with sequential and concurrent placement and compares the node positions.
+     */
+    @Test
+    public void testParallelPlacement() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            long seed = random.nextLong();
+            int nodeCount = 2 + random.nextInt(2000);
+            int maxChildren = 1 + random.nextInt(6);
+
+            List<ElkNode> sequential = layout(createTree(new Random(seed), nodeCount, maxChildren), Direction.DOWN,
+                    NodePlacementStrategy.BUCHHEIM);
+            ElkNode graph = createTree(new Random(seed), nodeCount, maxChildren);
+            graph.setProperty(MrTreeOptions.PARALLEL_NODE_PLACEMENT, true);
+            graph.setProperty(MrTreeOptions.PARALLEL_NODE_PLACEMENT_THRESHOLD, 1 + random.nextInt(50));
+            List<ElkNode> parallel = layout(graph, Direction.DOWN, NodePlacementStrategy.BUCHHEIM);
+
+            for (int j = 0; j < nodeCount; j++) {
+                assertEquals(sequential.get(j).getX(), parallel.get(j).getX(), 0);
+                assertEquals(sequential.get(j).getY(), parallel.get(j).getY(), 0);
+            }
+        }
+    }
+
+    private ElkNode createTree(final Random random, final int nodeCount, final int maxChildren) {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        List<ElkNode> nodes = new ArrayList<>();
+        List<Integer> childCounts = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            ElkNode node = ElkGraphUtil.createNode(graph);
+            node.setDimensions(5 + random.nextInt(40), 5 + random.nextInt(20));
+            if (i > 0) {
+                int parent = random.nextInt(nodes.size());
+                while (childCounts.get(parent) >= maxChildren) {
+                    parent = (parent + 1) % nodes.size();
+                }
+                ElkGraphUtil.createSimpleEdge(nodes.get(parent), node);
+                childCounts.set(parent, childCounts.get(parent) + 1);
+            }
+            nodes.add(node);
+            childCounts.add(0);
+        }
+        return graph;
+    }
+
+    /**
+     * Lays out the given graph the way the {@link org.eclipse.elk.alg.mrtree.TreeLayoutProvider} does, but returns the
+     * tree nodes, which still know their coordinates before rounding.
+     */
+    private List<TNode> layoutTree(final ElkNode graph, final Direction direction,
+            final NodePlacementStrategy strategy) {
+
+        graph.setProperty(MrTreeOptions.DIRECTION, direction);
+        graph.setProperty(MrTreeOptions.NODE_PLACEMENT_STRATEGY, strategy);
+        TGraph tGraph = new ElkGraphImporter().importGraph(graph);
+        List<TNode> nodes = new ArrayList<>(tGraph.getNodes());
+        for (TGraph component : new ComponentsProcessor().split(tGraph)) {
+            new MrTree().doLayout(component, new BasicProgressMonitor());
+        }
+        return nodes;
+    }
+
+    private List<ElkNode> layout(final ElkNode graph, final Direction direction,
+            final NodePlacementStrategy strategy) {
+
+        graph.setProperty(CoreOptions.ALGORITHM, MrTreeOptions.ALGORITHM_ID);
+        graph.setProperty(MrTreeOptions.DIRECTION, direction);
+        graph.setProperty(MrTreeOptions.NODE_PLACEMENT_STRATEGY, strategy);
+        try {
+            new RecursiveGraphLayoutEngine().layout(graph, new BasicProgressMonitor());
+        } catch (UnsupportedGraphException exception) {
+            fail(exception.toString());
+        }
+        return graph.getChildren();
+    }
+
+}
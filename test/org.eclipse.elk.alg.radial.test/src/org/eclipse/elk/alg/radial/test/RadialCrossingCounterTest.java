@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.elk.alg.radial.intermediate.optimization.RadialCrossingCounter;
+import org.junit.Test;
+
+/**
+ * Tests for the crossing counter of edges around the root.
+ */
+public class RadialCrossingCounterTest {
+
+    private static final double INNER_RADIUS = 10;
+    private static final double OUTER_RADIUS = 1000;
+
+    /**
+     * Counts the crossings of straight edges between two circles and compares them to testing each pair of edges.
+     */
+    @Test
+    public void testStraightEdgeCrossings() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            int edgeCount = 1 + random.nextInt(60);
+            double[] sources = new double[edgeCount];
+            double[] targets = new double[edgeCount];
+            for (int j = 0; j < edgeCount; j++) {
+                sources[j] = random.nextDouble() * 2 * Math.PI;
+                // Keep the edges moving away from the center
+                targets[j] = sources[j] + (random.nextDouble() - 0.5) * (Math.PI - 0.1);
+            }
+
+            long expected = 0;
+            for (int j = 0; j < edgeCount; j++) {
+                for (int k = j + 1; k < edgeCount; k++) {
+                    if (cross(sources[j], targets[j], sources[k], targets[k])) {
+                        expected++;
+                    }
+                }
+            }
+            assertEquals(expected, new RadialCrossingCounter(sources, targets).getCrossings());
+        }
+    }
+
+    /**
+     * Rotates all targets or moves single ones and compares the updated count to counting from scratch.
+     */
+    @Test
+    public void testIncrementalUpdates() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            int edgeCount = 1 + random.nextInt(60);
+            double[] sources = new double[edgeCount];
+            double[] targets = new double[edgeCount];
+            for (int j = 0; j < edgeCount; j++) {
+                sources[j] = random.nextDouble() * 2 * Math.PI;
+                targets[j] = random.nextDouble() * 2 * Math.PI;
+            }
+
+            RadialCrossingCounter counter = new RadialCrossingCounter(sources, targets);
+            for (int j = 0; j < 50; j++) {
+                if (random.nextBoolean()) {
+                    double angle = (random.nextDouble() - 0.5) * 8;
+                    for (int k = 0; k < edgeCount; k++) {
+                        targets[k] += angle;
+                    }
+                    counter.rotateTargets(angle);
+                } else {
+                    int edge = random.nextInt(edgeCount);
+                    targets[edge] = random.nextDouble() * 2 * Math.PI;
+                    counter.setTargetAngle(edge, targets[edge]);
+                }
+                assertEquals(new RadialCrossingCounter(sources, targets).getCrossings(), counter.getCrossings());
+            }
+        }
+    }
+
+    private boolean cross(final double source1, final double target1, final double source2, final double target2) {
+        double[] s1 = point(INNER_RADIUS, source1);
+        double[] t1 = point(OUTER_RADIUS, target1);
+        double[] s2 = point(INNER_RADIUS, source2);
+        double[] t2 = point(OUTER_RADIUS, target2);
+        return orientation(s2, t2, s1) * orientation(s2, t2, t1) < 0
+                && orientation(s1, t1, s2) * orientation(s1, t1, t2) < 0;
+    }
+
+    private double[] point(final double radius, final double angle) {
+        return new double[] { radius * Math.cos(angle), radius * Math.sin(angle) };
+    }
+
+    private double orientation(final double[] p, final double[] q, final double[] r) {
+        return (q[0] - p[0]) * (r[1] - p[1]) - (q[1] - p[1]) * (r[0] - p[0]);
+    }
+
+}
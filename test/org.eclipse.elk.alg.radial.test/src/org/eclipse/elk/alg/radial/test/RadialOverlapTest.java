@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.alg.radial.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.elk.alg.radial.RadialLayoutProvider;
+import org.eclipse.elk.alg.radial.RadialUtil;
+import org.eclipse.elk.alg.radial.intermediate.compaction.AbstractRadiusExtensionCompaction;
+import org.eclipse.elk.alg.radial.intermediate.compaction.OverlapIndex;
+import org.eclipse.elk.alg.radial.options.CompactionStrategy;
+import org.eclipse.elk.alg.radial.options.RadialOptions;
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for the overlap index and the overlap removal and compaction that use it.
+ */
+public class RadialOverlapTest {
+
+    private static final double SPACING = 10;
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    /**
+     * The index must find an overlap exactly if comparing against all indexed nodes finds one.
+     */
+    @Test
+    public void testIndexMatchesPairwiseComparison() {
+        Random random = new Random(42);
+        ElkNode graph = ElkGraphUtil.createGraph();
+        List<ElkNode> fixed = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            fixed.add(createNode(graph, random, i % 20 == 0 ? 200 : 30));
+        }
+
+        AbstractRadiusExtensionCompaction compaction = new AbstractRadiusExtensionCompaction();
+        compaction.setSpacing(SPACING);
+        OverlapIndex index = new OverlapIndex(fixed, SPACING);
+
+        for (int i = 0; i < 1000; i++) {
+            ElkNode node = createNode(graph, random, i % 50 == 0 ? 300 : 30);
+            boolean expected = false;
+            for (ElkNode other : fixed) {
+                expected |= compaction.overlap(node, other);
+            }
+            assertEquals(expected, index.overlaps(node, compaction::overlap));
+        }
+    }
+
+    /**
+     * Lays out a star whose leaves overlap on the initial radius, with and without compacting the radius.
+     */
+    @Test
+    public void testNoOverlapsOnRadius() {
+        for (CompactionStrategy compactor : new CompactionStrategy[] { CompactionStrategy.NONE,
+                CompactionStrategy.RADIAL_COMPACTION }) {
+            ElkNode graph = ElkGraphUtil.createGraph();
+            graph.setProperty(CoreOptions.ALGORITHM, RadialOptions.ALGORITHM_ID);
+            graph.setProperty(CoreOptions.SPACING_NODE_NODE, SPACING);
+            graph.setProperty(RadialOptions.COMPACTOR, compactor);
+            ElkNode root = ElkGraphUtil.createNode(graph);
+            root.setDimensions(30, 30);
+            for (int i = 0; i < 100; i++) {
+                ElkNode leaf = ElkGraphUtil.createNode(graph);
+                leaf.setDimensions(30, 30);
+                ElkGraphUtil.createSimpleEdge(root, leaf);
+            }
+
+            new RadialLayoutProvider().layout(graph, new BasicProgressMonitor());
+
+            AbstractRadiusExtensionCompaction compaction = new AbstractRadiusExtensionCompaction();
+            compaction.setSpacing(SPACING);
+            List<ElkNode> leaves = RadialUtil.getSuccessors(root);
+            for (int i = 0; i < leaves.size(); i++) {
+                for (int j = i + 1; j < leaves.size(); j++) {
+                    assertFalse(compaction.overlap(leaves.get(i), leaves.get(j)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Lays out a tree with several levels and compacts its wedges. Each node must remain outside the radius of its
+     * parent instead of being contracted past it towards the root.
+     */
+    @Test
+    public void testWedgeCompactionKeepsLevels() {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(CoreOptions.ALGORITHM, RadialOptions.ALGORITHM_ID);
+        graph.setProperty(CoreOptions.SPACING_NODE_NODE, SPACING);
+        graph.setProperty(RadialOptions.RADIUS, 200.0);
+        graph.setProperty(RadialOptions.COMPACTOR, CompactionStrategy.WEDGE_COMPACTION);
+        ElkNode root = ElkGraphUtil.createNode(graph);
+        root.setDimensions(30, 30);
+        List<ElkNode> level = new ArrayList<>();
+        level.add(root);
+        for (int depth = 0; depth < 3; depth++) {
+            List<ElkNode> nextLevel = new ArrayList<>();
+            for (ElkNode parent : level) {
+                for (int i = 0; i < (depth == 0 ? 4 : 3); i++) {
+                    ElkNode child = ElkGraphUtil.createNode(graph);
+                    child.setDimensions(30, 30);
+                    ElkGraphUtil.createSimpleEdge(parent, child);
+                    nextLevel.add(child);
+                }
+            }
+            level = nextLevel;
+        }
+
+        new RadialLayoutProvider().layout(graph, new BasicProgressMonitor());
+
+        AbstractRadiusExtensionCompaction compaction = new AbstractRadiusExtensionCompaction();
+        compaction.setSpacing(SPACING);
+        for (ElkNode node : graph.getChildren()) {
+            if (node != root) {
+                ElkNode parent = RadialUtil.getTreeParent(node);
+                assertTrue(radius(root, node) - SPACING > radius(root, parent));
+                assertFalse(compaction.overlap(node, parent));
+                assertFalse(compaction.overlap(node, root));
+            }
+        }
+    }
+
+    private double radius(final ElkNode root, final ElkNode node) {
+        double x = node.getX() + node.getWidth() / 2 - root.getX() - root.getWidth() / 2;
+        double y = node.getY() + node.getHeight() / 2 - root.getY() - root.getHeight() / 2;
+        return Math.sqrt(x * x + y * y);
+    }
+
+    private ElkNode createNode(final ElkNode graph, final Random random, final double maxSize) {
+        ElkNode node = ElkGraphUtil.createNode(graph);
+        node.setDimensions(1 + random.nextDouble() * maxSize, 1 + random.nextDouble() * maxSize);
+        node.setLocation(random.nextDouble() * 1000 - 500, random.nextDouble() * 1000 - 500);
+        return node;
+    }
+
+}
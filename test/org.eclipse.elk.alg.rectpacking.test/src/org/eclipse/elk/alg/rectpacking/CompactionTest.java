@@ -11,9 +11,15 @@ package org.eclipse.elk.alg.rectpacking;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Random;
+
+import org.eclipse.elk.alg.rectpacking.options.InternalProperties;
 import org.eclipse.elk.alg.rectpacking.options.RectPackingOptions;
 import org.eclipse.elk.alg.rectpacking.p1widthapproximation.WidthApproximationStrategy;
+import org.eclipse.elk.alg.rectpacking.p2packing.Compactor;
 import org.eclipse.elk.alg.test.PlainJavaInitialization;
 import org.eclipse.elk.core.math.ElkPadding;
 import org.eclipse.elk.core.options.CoreOptions;
@@ -560,4 +566,142 @@ public class CompactionTest {
         assertEquals("", 0.0, n6.getY(), 1);   
     }
 
+    /**
+     * Test that repeated compaction iterations, which pack the same nodes several times and keep the best packing, yield
+     * a packing without overlaps inside the parent.
+     */
+    @Test
+    public void testCompactionIterations() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            ElkNode parent = ElkGraphUtil.createGraph();
+            parent.setProperty(CoreOptions.ALGORITHM, RectPackingOptions.ALGORITHM_ID);
+            parent.setProperty(CoreOptions.SPACING_NODE_NODE, 10.0);
+            parent.setProperty(CoreOptions.PADDING, new ElkPadding(0.0));
+            parent.setProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS, 1 + random.nextInt(10));
+            int nodeCount = 1 + random.nextInt(100);
+            for (int j = 0; j < nodeCount; j++) {
+                ElkNode node = ElkGraphUtil.createNode(parent);
+                node.setDimensions(5 + random.nextInt(100), 5 + random.nextInt(100));
+            }
+
+            RectPackingLayoutProvider layoutProvider = new RectPackingLayoutProvider();
+            layoutProvider.layout(parent, new BasicProgressMonitor());
+            for (ElkNode n1 : parent.getChildren()) {
+                assertTrue(n1.getX() > -1 && n1.getX() + n1.getWidth() < parent.getWidth() + 1);
+                assertTrue(n1.getY() > -1 && n1.getY() + n1.getHeight() < parent.getHeight() + 1);
+                for (ElkNode n2 : parent.getChildren()) {
+                    if (n1 != n2) {
+                        assertFalse(n1.getX() + 1 < n2.getX() + n2.getWidth()
+                                && n2.getX() + 1 < n1.getX() + n1.getWidth()
+                                && n1.getY() + 1 < n2.getY() + n2.getHeight()
+                                && n2.getY() + 1 < n1.getY() + n1.getHeight());
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Test that the compaction iterations, which reuse the graph, yield the same positions as iterating on shallow
+     * clones of the graph and copying the positions of the best packing back.
+     */
+    @Test
+    public void testCompactionIterationsMatchClonedIterations() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            ElkNode parent = ElkGraphUtil.createGraph();
+            parent.setProperty(CoreOptions.SPACING_NODE_NODE, 10.0);
+            parent.setProperty(CoreOptions.PADDING, new ElkPadding(0.0));
+            parent.setProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS, 1 + random.nextInt(10));
+            parent.setProperty(InternalProperties.MIN_WIDTH, 0.0);
+            parent.setProperty(InternalProperties.MIN_HEIGHT, 0.0);
+            int nodeCount = 1 + random.nextInt(100);
+            double totalWidth = 0;
+            double maxWidth = 0;
+            for (int j = 0; j < nodeCount; j++) {
+                ElkNode node = ElkGraphUtil.createNode(parent);
+                node.setDimensions(5 + random.nextInt(100), 5 + random.nextInt(100));
+                totalWidth += node.getWidth();
+                maxWidth = Math.max(maxWidth, node.getWidth());
+            }
+            parent.setProperty(InternalProperties.TARGET_WIDTH,
+                    Math.max(maxWidth, totalWidth / (1 + random.nextInt(10))));
+            ElkNode expected = cloneGraph(parent);
+
+            new Compactor().process(parent, new BasicProgressMonitor());
+            compactOnClones(expected);
+
+            assertEquals(expected.getProperty(InternalProperties.DRAWING_WIDTH),
+                    parent.getProperty(InternalProperties.DRAWING_WIDTH), 0);
+            assertEquals(expected.getProperty(InternalProperties.DRAWING_HEIGHT),
+                    parent.getProperty(InternalProperties.DRAWING_HEIGHT), 0);
+            for (int j = 0; j < nodeCount; j++) {
+                assertEquals(expected.getChildren().get(j).getX(), parent.getChildren().get(j).getX(), 0);
+                assertEquals(expected.getChildren().get(j).getY(), parent.getChildren().get(j).getY(), 0);
+            }
+        }
+    }
+
+    /**
+     * Runs the compaction iterations by compacting a shallow clone of the graph in each iteration and copying the
+     * positions to the graph if the clone's packing is not worse.
+     */
+    private void compactOnClones(final ElkNode graph) {
+        int iterations = graph.getProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS);
+        graph.setProperty(RectPackingOptions.PACKING_COMPACTION_ITERATIONS, 1);
+        new Compactor().process(graph, new BasicProgressMonitor());
+        double aspectRatio = graph.getProperty(RectPackingOptions.ASPECT_RATIO);
+        while (iterations > 1) {
+            double width = graph.getProperty(InternalProperties.DRAWING_WIDTH);
+            double height = graph.getProperty(InternalProperties.DRAWING_HEIGHT);
+            double targetWidth = graph.getProperty(InternalProperties.TARGET_WIDTH);
+            ElkNode clone = cloneGraph(graph);
+            if (graph.getChildren().size() > 1
+                    && graph.getProperty(InternalProperties.MIN_ROW_INCREASE) != Double.POSITIVE_INFINITY
+                    && width / height < aspectRatio) {
+                clone.setProperty(InternalProperties.TARGET_WIDTH,
+                        targetWidth + graph.getProperty(InternalProperties.MIN_ROW_INCREASE));
+            } else if (graph.getChildren().size() > 1
+                    && graph.getProperty(InternalProperties.MIN_ROW_DECREASE) != Double.POSITIVE_INFINITY
+                    && width / height > aspectRatio) {
+                clone.setProperty(InternalProperties.TARGET_WIDTH,
+                        Math.max(graph.getProperty(InternalProperties.MIN_WIDTH),
+                                targetWidth - graph.getProperty(InternalProperties.MIN_ROW_DECREASE)));
+            }
+            new Compactor().process(clone, new BasicProgressMonitor());
+
+            double newWidth = clone.getProperty(InternalProperties.DRAWING_WIDTH);
+            double newHeight = clone.getProperty(InternalProperties.DRAWING_HEIGHT);
+            if (Math.min(aspectRatio / newWidth, 1 / newHeight) >= Math.min(aspectRatio / width, 1 / height)) {
+                for (int i = 0; i < clone.getChildren().size(); i++) {
+                    ElkNode child = clone.getChildren().get(i);
+                    graph.getChildren().get(i).setLocation(child.getX(), child.getY());
+                }
+                graph.setProperty(InternalProperties.DRAWING_WIDTH, newWidth);
+                graph.setProperty(InternalProperties.DRAWING_HEIGHT, newHeight);
+                graph.setProperty(InternalProperties.MIN_ROW_INCREASE,
+                        clone.getProperty(InternalProperties.MIN_ROW_INCREASE));
+                graph.setProperty(InternalProperties.MIN_ROW_DECREASE,
+                        clone.getProperty(InternalProperties.MIN_ROW_DECREASE));
+            }
+            iterations--;
+        }
+    }
+
+    /**
+     * Clones the graph including its properties and its children with their sizes and properties.
+     */
+    private ElkNode cloneGraph(final ElkNode graph) {
+        ElkNode clone = ElkGraphUtil.createGraph();
+        clone.copyProperties(graph);
+        for (ElkNode child : graph.getChildren()) {
+            ElkNode newChild = ElkGraphUtil.createNode(clone);
+            newChild.setDimensions(child.getWidth(), child.getHeight());
+            newChild.copyProperties(child);
+        }
+        return clone;
+    }
+
 }
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.data.LayoutAlgorithmData;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LayoutSession}.
+ */
+public class LayoutSessionTest {
+    
+    @BeforeClass
+    public static void initPlainJavaLayout() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+    
+    @Test
+    public void testLayoutProviderIsReused() {
+        List<AbstractLayoutProvider> fetchedProviders = new ArrayList<>();
+        try (LayoutSession session = new LayoutSession() {
+                    @Override
+                    protected AbstractLayoutProvider fetchLayoutProvider(final LayoutAlgorithmData algorithmData) {
+                        AbstractLayoutProvider layoutProvider = super.fetchLayoutProvider(algorithmData);
+                        fetchedProviders.add(layoutProvider);
+                        return layoutProvider;
+                    }
+                }) {
+            
+            for (int i = 0; i < 3; i++) {
+                ElkNode expected = createGraph(i);
+                new RecursiveGraphLayoutEngine().layout(expected, new BasicProgressMonitor());
+                ElkNode actual = createGraph(i);
+                session.layout(actual, new BasicProgressMonitor());
+                
+                assertEquals("org.eclipse.elk.layered", actual.getProperty(CoreOptions.RESOLVED_ALGORITHM).getId());
+                assertSameLayout(expected, actual);
+            }
+        }
+        
+        assertEquals(3, fetchedProviders.size());
+        assertSame(fetchedProviders.get(0), fetchedProviders.get(1));
+        assertSame(fetchedProviders.get(0), fetchedProviders.get(2));
+    }
+    
+    @Test
+    public void testParallelLayout() {
+        try (LayoutSession session = new LayoutSession()) {
+            for (int i = 0; i < 3; i++) {
+                ElkNode expected = createCompoundGraph(i);
+                new RecursiveGraphLayoutEngine().layout(expected, new BasicProgressMonitor());
+                ElkNode actual = createCompoundGraph(i);
+                actual.setProperty(CoreOptions.PARALLEL_LAYOUT, true);
+                session.layout(actual, new BasicProgressMonitor());
+                
+                assertSameLayout(expected, actual);
+            }
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testClosedSession() {
+        LayoutSession session = new LayoutSession();
+        session.layout(createGraph(0), new BasicProgressMonitor());
+        session.close();
+        session.layout(createGraph(0), new BasicProgressMonitor());
+    }
+    
+    private ElkNode createGraph(final int size) {
+        ElkNode root = ElkGraphUtil.createGraph();
+        ElkNode first = ElkGraphUtil.createNode(root);
+        first.setDimensions(10, 10);
+        for (int i = 0; i <= size; i++) {
+            ElkNode node = ElkGraphUtil.createNode(root);
+            node.setDimensions(10 + i, 10);
+            ElkGraphUtil.createSimpleEdge(first, node);
+        }
+        return root;
+    }
+    
+    private ElkNode createCompoundGraph(final int size) {
+        ElkNode root = ElkGraphUtil.createGraph();
+        for (int i = 0; i < 4; i++) {
+            ElkNode compound = ElkGraphUtil.createNode(root);
+            ElkNode first = ElkGraphUtil.createNode(compound);
+            first.setDimensions(10, 10);
+            for (int j = 0; j <= size + i; j++) {
+                ElkNode child = ElkGraphUtil.createNode(compound);
+                child.setDimensions(10 + j, 10);
+                ElkGraphUtil.createSimpleEdge(first, child);
+            }
+        }
+        return root;
+    }
+    
+    private void assertSameLayout(final ElkNode expected, final ElkNode actual) {
+        assertEquals(expected.getX(), actual.getX(), 0);
+        assertEquals(expected.getY(), actual.getY(), 0);
+        assertEquals(expected.getWidth(), actual.getWidth(), 0);
+        assertEquals(expected.getHeight(), actual.getHeight(), 0);
+        assertEquals(expected.getChildren().size(), actual.getChildren().size());
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            assertSameLayout(expected.getChildren().get(i), actual.getChildren().get(i));
+        }
+    }
+    
+}
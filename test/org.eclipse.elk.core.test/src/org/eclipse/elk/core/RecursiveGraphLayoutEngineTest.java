@@ -71,6 +71,51 @@ public class RecursiveGraphLayoutEngineTest {
         assertEquals("org.eclipse.elk.layered", graph.root.getProperty(CoreOptions.RESOLVED_ALGORITHM).getId());
     }
     
+    @Test
+    public void testParallelLayoutMatchesSequentialLayout() {
+        ElkNode sequentialGraph = createCompoundGraph();
+        new RecursiveGraphLayoutEngine().layout(sequentialGraph, new BasicProgressMonitor());
+        
+        ElkNode parallelGraph = createCompoundGraph();
+        parallelGraph.setProperty(CoreOptions.PARALLEL_LAYOUT, true);
+        new RecursiveGraphLayoutEngine().layout(parallelGraph, new BasicProgressMonitor());
+        
+        assertSameLayout(sequentialGraph, parallelGraph);
+    }
+    
+    private ElkNode createCompoundGraph() {
+        ElkNode root = ElkGraphUtil.createGraph();
+        ElkNode previousCompound = null;
+        for (int i = 0; i < 8; i++) {
+            ElkNode compound = ElkGraphUtil.createNode(root);
+            ElkNode previousChild = null;
+            for (int j = 0; j <= i; j++) {
+                ElkNode child = ElkGraphUtil.createNode(compound);
+                child.setDimensions(10 + j, 10 + i);
+                if (previousChild != null) {
+                    ElkGraphUtil.createSimpleEdge(previousChild, child);
+                }
+                previousChild = child;
+            }
+            if (previousCompound != null) {
+                ElkGraphUtil.createSimpleEdge(previousCompound, compound);
+            }
+            previousCompound = compound;
+        }
+        return root;
+    }
+    
+    private void assertSameLayout(final ElkNode expected, final ElkNode actual) {
+        assertEquals(expected.getX(), actual.getX(), 0);
+        assertEquals(expected.getY(), actual.getY(), 0);
+        assertEquals(expected.getWidth(), actual.getWidth(), 0);
+        assertEquals(expected.getHeight(), actual.getHeight(), 0);
+        assertEquals(expected.getChildren().size(), actual.getChildren().size());
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            assertSameLayout(expected.getChildren().get(i), actual.getChildren().get(i));
+        }
+    }
+    
     private class Graph {
         ElkNode root;
         private ElkNode n1;
@@ -62,6 +62,34 @@ public class AlgorithmAssemblerTest {
         }
     }
 
+    /**
+     * Test method for {@link org.eclipse.elk.alg.common.structuring.AlgorithmAssembler#build(Object)}.
+     */
+    @Test
+    public void testRebuildAlgorithm() {
+        AlgorithmAssembler<TestPhases, StringBuffer> assembler = AlgorithmAssembler.create(TestPhases.class);
+        assembler.setPhase(TestPhases.PHASE_1, TestPhases.PHASE_1);
+        assembler.setPhase(TestPhases.PHASE_2, TestPhases.PHASE_2);
+        List<ILayoutProcessor<StringBuffer>> algorithm = assembler.build(null);
+        
+        // The same configuration yields an equal algorithm that may be modified independently
+        assembler.reset();
+        assembler.setPhase(TestPhases.PHASE_1, TestPhases.PHASE_1);
+        assembler.setPhase(TestPhases.PHASE_2, TestPhases.PHASE_2);
+        List<ILayoutProcessor<StringBuffer>> algorithm2 = assembler.build(null);
+        assertNotSame(algorithm, algorithm2);
+        assertEquals(algorithm, algorithm2);
+        algorithm2.clear();
+        assertEquals(algorithm, assembler.build(null));
+        
+        // An additional processor yields a different algorithm
+        assembler.addProcessorConfiguration(LayoutProcessorConfiguration.<TestPhases, StringBuffer>create()
+                .addAfter(TestPhases.PHASE_2, TestProcessors.PROCESSOR_3));
+        List<ILayoutProcessor<StringBuffer>> algorithm3 = assembler.build(null);
+        assertEquals(algorithm.size() + 1, algorithm3.size());
+        assertEquals(algorithm, algorithm3.subList(0, algorithm.size()));
+    }
+
     /**
      * Test method for {@link org.eclipse.elk.alg.common.structuring.AlgorithmAssembler#withFailOnMissingPhase(boolean)}.
      */
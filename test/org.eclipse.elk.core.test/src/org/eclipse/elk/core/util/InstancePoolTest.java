@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link InstancePool}.
+ */
+public class InstancePoolTest {
+
+    @Test
+    public void testReuse() {
+        CountingFactory factory = new CountingFactory();
+        InstancePool<Instance> pool = new InstancePool<>(factory);
+
+        Instance first = pool.fetch();
+        Instance second = pool.fetch();
+        assertNotSame(first, second);
+        assertEquals(2, factory.created.get());
+
+        pool.release(first);
+        pool.release(second);
+        assertEquals(2, pool.getSize());
+        assertSame(second, pool.fetch());
+        assertSame(first, pool.fetch());
+        assertEquals(0, pool.getSize());
+        assertEquals(2, factory.created.get());
+        assertEquals(0, pool.getContentionCount());
+    }
+
+    @Test
+    public void testLimit() {
+        CountingFactory factory = new CountingFactory();
+        InstancePool<Instance> pool = new InstancePool<>(factory, 2);
+
+        List<Instance> instances = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            instances.add(pool.fetch());
+        }
+        instances.forEach(pool::release);
+        assertEquals(2, pool.getSize());
+        assertEquals(3, factory.destroyed.get());
+
+        pool.clear();
+        assertEquals(0, pool.getSize());
+        assertEquals(5, factory.destroyed.get());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        CountingFactory factory = new CountingFactory();
+        InstancePool<Instance> pool = new InstancePool<>(factory, 4);
+        AtomicBoolean sharedInstance = new AtomicBoolean();
+
+        // a single thread never has to wait for the pool
+        pool.release(pool.fetch());
+        assertEquals(0, pool.getContentionCount());
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    Instance instance = pool.fetch();
+                    if (!instance.inUse.compareAndSet(false, true)) {
+                        sharedInstance.set(true);
+                    }
+                    instance.inUse.set(false);
+                    pool.release(instance);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        // the number of contended accesses only ever grows
+        long contentionCount = 0;
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            long currentCount = pool.getContentionCount();
+            assertTrue(currentCount >= contentionCount);
+            contentionCount = currentCount;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(sharedInstance.get());
+        assertTrue(pool.getSize() <= 4);
+        assertEquals(factory.created.get(), factory.destroyed.get() + pool.getSize());
+        assertTrue(pool.getContentionCount() >= contentionCount);
+    }
+
+    private static final class Instance {
+        private final AtomicBoolean inUse = new AtomicBoolean();
+    }
+
+    private static final class CountingFactory implements IFactory<Instance> {
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public Instance create() {
+            created.incrementAndGet();
+            return new Instance();
+        }
+
+        @Override
+        public void destroy(final Instance obj) {
+            destroyed.incrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link SynchronizedProgressMonitor}.
+ */
+public class SynchronizedProgressMonitorTest {
+
+    @Test
+    public void testSubMonitorsAreWrappedSnapshots() {
+        IElkProgressMonitor monitor = SynchronizedProgressMonitor.synchronize(new BasicProgressMonitor());
+        monitor.begin("Root", 3);
+        monitor.subTask(1).begin("First", 1);
+
+        List<IElkProgressMonitor> subMonitors = monitor.getSubMonitors();
+        assertEquals(1, subMonitors.size());
+        assertTrue(subMonitors.get(0) instanceof SynchronizedProgressMonitor);
+        assertEquals("First", subMonitors.get(0).getTaskName());
+        assertTrue(subMonitors.get(0).getParentMonitor() instanceof SynchronizedProgressMonitor);
+
+        // sub-tasks created later do not show up in the snapshot
+        monitor.subTask(1).begin("Second", 1);
+        assertEquals(1, subMonitors.size());
+        assertEquals(2, monitor.getSubMonitors().size());
+    }
+
+    @Test
+    public void testConcurrentSubTasks() throws InterruptedException {
+        IElkProgressMonitor monitor = SynchronizedProgressMonitor.synchronize(new BasicProgressMonitor());
+        monitor.begin("Root", 1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    IElkProgressMonitor subMonitor = monitor.subTask(0);
+                    subMonitor.begin("Sub-task", 1);
+                    subMonitor.done();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        // iterating while sub-tasks are added must not fail
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            for (IElkProgressMonitor subMonitor : monitor.getSubMonitors()) {
+                subMonitor.isRunning();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4 * 1_000, monitor.getSubMonitors().size());
+    }
+
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Kiel University and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.elk.graph.json.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.eclipse.elk.alg.test.PlainJavaInitialization;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.options.Direction;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.json.ElkGraphJson;
+import org.eclipse.elk.graph.json.JsonImportException;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for importing from a reader and exporting to a writer.
+ */
+public class StreamingTest {
+
+    @BeforeClass
+    public static void init() {
+        PlainJavaInitialization.initializePlainJavaLayout();
+    }
+
+    @Test
+    public void testForwardReferences() {
+        // edges and sections reference elements that are declared later in the document
+        String json = "{ id: 'root', layoutOptions: { 'elk.direction': 'DOWN' },"
+                + "  edges: ["
+                + "    { id: 'e1', sources: ['n1'], targets: ['p2'], sections: ["
+                + "      { id: 's1', startPoint: { x: 1, y: 2 }, endPoint: { x: 3, y: 4 }, outgoingSections: ['s2'] },"
+                + "      { id: 's2', endPoint: { x: 5, y: 6 }, startPoint: { x: 3, y: 4 },"
+                + "        bendPoints: [{ x: 7, y: 8 }] } ] },"
+                + "    { id: 'e2', source: 'n2', sourcePort: 'p2', target: 3 }"
+                + "  ],"
+                + "  children: ["
+                + "    { id: 'n1', x: 10, y: 20, width: 30, height: 40, labels: [{ text: 'label' }] },"
+                + "    { ports: [{ id: 'p2' }], id: 'n2' },"
+                + "    { id: 3, properties: { 'elk.direction': 'UP' } }"
+                + "  ]"
+                + "}";
+        ElkNode graph = ElkGraphJson.forGraph(new StringReader(json)).toElk();
+
+        assertEquals("root", graph.getIdentifier());
+        assertEquals(Direction.DOWN, graph.getProperty(CoreOptions.DIRECTION));
+        assertEquals(3, graph.getChildren().size());
+        ElkNode n1 = graph.getChildren().get(0);
+        ElkNode n2 = graph.getChildren().get(1);
+        ElkNode n3 = graph.getChildren().get(2);
+        ElkPort p2 = n2.getPorts().get(0);
+        assertEquals("3", n3.getIdentifier());
+        assertEquals(Direction.UP, n3.getProperty(CoreOptions.DIRECTION));
+        assertEquals(30, n1.getWidth(), 0);
+        assertEquals("label", n1.getLabels().get(0).getText());
+
+        assertEquals(2, graph.getContainedEdges().size());
+        ElkEdge e1 = graph.getContainedEdges().get(0);
+        assertSame(n1, e1.getSources().get(0));
+        assertSame(p2, e1.getTargets().get(0));
+        assertEquals(2, e1.getSections().size());
+        ElkEdgeSection s1 = e1.getSections().get(0);
+        ElkEdgeSection s2 = e1.getSections().get(1);
+        assertSame(s2, s1.getOutgoingSections().get(0));
+        assertSame(s1, s2.getIncomingSections().get(0));
+        assertEquals(5, s2.getEndX(), 0);
+        assertEquals(1, s2.getBendPoints().size());
+
+        ElkEdge e2 = graph.getContainedEdges().get(1);
+        assertSame(p2, e2.getSources().get(0));
+        assertSame(n3, e2.getTargets().get(0));
+    }
+
+    @Test
+    public void testContainmentIsUpdated() {
+        String json = "{ id: 'root', children: [{ id: 'parent', children: [{ id: 'a' }, { id: 'b' }] }],"
+                + "  edges: [{ id: 'e', sources: ['a'], targets: ['b'] }] }";
+        ElkNode graph = ElkGraphJson.forGraph(new StringReader(json)).toElk();
+
+        ElkNode parent = graph.getChildren().get(0);
+        assertTrue(graph.getContainedEdges().isEmpty());
+        assertEquals("e", parent.getContainedEdges().get(0).getIdentifier());
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testNoId() {
+        ElkGraphJson.forGraph(new StringReader("{ children: [{ id: 'n' }] }")).toElk();
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testWrongIdType() {
+        ElkGraphJson.forGraph(new StringReader("{ id: 1.2 }")).toElk();
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testUnknownReference() {
+        ElkGraphJson.forGraph(new StringReader("{ id: 'root', children: [{ id: 'n' }],"
+                + "  edges: [{ id: 'e', sources: ['n'], targets: ['m'] }] }")).toElk();
+    }
+
+    @Test(expected = JsonImportException.class)
+    public void testSectionWithoutStartPoint() {
+        ElkGraphJson.forGraph(new StringReader("{ id: 'root', children: [{ id: 'n' }],"
+                + "  edges: [{ id: 'e', sources: ['n'], targets: ['n'],"
+                + "    sections: [{ id: 's', endPoint: { x: 0, y: 0 } }] }] }")).toElk();
+    }
+
+    @Test
+    public void testRoundTrip() {
+        ElkNode graph = ElkGraphUtil.createGraph();
+        graph.setProperty(CoreOptions.DIRECTION, Direction.RIGHT);
+        ElkNode parent = ElkGraphUtil.createNode(graph);
+        ElkNode n1 = ElkGraphUtil.createNode(parent);
+        n1.setDimensions(20, 30);
+        ElkGraphUtil.createLabel("n1", n1);
+        ElkNode n2 = ElkGraphUtil.createNode(graph);
+        n2.setLocation(50, 60);
+        ElkPort port = ElkGraphUtil.createPort(n2);
+        // an edge contained in the root that references nodes written after it
+        ElkEdge edge = ElkGraphUtil.createSimpleEdge(n1, port);
+        ElkEdgeSection section = ElkGraphUtil.createEdgeSection(edge);
+        section.setStartLocation(1, 2);
+        section.setEndLocation(3, 4);
+        section.setIncomingShape(n1);
+        section.setOutgoingShape(port);
+        ElkGraphUtil.createBendPoint(section, 5, 6);
+
+        StringWriter writer = new StringWriter();
+        ElkGraphJson.forGraph(graph).prettyPrint(true).toJson(writer);
+        // the streaming export yields the same document as the export via a json tree
+        assertEquals(ElkGraphJson.forGraph(graph).prettyPrint(true).toJson(), writer.toString());
+        ElkNode imported = ElkGraphJson.forGraph(new StringReader(writer.toString())).toElk();
+
+        assertEquals(Direction.RIGHT, imported.getProperty(CoreOptions.DIRECTION));
+        assertEquals(2, imported.getChildren().size());
+        ElkNode importedN1 = imported.getChildren().get(0).getChildren().get(0);
+        ElkNode importedN2 = imported.getChildren().get(1);
+        assertEquals(20, importedN1.getWidth(), 0);
+        assertEquals("n1", importedN1.getLabels().get(0).getText());
+        assertEquals(50, importedN2.getX(), 0);
+
+        ElkEdge importedEdge = imported.getContainedEdges().get(0);
+        assertSame(importedN1, importedEdge.getSources().get(0));
+        assertSame(importedN2.getPorts().get(0), importedEdge.getTargets().get(0));
+        ElkEdgeSection importedSection = importedEdge.getSections().get(0);
+        assertEquals(3, importedSection.getEndX(), 0);
+        assertEquals(6, importedSection.getBendPoints().get(0).getY(), 0);
+        assertSame(importedN1, importedSection.getIncomingShape());
+
+        // exporting the imported graph again yields the same document
+        StringWriter secondWriter = new StringWriter();
+        ElkGraphJson.forGraph(imported).prettyPrint(true).toJson(secondWriter);
+        assertEquals(writer.toString(), secondWriter.toString());
+
+        // the same holds without pretty printing and with all coordinates
+        StringWriter compactWriter = new StringWriter();
+        ElkGraphJson.forGraph(imported).omitZeroPositions(false).omitZeroDimension(false).toJson(compactWriter);
+        assertEquals(ElkGraphJson.forGraph(imported).omitZeroPositions(false).omitZeroDimension(false).toJson(),
+                compactWriter.toString());
+    }
+
+    @Test
+    public void testNullLayoutOptions() {
+        // a null layoutOptions member lets the legacy properties member apply, as it does for the tree importer
+        String json = "{ id: 'root', layoutOptions: null, properties: { 'elk.direction': 'UP' },"
+                + "  children: [{ id: 'n', properties: { 'elk.direction': 'LEFT' }, layoutOptions: null }] }";
+        ElkNode graph = ElkGraphJson.forGraph(new StringReader(json)).toElk();
+
+        assertEquals(Direction.UP, graph.getProperty(CoreOptions.DIRECTION));
+        assertEquals(Direction.LEFT, graph.getChildren().get(0).getProperty(CoreOptions.DIRECTION));
+    }
+
+}